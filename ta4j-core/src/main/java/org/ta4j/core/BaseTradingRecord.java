@@ -397,6 +397,41 @@ public class BaseTradingRecord implements TradingRecord {
         return closedPositionsSnapshot();
     }
 
+    @Override
+    public int getPositionCount() {
+        lock.readLock().lock();
+        try {
+            return positionBook.closedPositionCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the closed positions recorded after the first {@code fromIndex}
+     * ones, without copying the earlier positions.
+     *
+     * <p>
+     * Together with {@link #getPositionCount()} this lets callers that keep
+     * per-position state (e.g. running criterion values) process only the
+     * positions closed since their last update.
+     * </p>
+     *
+     * @param fromIndex the number of closed positions already processed
+     * @return the closed positions from {@code fromIndex} on, in closing order
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative or
+     *                                   greater than {@link #getPositionCount()}
+     * @since 0.23.1
+     */
+    public List<Position> getPositions(int fromIndex) {
+        lock.readLock().lock();
+        try {
+            return positionBook.closedPositionsFrom(fromIndex);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     @Override
     public Position getCurrentPosition() {
         return currentPositionView();
@@ -777,6 +812,10 @@ public class BaseTradingRecord implements TradingRecord {
     /**
      * Rehydrates transient cost models after deserialization.
      *
+     * <p>
+     * Closed positions keep charging the fees recorded on their trades; the
+     * given models apply to open positions and subsequent trades only.
+     *
      * @param holdingCostModel holding cost model, null defaults to
      *                         {@link ZeroCostModel}
      * @since 0.22.4
@@ -788,6 +827,10 @@ public class BaseTradingRecord implements TradingRecord {
     /**
      * Rehydrates transient cost models after deserialization.
      *
+     * <p>
+     * Closed positions keep charging the fees recorded on their trades; the
+     * given models apply to open positions and subsequent trades only.
+     *
      * @param transactionCostModel transaction cost model, null defaults to
      *                             {@link ZeroCostModel}
      * @param holdingCostModel     holding cost model, null defaults to
@@ -1048,6 +1091,17 @@ public class BaseTradingRecord implements TradingRecord {
             return closedPositions.stream().map(ClosedPosition::position).toList();
         }
 
+        private int closedPositionCount() {
+            return closedPositions.size();
+        }
+
+        private List<Position> closedPositionsFrom(int fromIndex) {
+            return closedPositions.subList(fromIndex, closedPositions.size())
+                    .stream()
+                    .map(ClosedPosition::position)
+                    .toList();
+        }
+
         private List<Position> openPositions() {
             List<Position> positions = new ArrayList<>();
             for (PositionLot lot : openLots) {
@@ -1194,7 +1248,7 @@ public class BaseTradingRecord implements TradingRecord {
             for (int i = 0; i < closedPositions.size(); i++) {
                 ClosedPosition closed = closedPositions.get(i);
                 Position position = closed.position();
-                Position rehydrated = rehydratePosition(position, this.transactionCostModel, this.holdingCostModel);
+                Position rehydrated = rehydrateClosedPosition(position, this.holdingCostModel);
                 closedPositions.set(i, new ClosedPosition(rehydrated, closed.entrySequence(), closed.exitSequence()));
             }
         }
@@ -1357,6 +1411,21 @@ public class BaseTradingRecord implements TradingRecord {
             }
         }
 
+        private static Position rehydrateClosedPosition(Position position, CostModel holdingCostModel) {
+            if (position == null || position.getEntry() == null || position.getExit() == null) {
+                return rehydratePosition(position, RecordedTradeCostModel.INSTANCE, holdingCostModel);
+            }
+            // closed positions are built from recorded trades (see closeLot), whose
+            // transient cost model must charge the deserialized fee again
+            return new Position(rerecordedTrade(position.getEntry()), rerecordedTrade(position.getExit()),
+                    RecordedTradeCostModel.INSTANCE, holdingCostModel);
+        }
+
+        private static Trade rerecordedTrade(Trade trade) {
+            return recordedTrade(trade.getIndex(), timeOf(trade), trade.getPricePerAsset(), trade.getAmount(),
+                    feeOf(trade), sideOf(trade.getType()), trade.getOrderId(), trade.getCorrelationId());
+        }
+
         private static Position rehydratePosition(Position position, CostModel transactionCostModel,
                 CostModel holdingCostModel) {
             if (position == null || position.getEntry() == null) {
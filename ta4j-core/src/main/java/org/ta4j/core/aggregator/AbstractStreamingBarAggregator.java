@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.aggregator;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+
+/**
+ * Shared source-bar bookkeeping for {@link StreamingBarAggregator}
+ * implementations.
+ *
+ * <p>
+ * Keeps track of whether the last target bar is a forming (pending) bar so that
+ * completed and pending emissions replace it instead of appending a duplicate.
+ */
+abstract class AbstractStreamingBarAggregator implements StreamingBarAggregator {
+
+    private final BarAggregator aggregator;
+    private final BarSeries targetSeries;
+    private final boolean requireEvenIntervals;
+    private Bar previousSourceBar;
+    private long sourceBarCount;
+    private boolean pendingBarInTarget;
+
+    /**
+     * Constructor for aggregators whose batch variant requires contiguous, evenly
+     * spaced source bars.
+     *
+     * @param aggregator   the batch aggregator providing validation rules
+     * @param targetSeries the series receiving aggregated bars
+     */
+    AbstractStreamingBarAggregator(BarAggregator aggregator, BarSeries targetSeries) {
+        this(aggregator, targetSeries, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aggregator           the batch aggregator providing validation rules
+     * @param targetSeries         the series receiving aggregated bars
+     * @param requireEvenIntervals whether consecutive source bars must be
+     *                             contiguous and evenly spaced
+     */
+    AbstractStreamingBarAggregator(BarAggregator aggregator, BarSeries targetSeries, boolean requireEvenIntervals) {
+        this.aggregator = Objects.requireNonNull(aggregator, "aggregator");
+        this.targetSeries = Objects.requireNonNull(targetSeries, "targetSeries");
+        this.requireEvenIntervals = requireEvenIntervals;
+    }
+
+    @Override
+    public final void addBar(Bar sourceBar) {
+        Objects.requireNonNull(sourceBar, "sourceBar");
+        if (requireEvenIntervals) {
+            aggregator.requireEvenIntervals(
+                    previousSourceBar == null ? List.of(sourceBar) : List.of(previousSourceBar, sourceBar));
+        }
+        onSourceBar(sourceBar, sourceBarCount);
+        previousSourceBar = sourceBar;
+        sourceBarCount++;
+    }
+
+    @Override
+    public BarSeries getTargetSeries() {
+        return targetSeries;
+    }
+
+    /**
+     * Consumes a validated source bar.
+     *
+     * @param sourceBar   the source bar
+     * @param sourceIndex the zero-based position of {@code sourceBar} in the source
+     *                    stream
+     */
+    protected abstract void onSourceBar(Bar sourceBar, long sourceIndex);
+
+    /**
+     * Publishes a completed bar, replacing the pending bar if one was published.
+     *
+     * @param bar the completed bar
+     */
+    protected void emitCompletedBar(Bar bar) {
+        targetSeries.addBar(bar, pendingBarInTarget);
+        pendingBarInTarget = false;
+    }
+
+    /**
+     * Publishes the forming bar, replacing the previous forming bar if one was
+     * published.
+     *
+     * @param bar the forming bar
+     */
+    protected void emitPendingBar(Bar bar) {
+        targetSeries.addBar(bar, pendingBarInTarget);
+        pendingBarInTarget = true;
+    }
+}
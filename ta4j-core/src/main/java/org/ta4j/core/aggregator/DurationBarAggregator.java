@@ -6,12 +6,15 @@ package org.ta4j.core.aggregator;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
 import org.ta4j.core.BaseBar;
 import org.ta4j.core.bars.TimeBarBuilder;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
 
 /**
  * Aggregates a list of {@link BaseBar bars} into another one by
@@ -56,6 +59,15 @@ public class DurationBarAggregator implements BarAggregator {
      */
     @Override
     public List<Bar> aggregate(List<Bar> bars) {
+        return aggregate(bars, onlyFinalBars);
+    }
+
+    /**
+     * Aggregates the {@code bars}, overriding whether a trailing pending bar is
+     * emitted. Used to aggregate chunks that are known to end on a completed
+     * aggregated bar.
+     */
+    List<Bar> aggregate(List<Bar> bars, boolean onlyFinalBars) {
         final List<Bar> aggregated = new ArrayList<>();
         if (bars.isEmpty()) {
             return aggregated;
@@ -64,11 +76,7 @@ public class DurationBarAggregator implements BarAggregator {
         // get the actual time period
         final Duration actualDur = firstBar.getTimePeriod();
         // check if new timePeriod is a multiplication of actual time period
-        final boolean isMultiplication = timePeriod.getSeconds() % actualDur.getSeconds() == 0;
-        if (!isMultiplication) {
-            throw new IllegalArgumentException(
-                    "Cannot aggregate bars: the new timePeriod must be a multiplication of the actual timePeriod.");
-        }
+        requireMultipleOf(actualDur);
 
         int i = 0;
         final Num zero = firstBar.numFactory().zero();
@@ -132,6 +140,68 @@ public class DurationBarAggregator implements BarAggregator {
         return aggregated;
     }
 
+    /**
+     * Creates a streaming variant of this aggregator that writes into
+     * {@code targetSeries}.
+     *
+     * <p>
+     * An aggregated bar is appended as soon as the source bars cover its whole
+     * {@link #timePeriod}, or when a source bar begins after its period. If
+     * {@code onlyFinalBars} is {@code false}, the forming bar is also appended and
+     * replaced on every source bar until it completes.
+     *
+     * @param targetSeries the series receiving aggregated bars
+     * @return a streaming aggregator bound to {@code targetSeries}
+     * @throws NullPointerException if {@code targetSeries} is {@code null}
+     *
+     * @since 0.23.1
+     */
+    public StreamingBarAggregator streaming(BarSeries targetSeries) {
+        return new StreamingDurationBarAggregator(this, targetSeries);
+    }
+
+    /**
+     * Finds the source indices at which {@link #aggregate(List)} starts a new
+     * aggregated bar. The scan only compares timestamps, so it is much cheaper than
+     * the aggregation itself and allows splitting the source at exact aggregated
+     * bar boundaries.
+     *
+     * @param bars the source bars
+     * @return the start index of every aggregated bar, in ascending order
+     */
+    int[] windowStartIndices(List<Bar> bars) {
+        if (bars.isEmpty()) {
+            return new int[0];
+        }
+        final Duration actualDur = bars.getFirst().getTimePeriod();
+        requireMultipleOf(actualDur);
+        // a window spans at most this many source bars
+        final long barsPerWindow = timePeriod.getSeconds() / actualDur.getSeconds();
+        int[] starts = new int[16];
+        int count = 0;
+        int i = 0;
+        while (i < bars.size()) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+            }
+            starts[count++] = i;
+            final Instant beginTime = bars.get(i).getBeginTime();
+            final int windowEnd = (int) Math.min(bars.size(), i + barsPerWindow);
+            i++;
+            while (i < windowEnd && beginTimesInDuration(beginTime, bars.get(i).getBeginTime())) {
+                i++;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    private void requireMultipleOf(Duration actualDur) {
+        if (timePeriod.getSeconds() % actualDur.getSeconds() != 0) {
+            throw new IllegalArgumentException(
+                    "Cannot aggregate bars: the new timePeriod must be a multiplication of the actual timePeriod.");
+        }
+    }
+
     private boolean beginTimesInDuration(Instant startTime, Instant endTime) {
         return Duration.between(startTime, endTime).compareTo(timePeriod) < 0;
     }
@@ -139,4 +209,82 @@ public class DurationBarAggregator implements BarAggregator {
     private boolean isInDuration(Duration duration) {
         return duration.compareTo(timePeriod) < 0;
     }
+
+    private static final class StreamingDurationBarAggregator extends AbstractStreamingBarAggregator {
+
+        private final DurationBarAggregator aggregator;
+        private final NumFactory numFactory;
+        private Instant beginTime;
+        private Num open;
+        private Num high;
+        private Num low;
+        private Num close;
+        private Num volume;
+        private Num amount;
+        private long trades;
+
+        private StreamingDurationBarAggregator(DurationBarAggregator aggregator, BarSeries targetSeries) {
+            super(aggregator, targetSeries, false);
+            this.aggregator = aggregator;
+            this.numFactory = targetSeries.numFactory();
+        }
+
+        @Override
+        protected void onSourceBar(Bar bar, long sourceIndex) {
+            if (sourceIndex == 0) {
+                aggregator.requireMultipleOf(bar.getTimePeriod());
+            }
+            if (beginTime != null && !aggregator.beginTimesInDuration(beginTime, bar.getBeginTime())) {
+                // the source bar starts a new period, so the current one is final
+                completeWindow();
+            }
+            if (beginTime == null) {
+                beginTime = bar.getBeginTime();
+                open = bar.getOpenPrice();
+                high = bar.getHighPrice();
+                low = bar.getLowPrice();
+                volume = numFactory.zero();
+                amount = numFactory.zero();
+                trades = 0;
+            }
+            if (high == null || bar.getHighPrice().isGreaterThan(high)) {
+                high = bar.getHighPrice();
+            }
+            if (low == null || bar.getLowPrice().isLessThan(low)) {
+                low = bar.getLowPrice();
+            }
+            close = bar.getClosePrice();
+            if (bar.getVolume() != null) {
+                volume = volume.plus(bar.getVolume());
+            }
+            if (bar.getAmount() != null) {
+                amount = amount.plus(bar.getAmount());
+            }
+            trades += bar.getTrades();
+
+            if (!bar.getEndTime().isBefore(beginTime.plus(aggregator.timePeriod))) {
+                completeWindow();
+            } else if (!aggregator.onlyFinalBars) {
+                emitPendingBar(buildBar());
+            }
+        }
+
+        private void completeWindow() {
+            emitCompletedBar(buildBar());
+            beginTime = null;
+        }
+
+        private Bar buildBar() {
+            return new TimeBarBuilder(numFactory).timePeriod(aggregator.timePeriod)
+                    .endTime(beginTime.plus(aggregator.timePeriod))
+                    .openPrice(open)
+                    .highPrice(high)
+                    .lowPrice(low)
+                    .closePrice(close)
+                    .volume(volume)
+                    .amount(amount)
+                    .trades(trades)
+                    .build();
+        }
+    }
 }
@@ -4,6 +4,7 @@
 package org.ta4j.core.aggregator;
 
 import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
 import org.ta4j.core.BaseBar;
 import org.ta4j.core.bars.HeikinAshiBarBuilder;
 import org.ta4j.core.num.Num;
@@ -50,4 +51,49 @@ public class HeikinAshiBarAggregator implements BarAggregator {
         return heikinAshiBars;
     }
 
+    /**
+     * Creates a streaming variant of this aggregator that appends one Heikin-Ashi
+     * bar to {@code targetSeries} per source bar.
+     *
+     * @param targetSeries the series receiving Heikin-Ashi bars
+     * @return a streaming aggregator bound to {@code targetSeries}
+     * @throws NullPointerException if {@code targetSeries} is {@code null}
+     *
+     * @since 0.23.1
+     */
+    public StreamingBarAggregator streaming(BarSeries targetSeries) {
+        return new StreamingHeikinAshiBarAggregator(this, targetSeries);
+    }
+
+    private static final class StreamingHeikinAshiBarAggregator extends AbstractStreamingBarAggregator {
+
+        private final HeikinAshiBarBuilder haBuilder;
+        private Num previousOpen;
+        private Num previousClose;
+
+        private StreamingHeikinAshiBarAggregator(HeikinAshiBarAggregator aggregator, BarSeries targetSeries) {
+            super(aggregator, targetSeries, false);
+            this.haBuilder = new HeikinAshiBarBuilder(targetSeries.numFactory());
+        }
+
+        @Override
+        protected void onSourceBar(Bar ohlcBar, long sourceIndex) {
+            haBuilder.timePeriod(ohlcBar.getTimePeriod())
+                    .endTime(ohlcBar.getEndTime())
+                    .openPrice(ohlcBar.getOpenPrice())
+                    .highPrice(ohlcBar.getHighPrice())
+                    .lowPrice(ohlcBar.getLowPrice())
+                    .closePrice(ohlcBar.getClosePrice())
+                    .volume(ohlcBar.getVolume())
+                    .amount(ohlcBar.getAmount())
+                    .trades(ohlcBar.getTrades());
+            haBuilder.previousHeikinAshiOpenPrice(previousOpen).previousHeikinAshiClosePrice(previousClose);
+
+            Bar haBar = haBuilder.build();
+            emitCompletedBar(haBar);
+
+            previousOpen = haBar.getOpenPrice();
+            previousClose = haBar.getClosePrice();
+        }
+    }
 }
@@ -0,0 +1,461 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.aggregator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicator;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+
+/**
+ * Keeps higher-timeframe aggregates of a base {@link BarSeries} synchronized
+ * with the base series through precomputed index maps.
+ *
+ * <p>
+ * Each {@link Timeframe} owns an aggregated series built with a
+ * {@link BaseBarSeriesAggregator} over a {@link DurationBarAggregator}, plus an
+ * index map from base-series indices to aggregated-series indices. A base index
+ * maps to the last aggregated bar whose end time is not after the end time of
+ * the base bar, so only completed higher-timeframe bars are ever visible and
+ * lookups never look ahead.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * MultiTimeframeBarSeries timeframes = new MultiTimeframeBarSeries(minuteSeries);
+ * MultiTimeframeBarSeries.Timeframe daily = timeframes.addTimeframe(Duration.ofDays(1));
+ * Indicator<Num> dailySma = new SMAIndicator(new ClosePriceIndicator(daily.getSeries()), 20);
+ * Indicator<Num> dailySmaOnMinutes = daily.toBaseTimeframe(dailySma);
+ * }</pre>
+ *
+ * <p>
+ * Maps are extended lazily when the base series grows: only base bars that are
+ * not yet part of a completed aggregated bar are re-aggregated, and the
+ * aggregated series keeps its identity so indicators built on it stay valid.
+ * When the bar history revision changes (see
+ * {@link BarSeries#getBarHistoryRevision()}), only the last mapped base bar and
+ * the one before it are inspected, so streaming updates cost O(1) regardless of
+ * the history length. Updates of the last base bar, such as trades on the
+ * forming bar, only re-aggregate that bar: if it is already part of the last
+ * aggregated bar, that aggregated bar is replaced in place. A revision change
+ * that leaves both bars untouched and appends no bar can only come from an
+ * earlier base bar and rebuilds the timeframe from scratch; an earlier bar
+ * replaced together with other updates before the next lookup is not detected.
+ * The index map only retains the base bars still held by the base series. This
+ * class is not thread-safe.
+ *
+ * @since 0.23.1
+ */
+public class MultiTimeframeBarSeries {
+
+    private final BarSeries baseSeries;
+    private final List<Timeframe> timeframes = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param baseSeries the base (lowest) timeframe series
+     * @throws NullPointerException if {@code baseSeries} is {@code null}
+     */
+    public MultiTimeframeBarSeries(BarSeries baseSeries) {
+        this.baseSeries = Objects.requireNonNull(baseSeries, "baseSeries");
+    }
+
+    /**
+     * Adds a higher timeframe named {@code <base name>_<period>}.
+     *
+     * @param period the aggregated time period
+     * @return the timeframe
+     * @throws NullPointerException     if {@code period} is {@code null}
+     * @throws IllegalArgumentException if {@code period} is not a positive
+     *                                  multiple of the base bar period
+     */
+    public Timeframe addTimeframe(Duration period) {
+        Objects.requireNonNull(period, "period");
+        return addTimeframe(baseSeries.getName() + "_" + period, period);
+    }
+
+    /**
+     * Adds a higher timeframe.
+     *
+     * @param name   the name of the aggregated series
+     * @param period the aggregated time period
+     * @return the timeframe
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code period} is not a positive
+     *                                  multiple of the base bar period
+     */
+    public Timeframe addTimeframe(String name, Duration period) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(period, "period");
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("period must be positive.");
+        }
+        Timeframe timeframe = new Timeframe(name, period);
+        timeframes.add(timeframe);
+        return timeframe;
+    }
+
+    /**
+     * @return the base series
+     */
+    public BarSeries getBaseSeries() {
+        return baseSeries;
+    }
+
+    /**
+     * @return the registered timeframes in registration order
+     */
+    public List<Timeframe> getTimeframes() {
+        return Collections.unmodifiableList(timeframes);
+    }
+
+    /**
+     * Brings every timeframe in sync with the current base series.
+     */
+    public void refresh() {
+        for (Timeframe timeframe : timeframes) {
+            timeframe.refresh();
+        }
+    }
+
+    /**
+     * A higher timeframe of the base series.
+     */
+    public final class Timeframe {
+
+        private static final int UNMAPPED = -1;
+
+        private final Duration period;
+        private final DurationBarAggregator barAggregator;
+        private final BarSeries series;
+        /** Aggregated index of each base index, starting at {@link #mapBeginIndex}. */
+        private int[] aggregatedIndexByBaseIndex = new int[0];
+        /** Base index stored at position 0 of the index map. */
+        private int mapBeginIndex;
+        /** Last base index covered by the index map, below {@link #mapBeginIndex} if none. */
+        private int mappedBaseEndIndex = -1;
+        /** State of the base bar at {@link #mappedBaseEndIndex}, or null. */
+        private MappedBar lastMappedBar;
+        /** Base bar before {@link #mappedBaseEndIndex}, or null. */
+        private Bar previousMappedBar;
+        /** First base index not yet part of a completed aggregated bar. */
+        private int nextUnaggregatedBaseIndex;
+        private long baseHistoryRevision;
+
+        private Timeframe(String name, Duration period) {
+            this.period = period;
+            this.barAggregator = new DurationBarAggregator(period);
+            BarSeries aggregatedSeries = new BaseBarSeriesAggregator(barAggregator).aggregate(baseSeries, name);
+            // an empty aggregate cannot derive its numeric factory from bars
+            this.series = aggregatedSeries.isEmpty()
+                    ? new BaseBarSeriesBuilder().withName(name).withNumFactory(baseSeries.numFactory()).build()
+                    : aggregatedSeries;
+            this.baseHistoryRevision = baseSeries.getBarHistoryRevision();
+            this.nextUnaggregatedBaseIndex = firstBaseIndexAfterLastAggregatedBar();
+            extendIndexMap();
+        }
+
+        /**
+         * @return the aggregated time period
+         */
+        public Duration getPeriod() {
+            return period;
+        }
+
+        /**
+         * @return the aggregated series; completed bars are appended by
+         *         {@link #refresh()}
+         */
+        public BarSeries getSeries() {
+            return series;
+        }
+
+        /**
+         * Returns the index of the last completed aggregated bar visible at
+         * {@code baseIndex}.
+         *
+         * @param baseIndex the base-series index
+         * @return the aggregated-series index, or {@code -1} if no aggregated bar has
+         *         completed yet at {@code baseIndex}
+         * @throws IndexOutOfBoundsException if {@code baseIndex} is outside the base
+         *                                   series
+         */
+        public int getIndex(int baseIndex) {
+            if (baseIndex < baseSeries.getBeginIndex() || baseIndex > baseSeries.getEndIndex()) {
+                throw new IndexOutOfBoundsException("baseIndex " + baseIndex + " is outside the base series");
+            }
+            if (baseIndex > mappedBaseEndIndex || baseHistoryRevision != baseSeries.getBarHistoryRevision()) {
+                refresh();
+            }
+            return aggregatedIndexByBaseIndex[baseIndex - mapBeginIndex];
+        }
+
+        /**
+         * Exposes an indicator of this timeframe on the base timeframe. The value at
+         * base index {@code i} is the indicator value at {@link #getIndex(int)
+         * getIndex(i)}, or {@link NaN#NaN} before the first aggregated bar completes.
+         *
+         * @param indicator an indicator built on {@link #getSeries()}
+         * @return the indicator aligned to the base series
+         * @throws NullPointerException if {@code indicator} is {@code null}
+         */
+        public Indicator<Num> toBaseTimeframe(Indicator<Num> indicator) {
+            return new BaseTimeframeIndicator(baseSeries, this, indicator);
+        }
+
+        /**
+         * Appends newly completed aggregated bars and extends the index map. Updates
+         * of the last base bar replace the last aggregated bar; replacing earlier
+         * base bars rebuilds the timeframe.
+         */
+        public void refresh() {
+            long currentRevision = baseSeries.getBarHistoryRevision();
+            if (currentRevision != baseHistoryRevision) {
+                baseHistoryRevision = currentRevision;
+                if (!reaggregateLastMappedBar()) {
+                    rebuild();
+                    return;
+                }
+            }
+            appendCompletedBars();
+            extendIndexMap();
+        }
+
+        private void rebuild() {
+            series.clear();
+            barAggregator.aggregate(baseSeries.getBarData()).forEach(series::addBar);
+            nextUnaggregatedBaseIndex = firstBaseIndexAfterLastAggregatedBar();
+            aggregatedIndexByBaseIndex = new int[0];
+            mapBeginIndex = Math.max(0, baseSeries.getBeginIndex());
+            mappedBaseEndIndex = mapBeginIndex - 1;
+            lastMappedBar = null;
+            previousMappedBar = null;
+            extendIndexMap();
+        }
+
+        /**
+         * Handles a revision change caused by updating or replacing the last mapped
+         * base bar (the forming bar when streaming trades).
+         *
+         * @return {@code false} if earlier base bars were replaced or removed and the
+         *         timeframe must be rebuilt
+         */
+        private boolean reaggregateLastMappedBar() {
+            int lastMappedIndex = mappedBaseEndIndex;
+            if (lastMappedIndex < mapBeginIndex) {
+                return true;
+            }
+            int baseBeginIndex = baseSeries.getBeginIndex();
+            if (baseSeries.getEndIndex() < lastMappedIndex || baseBeginIndex > lastMappedIndex) {
+                return false;
+            }
+            if (lastMappedIndex > baseBeginIndex && baseSeries.getBar(lastMappedIndex - 1) != previousMappedBar) {
+                return false;
+            }
+            if (lastMappedBar.matches(baseSeries.getBar(lastMappedIndex))) {
+                // unchanged: the revision moved for appended bars or for an earlier bar
+                return baseSeries.getEndIndex() > lastMappedIndex;
+            }
+            if (lastMappedIndex < nextUnaggregatedBaseIndex && !replaceLastAggregatedBar()) {
+                return false;
+            }
+            // the updated bar may have moved its end time, so map it again
+            mappedBaseEndIndex = lastMappedIndex - 1;
+            return true;
+        }
+
+        /**
+         * Re-aggregates the base bars of the last aggregated bar and replaces it.
+         *
+         * @return {@code false} if those base bars no longer form exactly one
+         *         completed aggregated bar
+         */
+        private boolean replaceLastAggregatedBar() {
+            Instant lastAggregatedBeginTime = series.getLastBar().getBeginTime();
+            int sourceBeginIndex = nextUnaggregatedBaseIndex;
+            while (sourceBeginIndex > baseSeries.getBeginIndex()
+                    && !baseSeries.getBar(sourceBeginIndex - 1).getBeginTime().isBefore(lastAggregatedBeginTime)) {
+                sourceBeginIndex--;
+            }
+            List<Bar> sourceBars = new ArrayList<>(nextUnaggregatedBaseIndex - sourceBeginIndex);
+            for (int i = sourceBeginIndex; i < nextUnaggregatedBaseIndex; i++) {
+                sourceBars.add(baseSeries.getBar(i));
+            }
+            List<Bar> replacement = barAggregator.aggregate(sourceBars);
+            if (replacement.size() != 1
+                    || !replacement.getFirst().getEndTime().equals(series.getLastBar().getEndTime())) {
+                return false;
+            }
+            series.addBar(replacement.getFirst(), true);
+            return true;
+        }
+
+        private void appendCompletedBars() {
+            int baseEndIndex = baseSeries.getEndIndex();
+            int fromIndex = Math.max(nextUnaggregatedBaseIndex, baseSeries.getBeginIndex());
+            if (fromIndex > baseEndIndex) {
+                return;
+            }
+            List<Bar> pendingBaseBars = new ArrayList<>(baseEndIndex - fromIndex + 1);
+            for (int i = fromIndex; i <= baseEndIndex; i++) {
+                pendingBaseBars.add(baseSeries.getBar(i));
+            }
+            List<Bar> completedBars = barAggregator.aggregate(pendingBaseBars);
+            if (completedBars.isEmpty()) {
+                return;
+            }
+            completedBars.forEach(series::addBar);
+            nextUnaggregatedBaseIndex = firstBaseIndexAfterLastAggregatedBar();
+        }
+
+        private int firstBaseIndexAfterLastAggregatedBar() {
+            int index = Math.max(nextUnaggregatedBaseIndex, baseSeries.getBeginIndex());
+            if (series.isEmpty()) {
+                return index;
+            }
+            Instant lastAggregatedEndTime = series.getLastBar().getEndTime();
+            while (index <= baseSeries.getEndIndex()
+                    && baseSeries.getBar(index).getBeginTime().isBefore(lastAggregatedEndTime)) {
+                index++;
+            }
+            return index;
+        }
+
+        private void extendIndexMap() {
+            int baseEndIndex = baseSeries.getEndIndex();
+            if (baseEndIndex <= mappedBaseEndIndex) {
+                return;
+            }
+            int baseBeginIndex = baseSeries.getBeginIndex();
+            trimIndexMap(baseBeginIndex);
+            int requiredLength = baseEndIndex - mapBeginIndex + 1;
+            if (requiredLength > aggregatedIndexByBaseIndex.length) {
+                int newLength = Math.max(requiredLength, aggregatedIndexByBaseIndex.length * 2);
+                int oldLength = aggregatedIndexByBaseIndex.length;
+                aggregatedIndexByBaseIndex = Arrays.copyOf(aggregatedIndexByBaseIndex, newLength);
+                Arrays.fill(aggregatedIndexByBaseIndex, oldLength, newLength, UNMAPPED);
+            }
+            int fromIndex = Math.max(mappedBaseEndIndex + 1, baseBeginIndex);
+            int aggregatedIndex = mappedBaseEndIndex >= mapBeginIndex
+                    ? aggregatedIndexByBaseIndex[mappedBaseEndIndex - mapBeginIndex]
+                    : UNMAPPED;
+            int aggregatedEndIndex = series.getEndIndex();
+            for (int i = fromIndex; i <= baseEndIndex; i++) {
+                Instant baseEndTime = baseSeries.getBar(i).getEndTime();
+                while (aggregatedIndex < aggregatedEndIndex
+                        && !series.getBar(aggregatedIndex + 1).getEndTime().isAfter(baseEndTime)) {
+                    aggregatedIndex++;
+                }
+                aggregatedIndexByBaseIndex[i - mapBeginIndex] = aggregatedIndex;
+            }
+            mappedBaseEndIndex = baseEndIndex;
+            lastMappedBar = new MappedBar(baseSeries.getBar(baseEndIndex));
+            previousMappedBar = baseEndIndex > baseBeginIndex ? baseSeries.getBar(baseEndIndex - 1) : null;
+        }
+
+        /**
+         * Drops index map entries of base bars evicted by the base series, keeping the
+         * last mapped entry. Entries are shifted only once the evicted prefix is at
+         * least as long as the retained part, so trimming is amortized O(1) per bar.
+         */
+        private void trimIndexMap(int baseBeginIndex) {
+            if (mappedBaseEndIndex < mapBeginIndex) {
+                mapBeginIndex = Math.max(mapBeginIndex, baseBeginIndex);
+                mappedBaseEndIndex = Math.max(mappedBaseEndIndex, mapBeginIndex - 1);
+                return;
+            }
+            int evicted = Math.min(baseBeginIndex, mappedBaseEndIndex) - mapBeginIndex;
+            int retained = mappedBaseEndIndex - mapBeginIndex + 1 - evicted;
+            if (evicted <= 0 || evicted < retained) {
+                return;
+            }
+            System.arraycopy(aggregatedIndexByBaseIndex, evicted, aggregatedIndexByBaseIndex, 0, retained);
+            Arrays.fill(aggregatedIndexByBaseIndex, retained, retained + evicted, UNMAPPED);
+            mapBeginIndex += evicted;
+        }
+
+        /**
+         * @return the first base index at which {@code aggregatedIndex} is visible,
+         *         or {@code -1} if it is not visible yet
+         */
+        private int firstBaseIndexShowing(int aggregatedIndex) {
+            refresh();
+            int low = baseSeries.getBeginIndex();
+            int high = mappedBaseEndIndex;
+            int result = UNMAPPED;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (aggregatedIndexByBaseIndex[mid - mapBeginIndex] >= aggregatedIndex) {
+                    result = mid;
+                    high = mid - 1;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Identity and published values of a mapped base bar, to tell in-place updates
+     * of that bar apart from changes to earlier bars.
+     */
+    private record MappedBar(Bar bar, Num openPrice, Num highPrice, Num lowPrice, Num closePrice, Num volume,
+            long trades) {
+
+        private MappedBar(Bar bar) {
+            this(bar, bar.getOpenPrice(), bar.getHighPrice(), bar.getLowPrice(), bar.getClosePrice(), bar.getVolume(),
+                    bar.getTrades());
+        }
+
+        private boolean matches(Bar other) {
+            return other == bar && bar.getTrades() == trades && Objects.equals(bar.getOpenPrice(), openPrice)
+                    && Objects.equals(bar.getHighPrice(), highPrice) && Objects.equals(bar.getLowPrice(), lowPrice)
+                    && Objects.equals(bar.getClosePrice(), closePrice) && Objects.equals(bar.getVolume(), volume);
+        }
+    }
+
+    /**
+     * Higher-timeframe indicator projected onto the base series.
+     */
+    private static final class BaseTimeframeIndicator extends AbstractIndicator<Num> {
+
+        private final Timeframe timeframe;
+        private final Indicator<Num> indicator;
+
+        private BaseTimeframeIndicator(BarSeries baseSeries, Timeframe timeframe, Indicator<Num> indicator) {
+            super(baseSeries);
+            this.timeframe = timeframe;
+            this.indicator = Objects.requireNonNull(indicator, "indicator");
+        }
+
+        @Override
+        public Num getValue(int index) {
+            int aggregatedIndex = timeframe.getIndex(index);
+            return aggregatedIndex < 0 ? NaN.NaN : indicator.getValue(aggregatedIndex);
+        }
+
+        @Override
+        public int getCountOfUnstableBars() {
+            int firstStableBaseIndex = timeframe.firstBaseIndexShowing(indicator.getCountOfUnstableBars());
+            if (firstStableBaseIndex < 0) {
+                return getBarSeries().getBarCount();
+            }
+            return firstStableBaseIndex - getBarSeries().getBeginIndex();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.aggregator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+
+/**
+ * Bulk {@link BarSeriesAggregator} that aggregates long histories with a
+ * {@link DurationBarAggregator} on a {@link ForkJoinPool}.
+ *
+ * <p>
+ * The source bars are split at exact aggregated-bar boundaries, found with a
+ * timestamp-only scan, into chunks of at least {@code minChunkSize} bars. Each
+ * chunk is aggregated independently and the chunk results are concatenated in
+ * order, so the output is identical to
+ * {@link BaseBarSeriesAggregator#aggregate(BarSeries, String)} with the same
+ * {@link DurationBarAggregator}. Inputs smaller than two chunks are aggregated
+ * sequentially.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * ParallelBarSeriesAggregator hourly = new ParallelBarSeriesAggregator(new DurationBarAggregator(Duration.ofHours(1)));
+ * BarSeries hourlySeries = hourly.aggregate(secondSeries);
+ * List<BarSeries> hourlyUniverse = hourly.aggregateAll(secondSeriesBySymbol.values());
+ * }</pre>
+ *
+ * <p>
+ * Only duration aggregation is chunked: volume, range, and Renko bars (and the
+ * remainder carry-over of the trade-level volume/amount builders) depend on the
+ * complete history before each boundary. Use {@link #aggregateAll(Collection)}
+ * to parallelize those workloads across series instead.
+ *
+ * @since 0.23.1
+ */
+public class ParallelBarSeriesAggregator implements BarSeriesAggregator {
+
+    /** Default minimum number of source bars per parallel chunk. */
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 50_000;
+
+    private final DurationBarAggregator barAggregator;
+    private final ForkJoinPool pool;
+    private final int minChunkSize;
+
+    /**
+     * Creates a parallel aggregator on the common fork-join pool.
+     *
+     * @param barAggregator the duration aggregator to apply to each chunk
+     * @throws NullPointerException if {@code barAggregator} is {@code null}
+     */
+    public ParallelBarSeriesAggregator(DurationBarAggregator barAggregator) {
+        this(barAggregator, ForkJoinPool.commonPool(), DEFAULT_MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a parallel aggregator.
+     *
+     * @param barAggregator the duration aggregator to apply to each chunk
+     * @param pool          the pool running chunk aggregation
+     * @param minChunkSize  the minimum number of source bars per chunk
+     * @throws NullPointerException     if {@code barAggregator} or {@code pool} is
+     *                                  {@code null}
+     * @throws IllegalArgumentException if {@code minChunkSize <= 0}
+     */
+    public ParallelBarSeriesAggregator(DurationBarAggregator barAggregator, ForkJoinPool pool, int minChunkSize) {
+        this.barAggregator = Objects.requireNonNull(barAggregator, "barAggregator");
+        this.pool = Objects.requireNonNull(pool, "pool");
+        if (minChunkSize <= 0) {
+            throw new IllegalArgumentException("minChunkSize must be greater than zero.");
+        }
+        this.minChunkSize = minChunkSize;
+    }
+
+    @Override
+    public BarSeries aggregate(BarSeries series, String aggregatedSeriesName) {
+        List<Bar> aggregatedBars = aggregate(series.getBarData());
+        return new BaseBarSeriesBuilder().withName(aggregatedSeriesName)
+                .withNumFactory(series.numFactory())
+                .withBars(aggregatedBars)
+                .build();
+    }
+
+    /**
+     * Aggregates every series concurrently, keeping the input order. Each series
+     * is itself chunked when it is large enough.
+     *
+     * @param series the series to aggregate
+     * @return the aggregated series, named like their sources
+     * @throws NullPointerException if {@code series} is {@code null}
+     */
+    public List<BarSeries> aggregateAll(Collection<? extends BarSeries> series) {
+        List<BarSeries> sources = List.copyOf(Objects.requireNonNull(series, "series"));
+        return pool.submit(() -> IntStream.range(0, sources.size())
+                .parallel()
+                .mapToObj(i -> aggregate(sources.get(i)))
+                .toList()).join();
+    }
+
+    /**
+     * Aggregates source bars, splitting them into chunks when the input is large
+     * enough.
+     *
+     * @param bars the source bars in chronological order
+     * @return the aggregated bars
+     * @throws NullPointerException if {@code bars} is {@code null}
+     */
+    public List<Bar> aggregate(List<Bar> bars) {
+        Objects.requireNonNull(bars, "bars");
+        if (bars.size() < 2L * minChunkSize) {
+            return barAggregator.aggregate(bars);
+        }
+
+        List<int[]> chunks = chunkBounds(barAggregator.windowStartIndices(bars), bars.size());
+        if (chunks.size() == 1) {
+            return barAggregator.aggregate(bars);
+        }
+        int lastChunk = chunks.size() - 1;
+        List<List<Bar>> chunkResults = pool.submit(() -> IntStream.rangeClosed(0, lastChunk).parallel().mapToObj(c -> {
+            int[] bounds = chunks.get(c);
+            List<Bar> chunk = bars.subList(bounds[0], bounds[1]);
+            // every chunk but the last ends on a completed aggregated bar
+            return c == lastChunk ? barAggregator.aggregate(chunk) : barAggregator.aggregate(chunk, false);
+        }).toList()).join();
+
+        int totalSize = chunkResults.stream().mapToInt(List::size).sum();
+        List<Bar> aggregated = new ArrayList<>(totalSize);
+        chunkResults.forEach(aggregated::addAll);
+        return aggregated;
+    }
+
+    /**
+     * Groups consecutive aggregated-bar windows into chunks of at least
+     * {@link #minChunkSize} source bars.
+     *
+     * @return {@code [fromIndex, toIndex)} pairs
+     */
+    private List<int[]> chunkBounds(int[] windowStarts, int barCount) {
+        List<int[]> chunks = new ArrayList<>();
+        int chunkStart = 0;
+        for (int windowStart : windowStarts) {
+            if (windowStart - chunkStart >= minChunkSize && barCount - windowStart >= minChunkSize) {
+                chunks.add(new int[] { chunkStart, windowStart });
+                chunkStart = windowStart;
+            }
+        }
+        chunks.add(new int[] { chunkStart, barCount });
+        return chunks;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Objects;
 
 import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.num.NumFactory;
 
@@ -87,14 +88,40 @@ public class RangeBarAggregator implements BarAggregator {
 
         NumFactory numFactory = bars.getFirst().numFactory();
         Num resolvedRangeSize = numFactory.numOf(rangeSize);
-        Num zero = numFactory.zero();
 
-        return ThresholdBarAggregationSupport.aggregate(bars, numFactory, onlyFinalBars, snapshot -> {
-            Num currentRange = zero;
-            if (snapshot.highPrice() != null && snapshot.lowPrice() != null) {
-                currentRange = snapshot.highPrice().minus(snapshot.lowPrice());
-            }
-            return currentRange.isGreaterThanOrEqual(resolvedRangeSize);
-        }, snapshot -> ThresholdBarAggregationSupport.buildTimeBar(numFactory, snapshot));
+        return ThresholdBarAggregationSupport.aggregate(bars, numFactory, onlyFinalBars,
+                snapshot -> reachesRange(snapshot, resolvedRangeSize),
+                snapshot -> ThresholdBarAggregationSupport.buildTimeBar(numFactory, snapshot));
+    }
+
+    /**
+     * Creates a streaming variant of this aggregator that writes range bars into
+     * {@code targetSeries}.
+     *
+     * <p>
+     * Completed bars are appended as soon as the threshold is reached. If
+     * {@code onlyFinalBars} is {@code false}, the forming bar is also appended and
+     * replaced on every source bar until it completes.
+     *
+     * @param targetSeries the series receiving aggregated bars
+     * @return a streaming aggregator bound to {@code targetSeries}
+     * @throws NullPointerException if {@code targetSeries} is {@code null}
+     *
+     * @since 0.23.1
+     */
+    public StreamingBarAggregator streaming(BarSeries targetSeries) {
+        Objects.requireNonNull(targetSeries, "targetSeries");
+        NumFactory numFactory = targetSeries.numFactory();
+        Num resolvedRangeSize = numFactory.numOf(rangeSize);
+        return ThresholdBarAggregationSupport.streaming(this, targetSeries, onlyFinalBars,
+                snapshot -> reachesRange(snapshot, resolvedRangeSize),
+                snapshot -> ThresholdBarAggregationSupport.buildTimeBar(numFactory, snapshot));
+    }
+
+    private static boolean reachesRange(ThresholdBarAggregationSupport.MutableWindow snapshot, Num rangeSize) {
+        if (snapshot.highPrice() == null || snapshot.lowPrice() == null) {
+            return false;
+        }
+        return snapshot.highPrice().minus(snapshot.lowPrice()).isGreaterThanOrEqual(rangeSize);
     }
 }
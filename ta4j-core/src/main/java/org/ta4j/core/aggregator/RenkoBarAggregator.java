@@ -8,8 +8,10 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
 import org.ta4j.core.bars.TimeBarBuilder;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.num.NumFactory;
@@ -105,21 +107,99 @@ public class RenkoBarAggregator implements BarAggregator {
         }
 
         Duration sourcePeriod = requireEvenIntervals(bars);
-        NumFactory numFactory = bars.getFirst().numFactory();
-        Num resolvedBoxSize = numFactory.numOf(boxSize);
-        Num reversalDistance = resolvedBoxSize.multipliedBy(numFactory.numOf(reversalAmount));
-        Num zero = numFactory.zero();
+        Bar firstBar = bars.getFirst();
+        BrickState brickState = new BrickState(firstBar.numFactory(), sourcePeriod, requireClosePrice(firstBar, 0),
+                firstBar.getEndTime());
+        for (int i = 0; i < bars.size(); i++) {
+            brickState.accept(bars.get(i), i, renkoBars::add);
+        }
 
-        Num lastBrickClose = requireClosePrice(bars.getFirst(), 0);
-        Direction direction = Direction.NONE;
-        Num pendingVolume = zero;
-        Num pendingAmount = zero;
-        long pendingTrades = 0L;
-        Instant nextBrickEndTime = bars.getFirst().getEndTime();
+        return renkoBars;
+    }
 
-        for (int i = 0; i < bars.size(); i++) {
-            Bar sourceBar = bars.get(i);
-            Num closePrice = requireClosePrice(sourceBar, i);
+    /**
+     * Creates a streaming variant of this aggregator that appends Renko bricks to
+     * {@code targetSeries}.
+     *
+     * <p>
+     * The streaming variant shares the brick state machine of
+     * {@link #aggregate(List)}, so feeding the same source bars one at a time
+     * produces the same bricks.
+     *
+     * @param targetSeries the series receiving Renko bricks
+     * @return a streaming aggregator bound to {@code targetSeries}
+     * @throws NullPointerException if {@code targetSeries} is {@code null}
+     *
+     * @since 0.23.1
+     */
+    public StreamingBarAggregator streaming(BarSeries targetSeries) {
+        return new StreamingRenkoBarAggregator(this, targetSeries);
+    }
+
+    private static Num requireClosePrice(Bar bar, long index) {
+        if (bar.getClosePrice() == null) {
+            throw new IllegalArgumentException(String.format(
+                    "RenkoBarAggregator requires close prices on all source bars. Missing at index %d.", index));
+        }
+        return bar.getClosePrice();
+    }
+
+    private static Bar buildBrick(NumFactory numFactory, Duration sourcePeriod, Instant endTime, Num openPrice,
+            Num closePrice, Num volume, Num amount, long trades) {
+        Num highPrice = openPrice.max(closePrice);
+        Num lowPrice = openPrice.min(closePrice);
+        return new TimeBarBuilder(numFactory).timePeriod(sourcePeriod)
+                .endTime(endTime)
+                .openPrice(openPrice)
+                .highPrice(highPrice)
+                .lowPrice(lowPrice)
+                .closePrice(closePrice)
+                .volume(volume)
+                .amount(amount)
+                .trades(trades)
+                .build();
+    }
+
+    private static Instant resolveBrickEndTime(Instant sourceBarEndTime, Instant nextBrickEndTime) {
+        return sourceBarEndTime.isAfter(nextBrickEndTime) ? sourceBarEndTime : nextBrickEndTime;
+    }
+
+    private record Config(Number boxSize, int reversalAmount) {
+    }
+
+    /**
+     * Constant-size Renko state shared by the batch and streaming variants.
+     */
+    private final class BrickState {
+
+        private final NumFactory numFactory;
+        private final Duration sourcePeriod;
+        private final Num resolvedBoxSize;
+        private final Num reversalDistance;
+        private final Num zero;
+        private Num lastBrickClose;
+        private Direction direction = Direction.NONE;
+        private Num pendingVolume;
+        private Num pendingAmount;
+        private long pendingTrades;
+        private Instant nextBrickEndTime;
+        private boolean emittedFromCurrentSourceBar;
+
+        private BrickState(NumFactory numFactory, Duration sourcePeriod, Num firstClosePrice,
+                Instant firstBrickEndTime) {
+            this.numFactory = numFactory;
+            this.sourcePeriod = sourcePeriod;
+            this.resolvedBoxSize = numFactory.numOf(boxSize);
+            this.reversalDistance = resolvedBoxSize.multipliedBy(numFactory.numOf(reversalAmount));
+            this.zero = numFactory.zero();
+            this.lastBrickClose = firstClosePrice;
+            this.pendingVolume = zero;
+            this.pendingAmount = zero;
+            this.nextBrickEndTime = firstBrickEndTime;
+        }
+
+        private void accept(Bar sourceBar, long index, Consumer<Bar> sink) {
+            Num closePrice = requireClosePrice(sourceBar, index);
             if (sourceBar.getVolume() != null) {
                 pendingVolume = pendingVolume.plus(sourceBar.getVolume());
             }
@@ -128,148 +208,77 @@ public class RenkoBarAggregator implements BarAggregator {
             }
             pendingTrades += sourceBar.getTrades();
 
-            boolean emittedFromCurrentSourceBar = false;
+            emittedFromCurrentSourceBar = false;
 
             if (direction == Direction.UP || direction == Direction.NONE) {
                 while (closePrice.isGreaterThanOrEqual(lastBrickClose.plus(resolvedBoxSize))) {
-                    Num openPrice = lastBrickClose;
-                    Num close = lastBrickClose.plus(resolvedBoxSize);
-                    Instant brickEndTime = resolveBrickEndTime(sourceBar.getEndTime(), nextBrickEndTime);
-                    Num brickVolume = emittedFromCurrentSourceBar ? zero : pendingVolume;
-                    Num brickAmount = emittedFromCurrentSourceBar ? zero : pendingAmount;
-                    long brickTrades = emittedFromCurrentSourceBar ? 0L : pendingTrades;
-                    renkoBars.add(buildBrick(numFactory, sourcePeriod, brickEndTime, openPrice, close, brickVolume,
-                            brickAmount, brickTrades));
-                    lastBrickClose = close;
+                    emitBrick(sourceBar, lastBrickClose.plus(resolvedBoxSize), sink);
                     direction = Direction.UP;
-                    nextBrickEndTime = brickEndTime.plus(sourcePeriod);
-                    if (!emittedFromCurrentSourceBar) {
-                        pendingVolume = zero;
-                        pendingAmount = zero;
-                        pendingTrades = 0L;
-                        emittedFromCurrentSourceBar = true;
-                    }
                 }
             }
 
             if (direction == Direction.NONE) {
                 while (closePrice.isLessThanOrEqual(lastBrickClose.minus(resolvedBoxSize))) {
-                    Num openPrice = lastBrickClose;
-                    Num close = lastBrickClose.minus(resolvedBoxSize);
-                    Instant brickEndTime = resolveBrickEndTime(sourceBar.getEndTime(), nextBrickEndTime);
-                    Num brickVolume = emittedFromCurrentSourceBar ? zero : pendingVolume;
-                    Num brickAmount = emittedFromCurrentSourceBar ? zero : pendingAmount;
-                    long brickTrades = emittedFromCurrentSourceBar ? 0L : pendingTrades;
-                    renkoBars.add(buildBrick(numFactory, sourcePeriod, brickEndTime, openPrice, close, brickVolume,
-                            brickAmount, brickTrades));
-                    lastBrickClose = close;
+                    emitBrick(sourceBar, lastBrickClose.minus(resolvedBoxSize), sink);
                     direction = Direction.DOWN;
-                    nextBrickEndTime = brickEndTime.plus(sourcePeriod);
-                    if (!emittedFromCurrentSourceBar) {
-                        pendingVolume = zero;
-                        pendingAmount = zero;
-                        pendingTrades = 0L;
-                        emittedFromCurrentSourceBar = true;
-                    }
                 }
             }
 
             if (direction == Direction.UP && closePrice.isLessThanOrEqual(lastBrickClose.minus(reversalDistance))) {
                 while (closePrice.isLessThanOrEqual(lastBrickClose.minus(resolvedBoxSize))) {
-                    Num openPrice = lastBrickClose;
-                    Num close = lastBrickClose.minus(resolvedBoxSize);
-                    Instant brickEndTime = resolveBrickEndTime(sourceBar.getEndTime(), nextBrickEndTime);
-                    Num brickVolume = emittedFromCurrentSourceBar ? zero : pendingVolume;
-                    Num brickAmount = emittedFromCurrentSourceBar ? zero : pendingAmount;
-                    long brickTrades = emittedFromCurrentSourceBar ? 0L : pendingTrades;
-                    renkoBars.add(buildBrick(numFactory, sourcePeriod, brickEndTime, openPrice, close, brickVolume,
-                            brickAmount, brickTrades));
-                    lastBrickClose = close;
+                    emitBrick(sourceBar, lastBrickClose.minus(resolvedBoxSize), sink);
                     direction = Direction.DOWN;
-                    nextBrickEndTime = brickEndTime.plus(sourcePeriod);
-                    if (!emittedFromCurrentSourceBar) {
-                        pendingVolume = zero;
-                        pendingAmount = zero;
-                        pendingTrades = 0L;
-                        emittedFromCurrentSourceBar = true;
-                    }
                 }
             }
 
             if (direction == Direction.DOWN) {
                 while (closePrice.isLessThanOrEqual(lastBrickClose.minus(resolvedBoxSize))) {
-                    Num openPrice = lastBrickClose;
-                    Num close = lastBrickClose.minus(resolvedBoxSize);
-                    Instant brickEndTime = resolveBrickEndTime(sourceBar.getEndTime(), nextBrickEndTime);
-                    Num brickVolume = emittedFromCurrentSourceBar ? zero : pendingVolume;
-                    Num brickAmount = emittedFromCurrentSourceBar ? zero : pendingAmount;
-                    long brickTrades = emittedFromCurrentSourceBar ? 0L : pendingTrades;
-                    renkoBars.add(buildBrick(numFactory, sourcePeriod, brickEndTime, openPrice, close, brickVolume,
-                            brickAmount, brickTrades));
-                    lastBrickClose = close;
-                    nextBrickEndTime = brickEndTime.plus(sourcePeriod);
-                    if (!emittedFromCurrentSourceBar) {
-                        pendingVolume = zero;
-                        pendingAmount = zero;
-                        pendingTrades = 0L;
-                        emittedFromCurrentSourceBar = true;
-                    }
+                    emitBrick(sourceBar, lastBrickClose.minus(resolvedBoxSize), sink);
                 }
                 if (closePrice.isGreaterThanOrEqual(lastBrickClose.plus(reversalDistance))) {
                     while (closePrice.isGreaterThanOrEqual(lastBrickClose.plus(resolvedBoxSize))) {
-                        Num openPrice = lastBrickClose;
-                        Num close = lastBrickClose.plus(resolvedBoxSize);
-                        Instant brickEndTime = resolveBrickEndTime(sourceBar.getEndTime(), nextBrickEndTime);
-                        Num brickVolume = emittedFromCurrentSourceBar ? zero : pendingVolume;
-                        Num brickAmount = emittedFromCurrentSourceBar ? zero : pendingAmount;
-                        long brickTrades = emittedFromCurrentSourceBar ? 0L : pendingTrades;
-                        renkoBars.add(buildBrick(numFactory, sourcePeriod, brickEndTime, openPrice, close, brickVolume,
-                                brickAmount, brickTrades));
-                        lastBrickClose = close;
+                        emitBrick(sourceBar, lastBrickClose.plus(resolvedBoxSize), sink);
                         direction = Direction.UP;
-                        nextBrickEndTime = brickEndTime.plus(sourcePeriod);
-                        if (!emittedFromCurrentSourceBar) {
-                            pendingVolume = zero;
-                            pendingAmount = zero;
-                            pendingTrades = 0L;
-                            emittedFromCurrentSourceBar = true;
-                        }
                     }
                 }
             }
         }
 
-        return renkoBars;
-    }
-
-    private static Num requireClosePrice(Bar bar, int index) {
-        if (bar.getClosePrice() == null) {
-            throw new IllegalArgumentException(String.format(
-                    "RenkoBarAggregator requires close prices on all source bars. Missing at index %d.", index));
+        private void emitBrick(Bar sourceBar, Num close, Consumer<Bar> sink) {
+            Instant brickEndTime = resolveBrickEndTime(sourceBar.getEndTime(), nextBrickEndTime);
+            Num brickVolume = emittedFromCurrentSourceBar ? zero : pendingVolume;
+            Num brickAmount = emittedFromCurrentSourceBar ? zero : pendingAmount;
+            long brickTrades = emittedFromCurrentSourceBar ? 0L : pendingTrades;
+            sink.accept(buildBrick(numFactory, sourcePeriod, brickEndTime, lastBrickClose, close, brickVolume,
+                    brickAmount, brickTrades));
+            lastBrickClose = close;
+            nextBrickEndTime = brickEndTime.plus(sourcePeriod);
+            if (!emittedFromCurrentSourceBar) {
+                pendingVolume = zero;
+                pendingAmount = zero;
+                pendingTrades = 0L;
+                emittedFromCurrentSourceBar = true;
+            }
         }
-        return bar.getClosePrice();
     }
 
-    private static Bar buildBrick(NumFactory numFactory, Duration sourcePeriod, Instant endTime, Num openPrice,
-            Num closePrice, Num volume, Num amount, long trades) {
-        Num highPrice = openPrice.max(closePrice);
-        Num lowPrice = openPrice.min(closePrice);
-        return new TimeBarBuilder(numFactory).timePeriod(sourcePeriod)
-                .endTime(endTime)
-                .openPrice(openPrice)
-                .highPrice(highPrice)
-                .lowPrice(lowPrice)
-                .closePrice(closePrice)
-                .volume(volume)
-                .amount(amount)
-                .trades(trades)
-                .build();
-    }
+    private static final class StreamingRenkoBarAggregator extends AbstractStreamingBarAggregator {
 
-    private static Instant resolveBrickEndTime(Instant sourceBarEndTime, Instant nextBrickEndTime) {
-        return sourceBarEndTime.isAfter(nextBrickEndTime) ? sourceBarEndTime : nextBrickEndTime;
-    }
+        private final RenkoBarAggregator aggregator;
+        private BrickState brickState;
 
-    private record Config(Number boxSize, int reversalAmount) {
+        private StreamingRenkoBarAggregator(RenkoBarAggregator aggregator, BarSeries targetSeries) {
+            super(aggregator, targetSeries);
+            this.aggregator = aggregator;
+        }
+
+        @Override
+        protected void onSourceBar(Bar sourceBar, long sourceIndex) {
+            if (brickState == null) {
+                brickState = aggregator.new BrickState(getTargetSeries().numFactory(), sourceBar.getTimePeriod(),
+                        requireClosePrice(sourceBar, sourceIndex), sourceBar.getEndTime());
+            }
+            brickState.accept(sourceBar, sourceIndex, this::emitCompletedBar);
+        }
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.aggregator;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+
+/**
+ * Aggregates source bars one at a time into a target {@link BarSeries}.
+ *
+ * <p>
+ * Unlike {@link BarAggregator}, which rebuilds the complete aggregated list
+ * from a complete source list, a streaming aggregator keeps constant-size state
+ * between calls. Each {@link #addBar(Bar)} call appends completed bars to the
+ * {@link #getTargetSeries() target series}. Aggregators configured to emit
+ * pending bars also publish the forming bar and replace it in place until it
+ * completes.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * BarSeries fiveMinuteSeries = new BaseBarSeriesBuilder().withName("5m").build();
+ * StreamingBarAggregator fiveMinutes = new DurationBarAggregator(Duration.ofMinutes(5)).streaming(fiveMinuteSeries);
+ * fiveMinutes.addBar(oneMinuteBar);
+ * }</pre>
+ *
+ * <p>
+ * Streaming aggregators are not thread-safe. Feed them from the thread that
+ * owns the source feed.
+ *
+ * @since 0.23.1
+ */
+public interface StreamingBarAggregator {
+
+    /**
+     * Consumes the next source bar.
+     *
+     * @param sourceBar the next source bar in chronological order
+     * @throws NullPointerException     if {@code sourceBar} is {@code null}
+     * @throws IllegalArgumentException if {@code sourceBar} violates the source
+     *                                  requirements of the underlying
+     *                                  {@link BarAggregator}
+     */
+    void addBar(Bar sourceBar);
+
+    /**
+     * @return the series receiving aggregated bars
+     */
+    BarSeries getTargetSeries();
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.aggregator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Drives several {@link StreamingBarAggregator streaming aggregators} from one
+ * source feed.
+ *
+ * <p>
+ * Typical use is building several higher timeframes from a live one-minute
+ * feed:
+ *
+ * <pre>{@code
+ * StreamingBarAggregatorFanOut timeframes = StreamingBarAggregatorFanOut.ofDurations("BTC-USD", numFactory,
+ *         Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ofHours(1), Duration.ofHours(4));
+ * timeframes.addBar(oneMinuteBar);
+ * BarSeries hourly = timeframes.getTargetSeries(2);
+ * }</pre>
+ *
+ * <p>
+ * Source bars are forwarded in registration order. Like the aggregators it
+ * drives, this class is not thread-safe.
+ *
+ * @since 0.23.1
+ */
+public final class StreamingBarAggregatorFanOut {
+
+    private final List<StreamingBarAggregator> aggregators;
+
+    /**
+     * Constructor.
+     *
+     * @param aggregators the streaming aggregators to drive
+     * @throws NullPointerException if {@code aggregators} or any element is
+     *                              {@code null}
+     */
+    public StreamingBarAggregatorFanOut(List<StreamingBarAggregator> aggregators) {
+        Objects.requireNonNull(aggregators, "aggregators");
+        this.aggregators = List.copyOf(aggregators);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aggregators the streaming aggregators to drive
+     * @throws NullPointerException if {@code aggregators} or any element is
+     *                              {@code null}
+     */
+    public StreamingBarAggregatorFanOut(StreamingBarAggregator... aggregators) {
+        this(List.of(Objects.requireNonNull(aggregators, "aggregators")));
+    }
+
+    /**
+     * Creates a fan-out with one {@link DurationBarAggregator} per period. Only
+     * final bars are emitted. Each target series is named
+     * {@code <name>_<period>}, for example {@code BTC-USD_PT5M}.
+     *
+     * @param name       the base name of the target series
+     * @param numFactory the numeric factory of the source and target series
+     * @param periods    the target periods
+     * @return the fan-out
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static StreamingBarAggregatorFanOut ofDurations(String name, NumFactory numFactory, Duration... periods) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(numFactory, "numFactory");
+        Objects.requireNonNull(periods, "periods");
+        List<StreamingBarAggregator> aggregators = new ArrayList<>(periods.length);
+        for (Duration period : periods) {
+            Objects.requireNonNull(period, "period");
+            BarSeries targetSeries = new BaseBarSeriesBuilder().withName(name + "_" + period)
+                    .withNumFactory(numFactory)
+                    .build();
+            aggregators.add(new DurationBarAggregator(period).streaming(targetSeries));
+        }
+        return new StreamingBarAggregatorFanOut(aggregators);
+    }
+
+    /**
+     * Forwards the next source bar to every aggregator.
+     *
+     * @param sourceBar the next source bar in chronological order
+     * @throws NullPointerException if {@code sourceBar} is {@code null}
+     */
+    public void addBar(Bar sourceBar) {
+        Objects.requireNonNull(sourceBar, "sourceBar");
+        for (StreamingBarAggregator aggregator : aggregators) {
+            aggregator.addBar(sourceBar);
+        }
+    }
+
+    /**
+     * @return the driven aggregators in registration order
+     */
+    public List<StreamingBarAggregator> getAggregators() {
+        return aggregators;
+    }
+
+    /**
+     * @param index the registration index of the aggregator
+     * @return the target series of the aggregator at {@code index}
+     */
+    public BarSeries getTargetSeries(int index) {
+        return aggregators.get(index).getTargetSeries();
+    }
+}
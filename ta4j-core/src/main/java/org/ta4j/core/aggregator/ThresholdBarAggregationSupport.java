@@ -12,6 +12,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
 import org.ta4j.core.bars.TimeBarBuilder;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.num.NumFactory;
@@ -52,6 +53,14 @@ final class ThresholdBarAggregationSupport {
         return aggregated;
     }
 
+    static StreamingBarAggregator streaming(BarAggregator aggregator, BarSeries targetSeries, boolean onlyFinalBars,
+            Predicate<MutableWindow> completionPredicate, Function<MutableWindow, Bar> barBuilder) {
+        Objects.requireNonNull(completionPredicate, "completionPredicate");
+        Objects.requireNonNull(barBuilder, "barBuilder");
+        return new StreamingThresholdBarAggregator(aggregator, targetSeries, onlyFinalBars, completionPredicate,
+                barBuilder);
+    }
+
     static Bar buildTimeBar(NumFactory numFactory, MutableWindow window) {
         Duration aggregatedPeriod = Duration.between(window.beginTime(), window.endTime());
         return new TimeBarBuilder(numFactory).timePeriod(aggregatedPeriod)
@@ -66,6 +75,40 @@ final class ThresholdBarAggregationSupport {
                 .build();
     }
 
+    /**
+     * Streaming counterpart of {@link #aggregate}: keeps one mutable window and
+     * either appends completed bars or replaces the forming bar in the target
+     * series.
+     */
+    private static final class StreamingThresholdBarAggregator extends AbstractStreamingBarAggregator {
+
+        private final boolean onlyFinalBars;
+        private final Predicate<MutableWindow> completionPredicate;
+        private final Function<MutableWindow, Bar> barBuilder;
+        private final MutableWindow mutableWindow;
+
+        private StreamingThresholdBarAggregator(BarAggregator aggregator, BarSeries targetSeries,
+                boolean onlyFinalBars, Predicate<MutableWindow> completionPredicate,
+                Function<MutableWindow, Bar> barBuilder) {
+            super(aggregator, targetSeries);
+            this.onlyFinalBars = onlyFinalBars;
+            this.completionPredicate = completionPredicate;
+            this.barBuilder = barBuilder;
+            this.mutableWindow = new MutableWindow(targetSeries.numFactory());
+        }
+
+        @Override
+        protected void onSourceBar(Bar sourceBar, long sourceIndex) {
+            mutableWindow.add(sourceBar);
+            if (completionPredicate.test(mutableWindow)) {
+                emitCompletedBar(barBuilder.apply(mutableWindow));
+                mutableWindow.reset();
+            } else if (!onlyFinalBars) {
+                emitPendingBar(barBuilder.apply(mutableWindow));
+            }
+        }
+    }
+
     static final class MutableWindow {
 
         private final Num zero;
@@ -79,12 +122,12 @@ final class ThresholdBarAggregationSupport {
         private Num amount;
         private long trades;
 
-        private MutableWindow(NumFactory numFactory) {
+        MutableWindow(NumFactory numFactory) {
             this.zero = numFactory.zero();
             reset();
         }
 
-        private void add(Bar bar) {
+        void add(Bar bar) {
             if (beginTime == null) {
                 beginTime = bar.getBeginTime();
                 openPrice = bar.getOpenPrice();
@@ -110,11 +153,11 @@ final class ThresholdBarAggregationSupport {
             trades += bar.getTrades();
         }
 
-        private boolean isEmpty() {
+        boolean isEmpty() {
             return beginTime == null;
         }
 
-        private void reset() {
+        void reset() {
             beginTime = null;
             endTime = null;
             openPrice = null;
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Objects;
 
 import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.num.NumFactory;
 
@@ -91,4 +92,28 @@ public class VolumeBarAggregator implements BarAggregator {
                 snapshot -> snapshot.volume().isGreaterThanOrEqual(resolvedVolumeThreshold),
                 snapshot -> ThresholdBarAggregationSupport.buildTimeBar(numFactory, snapshot));
     }
+
+    /**
+     * Creates a streaming variant of this aggregator that writes volume bars into
+     * {@code targetSeries}.
+     *
+     * <p>
+     * Completed bars are appended as soon as the threshold is reached. If
+     * {@code onlyFinalBars} is {@code false}, the forming bar is also appended and
+     * replaced on every source bar until it completes.
+     *
+     * @param targetSeries the series receiving aggregated bars
+     * @return a streaming aggregator bound to {@code targetSeries}
+     * @throws NullPointerException if {@code targetSeries} is {@code null}
+     *
+     * @since 0.23.1
+     */
+    public StreamingBarAggregator streaming(BarSeries targetSeries) {
+        Objects.requireNonNull(targetSeries, "targetSeries");
+        NumFactory numFactory = targetSeries.numFactory();
+        Num resolvedVolumeThreshold = numFactory.numOf(volumeThreshold);
+        return ThresholdBarAggregationSupport.streaming(this, targetSeries, onlyFinalBars,
+                snapshot -> snapshot.volume().isGreaterThanOrEqual(resolvedVolumeThreshold),
+                snapshot -> ThresholdBarAggregationSupport.buildTimeBar(numFactory, snapshot));
+    }
 }
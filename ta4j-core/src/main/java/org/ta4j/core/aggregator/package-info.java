@@ -11,5 +11,16 @@
  * {@link org.ta4j.core.aggregator.RangeBarAggregator range},
  * {@link org.ta4j.core.aggregator.VolumeBarAggregator volume}, and
  * {@link org.ta4j.core.aggregator.RenkoBarAggregator Renko bricks}.
+ *
+ * <p>
+ * Live feeds can use the
+ * {@link org.ta4j.core.aggregator.StreamingBarAggregator streaming} variants,
+ * which consume one source bar at a time and write into a target series, and
+ * {@link org.ta4j.core.aggregator.StreamingBarAggregatorFanOut} to drive
+ * several timeframes from one feed.
+ * {@link org.ta4j.core.aggregator.MultiTimeframeBarSeries} keeps higher
+ * timeframes aligned with a base series for strategies that mix timeframes.
+ * {@link org.ta4j.core.aggregator.ParallelBarSeriesAggregator} aggregates long
+ * histories and symbol universes in parallel.
  */
 package org.ta4j.core.aggregator;
@@ -21,6 +21,13 @@ import org.ta4j.core.num.NumFactory;
 /**
  * An amount bar is sampled after a fixed number of amount (= price * volume)
  * have been traded.
+ *
+ * <p>
+ * With primitive accumulation enabled, trades ingested through
+ * {@link #addTrade(Instant, double, double)} (or the {@link Num} overloads) are
+ * accumulated in {@code double} fields and {@link Num} values are only created
+ * when a bar is emitted or {@link #build() read}. On
+ * {@link DoubleNumFactory} series this ingests trades without allocating.
  */
 public class AmountBarBuilder implements BarBuilder {
 
@@ -31,6 +38,10 @@ public class AmountBarBuilder implements BarBuilder {
     private final NumFactory numFactory;
     private final RemainderCarryOverPolicy carryOverPolicy;
     private final boolean realtimeBars;
+    private final boolean primitiveAccumulation;
+    private final PrimitiveTradeAccumulator primitiveTrades;
+    /** {@code true} once the current bar is built through the {@link Num} setters. */
+    private boolean numStateActive;
     private Consumer<Bar> barAppender;
     private Duration timePeriod;
     private Instant beginTime;
@@ -120,11 +131,39 @@ public class AmountBarBuilder implements BarBuilder {
      */
     public AmountBarBuilder(final NumFactory numFactory, final int amountThreshold, final boolean setAmountByVolume,
             final boolean realtimeBars, final RemainderCarryOverPolicy carryOverPolicy) {
+        this(numFactory, amountThreshold, setAmountByVolume, realtimeBars, carryOverPolicy, false);
+    }
+
+    /**
+     * A builder to build a new {@link BaseBar} or {@link BaseRealtimeBar}
+     *
+     * @param numFactory            the backing number factory
+     * @param amountThreshold       the threshold at which a new bar should be
+     *                              created
+     * @param setAmountByVolume     if {@code true} the {@link #amount} is set by
+     *                              {@link #volume} * {@link #closePrice},
+     *                              otherwise {@link #amount} must be explicitly
+     *                              set
+     * @param realtimeBars          {@code true} to build {@link BaseRealtimeBar}
+     *                              instances
+     * @param carryOverPolicy       policy for handling side/liquidity remainder
+     *                              splits
+     * @param primitiveAccumulation {@code true} to accumulate ingested trades in
+     *                              primitive {@code double} fields
+     *
+     * @since 0.23.1
+     */
+    public AmountBarBuilder(final NumFactory numFactory, final int amountThreshold, final boolean setAmountByVolume,
+            final boolean realtimeBars, final RemainderCarryOverPolicy carryOverPolicy,
+            final boolean primitiveAccumulation) {
         this.numFactory = numFactory;
         this.amountThreshold = numFactory.numOf(amountThreshold);
         this.setAmountByVolume = setAmountByVolume;
         this.carryOverPolicy = carryOverPolicy == null ? RemainderCarryOverPolicy.NONE : carryOverPolicy;
         this.realtimeBars = realtimeBars;
+        this.primitiveAccumulation = primitiveAccumulation;
+        this.primitiveTrades = primitiveAccumulation ? new PrimitiveTradeAccumulator(0, Integer.MAX_VALUE, true)
+                : null;
         reset();
     }
 
@@ -193,6 +232,7 @@ public class AmountBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder closePrice(final Num tickPrice) {
+        spillPrimitiveTrades();
         closePrice = tickPrice;
         if (openPrice == null) {
             openPrice = tickPrice;
@@ -216,6 +256,7 @@ public class AmountBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder volume(final Num volume) {
+        spillPrimitiveTrades();
         this.distinctVolume = volume;
         this.volume = this.volume == null ? volume : this.volume.plus(volume);
         return this;
@@ -238,6 +279,7 @@ public class AmountBarBuilder implements BarBuilder {
         if (setAmountByVolume) {
             throw new IllegalArgumentException("AmountBar.amount can only be built from closePrice*volume");
         }
+        spillPrimitiveTrades();
         this.amount = this.amount == null ? amount : this.amount.plus(amount);
         return this;
     }
@@ -256,6 +298,7 @@ public class AmountBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder trades(final long trades) {
+        spillPrimitiveTrades();
         this.trades += trades;
         return this;
     }
@@ -305,15 +348,12 @@ public class AmountBarBuilder implements BarBuilder {
         Objects.requireNonNull(time, "time");
         Objects.requireNonNull(tradeVolume, "tradeVolume");
         Objects.requireNonNull(tradePrice, "tradePrice");
-        ensureRealtimeTracking(side, liquidity);
-        if (endTime != null && time.isBefore(endTime)) {
-            throw new IllegalArgumentException(
-                    String.format("Trade time %s is before current bar end time %s", time, endTime));
-        }
-        if (beginTime == null) {
-            beginTime = time;
+        if (accumulatesPrimitives()) {
+            addPrimitiveTrade(time, tradeVolume.doubleValue(), tradePrice.doubleValue(), side, liquidity);
+            return;
         }
-        endTime = time;
+        ensureRealtimeTracking(side, liquidity);
+        advanceTradeTime(time);
         closePrice(tradePrice);
         volume(tradeVolume);
         if (!setAmountByVolume) {
@@ -328,6 +368,68 @@ public class AmountBarBuilder implements BarBuilder {
         add();
     }
 
+    /**
+     * Ingests a trade given as primitive values. With primitive accumulation
+     * enabled no {@link Num} is created until the bar is emitted.
+     *
+     * @param time        the trade timestamp (UTC)
+     * @param tradeVolume the traded volume
+     * @param tradePrice  the traded price
+     *
+     * @since 0.23.1
+     */
+    public void addTrade(final Instant time, final double tradeVolume, final double tradePrice) {
+        addTrade(time, tradeVolume, tradePrice, null, null);
+    }
+
+    /**
+     * Ingests a trade given as primitive values. With primitive accumulation
+     * enabled no {@link Num} is created until the bar is emitted.
+     *
+     * @param time        the trade timestamp (UTC)
+     * @param tradeVolume the traded volume
+     * @param tradePrice  the traded price
+     * @param side        aggressor side (optional)
+     * @param liquidity   liquidity classification (optional)
+     *
+     * @since 0.23.1
+     */
+    public void addTrade(final Instant time, final double tradeVolume, final double tradePrice,
+            final RealtimeBar.Side side, final RealtimeBar.Liquidity liquidity) {
+        if (!accumulatesPrimitives()) {
+            addTrade(time, numFactory.numOf(tradeVolume), numFactory.numOf(tradePrice), side, liquidity);
+            return;
+        }
+        Objects.requireNonNull(time, "time");
+        addPrimitiveTrade(time, tradeVolume, tradePrice, side, liquidity);
+    }
+
+    private void addPrimitiveTrade(final Instant time, final double tradeVolume, final double tradePrice,
+            final RealtimeBar.Side side, final RealtimeBar.Liquidity liquidity) {
+        ensureRealtimeTracking(side, liquidity);
+        advanceTradeTime(time);
+        primitiveTrades.addTrade(tradeVolume, tradePrice, side, liquidity);
+        lastTradeSide = side;
+        lastTradeLiquidity = liquidity;
+        if (primitiveTrades.amount >= amountThreshold.doubleValue()) {
+            materializePrimitiveTrades();
+            if (emitBarIfThresholdReached()) {
+                loadPrimitiveTrades();
+            }
+        }
+    }
+
+    private void advanceTradeTime(final Instant time) {
+        if (endTime != null && time.isBefore(endTime)) {
+            throw new IllegalArgumentException(
+                    String.format("Trade time %s is before current bar end time %s", time, endTime));
+        }
+        if (beginTime == null) {
+            beginTime = time;
+        }
+        endTime = time;
+    }
+
     /**
      * Builds bar from current state that is modified for each tick.
      *
@@ -335,6 +437,11 @@ public class AmountBarBuilder implements BarBuilder {
      */
     @Override
     public Bar build() {
+        materializePrimitiveTrades();
+        return buildBar();
+    }
+
+    private Bar buildBar() {
         if (realtimeBars) {
             return new BaseRealtimeBar(timePeriod, beginTime, endTime, openPrice, highPrice, lowPrice, closePrice,
                     volume, amount, trades, buyVolume, sellVolume, buyAmount, sellAmount, buyTrades, sellTrades,
@@ -347,12 +454,17 @@ public class AmountBarBuilder implements BarBuilder {
 
     @Override
     public void add() {
+        spillPrimitiveTrades();
 
         if (setAmountByVolume) {
             final var calculatedAmount = closePrice.multipliedBy(distinctVolume);
             amount = amount == null ? calculatedAmount : amount.plus(calculatedAmount);
         }
 
+        emitBarIfThresholdReached();
+    }
+
+    private boolean emitBarIfThresholdReached() {
         if (amount.isGreaterThanOrEqual(amountThreshold)) {
             // move amount remainder to next bar
             var amountRemainder = numFactory.zero();
@@ -382,7 +494,7 @@ public class AmountBarBuilder implements BarBuilder {
                 }
             }
 
-            boundBarAppender().accept(build());
+            boundBarAppender().accept(buildBar());
             amount = amountRemainder;
             volume = volumeRemainder;
 
@@ -390,7 +502,80 @@ public class AmountBarBuilder implements BarBuilder {
             if (carryOverSnapshot != null) {
                 carryOverSnapshot.applyTo(this);
             }
+            return true;
         }
+        return false;
+    }
+
+    private boolean accumulatesPrimitives() {
+        return primitiveAccumulation && !numStateActive;
+    }
+
+    /**
+     * Switches the current bar to {@link Num} accumulation, keeping the trades
+     * accumulated so far.
+     */
+    private void spillPrimitiveTrades() {
+        if (accumulatesPrimitives()) {
+            materializePrimitiveTrades();
+            numStateActive = true;
+        }
+    }
+
+    private void materializePrimitiveTrades() {
+        if (!accumulatesPrimitives() || primitiveTrades.isEmpty()) {
+            return;
+        }
+        final PrimitiveTradeAccumulator state = primitiveTrades;
+        openPrice = state.hasPrice ? numFactory.numOf(state.openPrice) : null;
+        highPrice = numFactory.numOf(state.highPrice);
+        lowPrice = numFactory.numOf(state.lowPrice);
+        closePrice = state.hasPrice ? numFactory.numOf(state.closePrice) : null;
+        volume = numFactory.numOf(state.volume);
+        amount = numFactory.numOf(state.amount);
+        trades = state.trades;
+        buyVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.buyVolume);
+        sellVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.sellVolume);
+        buyAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.buyAmount);
+        sellAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.sellAmount);
+        buyTrades = state.buyTrades;
+        sellTrades = state.sellTrades;
+        hasSideData = state.hasSideData;
+        makerVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.makerVolume);
+        takerVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.takerVolume);
+        makerAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.makerAmount);
+        takerAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.takerAmount);
+        makerTrades = state.makerTrades;
+        takerTrades = state.takerTrades;
+        hasLiquidityData = state.hasLiquidityData;
+        lastTradeVolume = state.hasPrice ? numFactory.numOf(state.lastTradeVolume) : null;
+        lastTradePrice = state.hasPrice ? numFactory.numOf(state.lastTradePrice) : null;
+    }
+
+    /**
+     * Loads the amount and volume remainders and carried-over side/liquidity data
+     * of a new bar into the primitive accumulator.
+     */
+    private void loadPrimitiveTrades() {
+        final PrimitiveTradeAccumulator state = primitiveTrades;
+        state.reset();
+        state.volume = PrimitiveTradeAccumulator.doubleOrZero(volume);
+        state.amount = PrimitiveTradeAccumulator.doubleOrZero(amount);
+        state.trades = trades;
+        state.buyVolume = PrimitiveTradeAccumulator.doubleOrZero(buyVolume);
+        state.sellVolume = PrimitiveTradeAccumulator.doubleOrZero(sellVolume);
+        state.buyAmount = PrimitiveTradeAccumulator.doubleOrZero(buyAmount);
+        state.sellAmount = PrimitiveTradeAccumulator.doubleOrZero(sellAmount);
+        state.buyTrades = buyTrades;
+        state.sellTrades = sellTrades;
+        state.hasSideData = hasSideData;
+        state.makerVolume = PrimitiveTradeAccumulator.doubleOrZero(makerVolume);
+        state.takerVolume = PrimitiveTradeAccumulator.doubleOrZero(takerVolume);
+        state.makerAmount = PrimitiveTradeAccumulator.doubleOrZero(makerAmount);
+        state.takerAmount = PrimitiveTradeAccumulator.doubleOrZero(takerAmount);
+        state.makerTrades = makerTrades;
+        state.takerTrades = takerTrades;
+        state.hasLiquidityData = hasLiquidityData;
     }
 
     private void reset() {
@@ -422,6 +607,10 @@ public class AmountBarBuilder implements BarBuilder {
         lastTradePrice = null;
         lastTradeSide = null;
         lastTradeLiquidity = null;
+        numStateActive = false;
+        if (primitiveTrades != null) {
+            primitiveTrades.reset();
+        }
     }
 
     private CarryOverSnapshot applyProportionalCarryOver(final Num volumeRemainder, final Num amountRemainder) {
@@ -20,6 +20,7 @@ public class AmountBarBuilderFactory implements BarBuilderFactory {
     private final boolean setAmountByVolume;
     private final RemainderCarryOverPolicy carryOverPolicy;
     private final boolean realtimeBars;
+    private final boolean primitiveAccumulation;
     private transient Map<BarSeries, AmountBarBuilder> barBuilders;
 
     /**
@@ -82,10 +83,34 @@ public class AmountBarBuilderFactory implements BarBuilderFactory {
      */
     public AmountBarBuilderFactory(final int amountThreshold, final boolean setAmountByVolume,
             final boolean realtimeBars, final RemainderCarryOverPolicy carryOverPolicy) {
+        this(amountThreshold, setAmountByVolume, realtimeBars, carryOverPolicy, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param amountThreshold       the threshold at which a new bar should be
+     *                              created
+     * @param setAmountByVolume     if {@code true} the {@code amount} is set by
+     *                              {@code volume * closePrice}, otherwise
+     *                              {@code amount} must be explicitly set
+     * @param realtimeBars          {@code true} to build {@link BaseRealtimeBar}
+     *                              instances
+     * @param carryOverPolicy       policy for handling side/liquidity remainder
+     *                              splits
+     * @param primitiveAccumulation {@code true} to accumulate ingested trades in
+     *                              primitive {@code double} fields
+     *
+     * @since 0.23.1
+     */
+    public AmountBarBuilderFactory(final int amountThreshold, final boolean setAmountByVolume,
+            final boolean realtimeBars, final RemainderCarryOverPolicy carryOverPolicy,
+            final boolean primitiveAccumulation) {
         this.amountThreshold = amountThreshold;
         this.setAmountByVolume = setAmountByVolume;
         this.realtimeBars = realtimeBars;
         this.carryOverPolicy = carryOverPolicy == null ? RemainderCarryOverPolicy.NONE : carryOverPolicy;
+        this.primitiveAccumulation = primitiveAccumulation;
     }
 
     @Override
@@ -103,6 +128,6 @@ public class AmountBarBuilderFactory implements BarBuilderFactory {
 
     private AmountBarBuilder createBoundBuilder(final BarSeries series) {
         return new AmountBarBuilder(series.numFactory(), this.amountThreshold, this.setAmountByVolume,
-                this.realtimeBars, this.carryOverPolicy).bindTo(series);
+                this.realtimeBars, this.carryOverPolicy, this.primitiveAccumulation).bindTo(series);
     }
 }
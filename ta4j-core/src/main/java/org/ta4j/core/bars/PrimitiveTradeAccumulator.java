@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.bars;
+
+import org.ta4j.core.RealtimeBar;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Running trade state of a bar kept in primitive fields.
+ *
+ * <p>
+ * Bar builders in primitive accumulation mode feed trades into this
+ * accumulator instead of their {@link Num} fields, so ingesting a trade does
+ * not allocate. The builder materializes the state into {@link Num} values only
+ * when a bar is emitted or read, and loads it back after threshold carry-over.
+ * Arithmetic is done in {@code double} precision, which matches
+ * {@link org.ta4j.core.num.DoubleNum} exactly.
+ */
+final class PrimitiveTradeAccumulator {
+
+    private final double initialHighPrice;
+    private final double initialLowPrice;
+    private final boolean accumulateAmount;
+
+    boolean hasPrice;
+    double openPrice;
+    double highPrice;
+    double lowPrice;
+    double closePrice;
+    double volume;
+    double amount;
+    long trades;
+    double buyVolume;
+    double sellVolume;
+    double buyAmount;
+    double sellAmount;
+    long buyTrades;
+    long sellTrades;
+    boolean hasSideData;
+    double makerVolume;
+    double takerVolume;
+    double makerAmount;
+    double takerAmount;
+    long makerTrades;
+    long takerTrades;
+    boolean hasLiquidityData;
+    double lastTradeVolume;
+    double lastTradePrice;
+
+    /**
+     * @param initialHighPrice the high price before the first trade of a bar
+     * @param initialLowPrice  the low price before the first trade of a bar
+     * @param accumulateAmount {@code true} to sum {@code price * volume} into
+     *                         {@link #amount} for each trade
+     */
+    PrimitiveTradeAccumulator(double initialHighPrice, double initialLowPrice, boolean accumulateAmount) {
+        this.initialHighPrice = initialHighPrice;
+        this.initialLowPrice = initialLowPrice;
+        this.accumulateAmount = accumulateAmount;
+        reset();
+    }
+
+    void addTrade(double tradeVolume, double tradePrice, RealtimeBar.Side side, RealtimeBar.Liquidity liquidity) {
+        if (!hasPrice) {
+            openPrice = tradePrice;
+            hasPrice = true;
+        }
+        highPrice = Math.max(highPrice, tradePrice);
+        lowPrice = Math.min(lowPrice, tradePrice);
+        closePrice = tradePrice;
+        volume += tradeVolume;
+        final double tradeAmount = tradePrice * tradeVolume;
+        if (accumulateAmount) {
+            amount += tradeAmount;
+        }
+        trades++;
+        lastTradeVolume = tradeVolume;
+        lastTradePrice = tradePrice;
+
+        if (side != null) {
+            hasSideData = true;
+            if (side == RealtimeBar.Side.BUY) {
+                buyVolume += tradeVolume;
+                buyAmount += tradeAmount;
+                buyTrades++;
+            } else {
+                sellVolume += tradeVolume;
+                sellAmount += tradeAmount;
+                sellTrades++;
+            }
+        }
+
+        if (liquidity != null) {
+            hasLiquidityData = true;
+            if (liquidity == RealtimeBar.Liquidity.MAKER) {
+                makerVolume += tradeVolume;
+                makerAmount += tradeAmount;
+                makerTrades++;
+            } else {
+                takerVolume += tradeVolume;
+                takerAmount += tradeAmount;
+                takerTrades++;
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if no trade or carried-over remainder is accumulated
+     */
+    boolean isEmpty() {
+        return !hasPrice && trades == 0 && volume == 0 && amount == 0 && !hasSideData && !hasLiquidityData;
+    }
+
+    void reset() {
+        hasPrice = false;
+        openPrice = 0;
+        highPrice = initialHighPrice;
+        lowPrice = initialLowPrice;
+        closePrice = 0;
+        volume = 0;
+        amount = 0;
+        trades = 0;
+        buyVolume = 0;
+        sellVolume = 0;
+        buyAmount = 0;
+        sellAmount = 0;
+        buyTrades = 0;
+        sellTrades = 0;
+        hasSideData = false;
+        makerVolume = 0;
+        takerVolume = 0;
+        makerAmount = 0;
+        takerAmount = 0;
+        makerTrades = 0;
+        takerTrades = 0;
+        hasLiquidityData = false;
+        lastTradeVolume = 0;
+        lastTradePrice = 0;
+    }
+
+    /**
+     * @return {@code value} as a {@link Num}, or {@code null} if it is zero (the
+     *         realtime bar getters read {@code null} as zero)
+     */
+    static Num numOrNull(NumFactory numFactory, double value) {
+        return value == 0 ? null : numFactory.numOf(value);
+    }
+
+    /**
+     * @return the double value of {@code value}, or zero if it is {@code null}
+     */
+    static double doubleOrZero(Num value) {
+        return value == null ? 0 : value.doubleValue();
+    }
+}
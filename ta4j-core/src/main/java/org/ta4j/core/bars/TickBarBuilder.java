@@ -20,12 +20,23 @@ import org.ta4j.core.num.NumFactory;
 
 /**
  * A tick bar is sampled after a fixed number of ticks.
+ *
+ * <p>
+ * With primitive accumulation enabled, trades ingested through
+ * {@link #addTrade(Instant, double, double)} (or the {@link Num} overloads) are
+ * accumulated in {@code double} fields and {@link Num} values are only created
+ * when a bar is emitted or {@link #build() read}. On
+ * {@link DoubleNumFactory} series this ingests trades without allocating.
  */
 public class TickBarBuilder implements BarBuilder {
 
     private final NumFactory numFactory;
     private final boolean realtimeBars;
     private final int tickCount;
+    private final boolean primitiveAccumulation;
+    private final PrimitiveTradeAccumulator primitiveTrades;
+    /** {@code true} once the current bar is built through the {@link Num} setters. */
+    private boolean numStateActive;
     private int passedTicksCount;
     private Consumer<Bar> barAppender;
     private Duration timePeriod;
@@ -82,9 +93,30 @@ public class TickBarBuilder implements BarBuilder {
      * @since 0.22.0
      */
     public TickBarBuilder(final NumFactory numFactory, final int tickCount, final boolean realtimeBars) {
+        this(numFactory, tickCount, realtimeBars, false);
+    }
+
+    /**
+     * A builder to build a new {@link BaseBar} or {@link BaseRealtimeBar}
+     *
+     * @param numFactory
+     * @param tickCount             the number of ticks at which a new bar should
+     *                              be created
+     * @param realtimeBars          {@code true} to build {@link BaseRealtimeBar}
+     *                              instances
+     * @param primitiveAccumulation {@code true} to accumulate ingested trades in
+     *                              primitive {@code double} fields
+     *
+     * @since 0.23.1
+     */
+    public TickBarBuilder(final NumFactory numFactory, final int tickCount, final boolean realtimeBars,
+            final boolean primitiveAccumulation) {
         this.numFactory = numFactory;
         this.realtimeBars = realtimeBars;
         this.tickCount = tickCount;
+        this.primitiveAccumulation = primitiveAccumulation;
+        this.primitiveTrades = primitiveAccumulation ? new PrimitiveTradeAccumulator(0, Integer.MAX_VALUE, false)
+                : null;
         reset();
     }
 
@@ -153,6 +185,7 @@ public class TickBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder closePrice(final Num tickPrice) {
+        spillPrimitiveTrades();
         closePrice = tickPrice;
         if (openPrice == null) {
             openPrice = tickPrice;
@@ -176,6 +209,7 @@ public class TickBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder volume(final Num volume) {
+        spillPrimitiveTrades();
         this.volume = this.volume.plus(volume);
         return this;
     }
@@ -194,6 +228,7 @@ public class TickBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder amount(final Num amount) {
+        spillPrimitiveTrades();
         this.amount = this.amount == null ? amount : this.amount.plus(amount);
         return this;
     }
@@ -212,6 +247,7 @@ public class TickBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder trades(final long trades) {
+        spillPrimitiveTrades();
         this.trades += trades;
         return this;
     }
@@ -261,7 +297,67 @@ public class TickBarBuilder implements BarBuilder {
         Objects.requireNonNull(time, "time");
         Objects.requireNonNull(tradeVolume, "tradeVolume");
         Objects.requireNonNull(tradePrice, "tradePrice");
+        if (accumulatesPrimitives()) {
+            addPrimitiveTrade(time, tradeVolume.doubleValue(), tradePrice.doubleValue(), side, liquidity);
+            return;
+        }
         ensureRealtimeTracking(side, liquidity);
+        advanceTradeTime(time);
+        closePrice(tradePrice);
+        volume(tradeVolume);
+        trades(1);
+        recordRealtimeTrade(tradeVolume, tradePrice, side, liquidity);
+        add();
+    }
+
+    /**
+     * Ingests a trade given as primitive values. With primitive accumulation
+     * enabled no {@link Num} is created until the bar is emitted.
+     *
+     * @param time        the trade timestamp (UTC)
+     * @param tradeVolume the traded volume
+     * @param tradePrice  the traded price
+     *
+     * @since 0.23.1
+     */
+    public void addTrade(final Instant time, final double tradeVolume, final double tradePrice) {
+        addTrade(time, tradeVolume, tradePrice, null, null);
+    }
+
+    /**
+     * Ingests a trade given as primitive values. With primitive accumulation
+     * enabled no {@link Num} is created until the bar is emitted.
+     *
+     * @param time        the trade timestamp (UTC)
+     * @param tradeVolume the traded volume
+     * @param tradePrice  the traded price
+     * @param side        aggressor side (optional)
+     * @param liquidity   liquidity classification (optional)
+     *
+     * @since 0.23.1
+     */
+    public void addTrade(final Instant time, final double tradeVolume, final double tradePrice,
+            final RealtimeBar.Side side, final RealtimeBar.Liquidity liquidity) {
+        if (!accumulatesPrimitives()) {
+            addTrade(time, numFactory.numOf(tradeVolume), numFactory.numOf(tradePrice), side, liquidity);
+            return;
+        }
+        Objects.requireNonNull(time, "time");
+        addPrimitiveTrade(time, tradeVolume, tradePrice, side, liquidity);
+    }
+
+    private void addPrimitiveTrade(final Instant time, final double tradeVolume, final double tradePrice,
+            final RealtimeBar.Side side, final RealtimeBar.Liquidity liquidity) {
+        ensureRealtimeTracking(side, liquidity);
+        advanceTradeTime(time);
+        primitiveTrades.addTrade(tradeVolume, tradePrice, side, liquidity);
+        if (++passedTicksCount % tickCount == 0) {
+            materializePrimitiveTrades();
+            emitBar();
+        }
+    }
+
+    private void advanceTradeTime(final Instant time) {
         if (endTime != null && time.isBefore(endTime)) {
             throw new IllegalArgumentException(
                     String.format("Trade time %s is before current bar end time %s", time, endTime));
@@ -270,11 +366,6 @@ public class TickBarBuilder implements BarBuilder {
             beginTime = time;
         }
         endTime = time;
-        closePrice(tradePrice);
-        volume(tradeVolume);
-        trades(1);
-        recordRealtimeTrade(tradeVolume, tradePrice, side, liquidity);
-        add();
     }
 
     /**
@@ -284,6 +375,11 @@ public class TickBarBuilder implements BarBuilder {
      */
     @Override
     public Bar build() {
+        materializePrimitiveTrades();
+        return buildBar();
+    }
+
+    private Bar buildBar() {
         if (realtimeBars) {
             return new BaseRealtimeBar(timePeriod, beginTime, endTime, openPrice, highPrice, lowPrice, closePrice,
                     volume, amount, trades, buyVolume, sellVolume, buyAmount, sellAmount, buyTrades, sellTrades,
@@ -296,16 +392,63 @@ public class TickBarBuilder implements BarBuilder {
 
     @Override
     public void add() {
+        spillPrimitiveTrades();
         if (++passedTicksCount % tickCount == 0) {
-            if (amount == null && volume != null) {
-                amount = closePrice.multipliedBy(volume);
-            }
+            emitBar();
+        }
+    }
+
+    private void emitBar() {
+        if (amount == null && volume != null) {
+            amount = closePrice.multipliedBy(volume);
+        }
+
+        boundBarAppender().accept(buildBar());
+        reset();
+    }
 
-            boundBarAppender().accept(build());
-            reset();
+    private boolean accumulatesPrimitives() {
+        return primitiveAccumulation && !numStateActive;
+    }
+
+    /**
+     * Switches the current bar to {@link Num} accumulation, keeping the trades
+     * accumulated so far.
+     */
+    private void spillPrimitiveTrades() {
+        if (accumulatesPrimitives()) {
+            materializePrimitiveTrades();
+            numStateActive = true;
         }
     }
 
+    private void materializePrimitiveTrades() {
+        if (!accumulatesPrimitives() || primitiveTrades.isEmpty()) {
+            return;
+        }
+        final PrimitiveTradeAccumulator state = primitiveTrades;
+        openPrice = state.hasPrice ? numFactory.numOf(state.openPrice) : null;
+        highPrice = numFactory.numOf(state.highPrice);
+        lowPrice = numFactory.numOf(state.lowPrice);
+        closePrice = state.hasPrice ? numFactory.numOf(state.closePrice) : null;
+        volume = numFactory.numOf(state.volume);
+        trades = state.trades;
+        buyVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.buyVolume);
+        sellVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.sellVolume);
+        buyAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.buyAmount);
+        sellAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.sellAmount);
+        buyTrades = state.buyTrades;
+        sellTrades = state.sellTrades;
+        hasSideData = state.hasSideData;
+        makerVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.makerVolume);
+        takerVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.takerVolume);
+        makerAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.makerAmount);
+        takerAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.takerAmount);
+        makerTrades = state.makerTrades;
+        takerTrades = state.takerTrades;
+        hasLiquidityData = state.hasLiquidityData;
+    }
+
     private Consumer<Bar> boundBarAppender() {
         return Objects.requireNonNull(barAppender, "barSeries");
     }
@@ -336,6 +479,10 @@ public class TickBarBuilder implements BarBuilder {
         makerTrades = 0;
         takerTrades = 0;
         hasLiquidityData = false;
+        numStateActive = false;
+        if (primitiveTrades != null) {
+            primitiveTrades.reset();
+        }
     }
 
     private void recordRealtimeTrade(final Num tradeVolume, final Num tradePrice, final RealtimeBar.Side side,
@@ -18,6 +18,7 @@ public class TickBarBuilderFactory implements BarBuilderFactory {
 
     private final boolean realtimeBars;
     private final int tickCount;
+    private final boolean primitiveAccumulation;
     private transient Map<BarSeries, TickBarBuilder> barBuilders;
 
     /**
@@ -38,8 +39,26 @@ public class TickBarBuilderFactory implements BarBuilderFactory {
      * @since 0.22.2
      */
     public TickBarBuilderFactory(final int tickCount, final boolean realtimeBars) {
+        this(tickCount, realtimeBars, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tickCount             the number of ticks at which a new bar should
+     *                              be created
+     * @param realtimeBars          {@code true} to build {@link BaseRealtimeBar}
+     *                              instances
+     * @param primitiveAccumulation {@code true} to accumulate ingested trades in
+     *                              primitive {@code double} fields
+     *
+     * @since 0.23.1
+     */
+    public TickBarBuilderFactory(final int tickCount, final boolean realtimeBars,
+            final boolean primitiveAccumulation) {
         this.tickCount = tickCount;
         this.realtimeBars = realtimeBars;
+        this.primitiveAccumulation = primitiveAccumulation;
     }
 
     @Override
@@ -56,6 +75,7 @@ public class TickBarBuilderFactory implements BarBuilderFactory {
     }
 
     private TickBarBuilder createBoundBuilder(final BarSeries series) {
-        return new TickBarBuilder(series.numFactory(), this.tickCount, this.realtimeBars).bindTo(series);
+        return new TickBarBuilder(series.numFactory(), this.tickCount, this.realtimeBars, this.primitiveAccumulation)
+                .bindTo(series);
     }
 }
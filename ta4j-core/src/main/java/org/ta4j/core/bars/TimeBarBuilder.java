@@ -30,6 +30,14 @@ import org.ta4j.core.num.NumFactory;
  * when a trade arrives within a time period. If you need continuity, reconcile
  * and backfill OHLCV data upstream (often by fetching a window with overlap and
  * upserting by bar end time).
+ *
+ * <p>
+ * With primitive accumulation enabled, trades ingested through
+ * {@link #addTrade(Instant, double, double)} (or the {@link Num} overloads) are
+ * accumulated in {@code double} fields instead of chained {@link Num}
+ * arithmetic. As in {@link Num} mode, the bar of the current period is added to
+ * or replaced in the bound series after every trade, so {@link Num} values are
+ * still created once per trade when that bar is published.
  */
 public class TimeBarBuilder implements BarBuilder {
 
@@ -37,6 +45,10 @@ public class TimeBarBuilder implements BarBuilder {
 
     private final NumFactory numFactory;
     private final boolean realtimeBars;
+    private final boolean primitiveAccumulation;
+    private final PrimitiveTradeAccumulator primitiveTrades;
+    /** {@code true} once the current bar is built through the {@link Num} setters. */
+    private boolean numStateActive;
     Duration timePeriod;
     Instant beginTime;
     Instant endTime;
@@ -90,8 +102,28 @@ public class TimeBarBuilder implements BarBuilder {
      * @since 0.22.2
      */
     public TimeBarBuilder(final NumFactory numFactory, final boolean realtimeBars) {
+        this(numFactory, realtimeBars, false);
+    }
+
+    /**
+     * A builder to build a new {@link BaseBar} or {@link BaseRealtimeBar}
+     *
+     * @param numFactory
+     * @param realtimeBars          {@code true} to build {@link BaseRealtimeBar}
+     *                              instances
+     * @param primitiveAccumulation {@code true} to accumulate ingested trades in
+     *                              primitive {@code double} fields
+     *
+     * @since 0.23.1
+     */
+    public TimeBarBuilder(final NumFactory numFactory, final boolean realtimeBars,
+            final boolean primitiveAccumulation) {
         this.numFactory = numFactory;
         this.realtimeBars = realtimeBars;
+        this.primitiveAccumulation = primitiveAccumulation;
+        this.primitiveTrades = primitiveAccumulation
+                ? new PrimitiveTradeAccumulator(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, true)
+                : null;
     }
 
     @Override
@@ -114,6 +146,7 @@ public class TimeBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder openPrice(final Num openPrice) {
+        spillPrimitiveTrades();
         this.openPrice = openPrice;
         return this;
     }
@@ -144,12 +177,14 @@ public class TimeBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder highPrice(final Num highPrice) {
+        spillPrimitiveTrades();
         this.highPrice = highPrice;
         return this;
     }
 
     @Override
     public BarBuilder lowPrice(final Num lowPrice) {
+        spillPrimitiveTrades();
         this.lowPrice = lowPrice;
         return this;
     }
@@ -168,6 +203,7 @@ public class TimeBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder closePrice(final Num closePrice) {
+        spillPrimitiveTrades();
         this.closePrice = closePrice;
         return this;
     }
@@ -186,6 +222,7 @@ public class TimeBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder volume(final Num volume) {
+        spillPrimitiveTrades();
         this.volume = volume;
         return this;
     }
@@ -204,6 +241,7 @@ public class TimeBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder amount(final Num amount) {
+        spillPrimitiveTrades();
         this.amount = amount;
         return this;
     }
@@ -222,6 +260,7 @@ public class TimeBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder trades(final long trades) {
+        spillPrimitiveTrades();
         this.trades = trades;
         return this;
     }
@@ -280,7 +319,67 @@ public class TimeBarBuilder implements BarBuilder {
         Objects.requireNonNull(time, "time");
         Objects.requireNonNull(tradeVolume, "tradeVolume");
         Objects.requireNonNull(tradePrice, "tradePrice");
+        if (accumulatesPrimitives()) {
+            addPrimitiveTrade(time, tradeVolume.doubleValue(), tradePrice.doubleValue(), side, liquidity);
+            return;
+        }
         ensureRealtimeTracking(side, liquidity);
+        advanceToTradePeriod(time);
+        recordTrade(tradeVolume, tradePrice, side, liquidity);
+        appendBar(build(), shouldReplaceCurrentBar());
+    }
+
+    /**
+     * Ingests a trade given as primitive values and adds/replaces the current bar
+     * in the bound series. With primitive accumulation enabled the trade is
+     * accumulated without wrapping its values in {@link Num}.
+     *
+     * @param time        the trade timestamp (UTC)
+     * @param tradeVolume the traded volume
+     * @param tradePrice  the traded price
+     *
+     * @since 0.23.1
+     */
+    public void addTrade(final Instant time, final double tradeVolume, final double tradePrice) {
+        addTrade(time, tradeVolume, tradePrice, null, null);
+    }
+
+    /**
+     * Ingests a trade given as primitive values and adds/replaces the current bar
+     * in the bound series. With primitive accumulation enabled the trade is
+     * accumulated without wrapping its values in {@link Num}.
+     *
+     * @param time        the trade timestamp (UTC)
+     * @param tradeVolume the traded volume
+     * @param tradePrice  the traded price
+     * @param side        aggressor side (optional)
+     * @param liquidity   liquidity classification (optional)
+     *
+     * @since 0.23.1
+     */
+    public void addTrade(final Instant time, final double tradeVolume, final double tradePrice,
+            final RealtimeBar.Side side, final RealtimeBar.Liquidity liquidity) {
+        if (!accumulatesPrimitives()) {
+            addTrade(time, numFactory.numOf(tradeVolume), numFactory.numOf(tradePrice), side, liquidity);
+            return;
+        }
+        Objects.requireNonNull(time, "time");
+        addPrimitiveTrade(time, tradeVolume, tradePrice, side, liquidity);
+    }
+
+    private void addPrimitiveTrade(final Instant time, final double tradeVolume, final double tradePrice,
+            final RealtimeBar.Side side, final RealtimeBar.Liquidity liquidity) {
+        ensureRealtimeTracking(side, liquidity);
+        advanceToTradePeriod(time);
+        primitiveTrades.addTrade(tradeVolume, tradePrice, side, liquidity);
+        persistCurrentBarIfPresent();
+    }
+
+    /**
+     * Persists the current bar and moves to the period containing {@code time}
+     * when the trade falls after the current period.
+     */
+    private void advanceToTradePeriod(final Instant time) {
         if (timePeriod == null) {
             throw new IllegalStateException("Time period must be set before ingesting trades");
         }
@@ -304,12 +403,11 @@ public class TimeBarBuilder implements BarBuilder {
             LOG.warn("Detected {} missing bar period(s) between {} and {} for series {}", missingPeriods,
                     previousEndTime, beginTime, seriesName.get());
         }
-        recordTrade(tradeVolume, tradePrice, side, liquidity);
-        appendBar(build(), shouldReplaceCurrentBar());
     }
 
     @Override
     public Bar build() {
+        materializePrimitiveTrades();
         if (realtimeBars) {
             return new BaseRealtimeBar(this.timePeriod, this.beginTime, this.endTime, this.openPrice, this.highPrice,
                     this.lowPrice, this.closePrice, this.volume, this.amount, this.trades, buyVolume, sellVolume,
@@ -403,6 +501,7 @@ public class TimeBarBuilder implements BarBuilder {
     }
 
     private void persistCurrentBarIfPresent() {
+        materializePrimitiveTrades();
         if (!hasBarData()) {
             return;
         }
@@ -449,6 +548,53 @@ public class TimeBarBuilder implements BarBuilder {
         makerTrades = 0;
         takerTrades = 0;
         hasLiquidityData = false;
+        numStateActive = false;
+        if (primitiveTrades != null) {
+            primitiveTrades.reset();
+        }
+    }
+
+    private boolean accumulatesPrimitives() {
+        return primitiveAccumulation && !numStateActive;
+    }
+
+    /**
+     * Switches the current bar to {@link Num} accumulation, keeping the trades
+     * accumulated so far.
+     */
+    private void spillPrimitiveTrades() {
+        if (accumulatesPrimitives()) {
+            materializePrimitiveTrades();
+            numStateActive = true;
+        }
+    }
+
+    private void materializePrimitiveTrades() {
+        if (!accumulatesPrimitives() || primitiveTrades.isEmpty()) {
+            return;
+        }
+        final PrimitiveTradeAccumulator state = primitiveTrades;
+        openPrice = state.hasPrice ? numFactory.numOf(state.openPrice) : null;
+        highPrice = state.hasPrice ? numFactory.numOf(state.highPrice) : null;
+        lowPrice = state.hasPrice ? numFactory.numOf(state.lowPrice) : null;
+        closePrice = state.hasPrice ? numFactory.numOf(state.closePrice) : null;
+        volume = numFactory.numOf(state.volume);
+        amount = numFactory.numOf(state.amount);
+        trades = state.trades;
+        buyVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.buyVolume);
+        sellVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.sellVolume);
+        buyAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.buyAmount);
+        sellAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.sellAmount);
+        buyTrades = state.buyTrades;
+        sellTrades = state.sellTrades;
+        hasSideData = state.hasSideData;
+        makerVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.makerVolume);
+        takerVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.takerVolume);
+        makerAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.makerAmount);
+        takerAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.takerAmount);
+        makerTrades = state.makerTrades;
+        takerTrades = state.takerTrades;
+        hasLiquidityData = state.hasLiquidityData;
     }
 
     private void ensureRealtimeTracking(final RealtimeBar.Side side, final RealtimeBar.Liquidity liquidity) {
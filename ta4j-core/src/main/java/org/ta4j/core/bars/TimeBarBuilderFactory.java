@@ -13,6 +13,7 @@ import org.ta4j.core.BarSeries;
 public class TimeBarBuilderFactory implements BarBuilderFactory {
 
     private final boolean realtimeBars;
+    private final boolean primitiveAccumulation;
     private final Duration timePeriod;
 
     /**
@@ -55,13 +56,31 @@ public class TimeBarBuilderFactory implements BarBuilderFactory {
      * @since 0.22.2
      */
     public TimeBarBuilderFactory(final Duration timePeriod, final boolean realtimeBars) {
+        this(timePeriod, realtimeBars, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param timePeriod            the default time period for time bars
+     * @param realtimeBars          {@code true} to build {@link BaseRealtimeBar}
+     *                              instances
+     * @param primitiveAccumulation {@code true} to accumulate ingested trades in
+     *                              primitive {@code double} fields
+     *
+     * @since 0.23.1
+     */
+    public TimeBarBuilderFactory(final Duration timePeriod, final boolean realtimeBars,
+            final boolean primitiveAccumulation) {
         this.timePeriod = timePeriod;
         this.realtimeBars = realtimeBars;
+        this.primitiveAccumulation = primitiveAccumulation;
     }
 
     @Override
     public BarBuilder createBarBuilder(BarSeries series) {
-        BarBuilder builder = new TimeBarBuilder(series.numFactory(), realtimeBars).bindTo(series);
+        BarBuilder builder = new TimeBarBuilder(series.numFactory(), realtimeBars, primitiveAccumulation)
+                .bindTo(series);
         if (timePeriod != null) {
             builder.timePeriod(timePeriod);
         }
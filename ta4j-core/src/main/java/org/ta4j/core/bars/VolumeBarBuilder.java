@@ -21,6 +21,13 @@ import org.ta4j.core.num.NumFactory;
 /**
  * A volume bar is sampled after a fixed number of contracts (volume) have been
  * traded.
+ *
+ * <p>
+ * With primitive accumulation enabled, trades ingested through
+ * {@link #addTrade(Instant, double, double)} (or the {@link Num} overloads) are
+ * accumulated in {@code double} fields and {@link Num} values are only created
+ * when a bar is emitted or {@link #build() read}. On
+ * {@link DoubleNumFactory} series this ingests trades without allocating.
  */
 public class VolumeBarBuilder implements BarBuilder {
 
@@ -28,6 +35,10 @@ public class VolumeBarBuilder implements BarBuilder {
     private final RemainderCarryOverPolicy carryOverPolicy;
     private final boolean realtimeBars;
     private final Num volumeThreshold;
+    private final boolean primitiveAccumulation;
+    private final PrimitiveTradeAccumulator primitiveTrades;
+    /** {@code true} once the current bar is built through the {@link Num} setters. */
+    private boolean numStateActive;
     private Consumer<Bar> barAppender;
     private Duration timePeriod;
     private Instant beginTime;
@@ -104,10 +115,33 @@ public class VolumeBarBuilder implements BarBuilder {
      */
     public VolumeBarBuilder(final NumFactory numFactory, final int volumeThreshold, final boolean realtimeBars,
             final RemainderCarryOverPolicy carryOverPolicy) {
+        this(numFactory, volumeThreshold, realtimeBars, carryOverPolicy, false);
+    }
+
+    /**
+     * A builder to build a new {@link BaseBar} or {@link BaseRealtimeBar}
+     *
+     * @param numFactory            the backing number factory
+     * @param volumeThreshold       the threshold at which a new bar should be
+     *                              created
+     * @param realtimeBars          {@code true} to build {@link BaseRealtimeBar}
+     *                              instances
+     * @param carryOverPolicy       policy for handling side/liquidity remainder
+     *                              splits
+     * @param primitiveAccumulation {@code true} to accumulate ingested trades in
+     *                              primitive {@code double} fields
+     *
+     * @since 0.23.1
+     */
+    public VolumeBarBuilder(final NumFactory numFactory, final int volumeThreshold, final boolean realtimeBars,
+            final RemainderCarryOverPolicy carryOverPolicy, final boolean primitiveAccumulation) {
         this.numFactory = numFactory;
         this.carryOverPolicy = carryOverPolicy == null ? RemainderCarryOverPolicy.NONE : carryOverPolicy;
         this.realtimeBars = realtimeBars;
         this.volumeThreshold = numFactory.numOf(volumeThreshold);
+        this.primitiveAccumulation = primitiveAccumulation;
+        this.primitiveTrades = primitiveAccumulation ? new PrimitiveTradeAccumulator(0, Integer.MAX_VALUE, false)
+                : null;
         reset();
     }
 
@@ -176,6 +210,7 @@ public class VolumeBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder closePrice(final Num tickPrice) {
+        spillPrimitiveTrades();
         closePrice = tickPrice;
         if (openPrice == null) {
             openPrice = tickPrice;
@@ -199,6 +234,7 @@ public class VolumeBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder volume(final Num volume) {
+        spillPrimitiveTrades();
         this.volume = this.volume == null ? volume : this.volume.plus(volume);
         return this;
     }
@@ -217,6 +253,7 @@ public class VolumeBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder amount(final Num amount) {
+        spillPrimitiveTrades();
         this.amount = this.amount == null ? amount : this.amount.plus(amount);
         return this;
     }
@@ -235,6 +272,7 @@ public class VolumeBarBuilder implements BarBuilder {
 
     @Override
     public BarBuilder trades(final long trades) {
+        spillPrimitiveTrades();
         this.trades += trades;
         return this;
     }
@@ -284,15 +322,12 @@ public class VolumeBarBuilder implements BarBuilder {
         Objects.requireNonNull(time, "time");
         Objects.requireNonNull(tradeVolume, "tradeVolume");
         Objects.requireNonNull(tradePrice, "tradePrice");
-        ensureRealtimeTracking(side, liquidity);
-        if (endTime != null && time.isBefore(endTime)) {
-            throw new IllegalArgumentException(
-                    String.format("Trade time %s is before current bar end time %s", time, endTime));
-        }
-        if (beginTime == null) {
-            beginTime = time;
+        if (accumulatesPrimitives()) {
+            addPrimitiveTrade(time, tradeVolume.doubleValue(), tradePrice.doubleValue(), side, liquidity);
+            return;
         }
-        endTime = time;
+        ensureRealtimeTracking(side, liquidity);
+        advanceTradeTime(time);
         closePrice(tradePrice);
         volume(tradeVolume);
         trades(1);
@@ -304,6 +339,68 @@ public class VolumeBarBuilder implements BarBuilder {
         add();
     }
 
+    /**
+     * Ingests a trade given as primitive values. With primitive accumulation
+     * enabled no {@link Num} is created until the bar is emitted.
+     *
+     * @param time        the trade timestamp (UTC)
+     * @param tradeVolume the traded volume
+     * @param tradePrice  the traded price
+     *
+     * @since 0.23.1
+     */
+    public void addTrade(final Instant time, final double tradeVolume, final double tradePrice) {
+        addTrade(time, tradeVolume, tradePrice, null, null);
+    }
+
+    /**
+     * Ingests a trade given as primitive values. With primitive accumulation
+     * enabled no {@link Num} is created until the bar is emitted.
+     *
+     * @param time        the trade timestamp (UTC)
+     * @param tradeVolume the traded volume
+     * @param tradePrice  the traded price
+     * @param side        aggressor side (optional)
+     * @param liquidity   liquidity classification (optional)
+     *
+     * @since 0.23.1
+     */
+    public void addTrade(final Instant time, final double tradeVolume, final double tradePrice,
+            final RealtimeBar.Side side, final RealtimeBar.Liquidity liquidity) {
+        if (!accumulatesPrimitives()) {
+            addTrade(time, numFactory.numOf(tradeVolume), numFactory.numOf(tradePrice), side, liquidity);
+            return;
+        }
+        Objects.requireNonNull(time, "time");
+        addPrimitiveTrade(time, tradeVolume, tradePrice, side, liquidity);
+    }
+
+    private void addPrimitiveTrade(final Instant time, final double tradeVolume, final double tradePrice,
+            final RealtimeBar.Side side, final RealtimeBar.Liquidity liquidity) {
+        ensureRealtimeTracking(side, liquidity);
+        advanceTradeTime(time);
+        primitiveTrades.addTrade(tradeVolume, tradePrice, side, liquidity);
+        lastTradeSide = side;
+        lastTradeLiquidity = liquidity;
+        if (primitiveTrades.volume >= volumeThreshold.doubleValue()) {
+            materializePrimitiveTrades();
+            if (emitBarIfThresholdReached()) {
+                loadPrimitiveTrades();
+            }
+        }
+    }
+
+    private void advanceTradeTime(final Instant time) {
+        if (endTime != null && time.isBefore(endTime)) {
+            throw new IllegalArgumentException(
+                    String.format("Trade time %s is before current bar end time %s", time, endTime));
+        }
+        if (beginTime == null) {
+            beginTime = time;
+        }
+        endTime = time;
+    }
+
     /**
      * Builds bar from current state that is modified for each tick.
      *
@@ -311,6 +408,11 @@ public class VolumeBarBuilder implements BarBuilder {
      */
     @Override
     public Bar build() {
+        materializePrimitiveTrades();
+        return buildBar();
+    }
+
+    private Bar buildBar() {
         if (realtimeBars) {
             return new BaseRealtimeBar(timePeriod, beginTime, endTime, openPrice, highPrice, lowPrice, closePrice,
                     volume, amount, trades, buyVolume, sellVolume, buyAmount, sellAmount, buyTrades, sellTrades,
@@ -323,6 +425,11 @@ public class VolumeBarBuilder implements BarBuilder {
 
     @Override
     public void add() {
+        spillPrimitiveTrades();
+        emitBarIfThresholdReached();
+    }
+
+    private boolean emitBarIfThresholdReached() {
         if (volume.isGreaterThanOrEqual(volumeThreshold)) {
             // move volume remainder to next bar
             var volumeRemainder = numFactory.zero();
@@ -341,14 +448,85 @@ public class VolumeBarBuilder implements BarBuilder {
                 amount = closePrice.multipliedBy(volume);
             }
 
-            boundBarAppender().accept(build());
+            boundBarAppender().accept(buildBar());
             volume = volumeRemainder;
 
             reset();
             if (carryOverSnapshot != null) {
                 carryOverSnapshot.applyTo(this);
             }
+            return true;
         }
+        return false;
+    }
+
+    private boolean accumulatesPrimitives() {
+        return primitiveAccumulation && !numStateActive;
+    }
+
+    /**
+     * Switches the current bar to {@link Num} accumulation, keeping the trades
+     * accumulated so far.
+     */
+    private void spillPrimitiveTrades() {
+        if (accumulatesPrimitives()) {
+            materializePrimitiveTrades();
+            numStateActive = true;
+        }
+    }
+
+    private void materializePrimitiveTrades() {
+        if (!accumulatesPrimitives() || primitiveTrades.isEmpty()) {
+            return;
+        }
+        final PrimitiveTradeAccumulator state = primitiveTrades;
+        openPrice = state.hasPrice ? numFactory.numOf(state.openPrice) : null;
+        highPrice = numFactory.numOf(state.highPrice);
+        lowPrice = numFactory.numOf(state.lowPrice);
+        closePrice = state.hasPrice ? numFactory.numOf(state.closePrice) : null;
+        volume = numFactory.numOf(state.volume);
+        trades = state.trades;
+        buyVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.buyVolume);
+        sellVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.sellVolume);
+        buyAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.buyAmount);
+        sellAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.sellAmount);
+        buyTrades = state.buyTrades;
+        sellTrades = state.sellTrades;
+        hasSideData = state.hasSideData;
+        makerVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.makerVolume);
+        takerVolume = PrimitiveTradeAccumulator.numOrNull(numFactory, state.takerVolume);
+        makerAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.makerAmount);
+        takerAmount = PrimitiveTradeAccumulator.numOrNull(numFactory, state.takerAmount);
+        makerTrades = state.makerTrades;
+        takerTrades = state.takerTrades;
+        hasLiquidityData = state.hasLiquidityData;
+        lastTradeVolume = state.hasPrice ? numFactory.numOf(state.lastTradeVolume) : null;
+        lastTradePrice = state.hasPrice ? numFactory.numOf(state.lastTradePrice) : null;
+    }
+
+    /**
+     * Loads the volume remainder and carried-over side/liquidity data of a new
+     * bar into the primitive accumulator.
+     */
+    private void loadPrimitiveTrades() {
+        final PrimitiveTradeAccumulator state = primitiveTrades;
+        state.reset();
+        state.volume = PrimitiveTradeAccumulator.doubleOrZero(volume);
+        state.trades = trades;
+        state.buyVolume = PrimitiveTradeAccumulator.doubleOrZero(buyVolume);
+        state.sellVolume = PrimitiveTradeAccumulator.doubleOrZero(sellVolume);
+        state.buyAmount = PrimitiveTradeAccumulator.doubleOrZero(buyAmount);
+        state.sellAmount = PrimitiveTradeAccumulator.doubleOrZero(sellAmount);
+        state.buyTrades = buyTrades;
+        state.sellTrades = sellTrades;
+        state.hasSideData = hasSideData;
+        state.makerVolume = PrimitiveTradeAccumulator.doubleOrZero(makerVolume);
+        state.takerVolume = PrimitiveTradeAccumulator.doubleOrZero(takerVolume);
+        state.makerAmount = PrimitiveTradeAccumulator.doubleOrZero(makerAmount);
+        state.takerAmount = PrimitiveTradeAccumulator.doubleOrZero(takerAmount);
+        state.makerTrades = makerTrades;
+        state.takerTrades = takerTrades;
+        state.hasLiquidityData = hasLiquidityData;
     }
 
     private void reset() {
@@ -379,6 +557,10 @@ public class VolumeBarBuilder implements BarBuilder {
         lastTradePrice = null;
         lastTradeSide = null;
         lastTradeLiquidity = null;
+        numStateActive = false;
+        if (primitiveTrades != null) {
+            primitiveTrades.reset();
+        }
     }
 
     private CarryOverSnapshot applyProportionalCarryOver(final Num volumeRemainder) {
@@ -19,6 +19,7 @@ public class VolumeBarBuilderFactory implements BarBuilderFactory {
     private final int volumeThreshold;
     private final RemainderCarryOverPolicy carryOverPolicy;
     private final boolean realtimeBars;
+    private final boolean primitiveAccumulation;
     private transient Map<BarSeries, VolumeBarBuilder> barBuilders;
 
     /**
@@ -67,9 +68,29 @@ public class VolumeBarBuilderFactory implements BarBuilderFactory {
      */
     public VolumeBarBuilderFactory(final int volumeThreshold, final boolean realtimeBars,
             final RemainderCarryOverPolicy carryOverPolicy) {
+        this(volumeThreshold, realtimeBars, carryOverPolicy, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param volumeThreshold       the threshold at which a new bar should be
+     *                              created
+     * @param realtimeBars          {@code true} to build {@link BaseRealtimeBar}
+     *                              instances
+     * @param carryOverPolicy       policy for handling side/liquidity remainder
+     *                              splits
+     * @param primitiveAccumulation {@code true} to accumulate ingested trades in
+     *                              primitive {@code double} fields
+     *
+     * @since 0.23.1
+     */
+    public VolumeBarBuilderFactory(final int volumeThreshold, final boolean realtimeBars,
+            final RemainderCarryOverPolicy carryOverPolicy, final boolean primitiveAccumulation) {
         this.volumeThreshold = volumeThreshold;
         this.realtimeBars = realtimeBars;
         this.carryOverPolicy = carryOverPolicy == null ? RemainderCarryOverPolicy.NONE : carryOverPolicy;
+        this.primitiveAccumulation = primitiveAccumulation;
     }
 
     @Override
@@ -86,7 +107,7 @@ public class VolumeBarBuilderFactory implements BarBuilderFactory {
     }
 
     private VolumeBarBuilder createBoundBuilder(final BarSeries series) {
-        return new VolumeBarBuilder(series.numFactory(), this.volumeThreshold, this.realtimeBars, this.carryOverPolicy)
-                .bindTo(series);
+        return new VolumeBarBuilder(series.numFactory(), this.volumeThreshold, this.realtimeBars, this.carryOverPolicy,
+                this.primitiveAccumulation).bindTo(series);
     }
 }
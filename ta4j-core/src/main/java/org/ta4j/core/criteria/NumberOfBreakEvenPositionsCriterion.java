@@ -11,7 +11,8 @@ import org.ta4j.core.num.Num;
 /**
  * Number of break even position criterion.
  */
-public class NumberOfBreakEvenPositionsCriterion extends AbstractAnalysisCriterion {
+public class NumberOfBreakEvenPositionsCriterion extends AbstractAnalysisCriterion
+        implements PositionAdditiveCriterion {
 
     @Override
     public Num calculate(BarSeries series, Position position) {
@@ -11,7 +11,7 @@ import org.ta4j.core.num.Num;
 /**
  * Number of closed losing positions criterion.
  */
-public class NumberOfLosingPositionsCriterion extends AbstractAnalysisCriterion {
+public class NumberOfLosingPositionsCriterion extends AbstractAnalysisCriterion implements PositionAdditiveCriterion {
 
     @Override
     public Num calculate(BarSeries series, Position position) {
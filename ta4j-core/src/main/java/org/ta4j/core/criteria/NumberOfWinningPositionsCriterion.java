@@ -11,7 +11,7 @@ import org.ta4j.core.num.Num;
 /**
  * Number of closed winning positions criterion.
  */
-public class NumberOfWinningPositionsCriterion extends AbstractAnalysisCriterion {
+public class NumberOfWinningPositionsCriterion extends AbstractAnalysisCriterion implements PositionAdditiveCriterion {
 
     @Override
     public Num calculate(BarSeries series, Position position) {
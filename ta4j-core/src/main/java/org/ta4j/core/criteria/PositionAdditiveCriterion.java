@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.criteria;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Position;
+import org.ta4j.core.TradingRecord;
+
+/**
+ * Marker for criteria whose value over a trading record is the sum of their
+ * values over its closed positions.
+ *
+ * <p>
+ * For an implementation, {@link #calculate(BarSeries, TradingRecord)} equals
+ * the sum of {@link #calculate(BarSeries, Position)} over
+ * {@link TradingRecord#getPositions()}, so the value can be kept up to date by
+ * adding each newly closed position. Ratio, average, drawdown, and equity-curve
+ * criteria must not implement this interface.
+ *
+ * <p>
+ * {@link org.ta4j.core.journal.JournaledTradingRecord#track(AnalysisCriterion, BarSeries)}
+ * uses this marker to reject criteria it cannot update incrementally.
+ *
+ * @since 0.23.1
+ */
+public interface PositionAdditiveCriterion extends AnalysisCriterion {
+}
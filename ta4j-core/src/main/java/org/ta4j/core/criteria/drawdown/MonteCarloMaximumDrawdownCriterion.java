@@ -4,10 +4,14 @@
 package org.ta4j.core.criteria.drawdown;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.SplittableRandom;
 import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
@@ -40,6 +44,22 @@ import org.ta4j.core.num.NumFactory;
  *         EquityCurveMode.MARK_TO_MARKET, OpenPositionHandling.IGNORE);
  * }</pre>
  *
+ * <p>
+ * <b>Split-stream engine:</b> Criteria created with {@link #builder()} simulate
+ * paths over primitive returns in fixed-size chunks, each drawing from its own
+ * stream split from the seed in chunk order, so seeded results do not depend
+ * on how many threads ran the chunks. With
+ * {@link Builder#earlyStopping(double)} the chunks run in rounds and sampling
+ * ends once the 95% confidence interval of the requested statistic is narrower
+ * than the given drawdown width:
+ *
+ * <pre>{@code
+ * MonteCarloMaximumDrawdownCriterion adaptive = MonteCarloMaximumDrawdownCriterion.builder()
+ *         .statistics(Statistics.P95)
+ *         .earlyStopping(0.005)
+ *         .build();
+ * }</pre>
+ *
  * @since 0.19
  */
 public class MonteCarloMaximumDrawdownCriterion extends AbstractEquityCurveSettingsCriterion {
@@ -49,6 +69,14 @@ public class MonteCarloMaximumDrawdownCriterion extends AbstractEquityCurveSetti
     private final Supplier<RandomGenerator> randomSupplier;
     private final Statistics statistics;
     private final MaximumDrawdownCriterion maximumDrawdownCriterion;
+    private final boolean splitStreams;
+    private final long seed;
+    private final boolean parallel;
+    private final double earlyStoppingWidth;
+
+    static final int CHUNK_SIZE = 512;
+    static final int CHUNKS_PER_ROUND = 4;
+    private static final double Z_95 = 1.959963984540054;
 
     /**
      * Default constructor returning the 95th percentile.
@@ -182,6 +210,34 @@ public class MonteCarloMaximumDrawdownCriterion extends AbstractEquityCurveSetti
         this.randomSupplier = randomSupplier;
         this.statistics = statistics;
         this.maximumDrawdownCriterion = new MaximumDrawdownCriterion(this.equityCurveMode, this.openPositionHandling);
+        this.splitStreams = false;
+        this.seed = 0L;
+        this.parallel = false;
+        this.earlyStoppingWidth = 0d;
+    }
+
+    private MonteCarloMaximumDrawdownCriterion(Builder builder) {
+        super(builder.equityCurveMode, builder.openPositionHandling);
+        this.iterations = builder.iterations;
+        this.pathBlocks = builder.pathBlocks;
+        this.randomSupplier = null;
+        this.statistics = builder.statistics;
+        this.maximumDrawdownCriterion = new MaximumDrawdownCriterion(this.equityCurveMode, this.openPositionHandling);
+        this.splitStreams = true;
+        this.seed = builder.seed;
+        this.parallel = builder.parallel;
+        this.earlyStoppingWidth = builder.earlyStoppingWidth;
+    }
+
+    /**
+     * Creates a builder for a criterion using the split-stream engine.
+     *
+     * @return builder with 10,000 iterations, seed 42, the 95th percentile and
+     *         parallel chunks
+     * @since 0.23.1
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     /**
@@ -209,6 +265,9 @@ public class MonteCarloMaximumDrawdownCriterion extends AbstractEquityCurveSetti
             return maximumDrawdownCriterion.calculate(series, tradingRecord);
         }
         int blocksPerPath = pathBlocks != null ? pathBlocks : blocks.size();
+        if (splitStreams) {
+            return simulateSplitStreams(blocks, blocksPerPath, series.numFactory());
+        }
         RandomGenerator random = randomSupplier.get();
         Num[] maxDrawdowns = new Num[iterations];
         NumFactory numFactory = series.numFactory();
@@ -236,6 +295,103 @@ public class MonteCarloMaximumDrawdownCriterion extends AbstractEquityCurveSetti
         return statistics.calculate(numFactory, maxDrawdowns);
     }
 
+    private Num simulateSplitStreams(List<List<Num>> blocks, int blocksPerPath, NumFactory numFactory) {
+        double[][] growthFactors = new double[blocks.size()][];
+        for (int i = 0; i < growthFactors.length; i++) {
+            List<Num> block = blocks.get(i);
+            growthFactors[i] = new double[block.size()];
+            for (int j = 0; j < growthFactors[i].length; j++) {
+                growthFactors[i][j] = 1d + block.get(j).doubleValue();
+            }
+        }
+        int chunkCount = (iterations + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            streams[chunk] = root.split();
+        }
+        boolean earlyStopping = earlyStoppingWidth > 0d;
+        int chunksPerRound = earlyStopping ? CHUNKS_PER_ROUND : chunkCount;
+        double[] maxDrawdowns = new double[iterations];
+        int simulated = 0;
+        int nextChunk = 0;
+        while (nextChunk < chunkCount) {
+            int lastChunk = Math.min(chunkCount, nextChunk + chunksPerRound);
+            IntStream round = IntStream.range(nextChunk, lastChunk);
+            if (parallel && lastChunk - nextChunk > 1) {
+                round = round.parallel();
+            }
+            round.forEach(chunk -> simulateChunk(streams[chunk], growthFactors, blocksPerPath, maxDrawdowns,
+                    chunk * CHUNK_SIZE, Math.min(iterations, (chunk + 1) * CHUNK_SIZE)));
+            nextChunk = lastChunk;
+            simulated = Math.min(iterations, nextChunk * CHUNK_SIZE);
+            if (earlyStopping && nextChunk < chunkCount
+                    && confidenceIntervalWidth(maxDrawdowns, simulated) <= earlyStoppingWidth) {
+                break;
+            }
+        }
+        Num[] values = new Num[simulated];
+        for (int i = 0; i < simulated; i++) {
+            values[i] = numFactory.numOf(maxDrawdowns[i]);
+        }
+        return statistics.calculate(numFactory, values);
+    }
+
+    private static void simulateChunk(SplittableRandom random, double[][] growthFactors, int blocksPerPath,
+            double[] maxDrawdowns, int from, int to) {
+        for (int iteration = from; iteration < to; iteration++) {
+            double equity = 1d;
+            double peak = 1d;
+            double maxDrawdown = 0d;
+            for (int blockIndex = 0; blockIndex < blocksPerPath; blockIndex++) {
+                double[] block = growthFactors[random.nextInt(growthFactors.length)];
+                for (double growthFactor : block) {
+                    equity *= growthFactor;
+                    if (equity > peak) {
+                        peak = equity;
+                    } else {
+                        double drawdown = (peak - equity) / peak;
+                        if (drawdown > maxDrawdown) {
+                            maxDrawdown = drawdown;
+                        }
+                    }
+                }
+            }
+            maxDrawdowns[iteration] = maxDrawdown;
+        }
+    }
+
+    /**
+     * Returns the width of the 95% confidence interval of the requested statistic
+     * over the first {@code count} simulated drawdowns: a normal interval for the
+     * mean, and a distribution-free order-statistic interval for percentiles.
+     */
+    private double confidenceIntervalWidth(double[] maxDrawdowns, int count) {
+        if (statistics == Statistics.MEAN) {
+            double mean = 0d;
+            double m2 = 0d;
+            for (int i = 0; i < count; i++) {
+                double delta = maxDrawdowns[i] - mean;
+                mean += delta / (i + 1);
+                m2 += delta * (maxDrawdowns[i] - mean);
+            }
+            return 2d * Z_95 * Math.sqrt(m2 / (count - 1) / count);
+        }
+        double level = switch (statistics) {
+        case MEDIAN -> 0.5;
+        case P95 -> 0.95;
+        case P99 -> 0.99;
+        default -> throw new IllegalStateException("No confidence interval for " + statistics);
+        };
+        double[] sorted = Arrays.copyOf(maxDrawdowns, count);
+        Arrays.sort(sorted);
+        double center = level * count;
+        double spread = Z_95 * Math.sqrt(count * level * (1d - level));
+        int lower = Math.max(0, (int) Math.floor(center - spread) - 1);
+        int upper = Math.min(count - 1, (int) Math.ceil(center + spread) - 1);
+        return sorted[upper] - sorted[lower];
+    }
+
     private List<List<Num>> buildBlocks(BarSeries series, TradingRecord record) {
         List<List<Num>> blocks = new ArrayList<>();
         CashFlow cashFlow = new CashFlow(series, record, equityCurveMode, openPositionHandling);
@@ -270,4 +426,151 @@ public class MonteCarloMaximumDrawdownCriterion extends AbstractEquityCurveSetti
         return criterionValue1.isLessThan(criterionValue2);
     }
 
+    /**
+     * Builder for criteria using the split-stream engine.
+     *
+     * @since 0.23.1
+     */
+    public static final class Builder {
+
+        private static final int ROUND_SIZE = CHUNK_SIZE * CHUNKS_PER_ROUND;
+
+        private int iterations = 10_000;
+        private Integer pathBlocks;
+        private long seed = 42L;
+        private Statistics statistics = Statistics.P95;
+        private EquityCurveMode equityCurveMode = EquityCurveMode.MARK_TO_MARKET;
+        private OpenPositionHandling openPositionHandling = OpenPositionHandling.MARK_TO_MARKET;
+        private boolean parallel = true;
+        private double earlyStoppingWidth;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of simulated paths.
+         *
+         * @param value positive iteration count
+         * @return this builder
+         * @since 0.23.1
+         */
+        public Builder iterations(int value) {
+            iterations = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of trades in each simulated path.
+         *
+         * @param value positive block count, or {@code null} to use the number of
+         *              trades in the sample
+         * @return this builder
+         * @since 0.23.1
+         */
+        public Builder pathBlocks(Integer value) {
+            pathBlocks = value;
+            return this;
+        }
+
+        /**
+         * Sets the random seed.
+         *
+         * @param value seed
+         * @return this builder
+         * @since 0.23.1
+         */
+        public Builder seed(long value) {
+            seed = value;
+            return this;
+        }
+
+        /**
+         * Sets the summary statistic of the simulated drawdowns.
+         *
+         * @param value statistic
+         * @return this builder
+         * @since 0.23.1
+         */
+        public Builder statistics(Statistics value) {
+            statistics = Objects.requireNonNull(value, "statistics");
+            return this;
+        }
+
+        /**
+         * Sets the equity curve mode.
+         *
+         * @param value equity curve mode
+         * @return this builder
+         * @since 0.23.1
+         */
+        public Builder equityCurveMode(EquityCurveMode value) {
+            equityCurveMode = value;
+            return this;
+        }
+
+        /**
+         * Sets the open position handling.
+         *
+         * @param value open position handling
+         * @return this builder
+         * @since 0.23.1
+         */
+        public Builder openPositionHandling(OpenPositionHandling value) {
+            openPositionHandling = value;
+            return this;
+        }
+
+        /**
+         * Sets whether chunks run on the common fork-join pool. Seeded results are
+         * the same either way.
+         *
+         * @param value {@code true} to simulate chunks in parallel
+         * @return this builder
+         * @since 0.23.1
+         */
+        public Builder parallel(boolean value) {
+            parallel = value;
+            return this;
+        }
+
+        /**
+         * Ends sampling after the first round of {@value #ROUND_SIZE} paths whose
+         * 95% confidence interval for the requested statistic is at most
+         * {@code width} wide. Not available for {@link Statistics#MIN} and
+         * {@link Statistics#MAX}.
+         *
+         * @param width positive confidence interval width in drawdown units (e.g.
+         *              {@code 0.005} for half a percentage point), or {@code 0} to
+         *              always run every iteration
+         * @return this builder
+         * @since 0.23.1
+         */
+        public Builder earlyStopping(double width) {
+            earlyStoppingWidth = width;
+            return this;
+        }
+
+        /**
+         * Builds the criterion.
+         *
+         * @return criterion
+         * @throws IllegalArgumentException if a setting is invalid
+         * @since 0.23.1
+         */
+        public MonteCarloMaximumDrawdownCriterion build() {
+            if (iterations <= 0) {
+                throw new IllegalArgumentException("iterations must be positive");
+            }
+            if (pathBlocks != null && pathBlocks <= 0) {
+                throw new IllegalArgumentException("pathBlocks must be positive");
+            }
+            if (!(earlyStoppingWidth >= 0d) || Double.isInfinite(earlyStoppingWidth)) {
+                throw new IllegalArgumentException("earlyStopping width must be finite and non-negative");
+            }
+            if (earlyStoppingWidth > 0d && (statistics == Statistics.MIN || statistics == Statistics.MAX)) {
+                throw new IllegalArgumentException("earlyStopping is not available for " + statistics);
+            }
+            return new MonteCarloMaximumDrawdownCriterion(this);
+        }
+    }
 }
@@ -7,12 +7,13 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
+import org.ta4j.core.criteria.PositionAdditiveCriterion;
 import org.ta4j.core.num.Num;
 
 /**
  * Base class for profit and loss criteria.
  */
-public abstract class AbstractPnlCriterion extends AbstractAnalysisCriterion {
+public abstract class AbstractPnlCriterion extends AbstractAnalysisCriterion implements PositionAdditiveCriterion {
 
     @Override
     public Num calculate(BarSeries series, Position position) {
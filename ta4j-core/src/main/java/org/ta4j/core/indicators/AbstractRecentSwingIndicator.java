@@ -3,6 +3,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
@@ -121,6 +122,15 @@ public abstract class AbstractRecentSwingIndicator extends CachedIndicator<Num>
         private final List<Integer> swingPointIndexes = new ArrayList<>();
         private int lastScannedIndex = Integer.MIN_VALUE;
 
+        // The scan of the series' last bar is provisional while that bar can still
+        // change. These fields undo it when the bar is replaced or mutated.
+        private int provisionalIndex = -1;
+        private Bar provisionalBar;
+        private long provisionalTrades;
+        private Num provisionalClosePrice;
+        private int provisionalRetainedSize;
+        private List<Integer> provisionalRemovedIndexes = List.of();
+
         private SwingPointTracker(IntFunction<Integer> swingIndexDetector, BarSeries series) {
             this.swingIndexDetector = Objects.requireNonNull(swingIndexDetector, "swingIndexDetector cannot be null");
             this.series = Objects.requireNonNull(series, "series cannot be null");
@@ -154,6 +164,7 @@ public abstract class AbstractRecentSwingIndicator extends CachedIndicator<Num>
         private void ensureScanned(int index) {
             final int beginIndex = series.getBeginIndex();
             final int endIndex = series.getEndIndex();
+            settleProvisionalScan(beginIndex, endIndex);
             purgeOutOfRange(beginIndex);
             if (index < beginIndex || beginIndex > endIndex) {
                 return;
@@ -168,6 +179,9 @@ public abstract class AbstractRecentSwingIndicator extends CachedIndicator<Num>
             for (int currentIndex = Math.max(beginIndex,
                     lastScannedIndex + 1); currentIndex <= targetIndex; currentIndex++) {
                 final int swingIndex = swingIndexDetector.apply(currentIndex);
+                if (currentIndex == endIndex) {
+                    recordProvisionalScan(currentIndex, swingIndex);
+                }
                 if (swingIndex < 0) {
                     if (purgeOnNegativeDetection()) {
                         swingPointIndexes.clear();
@@ -189,6 +203,63 @@ public abstract class AbstractRecentSwingIndicator extends CachedIndicator<Num>
             lastScannedIndex = targetIndex;
         }
 
+        /**
+         * Remembers how scanning the last bar changes the recorded swings, so the scan
+         * can be undone if that bar changes.
+         */
+        private void recordProvisionalScan(int index, int swingIndex) {
+            int retainedSize = swingPointIndexes.size();
+            if (swingIndex < 0) {
+                if (purgeOnNegativeDetection()) {
+                    retainedSize = 0;
+                }
+            } else {
+                while (retainedSize > 0 && swingPointIndexes.get(retainedSize - 1) > swingIndex) {
+                    retainedSize--;
+                }
+            }
+            final Bar bar = series.getBar(index);
+            provisionalIndex = index;
+            provisionalBar = bar;
+            provisionalTrades = bar.getTrades();
+            provisionalClosePrice = bar.getClosePrice();
+            provisionalRetainedSize = retainedSize;
+            provisionalRemovedIndexes = List
+                    .copyOf(swingPointIndexes.subList(retainedSize, swingPointIndexes.size()));
+        }
+
+        /**
+         * Keeps the provisional scan once its bar is final, or undoes it when the bar
+         * was replaced or mutated so the next scan sees the current bar.
+         */
+        private void settleProvisionalScan(int beginIndex, int endIndex) {
+            if (provisionalIndex < 0) {
+                return;
+            }
+            final int index = provisionalIndex;
+            provisionalIndex = -1;
+            if (index < beginIndex || index > endIndex || lastScannedIndex != index) {
+                provisionalRemovedIndexes = List.of();
+                return;
+            }
+            final Bar bar = series.getBar(index);
+            final boolean unchanged = bar == provisionalBar && bar.getTrades() == provisionalTrades
+                    && Objects.equals(bar.getClosePrice(), provisionalClosePrice);
+            if (unchanged) {
+                if (index < endIndex) {
+                    provisionalRemovedIndexes = List.of();
+                } else {
+                    provisionalIndex = index;
+                }
+                return;
+            }
+            final int retainedSize = Math.min(provisionalRetainedSize, swingPointIndexes.size());
+            swingPointIndexes.subList(retainedSize, swingPointIndexes.size()).clear();
+            swingPointIndexes.addAll(provisionalRemovedIndexes);
+            provisionalRemovedIndexes = List.of();
+            lastScannedIndex = index - 1;
+        }
+
         private void purgeOutOfRange(int beginIndex) {
             if (swingPointIndexes.isEmpty()) {
                 return;
@@ -3,8 +3,9 @@
  */
 package org.ta4j.core.indicators;
 
-import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
 
@@ -464,6 +465,23 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
         highestResultIndex = Math.max(cacheHighest, lastBarIndex);
     }
 
+    /**
+     * Seeds the cache with previously computed values, e.g. restored by
+     * {@link PersistentIndicatorCache}. Indices that are already cached keep their
+     * values.
+     *
+     * @param startIndex the series index of the first value
+     * @param values     the values for consecutive indices from
+     *                   {@code startIndex}
+     */
+    void preloadValues(int startIndex, List<T> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        cache.prefillUntil(startIndex, startIndex + values.size(), index -> values.get(index - startIndex));
+        updateHighestResultIndex(cache.getHighestResultIndex());
+    }
+
     /**
      * Clears the last-bar cache state.
      */
@@ -0,0 +1,398 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+
+/**
+ * Binary codec for indicator values stored by {@link PersistentIndicatorCache}.
+ *
+ * <p>
+ * Decoding must restore values equal to the encoded ones, including the
+ * {@link Num} implementation and precision, so that warmed indicators behave
+ * exactly like freshly computed ones.
+ *
+ * @param <T> the indicator value type
+ * @since 0.23.1
+ */
+public interface IndicatorValueCodec<T> {
+
+    /**
+     * @return a stable identifier of the encoding, stored with the values and
+     *         checked when they are read back
+     */
+    String id();
+
+    /**
+     * Writes a value.
+     *
+     * @param out   the output
+     * @param value the value (may be {@code null})
+     * @throws IOException if writing fails
+     */
+    void write(DataOutput out, T value) throws IOException;
+
+    /**
+     * Reads a value written by {@link #write(DataOutput, Object)}.
+     *
+     * @param in the input
+     * @return the value
+     * @throws IOException if reading fails or the data is malformed
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * @return a codec for {@link Num} values that preserves {@link DoubleNum} bits,
+     *         {@link DecimalNum} values with their {@link MathContext}, and
+     *         {@link NaN#NaN}
+     */
+    static IndicatorValueCodec<Num> num() {
+        return NumCodec.INSTANCE;
+    }
+
+    /**
+     * @return a codec for {@link Integer} values
+     */
+    static IndicatorValueCodec<Integer> integer() {
+        return IntegerCodec.INSTANCE;
+    }
+
+    /**
+     * @return a codec for {@link Boolean} values
+     */
+    static IndicatorValueCodec<Boolean> bool() {
+        return BooleanCodec.INSTANCE;
+    }
+
+    /**
+     * Returns a codec for records whose components are primitives, their
+     * wrappers, {@link String}s, enums, {@link Num}s, or records of the same kind
+     * (for example {@code LPPLFit}).
+     *
+     * @param type the record type
+     * @param <R>  the record type
+     * @return the record codec
+     * @throws IllegalArgumentException if a component type is not supported
+     */
+    static <R extends Record> IndicatorValueCodec<R> record(Class<R> type) {
+        return new RecordCodec<>(type);
+    }
+
+    /** {@link Num} codec. */
+    final class NumCodec implements IndicatorValueCodec<Num> {
+
+        private static final NumCodec INSTANCE = new NumCodec();
+
+        private static final int TAG_NULL = 0;
+        private static final int TAG_NAN = 1;
+        private static final int TAG_DOUBLE = 2;
+        private static final int TAG_DECIMAL = 3;
+        private static final RoundingMode[] ROUNDING_MODES = RoundingMode.values();
+
+        private NumCodec() {
+        }
+
+        @Override
+        public String id() {
+            return "num/1";
+        }
+
+        @Override
+        public void write(DataOutput out, Num value) throws IOException {
+            if (value == null) {
+                out.writeByte(TAG_NULL);
+            } else if (value instanceof NaN) {
+                out.writeByte(TAG_NAN);
+            } else if (value instanceof DoubleNum) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeLong(Double.doubleToRawLongBits(value.doubleValue()));
+            } else if (value instanceof DecimalNum decimal) {
+                out.writeByte(TAG_DECIMAL);
+                MathContext mathContext = decimal.getMathContext();
+                out.writeInt(mathContext.getPrecision());
+                out.writeByte(mathContext.getRoundingMode().ordinal());
+                BigDecimal delegate = decimal.bigDecimalValue();
+                out.writeInt(delegate.scale());
+                byte[] unscaled = delegate.unscaledValue().toByteArray();
+                out.writeInt(unscaled.length);
+                out.write(unscaled);
+            } else {
+                throw new IllegalArgumentException(
+                        "Unsupported Num implementation: " + value.getClass().getName() + ".");
+            }
+        }
+
+        @Override
+        public Num read(DataInput in) throws IOException {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_NAN:
+                return NaN.NaN;
+            case TAG_DOUBLE:
+                return DoubleNum.valueOf(Double.longBitsToDouble(in.readLong()));
+            case TAG_DECIMAL:
+                int precision = in.readInt();
+                int roundingMode = in.readUnsignedByte();
+                int scale = in.readInt();
+                int length = in.readInt();
+                if (precision < 0 || roundingMode >= ROUNDING_MODES.length || length <= 0 || length > 1 << 20) {
+                    throw new StreamCorruptedException("Invalid decimal value");
+                }
+                byte[] unscaled = new byte[length];
+                in.readFully(unscaled);
+                return DecimalNum.valueOf(new BigDecimal(new BigInteger(unscaled), scale),
+                        new MathContext(precision, ROUNDING_MODES[roundingMode]));
+            default:
+                throw new StreamCorruptedException("Unknown Num tag: " + tag);
+            }
+        }
+    }
+
+    /** {@link Integer} codec. */
+    final class IntegerCodec implements IndicatorValueCodec<Integer> {
+
+        private static final IntegerCodec INSTANCE = new IntegerCodec();
+
+        private IntegerCodec() {
+        }
+
+        @Override
+        public String id() {
+            return "integer/1";
+        }
+
+        @Override
+        public void write(DataOutput out, Integer value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeInt(value);
+            }
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readBoolean() ? in.readInt() : null;
+        }
+    }
+
+    /** {@link Boolean} codec. */
+    final class BooleanCodec implements IndicatorValueCodec<Boolean> {
+
+        private static final BooleanCodec INSTANCE = new BooleanCodec();
+
+        private BooleanCodec() {
+        }
+
+        @Override
+        public String id() {
+            return "boolean/1";
+        }
+
+        @Override
+        public void write(DataOutput out, Boolean value) throws IOException {
+            out.writeByte(value == null ? 0 : value ? 2 : 1);
+        }
+
+        @Override
+        public Boolean read(DataInput in) throws IOException {
+            int value = in.readUnsignedByte();
+            if (value > 2) {
+                throw new StreamCorruptedException("Invalid boolean value: " + value);
+            }
+            return value == 0 ? null : value == 2;
+        }
+    }
+
+    /**
+     * Reflective codec for records of supported component types. Components are
+     * written in declaration order; reference components are preceded by a
+     * presence flag.
+     *
+     * @param <R> the record type
+     */
+    final class RecordCodec<R extends Record> implements IndicatorValueCodec<R> {
+
+        private final Class<R> type;
+        private final Method[] accessors;
+        private final Class<?>[] componentTypes;
+        private final IndicatorValueCodec<?>[] nestedCodecs;
+        private final Constructor<R> constructor;
+        private final String id;
+
+        private RecordCodec(Class<R> type) {
+            this.type = Objects.requireNonNull(type, "type");
+            RecordComponent[] components = type.getRecordComponents();
+            if (components == null) {
+                throw new IllegalArgumentException(type.getName() + " is not a record.");
+            }
+            this.accessors = new Method[components.length];
+            this.componentTypes = new Class<?>[components.length];
+            this.nestedCodecs = new IndicatorValueCodec<?>[components.length];
+            StringBuilder signature = new StringBuilder("record/1:").append(type.getName()).append('(');
+            for (int i = 0; i < components.length; i++) {
+                Class<?> componentType = components[i].getType();
+                accessors[i] = components[i].getAccessor();
+                accessors[i].setAccessible(true);
+                componentTypes[i] = componentType;
+                if (componentType.isRecord()) {
+                    nestedCodecs[i] = new RecordCodec<>(componentType.asSubclass(Record.class));
+                } else if (!isSupported(componentType)) {
+                    throw new IllegalArgumentException("Unsupported record component type " + componentType.getName()
+                            + " in " + type.getName() + ".");
+                }
+                signature.append(i == 0 ? "" : ",").append(componentType.getName());
+            }
+            this.id = signature.append(')').toString();
+            try {
+                this.constructor = type.getDeclaredConstructor(componentTypes);
+                this.constructor.setAccessible(true);
+            } catch (NoSuchMethodException ex) {
+                throw new IllegalArgumentException("No canonical constructor in " + type.getName() + ".", ex);
+            }
+        }
+
+        private static boolean isSupported(Class<?> type) {
+            return type.isPrimitive() || type == Integer.class || type == Long.class || type == Double.class
+                    || type == Float.class || type == Boolean.class || type == Short.class || type == Byte.class
+                    || type == Character.class || type == String.class || type.isEnum() || type == Num.class;
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public void write(DataOutput out, R value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value == null) {
+                return;
+            }
+            for (int i = 0; i < accessors.length; i++) {
+                Object component;
+                try {
+                    component = accessors[i].invoke(value);
+                } catch (IllegalAccessException | InvocationTargetException ex) {
+                    throw new IllegalStateException("Failed to read record component of " + type.getName(), ex);
+                }
+                writeComponent(out, i, component);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void writeComponent(DataOutput out, int index, Object value) throws IOException {
+            Class<?> componentType = componentTypes[index];
+            if (nestedCodecs[index] != null) {
+                ((IndicatorValueCodec<Object>) nestedCodecs[index]).write(out, value);
+                return;
+            }
+            if (componentType == Num.class) {
+                NumCodec.INSTANCE.write(out, (Num) value);
+                return;
+            }
+            if (!componentType.isPrimitive()) {
+                out.writeBoolean(value != null);
+                if (value == null) {
+                    return;
+                }
+            }
+            if (componentType == int.class || componentType == Integer.class) {
+                out.writeInt((Integer) value);
+            } else if (componentType == long.class || componentType == Long.class) {
+                out.writeLong((Long) value);
+            } else if (componentType == double.class || componentType == Double.class) {
+                out.writeLong(Double.doubleToRawLongBits((Double) value));
+            } else if (componentType == float.class || componentType == Float.class) {
+                out.writeInt(Float.floatToRawIntBits((Float) value));
+            } else if (componentType == boolean.class || componentType == Boolean.class) {
+                out.writeBoolean((Boolean) value);
+            } else if (componentType == short.class || componentType == Short.class) {
+                out.writeShort((Short) value);
+            } else if (componentType == byte.class || componentType == Byte.class) {
+                out.writeByte((Byte) value);
+            } else if (componentType == char.class || componentType == Character.class) {
+                out.writeChar((Character) value);
+            } else if (componentType == String.class) {
+                out.writeUTF((String) value);
+            } else {
+                out.writeUTF(((Enum<?>) value).name());
+            }
+        }
+
+        @Override
+        public R read(DataInput in) throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            Object[] arguments = new Object[componentTypes.length];
+            for (int i = 0; i < arguments.length; i++) {
+                arguments[i] = readComponent(in, i);
+            }
+            try {
+                return constructor.newInstance(arguments);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException
+                    | IllegalArgumentException ex) {
+                throw (IOException) new StreamCorruptedException("Cannot rebuild " + type.getName()).initCause(ex);
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Object readComponent(DataInput in, int index) throws IOException {
+            Class<?> componentType = componentTypes[index];
+            if (nestedCodecs[index] != null) {
+                return nestedCodecs[index].read(in);
+            }
+            if (componentType == Num.class) {
+                return NumCodec.INSTANCE.read(in);
+            }
+            if (!componentType.isPrimitive() && !in.readBoolean()) {
+                return null;
+            }
+            if (componentType == int.class || componentType == Integer.class) {
+                return in.readInt();
+            } else if (componentType == long.class || componentType == Long.class) {
+                return in.readLong();
+            } else if (componentType == double.class || componentType == Double.class) {
+                return Double.longBitsToDouble(in.readLong());
+            } else if (componentType == float.class || componentType == Float.class) {
+                return Float.intBitsToFloat(in.readInt());
+            } else if (componentType == boolean.class || componentType == Boolean.class) {
+                return in.readBoolean();
+            } else if (componentType == short.class || componentType == Short.class) {
+                return in.readShort();
+            } else if (componentType == byte.class || componentType == Byte.class) {
+                return in.readByte();
+            } else if (componentType == char.class || componentType == Character.class) {
+                return in.readChar();
+            } else if (componentType == String.class) {
+                return in.readUTF();
+            }
+            String name = in.readUTF();
+            try {
+                return Enum.valueOf((Class) componentType, name);
+            } catch (IllegalArgumentException ex) {
+                throw new StreamCorruptedException("Unknown constant " + name + " of " + componentType.getName());
+            }
+        }
+    }
+}
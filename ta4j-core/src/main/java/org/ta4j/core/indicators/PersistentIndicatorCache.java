@@ -0,0 +1,388 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * Persists computed {@link CachedIndicator} values on disk so that expensive
+ * indicators (for example {@code LPPLFitIndicator},
+ * {@code ElliottWaveCountIndicator}, or {@code VolumeProfileKDEIndicator}) do
+ * not have to be recomputed after a restart.
+ *
+ * <p>
+ * Entries are keyed by the indicator's {@link org.ta4j.core.Indicator#toJson()
+ * JSON descriptor}, the series' number type, and the {@link IndicatorValueCodec}.
+ * Each entry records the begin index of the series it was computed on and a
+ * fingerprint of the bar data (end time, period, OHLCV, amount, and trades).
+ * {@link #warm(CachedIndicator, IndicatorValueCodec)} only restores values when
+ * the series still starts at the same index and the fingerprint of its bars up
+ * to the last stored index is unchanged, so appended bars reuse the stored
+ * prefix while replaced or mutated bars cause a miss. Entries are read through
+ * a read-only memory mapping and written atomically, so concurrent processes
+ * never observe partially written files.
+ *
+ * <p>
+ * Within a process, the {@link BarSeries#getBarHistoryRevision() bar history
+ * revision} is recorded whenever an indicator is warmed or stored; if it has
+ * changed by the next call, the indicator's in-memory cache is cleared before
+ * values are restored. The value at the series' end index is never restored
+ * because the last bar may still be updated.
+ *
+ * <p>
+ * This class is thread-safe. Unreadable or corrupt entries are logged,
+ * deleted, and treated as misses.
+ *
+ * @since 0.23.1
+ */
+public class PersistentIndicatorCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistentIndicatorCache.class);
+
+    private static final int MAGIC = 0x54344943; // "T4IC"
+    private static final int VERSION = 1;
+    private static final String FILE_SUFFIX = ".t4ic";
+
+    private final Path directory;
+    private final Map<BarSeries, SeriesFingerprint> fingerprints = new WeakHashMap<>();
+    private final Map<CachedIndicator<?>, Long> warmedRevisions = new WeakHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param directory the directory holding the cache files; created if missing
+     * @throws IllegalArgumentException if the directory cannot be created
+     */
+    public PersistentIndicatorCache(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Cannot create cache directory " + directory + ".", ex);
+        }
+    }
+
+    /**
+     * Restores the persisted values of {@code indicator} into its in-memory cache.
+     *
+     * @param indicator the indicator to warm
+     * @param codec     the codec the values were stored with
+     * @param <T>       the indicator value type
+     * @return the number of restored values (0 on a miss)
+     */
+    public synchronized <T> int warm(CachedIndicator<T> indicator, IndicatorValueCodec<T> codec) {
+        Objects.requireNonNull(indicator, "indicator");
+        Objects.requireNonNull(codec, "codec");
+        BarSeries series = indicator.getBarSeries();
+        long revision = series.getBarHistoryRevision();
+        Long warmedRevision = warmedRevisions.get(indicator);
+        if (warmedRevision != null && (warmedRevision != revision || revision == -1L)) {
+            indicator.invalidateCache();
+        }
+        warmedRevisions.put(indicator, revision);
+        if (series.isEmpty()) {
+            return 0;
+        }
+
+        String key = keyOf(indicator, codec);
+        Path file = fileOf(key);
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(mapped));
+            Header header = readHeader(in);
+            if (!header.key().equals(key) || !header.codecId().equals(codec.id())) {
+                // SHA-256 collision or a codec change under the same identifier
+                return 0;
+            }
+            int storedLast = header.beginIndex() + header.count() - 1;
+            if (header.beginIndex() != series.getBeginIndex() || series.getEndIndex() < storedLast
+                    || fingerprint(series, storedLast) != header.fingerprint()) {
+                return 0;
+            }
+            int restoreCount = Math.min(storedLast, series.getEndIndex() - 1) - header.beginIndex() + 1;
+            List<T> values = new ArrayList<>(Math.max(restoreCount, 0));
+            for (int i = 0; i < restoreCount; i++) {
+                values.add(codec.read(in));
+            }
+            indicator.preloadValues(header.beginIndex(), values);
+            return values.size();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Discarding unreadable indicator cache entry {}", file, ex);
+            deleteQuietly(file);
+            return 0;
+        }
+    }
+
+    /**
+     * Computes the values of {@code indicator} over the whole series and persists
+     * them, replacing any previous entry for the same indicator.
+     *
+     * @param indicator the indicator to persist
+     * @param codec     the codec for its values
+     * @param <T>       the indicator value type
+     * @return the number of stored values (0 if the series is empty or its bars
+     *         were replaced during the computation)
+     * @throws IllegalStateException if the entry cannot be written
+     */
+    public synchronized <T> int store(CachedIndicator<T> indicator, IndicatorValueCodec<T> codec) {
+        Objects.requireNonNull(indicator, "indicator");
+        Objects.requireNonNull(codec, "codec");
+        BarSeries series = indicator.getBarSeries();
+        if (series.isEmpty()) {
+            return 0;
+        }
+        long revision = series.getBarHistoryRevision();
+        int beginIndex = series.getBeginIndex();
+        int endIndex = series.getEndIndex();
+        List<T> values = new ArrayList<>(endIndex - beginIndex + 1);
+        for (int i = beginIndex; i <= endIndex; i++) {
+            values.add(indicator.getValue(i));
+        }
+        if ((revision != -1L && series.getBarHistoryRevision() != revision) || series.getBeginIndex() != beginIndex) {
+            // Bars were replaced or evicted while computing: the values are already stale
+            return 0;
+        }
+        long fingerprint = fingerprint(series, endIndex);
+        warmedRevisions.put(indicator, revision);
+
+        String key = keyOf(indicator, codec);
+        Path file = fileOf(key);
+        Path temporary = null;
+        try {
+            temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeInt(keyBytes.length);
+                out.write(keyBytes);
+                out.writeUTF(codec.id());
+                out.writeInt(beginIndex);
+                out.writeInt(values.size());
+                out.writeLong(fingerprint);
+                for (T value : values) {
+                    codec.write(out, value);
+                }
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return values.size();
+        } catch (IOException ex) {
+            if (temporary != null) {
+                deleteQuietly(temporary);
+            }
+            throw new IllegalStateException("Cannot write indicator cache entry " + file, ex);
+        }
+    }
+
+    /**
+     * Deletes the persisted values of {@code indicator}. The indicator's in-memory
+     * cache is not affected.
+     *
+     * @param indicator the indicator
+     * @param codec     the codec the values were stored with
+     * @return {@code true} if an entry was deleted
+     */
+    public synchronized boolean invalidate(CachedIndicator<?> indicator, IndicatorValueCodec<?> codec) {
+        Objects.requireNonNull(indicator, "indicator");
+        Objects.requireNonNull(codec, "codec");
+        warmedRevisions.remove(indicator);
+        return deleteQuietly(fileOf(keyOf(indicator, codec)));
+    }
+
+    private static Header readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not an indicator cache file");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported indicator cache version: " + version);
+        }
+        int keyLength = in.readInt();
+        if (keyLength < 0 || keyLength > in.available()) {
+            throw new StreamCorruptedException("Invalid key length: " + keyLength);
+        }
+        byte[] keyBytes = new byte[keyLength];
+        in.readFully(keyBytes);
+        String codecId = in.readUTF();
+        int beginIndex = in.readInt();
+        int count = in.readInt();
+        long fingerprint = in.readLong();
+        if (beginIndex < 0 || count <= 0) {
+            throw new StreamCorruptedException("Invalid value range: " + beginIndex + "+" + count);
+        }
+        return new Header(new String(keyBytes, StandardCharsets.UTF_8), codecId, beginIndex, count, fingerprint);
+    }
+
+    private static String keyOf(CachedIndicator<?> indicator, IndicatorValueCodec<?> codec) {
+        Num one = indicator.getBarSeries().numFactory().one();
+        String numType = one instanceof DecimalNum decimal ? "DecimalNum/" + decimal.getMathContext()
+                : one.getClass().getName();
+        return indicator.toJson() + '\n' + numType + '\n' + codec.id();
+    }
+
+    private Path fileOf(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest) + FILE_SUFFIX);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the bars from the series' begin index through
+     * {@code lastIndex}. Prefix fingerprints are memoized per series while its
+     * revision and begin index are unchanged; series without revision tracking
+     * are always rehashed.
+     */
+    private long fingerprint(BarSeries series, int lastIndex) {
+        long revision = series.getBarHistoryRevision();
+        int beginIndex = series.getBeginIndex();
+        SeriesFingerprint memo = fingerprints.get(series);
+        if (memo == null || revision == -1L || memo.revision != revision || memo.beginIndex != beginIndex) {
+            memo = new SeriesFingerprint(revision, beginIndex);
+            fingerprints.put(series, memo);
+        }
+        return memo.prefix(series, lastIndex);
+    }
+
+    private static boolean deleteQuietly(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Cannot delete indicator cache file {}", file, ex);
+            return false;
+        }
+    }
+
+    private record Header(String key, String codecId, int beginIndex, int count, long fingerprint) {
+    }
+
+    /** Memoized prefix fingerprints of one series. */
+    private static final class SeriesFingerprint {
+
+        private final long revision;
+        private final int beginIndex;
+        private long[] prefixes = new long[0];
+        private int size;
+
+        private SeriesFingerprint(long revision, int beginIndex) {
+            this.revision = revision;
+            this.beginIndex = beginIndex;
+        }
+
+        private long prefix(BarSeries series, int lastIndex) {
+            int needed = lastIndex - beginIndex + 1;
+            if (needed > prefixes.length) {
+                prefixes = Arrays.copyOf(prefixes, Math.max(needed, prefixes.length * 2));
+            }
+            for (; size < needed; size++) {
+                long previous = size == 0 ? 0x9E3779B97F4A7C15L : prefixes[size - 1];
+                prefixes[size] = mix(previous * 31 + hash(series.getBar(beginIndex + size)));
+            }
+            return prefixes[needed - 1];
+        }
+
+        private static long hash(Bar bar) {
+            long hash = bar.getEndTime().getEpochSecond();
+            hash = mix(hash * 31 + bar.getEndTime().getNano());
+            hash = mix(hash * 31 + bar.getTimePeriod().toNanos());
+            hash = mix(hash * 31 + hash(bar.getOpenPrice()));
+            hash = mix(hash * 31 + hash(bar.getHighPrice()));
+            hash = mix(hash * 31 + hash(bar.getLowPrice()));
+            hash = mix(hash * 31 + hash(bar.getClosePrice()));
+            hash = mix(hash * 31 + hash(bar.getVolume()));
+            hash = mix(hash * 31 + hash(bar.getAmount()));
+            return mix(hash * 31 + bar.getTrades());
+        }
+
+        private static long hash(Num num) {
+            if (num == null) {
+                return 0;
+            }
+            if (num instanceof DecimalNum decimal) {
+                return decimal.bigDecimalValue().stripTrailingZeros().hashCode();
+            }
+            return Double.doubleToLongBits(num.doubleValue());
+        }
+
+        /** SplitMix64 finalizer. */
+        private static long mix(long value) {
+            value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+            value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+            return value ^ (value >>> 31);
+        }
+    }
+
+    /** Reads a (memory-mapped) buffer without copying it. */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
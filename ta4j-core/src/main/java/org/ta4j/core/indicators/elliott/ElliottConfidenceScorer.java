@@ -58,6 +58,25 @@ public final class ElliottConfidenceScorer {
     private final double channelWeight;
     private final double completenessWeight;
     private final NumFactory numFactory;
+    private final Num fibonacciWeightNum;
+    private final Num timeWeightNum;
+    private final Num alternationWeightNum;
+    private final Num channelWeightNum;
+    private final Num completenessWeightNum;
+    private final Num neutral;
+    private final Num completionBonus;
+    private final Num lowerToleranceFactor;
+    private final Num upperToleranceFactor;
+    private final Num rangeScore;
+    private final Num idealBonus;
+    private final Num wave2MinRetracement;
+    private final Num wave2MaxRetracement;
+    private final Num wave3MaxExtension;
+    private final Num wave3IdealExtension;
+    private final Num wave4MinRetracement;
+    private final Num wave4MaxRetracement;
+    private final Num wave5MinProjection;
+    private final Num wave5MaxProjection;
 
     /**
      * Creates a scorer with default weights.
@@ -89,6 +108,26 @@ public final class ElliottConfidenceScorer {
         this.alternationWeight = alternationWeight;
         this.channelWeight = channelWeight;
         this.completenessWeight = completenessWeight;
+        // Scoring runs once per candidate scenario; build its constants only once
+        this.fibonacciWeightNum = numFactory.numOf(fibonacciWeight);
+        this.timeWeightNum = numFactory.numOf(timeWeight);
+        this.alternationWeightNum = numFactory.numOf(alternationWeight);
+        this.channelWeightNum = numFactory.numOf(channelWeight);
+        this.completenessWeightNum = numFactory.numOf(completenessWeight);
+        this.neutral = numFactory.numOf(0.5);
+        this.completionBonus = numFactory.numOf(0.1);
+        this.lowerToleranceFactor = numFactory.numOf(0.8);
+        this.upperToleranceFactor = numFactory.numOf(1.2);
+        this.rangeScore = numFactory.numOf(0.7);
+        this.idealBonus = numFactory.numOf(0.3);
+        this.wave2MinRetracement = numFactory.numOf(0.382);
+        this.wave2MaxRetracement = numFactory.numOf(0.786);
+        this.wave3MaxExtension = numFactory.numOf(2.618);
+        this.wave3IdealExtension = numFactory.numOf(1.618);
+        this.wave4MinRetracement = numFactory.numOf(0.236);
+        this.wave4MaxRetracement = numFactory.numOf(0.786);
+        this.wave5MinProjection = numFactory.numOf(0.618);
+        this.wave5MaxProjection = numFactory.numOf(1.618);
     }
 
     /**
@@ -112,11 +151,11 @@ public final class ElliottConfidenceScorer {
         final Num chanScore = scoreChannel(swings, channel);
         final Num compScore = scoreCompleteness(swings, phase);
 
-        final Num overall = fibScore.multipliedBy(numFactory.numOf(fibonacciWeight))
-                .plus(timeScore.multipliedBy(numFactory.numOf(timeWeight)))
-                .plus(altScore.multipliedBy(numFactory.numOf(alternationWeight)))
-                .plus(chanScore.multipliedBy(numFactory.numOf(channelWeight)))
-                .plus(compScore.multipliedBy(numFactory.numOf(completenessWeight)));
+        final Num overall = fibScore.multipliedBy(fibonacciWeightNum)
+                .plus(timeScore.multipliedBy(timeWeightNum))
+                .plus(altScore.multipliedBy(alternationWeightNum))
+                .plus(chanScore.multipliedBy(channelWeightNum))
+                .plus(compScore.multipliedBy(completenessWeightNum));
 
         final String reason = determinePrimaryReason(fibScore, timeScore, altScore, chanScore, compScore);
 
@@ -152,32 +191,30 @@ public final class ElliottConfidenceScorer {
         // Score wave 2 retracement (0.382 - 0.786 ideal)
         if (swings.size() >= 2) {
             final Num ratio = calculateRatio(swings.get(1), swings.get(0));
-            totalScore = totalScore
-                    .plus(scoreRetracementRatio(ratio, numFactory.numOf(0.382), numFactory.numOf(0.786)));
+            totalScore = totalScore.plus(scoreRetracementRatio(ratio, wave2MinRetracement, wave2MaxRetracement));
             count++;
         }
 
         // Score wave 3 extension (1.0 - 2.618 ideal, prefer 1.618)
         if (swings.size() >= 3) {
             final Num ratio = calculateRatio(swings.get(2), swings.get(0));
-            totalScore = totalScore.plus(
-                    scoreExtensionRatio(ratio, numFactory.one(), numFactory.numOf(2.618), numFactory.numOf(1.618)));
+            totalScore = totalScore
+                    .plus(scoreExtensionRatio(ratio, numFactory.one(), wave3MaxExtension, wave3IdealExtension));
             count++;
         }
 
         // Score wave 4 retracement (0.236 - 0.786 ideal)
         if (swings.size() >= 4) {
             final Num ratio = calculateRatio(swings.get(3), swings.get(2));
-            totalScore = totalScore
-                    .plus(scoreRetracementRatio(ratio, numFactory.numOf(0.236), numFactory.numOf(0.786)));
+            totalScore = totalScore.plus(scoreRetracementRatio(ratio, wave4MinRetracement, wave4MaxRetracement));
             count++;
         }
 
         // Score wave 5 projection (0.618 - 1.618 ideal)
         if (swings.size() >= 5) {
             final Num ratio = calculateRatio(swings.get(4), swings.get(0));
-            totalScore = totalScore.plus(
-                    scoreExtensionRatio(ratio, numFactory.numOf(0.618), numFactory.numOf(1.618), numFactory.one()));
+            totalScore = totalScore
+                    .plus(scoreExtensionRatio(ratio, wave5MinProjection, wave5MaxProjection, numFactory.one()));
             count++;
         }
 
@@ -203,12 +240,12 @@ public final class ElliottConfidenceScorer {
      */
     public Num scoreTimeProportions(final List<ElliottSwing> swings, final ElliottPhase phase) {
         if (swings == null || swings.size() < 3) {
-            return numFactory.numOf(0.5); // Neutral score for insufficient data
+            return neutral; // Neutral score for insufficient data
         }
 
         // Current time proportion rules are specific to impulse waves
         if (phase != null && !phase.isImpulse()) {
-            return numFactory.numOf(0.5); // Neutral for non-impulse patterns
+            return neutral; // Neutral for non-impulse patterns
         }
 
         double score = 0.5; // Start at neutral
@@ -335,7 +372,7 @@ public final class ElliottConfidenceScorer {
      */
     public Num scoreChannel(final List<ElliottSwing> swings, final ElliottChannel channel) {
         if (swings == null || swings.isEmpty() || channel == null || !channel.isValid()) {
-            return numFactory.numOf(0.5); // Neutral for no channel
+            return neutral; // Neutral for no channel
         }
 
         int withinChannel = 0;
@@ -355,7 +392,7 @@ public final class ElliottConfidenceScorer {
         }
 
         return totalPoints > 0 ? numFactory.numOf(withinChannel).dividedBy(numFactory.numOf(totalPoints))
-                : numFactory.numOf(0.5);
+                : neutral;
     }
 
     /**
@@ -387,7 +424,7 @@ public final class ElliottConfidenceScorer {
 
         // Bonus for completed structures
         if (phase.completesStructure()) {
-            return completeness.plus(numFactory.numOf(0.1)).min(numFactory.one());
+            return completeness.plus(completionBonus).min(numFactory.one());
         }
 
         return completeness;
@@ -406,8 +443,8 @@ public final class ElliottConfidenceScorer {
         if (Num.isNaNOrNull(ratio)) {
             return numFactory.zero();
         }
-        final Num lowerBound = min.multipliedBy(numFactory.numOf(0.8));
-        final Num upperBound = max.multipliedBy(numFactory.numOf(1.2));
+        final Num lowerBound = min.multipliedBy(lowerToleranceFactor);
+        final Num upperBound = max.multipliedBy(upperToleranceFactor);
         if (ratio.isLessThan(lowerBound) || ratio.isGreaterThan(upperBound)) {
             return numFactory.zero(); // Well outside range
         }
@@ -427,8 +464,8 @@ public final class ElliottConfidenceScorer {
         if (Num.isNaNOrNull(ratio)) {
             return numFactory.zero();
         }
-        final Num lowerBound = min.multipliedBy(numFactory.numOf(0.8));
-        final Num upperBound = max.multipliedBy(numFactory.numOf(1.2));
+        final Num lowerBound = min.multipliedBy(lowerToleranceFactor);
+        final Num upperBound = max.multipliedBy(upperToleranceFactor);
         if (ratio.isLessThan(lowerBound) || ratio.isGreaterThan(upperBound)) {
             return numFactory.zero();
         }
@@ -438,18 +475,18 @@ public final class ElliottConfidenceScorer {
         if (ratio.isLessThan(min)) {
             final Num minBound = lowerBound;
             final Num fraction = ratio.minus(minBound).dividedBy(min.minus(minBound)).max(numFactory.zero());
-            score = numFactory.numOf(0.7).multipliedBy(fraction);
+            score = rangeScore.multipliedBy(fraction);
         } else if (ratio.isGreaterThan(max)) {
             final Num maxBound = upperBound;
             final Num fraction = maxBound.minus(ratio).dividedBy(maxBound.minus(max)).max(numFactory.zero());
-            score = numFactory.numOf(0.7).multipliedBy(fraction);
+            score = rangeScore.multipliedBy(fraction);
         } else {
-            score = numFactory.numOf(0.7);
+            score = rangeScore;
         }
 
         // Bonus for being close to ideal
         final Num distanceFromIdeal = ratio.minus(ideal).abs();
-        final Num bonus = numFactory.numOf(0.3)
+        final Num bonus = idealBonus
                 .multipliedBy(numFactory.one().minus(distanceFromIdeal.dividedBy(ideal)).max(numFactory.zero()));
         score = score.plus(bonus);
 
@@ -460,11 +497,11 @@ public final class ElliottConfidenceScorer {
             final Num chanScore, final Num compScore) {
 
         // Find the highest weighted contributor
-        final Num fibContrib = fibScore.multipliedBy(numFactory.numOf(fibonacciWeight));
-        final Num timeContrib = timeScore.multipliedBy(numFactory.numOf(timeWeight));
-        final Num altContrib = altScore.multipliedBy(numFactory.numOf(alternationWeight));
-        final Num chanContrib = chanScore.multipliedBy(numFactory.numOf(channelWeight));
-        final Num compContrib = compScore.multipliedBy(numFactory.numOf(completenessWeight));
+        final Num fibContrib = fibScore.multipliedBy(fibonacciWeightNum);
+        final Num timeContrib = timeScore.multipliedBy(timeWeightNum);
+        final Num altContrib = altScore.multipliedBy(alternationWeightNum);
+        final Num chanContrib = chanScore.multipliedBy(channelWeightNum);
+        final Num compContrib = compScore.multipliedBy(completenessWeightNum);
 
         Num maxContrib = fibContrib;
         String reason = "Strong Fibonacci conformance";
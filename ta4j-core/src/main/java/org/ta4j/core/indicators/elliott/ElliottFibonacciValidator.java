@@ -38,6 +38,15 @@ public class ElliottFibonacciValidator {
     private final Num waveBFlatMinRetracement;
     private final Num waveCMinExtension;
     private final Num waveCMaxExtension;
+    private final NumFactory boundFactory;
+    private final Num waveTwoIdealRetracement;
+    private final Num waveThreeIdealExtension;
+    private final Num waveFourIdealRetracement;
+    private final Num waveFiveIdealProjection;
+    private final Num waveBIdealRetracement;
+    private final Num waveCIdealExtension;
+    private final Num two;
+    private final Num half;
 
     /**
      * Builds a validator with the default {@code 0.05} tolerance.
@@ -72,6 +81,16 @@ public class ElliottFibonacciValidator {
         this.waveBFlatMinRetracement = numFactory.numOf(0.786);
         this.waveCMinExtension = numFactory.numOf(1.0);
         this.waveCMaxExtension = numFactory.numOf(1.618);
+        // Proximity scoring works in the bounds' own factory; precompute its constants
+        this.boundFactory = waveTwoMinRetracement.getNumFactory();
+        this.waveTwoIdealRetracement = boundFactory.numOf(0.618);
+        this.waveThreeIdealExtension = boundFactory.numOf(1.618);
+        this.waveFourIdealRetracement = boundFactory.numOf(0.382);
+        this.waveFiveIdealProjection = boundFactory.numOf(1.0);
+        this.waveBIdealRetracement = boundFactory.numOf(0.618);
+        this.waveCIdealExtension = boundFactory.numOf(1.0);
+        this.two = boundFactory.numOf(2);
+        this.half = boundFactory.numOf(0.5);
     }
 
     /**
@@ -176,8 +195,8 @@ public class ElliottFibonacciValidator {
      * @since 0.22.0
      */
     public Num waveTwoProximityScore(final ElliottSwing wave1, final ElliottSwing wave2) {
-        return ratioProximityScore(wave2.amplitude(), wave1.amplitude(), waveTwoMinRetracement, waveTwoMaxRetracement,
-                waveTwoMinRetracement.getNumFactory().numOf(0.618));
+        return boundProximityScore(wave2.amplitude(), wave1.amplitude(), waveTwoMinRetracement, waveTwoMaxRetracement,
+                waveTwoIdealRetracement);
     }
 
     /**
@@ -189,8 +208,8 @@ public class ElliottFibonacciValidator {
      * @since 0.22.0
      */
     public Num waveThreeProximityScore(final ElliottSwing wave1, final ElliottSwing wave3) {
-        return ratioProximityScore(wave3.amplitude(), wave1.amplitude(), waveThreeMinExtension, waveThreeMaxExtension,
-                waveThreeMinExtension.getNumFactory().numOf(1.618));
+        return boundProximityScore(wave3.amplitude(), wave1.amplitude(), waveThreeMinExtension, waveThreeMaxExtension,
+                waveThreeIdealExtension);
     }
 
     /**
@@ -203,8 +222,8 @@ public class ElliottFibonacciValidator {
      * @since 0.22.0
      */
     public Num waveFourProximityScore(final ElliottSwing wave3, final ElliottSwing wave4) {
-        return ratioProximityScore(wave4.amplitude(), wave3.amplitude(), waveFourMinRetracement, waveFourMaxRetracement,
-                waveFourMinRetracement.getNumFactory().numOf(0.382));
+        return boundProximityScore(wave4.amplitude(), wave3.amplitude(), waveFourMinRetracement,
+                waveFourMaxRetracement, waveFourIdealRetracement);
     }
 
     /**
@@ -216,8 +235,8 @@ public class ElliottFibonacciValidator {
      * @since 0.22.0
      */
     public Num waveFiveProximityScore(final ElliottSwing wave1, final ElliottSwing wave5) {
-        return ratioProximityScore(wave5.amplitude(), wave1.amplitude(), waveFiveMinProjection, waveFiveMaxProjection,
-                waveFiveMinProjection.getNumFactory().numOf(1.0));
+        return boundProximityScore(wave5.amplitude(), wave1.amplitude(), waveFiveMinProjection, waveFiveMaxProjection,
+                waveFiveIdealProjection);
     }
 
     /**
@@ -229,8 +248,8 @@ public class ElliottFibonacciValidator {
      * @since 0.22.0
      */
     public Num waveBProximityScore(final ElliottSwing waveA, final ElliottSwing waveB) {
-        return ratioProximityScore(waveB.amplitude(), waveA.amplitude(), waveBMinRetracement, waveBMaxRetracement,
-                waveBMinRetracement.getNumFactory().numOf(0.618));
+        return boundProximityScore(waveB.amplitude(), waveA.amplitude(), waveBMinRetracement, waveBMaxRetracement,
+                waveBIdealRetracement);
     }
 
     /**
@@ -242,8 +261,8 @@ public class ElliottFibonacciValidator {
      * @since 0.22.0
      */
     public Num waveCProximityScore(final ElliottSwing waveA, final ElliottSwing waveC) {
-        return ratioProximityScore(waveC.amplitude(), waveA.amplitude(), waveCMinExtension, waveCMaxExtension,
-                waveCMinExtension.getNumFactory().numOf(1.0));
+        return boundProximityScore(waveC.amplitude(), waveA.amplitude(), waveCMinExtension, waveCMaxExtension,
+                waveCIdealExtension);
     }
 
     /**
@@ -264,7 +283,17 @@ public class ElliottFibonacciValidator {
     public Num ratioProximityScore(final Num numerator, final Num denominator, final Num lower, final Num upper,
             final Num ideal) {
         final NumFactory factory = lower.getNumFactory();
+        return proximityScore(numerator, denominator, lower, upper, ideal, factory, factory.numOf(2),
+                factory.numOf(0.5));
+    }
+
+    private Num boundProximityScore(final Num numerator, final Num denominator, final Num lower, final Num upper,
+            final Num ideal) {
+        return proximityScore(numerator, denominator, lower, upper, ideal, boundFactory, two, half);
+    }
 
+    private Num proximityScore(final Num numerator, final Num denominator, final Num lower, final Num upper,
+            final Num ideal, final NumFactory factory, final Num two, final Num half) {
         if (!Num.isValid(numerator) || !Num.isValid(denominator)) {
             return factory.zero();
         }
@@ -283,7 +312,7 @@ public class ElliottFibonacciValidator {
 
         // Within range: score based on distance from ideal
         final Num distanceFromIdeal = ratio.minus(ideal).abs();
-        final Num rangeHalf = upper.minus(lower).dividedBy(factory.numOf(2));
+        final Num rangeHalf = upper.minus(lower).dividedBy(two);
 
         if (rangeHalf.isZero()) {
             return factory.one();
@@ -291,7 +320,7 @@ public class ElliottFibonacciValidator {
 
         // Score = 1.0 - (distance from ideal / range half) * 0.5, clamped to [0.0, 1.0]
         final Num normalizedDistance = distanceFromIdeal.dividedBy(rangeHalf);
-        final Num baseScore = factory.one().minus(normalizedDistance.multipliedBy(factory.numOf(0.5)));
+        final Num baseScore = factory.one().minus(normalizedDistance.multipliedBy(half));
         // Clamp to [0.0, 1.0]
         if (baseScore.isLessThan(factory.zero())) {
             return factory.zero();
@@ -54,6 +54,7 @@ public final class ElliottScenarioGenerator {
     private final double minConfidence;
     private final Num minConfidenceNum;
     private final int maxScenarios;
+    private final ElliottScenarioMemo memo;
     private final AtomicInteger scenarioCounter = new AtomicInteger(0);
     private volatile ElliottAnalysisResult.AnalysisDiagnostics lastDiagnostics = ElliottAnalysisResult.AnalysisDiagnostics
             .empty();
@@ -126,6 +127,32 @@ public final class ElliottScenarioGenerator {
     private ElliottScenarioGenerator(final NumFactory numFactory, final double minConfidence, final int maxScenarios,
             final ConfidenceModel confidenceModel, final PatternSet patternSet,
             final ElliottFibonacciValidator fibValidator) {
+        this(numFactory, minConfidence, maxScenarios, confidenceModel, patternSet, fibValidator, null);
+    }
+
+    /**
+     * Creates a generator that reuses per-start candidates through a shared memo.
+     *
+     * @param numFactory      factory for creating numeric values
+     * @param minConfidence   minimum confidence to retain a scenario (0.0 - 1.0)
+     * @param maxScenarios    maximum number of scenarios to return
+     * @param confidenceModel deterministic confidence model used to score
+     *                        scenarios
+     * @param patternSet      enabled pattern set
+     * @param memo            memo shared only by generators with the same
+     *                        factory, model, pattern set, and threshold
+     * @since 0.23.1
+     */
+    ElliottScenarioGenerator(final NumFactory numFactory, final double minConfidence, final int maxScenarios,
+            final ConfidenceModel confidenceModel, final PatternSet patternSet, final ElliottScenarioMemo memo) {
+        this(numFactory, minConfidence, maxScenarios, confidenceModel, patternSet,
+                new ElliottFibonacciValidator(numFactory), Objects.requireNonNull(memo, "memo"));
+    }
+
+    private ElliottScenarioGenerator(final NumFactory numFactory, final double minConfidence, final int maxScenarios,
+            final ConfidenceModel confidenceModel, final PatternSet patternSet,
+            final ElliottFibonacciValidator fibValidator, final ElliottScenarioMemo memo) {
+        this.memo = memo;
         this.numFactory = Objects.requireNonNull(numFactory, "numFactory");
         this.fibValidator = Objects.requireNonNull(fibValidator, "fibValidator");
         this.confidenceModel = Objects.requireNonNull(confidenceModel, "confidenceModel");
@@ -189,29 +216,33 @@ public final class ElliottScenarioGenerator {
 
         // Explore every feasible starting point so long multi-swing histories can
         // still surface a valid structure that begins after early noise.
+        final List<ElliottScenarioMemo.StartKey> memoKeys = memo == null ? null
+                : ElliottScenarioMemo.keys(numFactory, swings, degree, channel);
         for (int startIndex = 0; startIndex < swings.size(); startIndex++) {
             final List<ElliottSwing> segment = swings.subList(startIndex, swings.size());
             if (segment.isEmpty()) {
                 continue;
             }
 
-            // Try impulse interpretation
-            if (patternSet.allows(ScenarioType.IMPULSE)) {
-                final GenerationBranchCounts counts = generateImpulseScenarios(segment, degree, channel, startIndex,
-                        candidates, seenSignatures);
-                impulseBranchCount += counts.branchCount();
-                impulsePrunedBranchCount += counts.prunedBranchCount();
-            }
-
-            // Try corrective interpretation
-            if (patternSet.allows(ScenarioType.CORRECTIVE_ZIGZAG) || patternSet.allows(ScenarioType.CORRECTIVE_FLAT)
-                    || patternSet.allows(ScenarioType.CORRECTIVE_TRIANGLE)
-                    || patternSet.allows(ScenarioType.CORRECTIVE_COMPLEX)) {
-                final GenerationBranchCounts counts = generateCorrectiveScenarios(segment, degree, channel, startIndex,
-                        candidates, seenSignatures);
-                correctiveBranchCount += counts.branchCount();
-                correctivePrunedBranchCount += counts.prunedBranchCount();
+            // Signatures embed the start, so candidates of one start never collide
+            // with another and each start can be generated or reused on its own.
+            ElliottScenarioMemo.StartResult result = memoKeys == null ? null : memo.get(memoKeys.get(startIndex));
+            if (result != null) {
+                for (final ElliottScenario scenario : result.scenarios()) {
+                    candidates.add(restamp(scenario));
+                }
+            } else {
+                final List<ElliottScenario> startCandidates = new ArrayList<>();
+                result = generateFromStart(segment, degree, channel, startIndex, startCandidates, seenSignatures);
+                candidates.addAll(startCandidates);
+                if (memoKeys != null) {
+                    memo.put(memoKeys.get(startIndex), result);
+                }
             }
+            impulseBranchCount += result.impulseBranchCount();
+            impulsePrunedBranchCount += result.impulsePrunedBranchCount();
+            correctiveBranchCount += result.correctiveBranchCount();
+            correctivePrunedBranchCount += result.correctivePrunedBranchCount();
         }
 
         // Prune and rank scenarios
@@ -232,9 +263,40 @@ public final class ElliottScenarioGenerator {
         return lastDiagnostics;
     }
 
+    private ElliottScenarioMemo.StartResult generateFromStart(final List<ElliottSwing> segment,
+            final ElliottDegree degree, final ElliottChannel channel, final int startIndex,
+            final List<ElliottScenario> candidates, final Set<String> seenSignatures) {
+        GenerationBranchCounts impulseCounts = GenerationBranchCounts.empty();
+        GenerationBranchCounts correctiveCounts = GenerationBranchCounts.empty();
+
+        // Try impulse interpretation
+        if (patternSet.allows(ScenarioType.IMPULSE)) {
+            impulseCounts = generateImpulseScenarios(segment, degree, channel, startIndex, candidates, seenSignatures);
+        }
+
+        // Try corrective interpretation
+        if (patternSet.allows(ScenarioType.CORRECTIVE_ZIGZAG) || patternSet.allows(ScenarioType.CORRECTIVE_FLAT)
+                || patternSet.allows(ScenarioType.CORRECTIVE_TRIANGLE)
+                || patternSet.allows(ScenarioType.CORRECTIVE_COMPLEX)) {
+            correctiveCounts = generateCorrectiveScenarios(segment, degree, channel, startIndex, candidates,
+                    seenSignatures);
+        }
+        return new ElliottScenarioMemo.StartResult(candidates, impulseCounts.branchCount(),
+                impulseCounts.prunedBranchCount(), correctiveCounts.branchCount(),
+                correctiveCounts.prunedBranchCount());
+    }
+
+    private ElliottScenario restamp(final ElliottScenario scenario) {
+        final String id = scenario.id();
+        return new ElliottScenario(generateId(id.substring(0, id.lastIndexOf('-'))), scenario.currentPhase(),
+                scenario.swings(), scenario.confidence(), scenario.degree(), scenario.invalidationPrice(),
+                scenario.primaryTarget(), scenario.fibonacciTargets(), scenario.type(), scenario.startIndex(),
+                scenario.bullishDirection());
+    }
+
     ElliottScenarioGenerator copy() {
         return new ElliottScenarioGenerator(numFactory, minConfidence, maxScenarios, confidenceModel, patternSet,
-                fibValidator);
+                fibValidator, memo);
     }
 
     private GenerationBranchCounts generateImpulseScenarios(final List<ElliottSwing> swings, final ElliottDegree degree,
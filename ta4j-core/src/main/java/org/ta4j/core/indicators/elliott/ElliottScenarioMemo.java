@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators.elliott;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Bounded, thread-safe memo of the scenarios {@link ElliottScenarioGenerator}
+ * builds from one start swing.
+ *
+ * <p>
+ * The candidates of a start depend only on the swings from that start to the
+ * end of the sequence, the degree, and the scoring channel. Entries are keyed
+ * by those inputs compared exactly (swing indices and the raw value of every
+ * price), so a generator sharing the memo re-scores nothing it has already
+ * seen: repeated analyses of the same history and re-analyses whose swings and
+ * channel did not move reuse their candidates. Stored scenario ids are
+ * re-stamped by the generator in emission order, so output is identical to a
+ * fresh run.
+ *
+ * <p>
+ * Only generators with the same numeric factory, confidence model, pattern
+ * set, and confidence threshold may share a memo. When the memo reaches its
+ * capacity it is cleared instead of evicting entries one by one.
+ *
+ * @since 0.23.1
+ */
+final class ElliottScenarioMemo {
+
+    static final int DEFAULT_CAPACITY = 2_048;
+
+    private final int capacity;
+    private final ConcurrentHashMap<StartKey, StartResult> results = new ConcurrentHashMap<>();
+
+    ElliottScenarioMemo() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    ElliottScenarioMemo(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Builds the keys of every start of a swing sequence. All keys share one
+     * flattened view of the sequence.
+     *
+     * @param numFactory numeric factory of the generator
+     * @param swings     swing sequence
+     * @param degree     scenario degree
+     * @param channel    scoring channel (may be null)
+     * @return one key per start, in start order
+     */
+    static List<StartKey> keys(final NumFactory numFactory, final List<ElliottSwing> swings,
+            final ElliottDegree degree, final ElliottChannel channel) {
+        final List<Object> flattened = new ArrayList<>(swings.size() * 5);
+        for (final ElliottSwing swing : swings) {
+            flattened.add(swing.fromIndex());
+            flattened.add(swing.toIndex());
+            flattened.add(rawValue(swing.fromPrice()));
+            flattened.add(rawValue(swing.toPrice()));
+            flattened.add(swing.degree());
+        }
+        final List<Object> channelValues = channel == null ? null
+                : Arrays.asList(rawValue(channel.upper()), rawValue(channel.lower()), rawValue(channel.median()));
+        final List<StartKey> keys = new ArrayList<>(swings.size());
+        for (int start = 0; start < swings.size(); start++) {
+            keys.add(new StartKey(numFactory, degree, channelValues, flattened.subList(start * 5, flattened.size())));
+        }
+        return keys;
+    }
+
+    StartResult get(final StartKey key) {
+        return results.get(key);
+    }
+
+    void put(final StartKey key, final StartResult result) {
+        if (results.size() >= capacity) {
+            results.clear();
+        }
+        results.put(key, result);
+    }
+
+    int size() {
+        return results.size();
+    }
+
+    private static Object rawValue(final Num value) {
+        return value == null ? null : value.getDelegate();
+    }
+
+    /**
+     * Exact generation inputs of one start.
+     *
+     * @param numFactory numeric factory of the generator
+     * @param degree     scenario degree
+     * @param channel    raw channel values, or {@code null} without a channel
+     * @param swings     flattened swings from the start to the end
+     */
+    record StartKey(NumFactory numFactory, ElliottDegree degree, List<Object> channel, List<Object> swings) {
+
+        StartKey {
+            Objects.requireNonNull(numFactory, "numFactory");
+            Objects.requireNonNull(swings, "swings");
+        }
+    }
+
+    /**
+     * Candidates and branch counts generated from one start.
+     *
+     * @param scenarios                   candidates in emission order
+     * @param impulseBranchCount          impulse decomposition branches
+     * @param impulsePrunedBranchCount    pruned impulse decomposition branches
+     * @param correctiveBranchCount       corrective decomposition branches
+     * @param correctivePrunedBranchCount pruned corrective decomposition branches
+     */
+    record StartResult(List<ElliottScenario> scenarios, int impulseBranchCount, int impulsePrunedBranchCount,
+            int correctiveBranchCount, int correctivePrunedBranchCount) {
+
+        StartResult {
+            scenarios = List.copyOf(scenarios);
+        }
+    }
+}
@@ -17,11 +17,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.analysis.AnalysisRunner;
+import org.ta4j.core.analysis.AnalysisWindow;
 import org.ta4j.core.analysis.SeriesSelector;
 import org.ta4j.core.indicators.elliott.confidence.ConfidenceModel;
 import org.ta4j.core.indicators.elliott.confidence.ConfidenceProfiles;
@@ -132,6 +135,10 @@ public final class ElliottWaveAnalysisRunner {
     private static final double DIRECTION_COMPATIBILITY_WEIGHT = 0.55;
     private static final double STRUCTURE_COMPATIBILITY_WEIGHT = 0.30;
     private static final double INVALIDATION_COMPATIBILITY_WEIGHT = 0.15;
+    private static final int FAMILY_UNKNOWN = 0;
+    private static final int FAMILY_IMPULSE = 1;
+    private static final int FAMILY_CORRECTIVE = 2;
+    private static final int FAMILY_OTHER = 3;
 
     private final ElliottDegree baseDegree;
     private final int higherDegrees;
@@ -153,8 +160,16 @@ public final class ElliottWaveAnalysisRunner {
     private final int maxScenarios;
     private final int scenarioSwingWindow;
     private final boolean includeProvisionalTerminalSwing;
+    private final boolean parallelDegrees;
+    private final boolean parallelWindows;
+    private final ElliottScenarioMemo scenarioMemo;
 
     private ElliottWaveAnalysisRunner(final Builder builder) {
+        this(builder, new ElliottScenarioMemo());
+    }
+
+    private ElliottWaveAnalysisRunner(final Builder builder, final ElliottScenarioMemo scenarioMemo) {
+        this.scenarioMemo = scenarioMemo;
         this.baseDegree = Objects.requireNonNull(builder.baseDegree, "baseDegree");
         this.logicProfile = builder.logicProfile;
         this.higherDegrees = builder.higherDegreesExplicit ? builder.higherDegrees
@@ -178,6 +193,8 @@ public final class ElliottWaveAnalysisRunner {
                 : builder.patternSet;
         this.minConfidence = builder.minConfidence;
         this.includeProvisionalTerminalSwing = builder.includeProvisionalTerminalSwing;
+        this.parallelDegrees = builder.parallelDegrees;
+        this.parallelWindows = builder.parallelWindows;
 
         int supportingDegrees = Math.max(0, higherDegrees) + Math.max(0, lowerDegrees);
         this.baseConfidenceWeight = supportingDegrees == 0 ? 1.0
@@ -213,6 +230,10 @@ public final class ElliottWaveAnalysisRunner {
      * @since 0.22.9
      */
     public ElliottWaveAnalysisRunner copy() {
+        return new ElliottWaveAnalysisRunner(copyBuilder());
+    }
+
+    private Builder copyBuilder() {
         final Builder builder = new Builder();
         builder.baseDegree = baseDegree;
         builder.higherDegrees = higherDegrees;
@@ -234,7 +255,24 @@ public final class ElliottWaveAnalysisRunner {
         builder.patternSet = patternSet;
         builder.minConfidence = minConfidence;
         builder.includeProvisionalTerminalSwing = includeProvisionalTerminalSwing;
-        return new ElliottWaveAnalysisRunner(builder);
+        builder.parallelDegrees = parallelDegrees;
+        builder.parallelWindows = parallelWindows;
+        return builder;
+    }
+
+    /**
+     * Returns the runner that analyzes one window of
+     * {@link #analyzeWindows(BarSeries, List)}. With the built-in swing detector
+     * every window gets its own detector, so windows neither wait on each other's
+     * detection nor evict the incremental pipeline this runner keeps for its live
+     * series; the scenario memo stays shared. Custom detectors and analysis
+     * runners cannot be copied and are used as configured.
+     */
+    private ElliottWaveAnalysisRunner windowRunner() {
+        if (!usesDefaultAnalysisRunner || !usesDefaultSwingDetector) {
+            return this;
+        }
+        return new ElliottWaveAnalysisRunner(copyBuilder(), scenarioMemo);
     }
 
     /**
@@ -244,7 +282,10 @@ public final class ElliottWaveAnalysisRunner {
      * The result always contains the base-degree analysis and scenario ranking. If
      * {@link Builder#higherDegrees(int)} or {@link Builder#lowerDegrees(int)} are
      * configured to positive values, supporting degree analyses are included and
-     * used to re-rank base-degree scenarios.
+     * used to re-rank base-degree scenarios. With
+     * {@link Builder#parallelDegrees(boolean)} the degrees are analyzed
+     * concurrently and merged in degree order, so the result does not depend on
+     * scheduling.
      *
      * @param series root series
      * @return analysis result
@@ -259,33 +300,22 @@ public final class ElliottWaveAnalysisRunner {
         final List<String> notes = new ArrayList<>();
         final List<ElliottDegree> degrees = degreesToAnalyze(baseDegree, higherDegrees, lowerDegrees);
         final List<ElliottWaveAnalysisResult.DegreeAnalysis> degreeAnalyses = new ArrayList<>(degrees.size());
+        final List<DegreeRun> runs = parallelDegrees && degrees.size() > 1
+                ? degrees.parallelStream().map(degree -> analyzeDegree(series, degree)).toList()
+                : degrees.stream().map(degree -> analyzeDegree(series, degree)).toList();
 
         ElliottAnalysisResult baseResult = null;
         int baseAnalysisIndex = -1;
 
-        for (final ElliottDegree degree : degrees) {
-            BarSeries selected = seriesSelector.select(series, degree);
-            if (selected == null || selected.isEmpty()) {
-                notes.add("Skipped " + degree + " analysis: selected series was empty");
-                continue;
-            }
-
-            Duration barDuration = selected.getFirstBar().getTimePeriod();
-            int barCount = selected.getBarCount();
-            double historyFitScore = safeHistoryFitScore(degree, barDuration, barCount, notes);
-
-            ElliottAnalysisResult result = analysisRunner.analyze(selected, degree);
-            if (result == null) {
-                notes.add("Skipped " + degree + " analysis: runner returned null result");
+        for (final DegreeRun run : runs) {
+            notes.addAll(run.notes());
+            if (run.snapshot() == null) {
                 continue;
             }
+            degreeAnalyses.add(run.snapshot());
 
-            ElliottWaveAnalysisResult.DegreeAnalysis snapshot = new ElliottWaveAnalysisResult.DegreeAnalysis(degree,
-                    result.index(), barCount, barDuration, historyFitScore, result);
-            degreeAnalyses.add(snapshot);
-
-            if (degree == baseDegree) {
-                baseResult = result;
+            if (run.snapshot().degree() == baseDegree) {
+                baseResult = run.snapshot().analysis();
                 baseAnalysisIndex = degreeAnalyses.size() - 1;
             }
         }
@@ -310,6 +340,28 @@ public final class ElliottWaveAnalysisRunner {
         return new ElliottWaveAnalysisResult(baseDegree, degreeAnalyses, ranked, notes);
     }
 
+    private DegreeRun analyzeDegree(final BarSeries series, final ElliottDegree degree) {
+        final List<String> notes = new ArrayList<>();
+        BarSeries selected = seriesSelector.select(series, degree);
+        if (selected == null || selected.isEmpty()) {
+            notes.add("Skipped " + degree + " analysis: selected series was empty");
+            return new DegreeRun(null, notes);
+        }
+
+        Duration barDuration = selected.getFirstBar().getTimePeriod();
+        int barCount = selected.getBarCount();
+        double historyFitScore = safeHistoryFitScore(degree, barDuration, barCount, notes);
+
+        ElliottAnalysisResult result = analysisRunner.analyze(selected, degree);
+        if (result == null) {
+            notes.add("Skipped " + degree + " analysis: runner returned null result");
+            return new DegreeRun(null, notes);
+        }
+
+        return new DegreeRun(new ElliottWaveAnalysisResult.DegreeAnalysis(degree, result.index(), barCount,
+                barDuration, historyFitScore, result), notes);
+    }
+
     /**
      * Runs analysis on an anchor-bounded window and rebases the result back to the
      * original series indices.
@@ -356,6 +408,56 @@ public final class ElliottWaveAnalysisRunner {
         return anchorWindowResult(series, rebaseAnalysisResult(windowed, startIndex), startIndex, endIndex);
     }
 
+    /**
+     * Runs {@link #analyzeWindow(BarSeries, int, int)} for a batch of anchored
+     * windows, such as the overlapping spans of a walk-forward study.
+     *
+     * <p>
+     * Every window is validated before any analysis starts. Duplicate windows are
+     * analyzed once, and windows whose trailing swings and scoring inputs repeat
+     * reuse the scenario candidates already generated for another window. With the
+     * built-in swing detector each window is detected by its own detector
+     * instance, so the incremental pipeline kept for {@link #analyze(BarSeries)}
+     * on a live series is left untouched. With
+     * {@link Builder#parallelWindows(boolean)} distinct windows are analyzed
+     * concurrently. Each returned result equals the single-window call for the
+     * same span.
+     *
+     * @param series  root series
+     * @param windows inclusive bar-index windows in the root series
+     * @return one result per requested window, in request order
+     * @since 0.23.1
+     */
+    public List<ElliottWaveAnalysisResult> analyzeWindows(final BarSeries series,
+            final List<AnalysisWindow.BarRange> windows) {
+        Objects.requireNonNull(series, "series");
+        Objects.requireNonNull(windows, "windows");
+        if (series.isEmpty()) {
+            throw new IllegalArgumentException("series cannot be empty");
+        }
+        for (final AnalysisWindow.BarRange window : windows) {
+            Objects.requireNonNull(window, "window");
+            if (window.startIndexInclusive() < series.getBeginIndex()) {
+                throw new IllegalArgumentException("startIndex must be >= series begin index");
+            }
+            if (window.endIndexInclusive() > series.getEndIndex()) {
+                throw new IllegalArgumentException("endIndex must be <= series end index");
+            }
+        }
+
+        final List<AnalysisWindow.BarRange> distinct = windows.stream().distinct().toList();
+        final Function<AnalysisWindow.BarRange, ElliottWaveAnalysisResult> analyzer = window -> windowRunner()
+                .analyzeWindow(series, window.startIndexInclusive(), window.endIndexInclusive());
+        final List<ElliottWaveAnalysisResult> distinctResults = parallelWindows && distinct.size() > 1
+                ? distinct.parallelStream().map(analyzer).toList()
+                : distinct.stream().map(analyzer).toList();
+        final Map<AnalysisWindow.BarRange, ElliottWaveAnalysisResult> resultsByWindow = new HashMap<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            resultsByWindow.put(distinct.get(i), distinctResults.get(i));
+        }
+        return windows.stream().map(resultsByWindow::get).toList();
+    }
+
     /**
      * Selects the preferred anchored-window scenario for a target template and also
      * reports whether that selection satisfied the configured acceptance gate.
@@ -1467,17 +1569,19 @@ public final class ElliottWaveAnalysisRunner {
     static SwingDetector defaultHierarchicalSwingDetector(final ElliottDegree baseDegree, final int baseFractalWindow) {
         Objects.requireNonNull(baseDegree, "baseDegree");
         final int clampedBaseWindow = Math.max(2, baseFractalWindow);
-        return (series, index, degree) -> {
-            int fastWindow = scaleWindow(baseDegree, degree, clampedBaseWindow, 2, 21);
+        // One composite per degree keeps the detectors' incremental pipelines alive
+        // across repeated analyses of a live series.
+        final Map<ElliottDegree, SwingDetector> detectorsByDegree = new ConcurrentHashMap<>();
+        return (series, index, degree) -> detectorsByDegree.computeIfAbsent(degree, requested -> {
+            int fastWindow = scaleWindow(baseDegree, requested, clampedBaseWindow, 2, 21);
             int slowBaseWindow = Math.max(fastWindow + 1, (clampedBaseWindow * 2) + 1);
-            int slowWindow = scaleWindow(baseDegree, degree, slowBaseWindow, fastWindow + 1, 55);
+            int slowWindow = scaleWindow(baseDegree, requested, slowBaseWindow, fastWindow + 1, 55);
             AdaptiveZigZagConfig zigZagConfig = new AdaptiveZigZagConfig(Math.max(8, fastWindow * 4),
                     1.0 + (clampedBaseWindow * 0.08), 0.0, 0.0, Math.max(2, clampedBaseWindow));
-            return SwingDetectors
-                    .composite(CompositeSwingDetector.Policy.OR, SwingDetectors.adaptiveZigZag(zigZagConfig),
-                            SwingDetectors.fractal(fastWindow), SwingDetectors.fractal(slowWindow))
-                    .detect(series, index, degree);
-        };
+            return SwingDetectors.composite(CompositeSwingDetector.Policy.OR,
+                    SwingDetectors.adaptiveZigZag(zigZagConfig), SwingDetectors.fractal(fastWindow),
+                    SwingDetectors.fractal(slowWindow));
+        }).detect(series, index, degree);
     }
 
     private static Function<NumFactory, ConfidenceModel> defaultConfidenceModelFactory(
@@ -1532,7 +1636,7 @@ public final class ElliottWaveAnalysisRunner {
         ConfidenceModel confidenceModel = Objects.requireNonNull(confidenceModelFactory.apply(series.numFactory()),
                 "confidenceModelFactory");
         ElliottScenarioGenerator generator = new ElliottScenarioGenerator(series.numFactory(), minConfidence,
-                scenarioBudget, confidenceModel, patternSet);
+                scenarioBudget, confidenceModel, patternSet, scenarioMemo);
         ElliottScenarioSet scenarios = generator.generate(scenarioSwings, degree, channel, endIndex);
         ElliottTrendBias trendBias = scenarios.trendBias();
 
@@ -2369,6 +2473,7 @@ public final class ElliottWaveAnalysisRunner {
 
         final List<ElliottWaveAnalysisResult.BaseScenarioAssessment> assessments = new ArrayList<>(
                 baseScenarios.size());
+        final List<SupportingColumns> supportingColumns = supportingColumns(analyses);
 
         for (final ElliottScenario baseScenario : baseScenarios) {
             if (baseScenario == null) {
@@ -2377,7 +2482,7 @@ public final class ElliottWaveAnalysisRunner {
             double confidence = safeScore(baseScenario.confidenceScore());
             double rankedConfidence = rankedConfidenceScore(baseScenario, baseResult.processedSwings(), confidence);
             List<ElliottWaveAnalysisResult.SupportingScenarioMatch> matches = new ArrayList<>();
-            double crossDegreeScore = crossDegreeScore(baseScenario, analyses, matches);
+            double crossDegreeScore = crossDegreeScore(baseScenario, supportingColumns, matches);
             double composite = (baseConfidenceWeight * rankedConfidence)
                     + ((1.0 - baseConfidenceWeight) * crossDegreeScore);
 
@@ -2522,25 +2627,16 @@ public final class ElliottWaveAnalysisRunner {
     }
 
     /**
-     * Aggregates compatibility against supporting-degree best matches. Each
-     * supporting degree contributes proportionally to its history fit score.
+     * Extracts the compatibility inputs of every supporting-degree scenario into
+     * {@link SupportingColumns}, skipping the base degree and empty analyses.
      *
-     * @param baseScenario base-degree scenario to score
-     * @param analyses     per-degree analyses
-     * @param matchesOut   collector for best supporting matches
-     * @return normalized cross-degree score in {@code [0.0, 1.0]}
+     * @param analyses per-degree analyses
+     * @return supporting columns in analysis order
      */
-    private double crossDegreeScore(final ElliottScenario baseScenario,
-            final List<ElliottWaveAnalysisResult.DegreeAnalysis> analyses,
-            final List<ElliottWaveAnalysisResult.SupportingScenarioMatch> matchesOut) {
-        double totalWeightedScore = 0.0;
-        double totalWeight = 0.0;
-
+    private List<SupportingColumns> supportingColumns(final List<ElliottWaveAnalysisResult.DegreeAnalysis> analyses) {
+        final List<SupportingColumns> columns = new ArrayList<>();
         for (final ElliottWaveAnalysisResult.DegreeAnalysis analysis : analyses) {
-            if (analysis == null) {
-                continue;
-            }
-            if (analysis.degree() == baseDegree) {
+            if (analysis == null || analysis.degree() == baseDegree) {
                 continue;
             }
             ElliottScenarioSet scenarios = analysis.analysis().scenarios();
@@ -2548,12 +2644,35 @@ public final class ElliottWaveAnalysisRunner {
             if (candidates.isEmpty()) {
                 continue;
             }
+            DegreeRelation relation = analysis.degree().isHigherOrEqual(baseDegree) ? DegreeRelation.HIGHER
+                    : DegreeRelation.LOWER;
+            columns.add(new SupportingColumns(analysis, relation, candidates, this::safeScore));
+        }
+        return columns;
+    }
 
-            Match bestMatch = bestMatch(baseScenario, candidates, analysis.degree());
+    /**
+     * Aggregates compatibility against supporting-degree best matches. Each
+     * supporting degree contributes proportionally to its history fit score.
+     *
+     * @param baseScenario      base-degree scenario to score
+     * @param supportingColumns supporting-degree scenario columns
+     * @param matchesOut        collector for best supporting matches
+     * @return normalized cross-degree score in {@code [0.0, 1.0]}
+     */
+    private double crossDegreeScore(final ElliottScenario baseScenario,
+            final List<SupportingColumns> supportingColumns,
+            final List<ElliottWaveAnalysisResult.SupportingScenarioMatch> matchesOut) {
+        double totalWeightedScore = 0.0;
+        double totalWeight = 0.0;
+
+        for (final SupportingColumns columns : supportingColumns) {
+            Match bestMatch = bestMatch(baseScenario, columns);
             if (bestMatch == null) {
                 continue;
             }
 
+            ElliottWaveAnalysisResult.DegreeAnalysis analysis = columns.analysis;
             matchesOut.add(new ElliottWaveAnalysisResult.SupportingScenarioMatch(analysis.degree(),
                     bestMatch.supportingScenarioId, bestMatch.supportingConfidence, bestMatch.compatibility,
                     bestMatch.weightedCompatibility, analysis.historyFitScore()));
@@ -2573,158 +2692,122 @@ public final class ElliottWaveAnalysisRunner {
     /**
      * Finds the most compatible supporting scenario for the provided base scenario.
      * The selection criterion is weighted compatibility
-     * ({@code compatibility * supportingConfidence}).
+     * ({@code compatibility * supportingConfidence}); the earliest candidate wins
+     * ties.
+     *
+     * <p>
+     * Compatibility blends directional, structural, and invalidation consistency.
+     * The base scenario's inputs are resolved once and each supporting scenario is
+     * scored from its primitive columns.
      *
-     * @param baseScenario     base-degree scenario
-     * @param candidates       candidate supporting scenarios
-     * @param supportingDegree degree of the supporting scenarios
+     * @param baseScenario base-degree scenario
+     * @param columns      supporting-degree scenario columns
      * @return best match, or {@code null} when no valid candidate exists
      */
-    private Match bestMatch(final ElliottScenario baseScenario, final List<ElliottScenario> candidates,
-            final ElliottDegree supportingDegree) {
-        Match best = null;
-        for (final ElliottScenario supporting : candidates) {
-            if (supporting == null) {
-                continue;
+    private Match bestMatch(final ElliottScenario baseScenario, final SupportingColumns columns) {
+        final boolean baseKnownDirection = baseScenario.hasKnownDirection();
+        final boolean baseBullish = baseKnownDirection && baseScenario.isBullish();
+        final int baseFamily = scenarioFamily(baseScenario.type());
+        final boolean baseCorrective = baseScenario.type().isCorrective();
+        final Num baseInvalidation = Num.isValid(baseScenario.invalidationPrice()) ? baseScenario.invalidationPrice()
+                : null;
+
+        int bestIndex = -1;
+        double bestCompatibility = 0.0;
+        double bestWeightedCompatibility = 0.0;
+        for (int index = 0; index < columns.size(); index++) {
+            final boolean knownDirections = baseKnownDirection && columns.knownDirection[index];
+            final boolean sameDirection = knownDirections && baseBullish == columns.bullish[index];
+
+            final double directionScore;
+            if (!knownDirections) {
+                directionScore = 0.5;
+            } else if (sameDirection) {
+                directionScore = 1.0;
+            } else {
+                directionScore = baseCorrective || columns.corrective[index] ? 0.6 : 0.0;
             }
-            double compatibility = compatibilityScore(baseScenario, supporting, baseDegree, supportingDegree);
-            double supportingConfidence = safeScore(supporting.confidenceScore());
-            double weightedCompatibility = compatibility * supportingConfidence;
-            if (best == null || weightedCompatibility > best.weightedCompatibility) {
-                best = new Match(supporting.id(), supportingConfidence, compatibility, weightedCompatibility);
+
+            final double invalidationScore;
+            final Num supportingInvalidation = columns.invalidation[index];
+            if (!sameDirection || baseInvalidation == null || supportingInvalidation == null) {
+                invalidationScore = 0.5;
+            } else {
+                invalidationScore = invalidationConsistent(baseBullish, baseInvalidation, supportingInvalidation,
+                        columns.relation) ? 1.0 : 0.0;
             }
-        }
-        return best;
-    }
 
-    /**
-     * Computes scenario compatibility for a base/supporting pair by blending
-     * directional, structural, and invalidation consistency.
-     *
-     * @param baseScenario       base-degree scenario
-     * @param supportingScenario supporting-degree scenario
-     * @param base               base degree
-     * @param supporting         supporting degree
-     * @return compatibility score in {@code [0.0, 1.0]}
-     */
-    private double compatibilityScore(final ElliottScenario baseScenario, final ElliottScenario supportingScenario,
-            final ElliottDegree base, final ElliottDegree supporting) {
-        if (baseScenario == null || supportingScenario == null) {
-            return 0.0;
+            final double compatibility = clamp01((DIRECTION_COMPATIBILITY_WEIGHT * directionScore)
+                    + (STRUCTURE_COMPATIBILITY_WEIGHT * structureCompatibility(baseFamily, columns.family[index]))
+                    + (INVALIDATION_COMPATIBILITY_WEIGHT * invalidationScore));
+            final double weightedCompatibility = compatibility * columns.confidence[index];
+            if (bestIndex < 0 || weightedCompatibility > bestWeightedCompatibility) {
+                bestIndex = index;
+                bestCompatibility = compatibility;
+                bestWeightedCompatibility = weightedCompatibility;
+            }
         }
-        if (base == null || supporting == null || base == supporting) {
-            return 0.0;
+        if (bestIndex < 0) {
+            return null;
         }
-
-        DegreeRelation relation = supporting.isHigherOrEqual(base) ? DegreeRelation.HIGHER : DegreeRelation.LOWER;
-
-        double directionScore = directionCompatibility(baseScenario, supportingScenario);
-        double structureScore = structureCompatibility(baseScenario, supportingScenario);
-        double invalidationScore = invalidationCompatibility(baseScenario, supportingScenario, relation);
-
-        double score = (DIRECTION_COMPATIBILITY_WEIGHT * directionScore)
-                + (STRUCTURE_COMPATIBILITY_WEIGHT * structureScore)
-                + (INVALIDATION_COMPATIBILITY_WEIGHT * invalidationScore);
-        return clamp01(score);
+        return new Match(columns.ids[bestIndex], columns.confidence[bestIndex], bestCompatibility,
+                bestWeightedCompatibility);
     }
 
-    /**
-     * Scores directional agreement between base and supporting scenarios.
-     *
-     * @param baseScenario       base scenario
-     * @param supportingScenario supporting scenario
-     * @return directional compatibility score in {@code [0.0, 1.0]}
-     */
-    private double directionCompatibility(final ElliottScenario baseScenario,
-            final ElliottScenario supportingScenario) {
-        if (!baseScenario.hasKnownDirection() || !supportingScenario.hasKnownDirection()) {
-            return 0.5;
+    private static int scenarioFamily(final ScenarioType type) {
+        if (type == ScenarioType.UNKNOWN) {
+            return FAMILY_UNKNOWN;
         }
-
-        boolean sameDirection = baseScenario.isBullish() == supportingScenario.isBullish();
-        if (sameDirection) {
-            return 1.0;
-        }
-
-        if (baseScenario.type().isCorrective() || supportingScenario.type().isCorrective()) {
-            return 0.6;
+        if (type.isImpulse()) {
+            return FAMILY_IMPULSE;
         }
-
-        return 0.0;
+        return type.isCorrective() ? FAMILY_CORRECTIVE : FAMILY_OTHER;
     }
 
     /**
      * Scores structural agreement (impulse/corrective family) between scenarios.
      *
-     * @param baseScenario       base scenario
-     * @param supportingScenario supporting scenario
+     * @param baseFamily       base scenario family
+     * @param supportingFamily supporting scenario family
      * @return structure compatibility score in {@code [0.0, 1.0]}
      */
-    private double structureCompatibility(final ElliottScenario baseScenario,
-            final ElliottScenario supportingScenario) {
-        ScenarioType baseType = baseScenario.type();
-        ScenarioType supportingType = supportingScenario.type();
-
-        if (baseType == ScenarioType.UNKNOWN || supportingType == ScenarioType.UNKNOWN) {
+    private static double structureCompatibility(final int baseFamily, final int supportingFamily) {
+        if (baseFamily == FAMILY_UNKNOWN || supportingFamily == FAMILY_UNKNOWN) {
             return 0.5;
         }
-
-        if (baseType.isImpulse() && supportingType.isImpulse()) {
+        if (baseFamily == FAMILY_IMPULSE && supportingFamily == FAMILY_IMPULSE) {
             return 1.0;
         }
-        if (baseType.isCorrective() && supportingType.isCorrective()) {
+        if (baseFamily == FAMILY_CORRECTIVE && supportingFamily == FAMILY_CORRECTIVE) {
             return 0.9;
         }
-        if ((baseType.isImpulse() && supportingType.isCorrective())
-                || (baseType.isCorrective() && supportingType.isImpulse())) {
+        if ((baseFamily == FAMILY_IMPULSE && supportingFamily == FAMILY_CORRECTIVE)
+                || (baseFamily == FAMILY_CORRECTIVE && supportingFamily == FAMILY_IMPULSE)) {
             return 0.7;
         }
-
         return 0.5;
     }
 
     /**
-     * Scores invalidation-level compatibility using degree relation semantics:
+     * Checks invalidation-level consistency using degree relation semantics:
      * higher degrees should generally be looser; lower degrees should generally be
-     * tighter.
+     * tighter. Both scenarios share the supplied direction.
      *
-     * @param baseScenario       base scenario
-     * @param supportingScenario supporting scenario
-     * @param relation           relationship of supporting degree to base degree
-     * @return invalidation compatibility score in {@code [0.0, 1.0]}
+     * @param bullish                shared scenario direction
+     * @param baseInvalidation       valid base invalidation price
+     * @param supportingInvalidation valid supporting invalidation price
+     * @param relation               relationship of supporting degree to base
+     *                               degree
+     * @return {@code true} when the invalidation levels are consistent
      */
-    private double invalidationCompatibility(final ElliottScenario baseScenario,
-            final ElliottScenario supportingScenario, final DegreeRelation relation) {
-        if (!baseScenario.hasKnownDirection() || !supportingScenario.hasKnownDirection()) {
-            return 0.5;
-        }
-        if (baseScenario.isBullish() != supportingScenario.isBullish()) {
-            return 0.5;
-        }
-
-        Num baseInvalidation = baseScenario.invalidationPrice();
-        Num supportingInvalidation = supportingScenario.invalidationPrice();
-        if (!Num.isValid(baseInvalidation) || !Num.isValid(supportingInvalidation)) {
-            return 0.5;
-        }
-
-        boolean bullish = baseScenario.isBullish();
-        boolean supportingLooser;
-        if (bullish) {
-            supportingLooser = supportingInvalidation.isLessThanOrEqual(baseInvalidation);
-        } else {
-            supportingLooser = supportingInvalidation.isGreaterThanOrEqual(baseInvalidation);
-        }
-
-        boolean ok;
+    private static boolean invalidationConsistent(final boolean bullish, final Num baseInvalidation,
+            final Num supportingInvalidation, final DegreeRelation relation) {
         if (relation == DegreeRelation.HIGHER) {
-            ok = supportingLooser;
-        } else if (bullish) {
-            ok = supportingInvalidation.isGreaterThanOrEqual(baseInvalidation);
-        } else {
-            ok = supportingInvalidation.isLessThanOrEqual(baseInvalidation);
+            return bullish ? supportingInvalidation.isLessThanOrEqual(baseInvalidation)
+                    : supportingInvalidation.isGreaterThanOrEqual(baseInvalidation);
         }
-        return ok ? 1.0 : 0.0;
+        return bullish ? supportingInvalidation.isGreaterThanOrEqual(baseInvalidation)
+                : supportingInvalidation.isLessThanOrEqual(baseInvalidation);
     }
 
     /**
@@ -2972,6 +3055,16 @@ public final class ElliottWaveAnalysisRunner {
     private record ProvisionalTerminal(int index, Num price) {
     }
 
+    /**
+     * Outcome of one degree before the in-order merge.
+     *
+     * @param snapshot degree analysis, or {@code null} when the degree was
+     *                 skipped
+     * @param notes    notes raised while analyzing the degree
+     */
+    private record DegreeRun(ElliottWaveAnalysisResult.DegreeAnalysis snapshot, List<String> notes) {
+    }
+
     /**
      * Core-selected anchored-window scenario plus whether it satisfied the
      * configured acceptance gate.
@@ -3520,6 +3613,58 @@ public final class ElliottWaveAnalysisRunner {
             double weightedCompatibility) {
     }
 
+    /**
+     * Column-wise view of one supporting degree's scenarios.
+     *
+     * <p>
+     * Ranking compares every base scenario with every supporting scenario, so the
+     * per-scenario compatibility inputs are extracted once into parallel arrays
+     * instead of being re-derived for each pair. Null scenarios are dropped.
+     */
+    private static final class SupportingColumns {
+
+        private final ElliottWaveAnalysisResult.DegreeAnalysis analysis;
+        private final DegreeRelation relation;
+        private final String[] ids;
+        private final double[] confidence;
+        private final boolean[] knownDirection;
+        private final boolean[] bullish;
+        private final boolean[] corrective;
+        private final int[] family;
+        // Valid invalidation prices, or null when a scenario has none
+        private final Num[] invalidation;
+
+        private SupportingColumns(final ElliottWaveAnalysisResult.DegreeAnalysis analysis,
+                final DegreeRelation relation, final List<ElliottScenario> candidates,
+                final ToDoubleFunction<Num> confidenceScore) {
+            this.analysis = analysis;
+            this.relation = relation;
+            final List<ElliottScenario> scenarios = candidates.stream().filter(Objects::nonNull).toList();
+            final int size = scenarios.size();
+            this.ids = new String[size];
+            this.confidence = new double[size];
+            this.knownDirection = new boolean[size];
+            this.bullish = new boolean[size];
+            this.corrective = new boolean[size];
+            this.family = new int[size];
+            this.invalidation = new Num[size];
+            for (int index = 0; index < size; index++) {
+                final ElliottScenario scenario = scenarios.get(index);
+                ids[index] = scenario.id();
+                confidence[index] = confidenceScore.applyAsDouble(scenario.confidenceScore());
+                knownDirection[index] = scenario.hasKnownDirection();
+                bullish[index] = knownDirection[index] && scenario.isBullish();
+                corrective[index] = scenario.type().isCorrective();
+                family[index] = scenarioFamily(scenario.type());
+                invalidation[index] = Num.isValid(scenario.invalidationPrice()) ? scenario.invalidationPrice() : null;
+            }
+        }
+
+        private int size() {
+            return ids.length;
+        }
+    }
+
     /**
      * Builder for {@link ElliottWaveAnalysisRunner}.
      *
@@ -3548,6 +3693,8 @@ public final class ElliottWaveAnalysisRunner {
         private int maxScenarios = ElliottScenarioGenerator.DEFAULT_MAX_SCENARIOS;
         private int scenarioSwingWindow = DEFAULT_SCENARIO_SWING_WINDOW;
         private boolean includeProvisionalTerminalSwing = true;
+        private boolean parallelDegrees;
+        private boolean parallelWindows;
 
         private Builder() {
         }
@@ -3775,6 +3922,41 @@ public final class ElliottWaveAnalysisRunner {
             return this;
         }
 
+        /**
+         * Analyzes the base and supporting degrees concurrently.
+         *
+         * <p>
+         * Results are merged in degree order, so they match a sequential run. The
+         * series selector, swing detector, swing filter, confidence model, and custom
+         * analysis runner must be safe to call from several threads at once; the
+         * built-in ones are.
+         *
+         * @param parallelDegrees {@code true} to analyze degrees concurrently
+         * @return builder
+         * @since 0.23.1
+         */
+        public Builder parallelDegrees(final boolean parallelDegrees) {
+            this.parallelDegrees = parallelDegrees;
+            return this;
+        }
+
+        /**
+         * Analyzes the windows of {@link ElliottWaveAnalysisRunner#analyzeWindows}
+         * concurrently.
+         *
+         * <p>
+         * Results are returned in request order, so they match a sequential run. The
+         * same thread-safety requirements as {@link #parallelDegrees(boolean)} apply.
+         *
+         * @param parallelWindows {@code true} to analyze windows concurrently
+         * @return builder
+         * @since 0.23.1
+         */
+        public Builder parallelWindows(final boolean parallelWindows) {
+            this.parallelWindows = parallelWindows;
+            return this;
+        }
+
         /**
          * Builds the analysis entry point.
          *
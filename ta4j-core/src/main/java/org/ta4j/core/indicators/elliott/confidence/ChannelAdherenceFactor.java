@@ -4,6 +4,7 @@
 package org.ta4j.core.indicators.elliott.confidence;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -49,4 +50,12 @@ public final class ChannelAdherenceFactor implements ConfidenceFactor {
         diagnostics.put("withinChannelRatio", score.doubleValue());
         return ConfidenceFactorResult.of(name(), category(), score, diagnostics, "Channel adherence");
     }
+
+    @Override
+    public void scoreColumn(final List<ElliottConfidenceContext> contexts, final double[] column) {
+        for (int row = 0; row < contexts.size(); row++) {
+            final ElliottConfidenceContext context = contexts.get(row);
+            column[row] = scorer.scoreChannel(context.swings(), context.channel()).doubleValue();
+        }
+    }
 }
@@ -3,6 +3,8 @@
  */
 package org.ta4j.core.indicators.elliott.confidence;
 
+import java.util.List;
+
 import org.ta4j.core.analysis.NamedScoreFunction;
 
 /**
@@ -38,4 +40,23 @@ public interface ConfidenceFactor extends NamedScoreFunction<ElliottConfidenceCo
      * @since 0.22.2
      */
     ConfidenceFactorResult score(ElliottConfidenceContext context);
+
+    /**
+     * Scores the factor for a batch of contexts into a primitive column.
+     *
+     * <p>
+     * {@link ConfidenceProfile#scoreAll(List)} calls this once per factor, so the
+     * batch is scored column-wise. {@code column[row]} must equal
+     * {@code score(contexts.get(row)).score().doubleValue()}; the default computes
+     * exactly that, and implementations may skip building diagnostics.
+     *
+     * @param contexts confidence scoring contexts
+     * @param column   destination column, at least {@code contexts.size()} long
+     * @since 0.23.1
+     */
+    default void scoreColumn(final List<ElliottConfidenceContext> contexts, final double[] column) {
+        for (int row = 0; row < contexts.size(); row++) {
+            column[row] = score(contexts.get(row)).score().doubleValue();
+        }
+    }
 }
@@ -4,9 +4,12 @@
 package org.ta4j.core.indicators.elliott.confidence;
 
 import java.util.List;
+import java.util.Objects;
 
 import org.ta4j.core.indicators.elliott.ElliottChannel;
 import org.ta4j.core.indicators.elliott.ElliottPhase;
+import org.ta4j.core.indicators.elliott.ElliottScenario;
+import org.ta4j.core.indicators.elliott.ElliottScenarioSet;
 import org.ta4j.core.indicators.elliott.ElliottSwing;
 import org.ta4j.core.indicators.elliott.ScenarioType;
 
@@ -34,4 +37,33 @@ public interface ConfidenceModel {
      */
     ElliottConfidenceBreakdown score(List<ElliottSwing> swings, ElliottPhase phase, ElliottChannel channel,
             ScenarioType scenarioType);
+
+    /**
+     * Scores the overall confidence of every scenario in a set against one
+     * channel.
+     *
+     * <p>
+     * Entry {@code i} corresponds to {@code scenarios.all().get(i)} and equals the
+     * overall score of
+     * {@link #score(List, ElliottPhase, ElliottChannel, ScenarioType)} for that
+     * scenario's swings, current phase, and type. The default scores each scenario
+     * in turn; implementations may score the set column-wise in primitive arrays.
+     *
+     * @param scenarios scenarios to score
+     * @param channel   Elliott channel (nullable)
+     * @return overall scores (0.0 - 1.0), in scenario order
+     * @since 0.23.1
+     */
+    default double[] scoreAll(final ElliottScenarioSet scenarios, final ElliottChannel channel) {
+        Objects.requireNonNull(scenarios, "scenarios");
+        final List<ElliottScenario> all = scenarios.all();
+        final double[] overall = new double[all.size()];
+        for (int i = 0; i < overall.length; i++) {
+            final ElliottScenario scenario = all.get(i);
+            final ElliottConfidenceBreakdown breakdown = score(scenario.swings(), scenario.currentPhase(), channel,
+                    scenario.type());
+            overall[i] = breakdown.confidence().overall().doubleValue();
+        }
+        return overall;
+    }
 }
@@ -96,6 +96,47 @@ public record ConfidenceProfile(List<WeightedFactor> factors) {
         return new ElliottConfidenceBreakdown(confidence, results);
     }
 
+    /**
+     * Scores the overall confidence of a batch of contexts column-wise.
+     *
+     * <p>
+     * Each factor fills one primitive column across the whole batch through
+     * {@link ConfidenceFactor#scoreColumn(List, double[])}, and the columns are
+     * combined into weighted averages. Entry {@code i} equals
+     * {@code score(contexts.get(i)).confidence().overall().doubleValue()} up to
+     * floating-point rounding; no breakdowns or diagnostics are built.
+     *
+     * @param contexts confidence contexts
+     * @return overall scores (0.0 - 1.0), in context order
+     * @since 0.23.1
+     */
+    public double[] scoreAll(final List<ElliottConfidenceContext> contexts) {
+        Objects.requireNonNull(contexts, "contexts");
+        final int rows = contexts.size();
+        for (final ElliottConfidenceContext context : contexts) {
+            Objects.requireNonNull(context, "context");
+        }
+        final double[] overall = new double[rows];
+        if (rows == 0 || factors.isEmpty()) {
+            return overall;
+        }
+
+        final double[] column = new double[rows];
+        double weightSum = 0.0;
+        for (final WeightedFactor factor : factors) {
+            final double weight = factor.weight().doubleValue();
+            factor.factor().scoreColumn(contexts, column);
+            for (int row = 0; row < rows; row++) {
+                overall[row] += column[row] * weight;
+            }
+            weightSum += weight;
+        }
+        for (int row = 0; row < rows; row++) {
+            overall[row] = weightSum > 0.0 ? overall[row] / weightSum : 0.0;
+        }
+        return overall;
+    }
+
     private Num scoreFor(final Map<ConfidenceFactorCategory, CategoryTotals> totals,
             final ConfidenceFactorCategory category, final ElliottConfidenceContext context) {
         CategoryTotals accumulator = totals.get(category);
@@ -7,6 +7,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.ta4j.core.indicators.elliott.ElliottFibonacciValidator;
 import org.ta4j.core.indicators.elliott.ElliottPhase;
 import org.ta4j.core.indicators.elliott.ElliottSwing;
 import org.ta4j.core.num.Num;
@@ -90,4 +91,52 @@ public final class FibonacciRelationshipFactor implements ConfidenceFactor {
         Num average = count > 0 ? total.dividedBy(context.numFactory().numOf(count)) : context.numFactory().zero();
         return ConfidenceFactorResult.of(name(), category(), average, diagnostics, "Fibonacci proximity");
     }
+
+    @Override
+    public void scoreColumn(final List<ElliottConfidenceContext> contexts, final double[] column) {
+        for (int row = 0; row < contexts.size(); row++) {
+            column[row] = averageProximity(contexts.get(row));
+        }
+    }
+
+    private double averageProximity(final ElliottConfidenceContext context) {
+        List<ElliottSwing> swings = context.swings();
+        ElliottPhase phase = context.phase();
+        if (swings.isEmpty() || phase == ElliottPhase.NONE) {
+            return 0.0;
+        }
+
+        ElliottFibonacciValidator validator = context.validator();
+        int size = swings.size();
+        double total = 0.0;
+        int count = 0;
+        if (phase.isImpulse()) {
+            if (size >= 2) {
+                total += validator.waveTwoProximityScore(swings.get(0), swings.get(1)).doubleValue();
+                count++;
+            }
+            if (size >= 3) {
+                total += validator.waveThreeProximityScore(swings.get(0), swings.get(2)).doubleValue();
+                count++;
+            }
+            if (size >= 4) {
+                total += validator.waveFourProximityScore(swings.get(2), swings.get(3)).doubleValue();
+                count++;
+            }
+            if (size >= 5) {
+                total += validator.waveFiveProximityScore(swings.get(0), swings.get(4)).doubleValue();
+                count++;
+            }
+        } else if (phase.isCorrective()) {
+            if (size >= 2) {
+                total += validator.waveBProximityScore(swings.get(0), swings.get(1)).doubleValue();
+                count++;
+            }
+            if (size >= 3) {
+                total += validator.waveCProximityScore(swings.get(0), swings.get(2)).doubleValue();
+                count++;
+            }
+        }
+        return count > 0 ? total / count : 0.0;
+    }
 }
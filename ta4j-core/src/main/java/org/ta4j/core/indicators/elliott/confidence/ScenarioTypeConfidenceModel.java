@@ -3,7 +3,9 @@
  */
 package org.ta4j.core.indicators.elliott.confidence;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -11,6 +13,8 @@ import java.util.Objects;
 import org.ta4j.core.indicators.elliott.ElliottChannel;
 import org.ta4j.core.indicators.elliott.ElliottFibonacciValidator;
 import org.ta4j.core.indicators.elliott.ElliottPhase;
+import org.ta4j.core.indicators.elliott.ElliottScenario;
+import org.ta4j.core.indicators.elliott.ElliottScenarioSet;
 import org.ta4j.core.indicators.elliott.ElliottSwing;
 import org.ta4j.core.indicators.elliott.ScenarioType;
 import org.ta4j.core.num.NumFactory;
@@ -44,13 +48,53 @@ public final class ScenarioTypeConfidenceModel implements ConfidenceModel {
     @Override
     public ElliottConfidenceBreakdown score(final List<ElliottSwing> swings, final ElliottPhase phase,
             final ElliottChannel channel, final ScenarioType scenarioType) {
+        return profileFor(scenarioType).score(context(swings, phase, channel));
+    }
+
+    /**
+     * Scores a scenario set column-wise: scenarios are grouped by profile and each
+     * group is scored through {@link ConfidenceProfile#scoreAll(List)}.
+     *
+     * @param scenarios scenarios to score
+     * @param channel   Elliott channel (nullable)
+     * @return overall scores (0.0 - 1.0), in scenario order
+     * @since 0.23.1
+     */
+    @Override
+    public double[] scoreAll(final ElliottScenarioSet scenarios, final ElliottChannel channel) {
+        Objects.requireNonNull(scenarios, "scenarios");
+        final List<ElliottScenario> all = scenarios.all();
+        final Map<ConfidenceProfile, List<Integer>> rowsByProfile = new IdentityHashMap<>();
+        for (int row = 0; row < all.size(); row++) {
+            rowsByProfile.computeIfAbsent(profileFor(all.get(row).type()), unused -> new ArrayList<>()).add(row);
+        }
+
+        final double[] overall = new double[all.size()];
+        for (final Map.Entry<ConfidenceProfile, List<Integer>> entry : rowsByProfile.entrySet()) {
+            final List<Integer> rows = entry.getValue();
+            final List<ElliottConfidenceContext> contexts = new ArrayList<>(rows.size());
+            for (final int row : rows) {
+                final ElliottScenario scenario = all.get(row);
+                contexts.add(context(scenario.swings(), scenario.currentPhase(), channel));
+            }
+            final double[] scores = entry.getKey().scoreAll(contexts);
+            for (int i = 0; i < scores.length; i++) {
+                overall[rows.get(i)] = scores[i];
+            }
+        }
+        return overall;
+    }
+
+    private ConfidenceProfile profileFor(final ScenarioType scenarioType) {
         ScenarioType resolvedType = scenarioType == null ? ScenarioType.UNKNOWN : scenarioType;
-        ConfidenceProfile profile = profileOverrides.getOrDefault(resolvedType, defaultProfile);
+        return profileOverrides.getOrDefault(resolvedType, defaultProfile);
+    }
+
+    private ElliottConfidenceContext context(final List<ElliottSwing> swings, final ElliottPhase phase,
+            final ElliottChannel channel) {
         List<ElliottSwing> safeSwings = swings == null ? List.of() : swings;
         ElliottPhase safePhase = phase == null ? ElliottPhase.NONE : phase;
-        ElliottConfidenceContext context = new ElliottConfidenceContext(safeSwings, safePhase, channel, validator,
-                numFactory);
-        return profile.score(context);
+        return new ElliottConfidenceContext(safeSwings, safePhase, channel, validator, numFactory);
     }
 
     /**
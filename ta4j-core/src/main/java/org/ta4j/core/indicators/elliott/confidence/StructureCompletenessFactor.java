@@ -4,6 +4,7 @@
 package org.ta4j.core.indicators.elliott.confidence;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -52,6 +53,14 @@ public final class StructureCompletenessFactor implements ConfidenceFactor {
         return ConfidenceFactorResult.of(name(), category(), score, diagnostics, "Structure completeness");
     }
 
+    @Override
+    public void scoreColumn(final List<ElliottConfidenceContext> contexts, final double[] column) {
+        for (int row = 0; row < contexts.size(); row++) {
+            final ElliottConfidenceContext context = contexts.get(row);
+            column[row] = scorer.scoreCompleteness(context.swings(), context.phase()).doubleValue();
+        }
+    }
+
     private int expectedWaves(final ElliottPhase phase) {
         if (phase.isImpulse()) {
             return 5;
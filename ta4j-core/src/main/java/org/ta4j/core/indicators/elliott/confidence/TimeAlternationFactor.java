@@ -4,6 +4,7 @@
 package org.ta4j.core.indicators.elliott.confidence;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -55,4 +56,12 @@ public final class TimeAlternationFactor implements ConfidenceFactor {
         diagnostics.put("timeDifference", diagnosticsData.timeDifference());
         return ConfidenceFactorResult.of(name(), category(), score, diagnostics, "Wave alternation");
     }
+
+    @Override
+    public void scoreColumn(final List<ElliottConfidenceContext> contexts, final double[] column) {
+        for (int row = 0; row < contexts.size(); row++) {
+            final ElliottConfidenceContext context = contexts.get(row);
+            column[row] = scorer.alternationDiagnostics(context.swings(), context.phase()).score();
+        }
+    }
 }
@@ -66,4 +66,12 @@ public final class TimeProportionFactor implements ConfidenceFactor {
 
         return ConfidenceFactorResult.of(name(), category(), score, diagnostics, "Time proportions");
     }
+
+    @Override
+    public void scoreColumn(final List<ElliottConfidenceContext> contexts, final double[] column) {
+        for (int row = 0; row < contexts.size(); row++) {
+            final ElliottConfidenceContext context = contexts.get(row);
+            column[row] = scorer.scoreTimeProportions(context.swings(), context.phase()).doubleValue();
+        }
+    }
 }
@@ -3,11 +3,9 @@
  */
 package org.ta4j.core.indicators.elliott.swing;
 
-import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Objects;
 
-import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.ATRIndicator;
@@ -37,16 +35,7 @@ import org.ta4j.core.num.Num;
 public final class AdaptiveZigZagSwingDetector implements SwingDetector {
 
     private final AdaptiveZigZagConfig config;
-    private WeakReference<BarSeries> cachedSeries = new WeakReference<>(null);
-    private ElliottDegree cachedDegree;
-    private ElliottSwingIndicator cachedIndicator;
-    private int cachedIndex = -1;
-    private Bar cachedFirstBar;
-    private Bar cachedLastBar;
-    private List<Bar> cachedBars = List.of();
-    private long cachedBarHistoryRevision = -1L;
-    private int cachedBeginIndex = -1;
-    private int cachedEndIndex = -1;
+    private final SwingPipelineCache pipeline = new SwingPipelineCache(this::buildPipeline);
 
     /**
      * Creates a detector using the supplied configuration.
@@ -66,57 +55,19 @@ public final class AdaptiveZigZagSwingDetector implements SwingDetector {
         if (series.isEmpty()) {
             return new SwingDetectorResult(List.of(), List.of());
         }
-        final int currentBeginIndex = series.getBeginIndex();
-        final int currentEndIndex = series.getEndIndex();
-        final Bar currentLastBar = series.getBar(currentEndIndex);
-        final long currentBarHistoryRevision = series.getBarHistoryRevision();
-        final boolean tracksBarHistoryRevision = currentBarHistoryRevision >= 0L;
-        // Revision-unaware implementations may expose a stable mutable list. Preserve
-        // the comparison baseline so in-place replacements invalidate the cache.
-        final List<Bar> currentBars = tracksBarHistoryRevision ? List.of() : List.copyOf(series.getBarData());
-        final int clampedIndex = Math.max(currentBeginIndex, Math.min(index, currentEndIndex));
-        final boolean revisedBarHistory = tracksBarHistoryRevision && cachedBarHistoryRevision >= 0L
-                && currentBarHistoryRevision != cachedBarHistoryRevision;
-        final boolean historyReplaced = cachedIndicator != null && cachedSeries.get() == series
-                && (currentEndIndex < cachedEndIndex
-                        || (currentBeginIndex <= cachedBeginIndex && series.getBar(currentBeginIndex) != cachedFirstBar)
-                        || revisedBarHistory || (currentEndIndex == cachedEndIndex
-                                && (currentLastBar != cachedLastBar || !hasSameBars(currentBars))));
-        if (cachedIndicator == null || cachedSeries.get() != series || cachedDegree != degree || historyReplaced
-                || clampedIndex < cachedIndex) {
-            final Indicator<Num> highPrice = new HighPriceIndicator(series);
-            final Indicator<Num> lowPrice = new LowPriceIndicator(series);
-            final Indicator<Num> atr = new ATRIndicator(series, config.atrPeriod());
-            final Indicator<Num> smoothedAtr = config.smoothingPeriod() > 1
-                    ? new SMAIndicator(atr, config.smoothingPeriod())
-                    : atr;
-            final Indicator<Num> threshold = new AdaptiveZigZagThresholdIndicator(smoothedAtr, config);
-            final ZigZagStateIndicator state = new ZigZagStateIndicator(highPrice, lowPrice, threshold);
-            cachedSeries = new WeakReference<>(series);
-            cachedDegree = degree;
-            cachedIndicator = ElliottSwingIndicator.zigZag(state, highPrice, lowPrice, degree);
-            cachedFirstBar = series.getBar(currentBeginIndex);
-            cachedBeginIndex = currentBeginIndex;
-        }
-        final SwingDetectorResult result = SwingDetectorResult.fromSwings(cachedIndicator.getValue(clampedIndex));
-        cachedIndex = clampedIndex;
-        cachedEndIndex = currentEndIndex;
-        cachedLastBar = currentLastBar;
-        cachedBars = currentBars;
-        cachedBarHistoryRevision = currentBarHistoryRevision;
-        return result;
+        return pipeline.detect(series, index, degree);
     }
 
-    private boolean hasSameBars(final List<Bar> bars) {
-        if (cachedBars.size() != bars.size()) {
-            return false;
-        }
-        for (int index = 0; index < bars.size(); index++) {
-            if (cachedBars.get(index) != bars.get(index)) {
-                return false;
-            }
-        }
-        return true;
+    private ElliottSwingIndicator buildPipeline(final BarSeries series, final ElliottDegree degree) {
+        final Indicator<Num> highPrice = new HighPriceIndicator(series);
+        final Indicator<Num> lowPrice = new LowPriceIndicator(series);
+        final Indicator<Num> atr = new ATRIndicator(series, config.atrPeriod());
+        final Indicator<Num> smoothedAtr = config.smoothingPeriod() > 1
+                ? new SMAIndicator(atr, config.smoothingPeriod())
+                : atr;
+        final Indicator<Num> threshold = new AdaptiveZigZagThresholdIndicator(smoothedAtr, config);
+        final ZigZagStateIndicator state = new ZigZagStateIndicator(highPrice, lowPrice, threshold);
+        return ElliottSwingIndicator.zigZag(state, highPrice, lowPrice, degree);
     }
 
     /**
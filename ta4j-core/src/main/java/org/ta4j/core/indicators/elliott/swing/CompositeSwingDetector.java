@@ -20,7 +20,9 @@ import org.ta4j.core.num.Num;
  * <p>
  * Use the policy constructor for exact AND/OR compatibility. Use the
  * tolerance/quorum constructor when nearby same-type pivots should count as
- * consensus even when their indexes do not match exactly.
+ * consensus even when their indexes do not match exactly. The composite keeps
+ * no state of its own; repeated detection is incremental whenever its children
+ * are.
  *
  * @since 0.22.2
  */
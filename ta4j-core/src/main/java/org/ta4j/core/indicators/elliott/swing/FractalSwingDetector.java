@@ -17,6 +17,10 @@ import org.ta4j.core.indicators.elliott.ElliottSwingIndicator;
  * Use this detector when you prefer classic Bill Williams-style fractal
  * confirmations with configurable lookback/lookforward windows. It is the
  * default choice for deterministic swing detection in Elliott Wave analysis.
+ * Repeated detection on the same series and degree reuses one fractal pipeline,
+ * so live updates only confirm the pivots of new bars instead of rescanning the
+ * full history. Historical queries that move backward and replaced bar history
+ * rebuild the pipeline, so results match a freshly built detector.
  *
  * @since 0.22.2
  */
@@ -25,6 +29,7 @@ public final class FractalSwingDetector implements SwingDetector {
     private final int lookbackLength;
     private final int lookforwardLength;
     private final int allowedEqualBars;
+    private final SwingPipelineCache pipeline = new SwingPipelineCache(this::buildPipeline);
 
     /**
      * Creates a detector with symmetric lookback/lookforward windows.
@@ -57,16 +62,18 @@ public final class FractalSwingDetector implements SwingDetector {
     }
 
     @Override
-    public SwingDetectorResult detect(final BarSeries series, final int index, final ElliottDegree degree) {
+    public synchronized SwingDetectorResult detect(final BarSeries series, final int index,
+            final ElliottDegree degree) {
         Objects.requireNonNull(series, "series");
         Objects.requireNonNull(degree, "degree");
         if (series.isEmpty()) {
             return new SwingDetectorResult(List.of(), List.of());
         }
-        final int clampedIndex = Math.max(series.getBeginIndex(), Math.min(index, series.getEndIndex()));
-        final ElliottSwingIndicator indicator = new ElliottSwingIndicator(series, lookbackLength, lookforwardLength,
-                allowedEqualBars, degree);
-        return SwingDetectorResult.fromSwings(indicator.getValue(clampedIndex));
+        return pipeline.detect(series, index, degree);
+    }
+
+    private ElliottSwingIndicator buildPipeline(final BarSeries series, final ElliottDegree degree) {
+        return new ElliottSwingIndicator(series, lookbackLength, lookforwardLength, allowedEqualBars, degree);
     }
 
     /**
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators.elliott.swing;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.indicators.elliott.ElliottDegree;
+import org.ta4j.core.indicators.elliott.ElliottSwingIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Package-private cache of one {@link ElliottSwingIndicator} pipeline for
+ * detectors whose swings only depend on the bars up to the queried index.
+ *
+ * <p>
+ * Repeated detection on the same series and degree reuses the pipeline, so new
+ * bars only advance the confirmed swing points instead of rescanning the full
+ * history. Updates of the last bar, such as trades on the forming bar, keep the
+ * pipeline as well: its indicators recompute their last-bar values whenever
+ * that bar changes, and the swing trackers undo their provisional scan of it.
+ * Queries that move backward, a different series or degree, and replaced
+ * earlier bars rebuild the pipeline, which keeps every result identical to a
+ * freshly built detector. A revision change without appended bars is
+ * attributed to the last bar when that bar changed and the bar before it did
+ * not; an earlier bar replaced together with a last-bar update between two
+ * detections is therefore not detected. Callers must serialize access.
+ */
+final class SwingPipelineCache {
+
+    private final BiFunction<BarSeries, ElliottDegree, ElliottSwingIndicator> pipelineFactory;
+    private WeakReference<BarSeries> cachedSeries = new WeakReference<>(null);
+    private ElliottDegree cachedDegree;
+    private ElliottSwingIndicator cachedIndicator;
+    private int cachedIndex = -1;
+    private Bar cachedFirstBar;
+    private Bar cachedLastBar;
+    private long cachedLastBarTrades;
+    private Num cachedLastBarClosePrice;
+    private Bar cachedPreviousBar;
+    private List<Bar> cachedBars = List.of();
+    private long cachedBarHistoryRevision = -1L;
+    private int cachedBeginIndex = -1;
+    private int cachedEndIndex = -1;
+
+    /**
+     * @param pipelineFactory builds a fresh swing indicator for a series and
+     *                        degree
+     */
+    SwingPipelineCache(final BiFunction<BarSeries, ElliottDegree, ElliottSwingIndicator> pipelineFactory) {
+        this.pipelineFactory = Objects.requireNonNull(pipelineFactory, "pipelineFactory");
+    }
+
+    /**
+     * Detects swings up to the supplied bar index.
+     *
+     * @param series non-empty source series
+     * @param index  bar index to evaluate, clamped to the series bounds
+     * @param degree Elliott degree metadata
+     * @return detection result
+     */
+    SwingDetectorResult detect(final BarSeries series, final int index, final ElliottDegree degree) {
+        final int currentBeginIndex = series.getBeginIndex();
+        final int currentEndIndex = series.getEndIndex();
+        final Bar currentLastBar = series.getBar(currentEndIndex);
+        final long currentBarHistoryRevision = series.getBarHistoryRevision();
+        final boolean tracksBarHistoryRevision = currentBarHistoryRevision >= 0L;
+        // Revision-unaware implementations may expose a stable mutable list. Preserve
+        // the comparison baseline so in-place replacements invalidate the cache.
+        final List<Bar> currentBars = tracksBarHistoryRevision ? List.of() : List.copyOf(series.getBarData());
+        final int clampedIndex = Math.max(currentBeginIndex, Math.min(index, currentEndIndex));
+        final boolean revisedBarHistory = tracksBarHistoryRevision && cachedBarHistoryRevision >= 0L
+                && currentBarHistoryRevision != cachedBarHistoryRevision
+                && !revisedOnlyLastBar(series, currentBeginIndex, currentEndIndex, currentLastBar);
+        final boolean historyReplaced = cachedIndicator != null && cachedSeries.get() == series
+                && (currentEndIndex < cachedEndIndex
+                        || (currentBeginIndex <= cachedBeginIndex && series.getBar(currentBeginIndex) != cachedFirstBar)
+                        || revisedBarHistory || (!tracksBarHistoryRevision && currentEndIndex == cachedEndIndex
+                                && (currentLastBar != cachedLastBar || !hasSameBars(currentBars))));
+        if (cachedIndicator == null || cachedSeries.get() != series || cachedDegree != degree || historyReplaced
+                || clampedIndex < cachedIndex) {
+            cachedSeries = new WeakReference<>(series);
+            cachedDegree = degree;
+            cachedIndicator = Objects.requireNonNull(pipelineFactory.apply(series, degree), "pipeline");
+            cachedFirstBar = series.getBar(currentBeginIndex);
+            cachedBeginIndex = currentBeginIndex;
+        }
+        final SwingDetectorResult result = SwingDetectorResult.fromSwings(cachedIndicator.getValue(clampedIndex));
+        cachedIndex = clampedIndex;
+        cachedEndIndex = currentEndIndex;
+        cachedLastBar = currentLastBar;
+        cachedLastBarTrades = currentLastBar.getTrades();
+        cachedLastBarClosePrice = currentLastBar.getClosePrice();
+        cachedPreviousBar = currentEndIndex > currentBeginIndex ? series.getBar(currentEndIndex - 1) : null;
+        cachedBars = currentBars;
+        cachedBarHistoryRevision = currentBarHistoryRevision;
+        return result;
+    }
+
+    /**
+     * Tells whether a bar history revision only changed the bar that was last at
+     * the previous detection: no bar was appended or removed, the bar before it is
+     * still the same instance, and the last bar itself changed. Otherwise the
+     * revision may have come from an earlier bar.
+     */
+    private boolean revisedOnlyLastBar(final BarSeries series, final int beginIndex, final int endIndex,
+            final Bar lastBar) {
+        if (endIndex != cachedEndIndex) {
+            return false;
+        }
+        final int previousIndex = endIndex - 1;
+        if (previousIndex >= beginIndex && series.getBar(previousIndex) != cachedPreviousBar) {
+            return false;
+        }
+        return lastBar != cachedLastBar || lastBar.getTrades() != cachedLastBarTrades
+                || !Objects.equals(lastBar.getClosePrice(), cachedLastBarClosePrice);
+    }
+
+    private boolean hasSameBars(final List<Bar> bars) {
+        if (cachedBars.size() != bars.size()) {
+            return false;
+        }
+        for (int index = 0; index < bars.size(); index++) {
+            if (cachedBars.get(index) != bars.get(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
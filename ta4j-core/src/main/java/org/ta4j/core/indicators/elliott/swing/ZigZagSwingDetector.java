@@ -23,13 +23,18 @@ import org.ta4j.core.num.Num;
  * <p>
  * Use this detector when you want adaptive pivot confirmation based on a
  * reversal threshold (fixed or indicator-driven). It is a good choice for
- * volatile markets where fixed window fractals are too rigid.
+ * volatile markets where fixed window fractals are too rigid. Repeated detection
+ * on the same series and degree reuses one ZigZag pipeline, so live updates
+ * advance the recursive ZigZag state instead of rescanning the full history.
+ * Historical queries that move backward and replaced bar history rebuild the
+ * pipeline, so results match a freshly built detector.
  *
  * @since 0.22.2
  */
 public final class ZigZagSwingDetector implements SwingDetector {
 
     private final Indicator<Num> reversalIndicator;
+    private final SwingPipelineCache pipeline = new SwingPipelineCache(this::buildPipeline);
 
     /**
      * Creates a detector with a custom reversal indicator.
@@ -55,7 +60,8 @@ public final class ZigZagSwingDetector implements SwingDetector {
     }
 
     @Override
-    public SwingDetectorResult detect(final BarSeries series, final int index, final ElliottDegree degree) {
+    public synchronized SwingDetectorResult detect(final BarSeries series, final int index,
+            final ElliottDegree degree) {
         Objects.requireNonNull(series, "series");
         Objects.requireNonNull(degree, "degree");
         if (!IndicatorUtils.isSameSeries(series, reversalIndicator.getBarSeries())) {
@@ -64,12 +70,14 @@ public final class ZigZagSwingDetector implements SwingDetector {
         if (series.isEmpty()) {
             return new SwingDetectorResult(List.of(), List.of());
         }
-        final int clampedIndex = Math.max(series.getBeginIndex(), Math.min(index, series.getEndIndex()));
+        return pipeline.detect(series, index, degree);
+    }
+
+    private ElliottSwingIndicator buildPipeline(final BarSeries series, final ElliottDegree degree) {
         final Indicator<Num> highPrice = new HighPriceIndicator(series);
         final Indicator<Num> lowPrice = new LowPriceIndicator(series);
         final ZigZagStateIndicator state = new ZigZagStateIndicator(highPrice, lowPrice, reversalIndicator);
-        final ElliottSwingIndicator indicator = ElliottSwingIndicator.zigZag(state, highPrice, lowPrice, degree);
-        return SwingDetectorResult.fromSwings(indicator.getValue(clampedIndex));
+        return ElliottSwingIndicator.zigZag(state, highPrice, lowPrice, degree);
     }
 
     /**
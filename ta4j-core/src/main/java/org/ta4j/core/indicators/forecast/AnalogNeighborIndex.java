@@ -0,0 +1,492 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators.forecast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.apache.commons.math3.ml.distance.EuclideanDistance;
+import org.ta4j.core.num.Num;
+
+/**
+ * Incremental exact nearest-neighbor index over analog candidate rows.
+ *
+ * <p>
+ * Candidate rows are memoized once their forward return has fully matured
+ * before the series end, and inserted into an append-only k-d tree over their
+ * raw feature vectors. Each search refits the candidate-only standardization
+ * for its window (incrementally while the window start is unchanged) and then
+ * descends the tree, pruning subtrees with per-axis lower bounds. Standardizing
+ * and subtracting are monotone in floating point, so pruning never discards a
+ * row that a full scan ordered by distance and source index would select, and
+ * every reported distance is computed exactly as the full scan computes it.
+ *
+ * <p>
+ * The tree is rebuilt balanced whenever it doubles in size, when the window
+ * moves before the indexed range, or when rows that fell out of a sliding
+ * window outnumber the rows inside it.
+ *
+ * @since 0.23.1
+ */
+final class AnalogNeighborIndex {
+
+    private static final int REBUILD_SLACK = 64;
+    private static final Comparator<Neighbor> ORDER = Comparator.comparingDouble(Neighbor::distance)
+            .thenComparingInt(Neighbor::index);
+
+    private final int dimension;
+    private final boolean standardize;
+    private final EuclideanDistance distance;
+
+    private int rowBase;
+    private int rowCount;
+    private double[][] rowFeatures = new double[0][];
+    private Num[] rowReturns = new Num[0];
+
+    private int treeFirst;
+    private int treeLast = -1;
+    private int nodeCount;
+    private int builtSize;
+    private int root = -1;
+    private int[] nodeIndex = new int[0];
+    private int[] nodeAxis = new int[0];
+    private int[] left = new int[0];
+    private int[] right = new int[0];
+    private final double[] boxMin;
+    private final double[] boxMax;
+
+    private int fitFirst = -1;
+    private int fitLast = -1;
+    private final Fit fit;
+
+    /**
+     * Supplies a candidate row.
+     */
+    @FunctionalInterface
+    interface RowSource {
+
+        /**
+         * @param candidateIndex candidate source index
+         * @return usable row, or {@code null} when the candidate is unusable
+         */
+        Row row(int candidateIndex);
+    }
+
+    /**
+     * Usable candidate features with the realized forward return.
+     *
+     * @param features       finite feature vector
+     * @param realizedReturn cumulative forward log return
+     */
+    record Row(double[] features, Num realizedReturn) {
+    }
+
+    /**
+     * Selected neighbor.
+     *
+     * @param index          candidate source index
+     * @param features       candidate features
+     * @param realizedReturn cumulative forward log return
+     * @param distance       distance to the query
+     */
+    record Neighbor(int index, double[] features, Num realizedReturn, double distance) {
+    }
+
+    /**
+     * Search outcome.
+     *
+     * @param candidateCount usable candidates in the window
+     * @param neighbors      nearest neighbors ordered by distance then index, or
+     *                       {@code null} when the window standardization is not
+     *                       finite
+     */
+    record Search(int candidateCount, List<Neighbor> neighbors) {
+    }
+
+    AnalogNeighborIndex(int dimension, boolean standardize, EuclideanDistance distance) {
+        this.dimension = dimension;
+        this.standardize = standardize;
+        this.distance = distance;
+        this.boxMin = new double[dimension];
+        this.boxMax = new double[dimension];
+        this.fit = new Fit(dimension);
+    }
+
+    /**
+     * Finds the nearest candidates in {@code [first, last]}.
+     *
+     * @param first          first candidate index
+     * @param last           last candidate index
+     * @param lastMatured    last candidate whose row can be memoized; later rows
+     *                       are read from {@code source} on every search
+     * @param source         candidate row source
+     * @param query          query features
+     * @param neighborCount  maximum neighbors to select
+     * @param minimumCount   minimum usable candidates required
+     * @return search outcome, or {@code null} when some candidate distance could
+     *         overflow and the caller must scan
+     */
+    synchronized Search search(int first, int last, int lastMatured, RowSource source, double[] query,
+            int neighborCount, int minimumCount) {
+        int memoLast = Math.min(last, lastMatured);
+        if (memoLast >= first) {
+            ensureRows(first, memoLast, source);
+        }
+        List<Row> pending = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+        for (int candidateIndex = Math.max(first, memoLast + 1); candidateIndex <= last; candidateIndex++) {
+            Row row = source.row(candidateIndex);
+            if (row != null) {
+                pending.add(row);
+                pendingIndexes.add(candidateIndex);
+            }
+        }
+
+        Fit windowFit = fit(first, memoLast);
+        if (!pending.isEmpty()) {
+            windowFit = windowFit.copy();
+            for (Row row : pending) {
+                windowFit.add(row.features());
+            }
+        }
+        if (windowFit.count < minimumCount || standardize && !windowFit.finite) {
+            return new Search(windowFit.count, null);
+        }
+        double[] means = new double[dimension];
+        double[] scales = new double[dimension];
+        if (standardize) {
+            for (int axis = 0; axis < dimension; axis++) {
+                means[axis] = windowFit.means[axis];
+                scales[axis] = Math.sqrt(windowFit.sumSquaredDifferences[axis] / windowFit.count);
+                if (!Double.isFinite(scales[axis])) {
+                    return new Search(windowFit.count, null);
+                }
+            }
+        }
+        double[] queryVector = new double[dimension];
+        for (int axis = 0; axis < dimension; axis++) {
+            queryVector[axis] = standardized(query[axis], axis, means, scales);
+        }
+
+        if (memoLast >= first) {
+            ensureTree(first, memoLast);
+        }
+        if (!distancesBounded(first, memoLast, pending, queryVector, means, scales)) {
+            return null;
+        }
+
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(neighborCount, ORDER.reversed());
+        double[] candidateVector = new double[dimension];
+        if (memoLast >= first && root >= 0) {
+            searchTree(first, memoLast, queryVector, means, scales, candidateVector, heap, neighborCount);
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            Row row = pending.get(i);
+            offer(heap, neighborCount, pendingIndexes.get(i), row.features(), row.realizedReturn(),
+                    distance(row.features(), queryVector, means, scales, candidateVector));
+        }
+        Neighbor[] ordered = heap.toArray(new Neighbor[0]);
+        Arrays.sort(ordered, ORDER);
+        return new Search(windowFit.count, List.of(ordered));
+    }
+
+    private void ensureRows(int first, int memoLast, RowSource source) {
+        if (rowCount == 0 || first < rowBase || first > rowBase + rowCount) {
+            rowBase = first;
+            rowCount = 0;
+            clearTree();
+            fitFirst = -1;
+        } else if (first - rowBase > REBUILD_SLACK && first - rowBase > rowCount / 2) {
+            int dropped = first - rowBase;
+            rowCount -= dropped;
+            System.arraycopy(rowFeatures, dropped, rowFeatures, 0, rowCount);
+            System.arraycopy(rowReturns, dropped, rowReturns, 0, rowCount);
+            Arrays.fill(rowFeatures, rowCount, rowCount + dropped, null);
+            Arrays.fill(rowReturns, rowCount, rowCount + dropped, null);
+            rowBase = first;
+            clearTree();
+        }
+        while (rowBase + rowCount <= memoLast) {
+            if (rowCount == rowFeatures.length) {
+                int capacity = Math.max(16, rowCount * 2);
+                rowFeatures = Arrays.copyOf(rowFeatures, capacity);
+                rowReturns = Arrays.copyOf(rowReturns, capacity);
+            }
+            Row row = source.row(rowBase + rowCount);
+            rowFeatures[rowCount] = row == null ? null : row.features().clone();
+            rowReturns[rowCount] = row == null ? null : row.realizedReturn();
+            rowCount++;
+        }
+    }
+
+    private Fit fit(int first, int memoLast) {
+        if (fitFirst != first || fitLast > memoLast) {
+            fit.reset();
+            fitFirst = first;
+            fitLast = first - 1;
+        }
+        for (int candidateIndex = fitLast + 1; candidateIndex <= memoLast; candidateIndex++) {
+            double[] features = rowFeatures[candidateIndex - rowBase];
+            if (features != null) {
+                fit.add(features);
+            }
+        }
+        fitLast = Math.max(fitLast, memoLast);
+        return fit;
+    }
+
+    private void ensureTree(int first, int memoLast) {
+        int windowRows = memoLast - first + 1;
+        if (root < 0 || first < treeFirst || first > treeLast + 1 || nodeCount > 2 * windowRows + REBUILD_SLACK) {
+            rebuild(first, memoLast);
+            return;
+        }
+        for (int candidateIndex = treeLast + 1; candidateIndex <= memoLast; candidateIndex++) {
+            if (rowFeatures[candidateIndex - rowBase] != null) {
+                insert(candidateIndex);
+            }
+        }
+        treeLast = Math.max(treeLast, memoLast);
+        if (nodeCount >= 2 * builtSize + REBUILD_SLACK) {
+            rebuild(first, memoLast);
+        }
+    }
+
+    private void clearTree() {
+        root = -1;
+        nodeCount = 0;
+        builtSize = 0;
+        treeLast = -1;
+    }
+
+    private void rebuild(int first, int memoLast) {
+        clearTree();
+        List<Integer> usable = new ArrayList<>();
+        for (int candidateIndex = first; candidateIndex <= memoLast; candidateIndex++) {
+            if (rowFeatures[candidateIndex - rowBase] != null) {
+                usable.add(candidateIndex);
+            }
+        }
+        ensureNodeCapacity(usable.size());
+        Integer[] order = usable.toArray(new Integer[0]);
+        Arrays.fill(boxMin, Double.POSITIVE_INFINITY);
+        Arrays.fill(boxMax, Double.NEGATIVE_INFINITY);
+        root = build(order, 0, order.length, 0);
+        treeFirst = first;
+        treeLast = memoLast;
+        builtSize = nodeCount;
+    }
+
+    private int build(Integer[] order, int from, int to, int depth) {
+        if (from >= to) {
+            return -1;
+        }
+        int axis = depth % dimension;
+        Arrays.sort(order, from, to, (a, b) -> compareKeys(a, b, axis));
+        int middle = (from + to) >>> 1;
+        int node = newNode(order[middle], axis);
+        left[node] = build(order, from, middle, depth + 1);
+        right[node] = build(order, middle + 1, to, depth + 1);
+        return node;
+    }
+
+    private void insert(int candidateIndex) {
+        ensureNodeCapacity(nodeCount + 1);
+        if (root < 0) {
+            root = newNode(candidateIndex, 0);
+            return;
+        }
+        int parent = root;
+        while (true) {
+            int axis = nodeAxis[parent];
+            boolean goLeft = compareKeys(candidateIndex, nodeIndex[parent], axis) < 0;
+            int child = goLeft ? left[parent] : right[parent];
+            if (child < 0) {
+                int node = newNode(candidateIndex, (axis + 1) % dimension);
+                if (goLeft) {
+                    left[parent] = node;
+                } else {
+                    right[parent] = node;
+                }
+                return;
+            }
+            parent = child;
+        }
+    }
+
+    private int newNode(int candidateIndex, int axis) {
+        int node = nodeCount++;
+        nodeIndex[node] = candidateIndex;
+        nodeAxis[node] = axis;
+        left[node] = -1;
+        right[node] = -1;
+        double[] features = rowFeatures[candidateIndex - rowBase];
+        for (int featureIndex = 0; featureIndex < dimension; featureIndex++) {
+            boxMin[featureIndex] = Math.min(boxMin[featureIndex], features[featureIndex]);
+            boxMax[featureIndex] = Math.max(boxMax[featureIndex], features[featureIndex]);
+        }
+        return node;
+    }
+
+    private void ensureNodeCapacity(int capacity) {
+        if (capacity > nodeIndex.length) {
+            int size = Math.max(capacity, Math.max(16, nodeIndex.length * 2));
+            nodeIndex = Arrays.copyOf(nodeIndex, size);
+            nodeAxis = Arrays.copyOf(nodeAxis, size);
+            left = Arrays.copyOf(left, size);
+            right = Arrays.copyOf(right, size);
+        }
+    }
+
+    private int compareKeys(int a, int b, int axis) {
+        int compared = Double.compare(rowFeatures[a - rowBase][axis], rowFeatures[b - rowBase][axis]);
+        return compared != 0 ? compared : Integer.compare(a, b);
+    }
+
+    /**
+     * Bounds every candidate distance by the per-axis extremes of the indexed and
+     * pending rows, so a finite bound proves the scan would find no overflow.
+     */
+    private boolean distancesBounded(int first, int memoLast, List<Row> pending, double[] queryVector,
+            double[] means, double[] scales) {
+        double[] low = new double[dimension];
+        double[] high = new double[dimension];
+        boolean indexed = memoLast >= first && root >= 0;
+        for (int axis = 0; axis < dimension; axis++) {
+            low[axis] = indexed ? boxMin[axis] : Double.POSITIVE_INFINITY;
+            high[axis] = indexed ? boxMax[axis] : Double.NEGATIVE_INFINITY;
+            for (Row row : pending) {
+                low[axis] = Math.min(low[axis], row.features()[axis]);
+                high[axis] = Math.max(high[axis], row.features()[axis]);
+            }
+        }
+        if (!indexed && pending.isEmpty()) {
+            return true;
+        }
+        double sum = 0d;
+        for (int axis = 0; axis < dimension; axis++) {
+            double below = Math.abs(standardized(low[axis], axis, means, scales) - queryVector[axis]);
+            double above = Math.abs(standardized(high[axis], axis, means, scales) - queryVector[axis]);
+            double widest = Math.max(below, above);
+            sum += widest * widest;
+        }
+        return Double.isFinite(Math.sqrt(sum));
+    }
+
+    private void searchTree(int first, int memoLast, double[] queryVector, double[] means, double[] scales,
+            double[] candidateVector, PriorityQueue<Neighbor> heap, int neighborCount) {
+        int[] stackNodes = new int[nodeCount + 1];
+        double[] stackBounds = new double[nodeCount + 1];
+        int top = 0;
+        stackNodes[top] = root;
+        stackBounds[top++] = 0d;
+        while (top > 0) {
+            int node = stackNodes[--top];
+            double bound = stackBounds[top];
+            if (heap.size() == neighborCount && bound > heap.peek().distance()) {
+                continue;
+            }
+            int candidateIndex = nodeIndex[node];
+            double[] features = rowFeatures[candidateIndex - rowBase];
+            if (candidateIndex >= first && candidateIndex <= memoLast) {
+                offer(heap, neighborCount, candidateIndex, features, rowReturns[candidateIndex - rowBase],
+                        distance(features, queryVector, means, scales, candidateVector));
+            }
+            int axis = nodeAxis[node];
+            double split = standardized(features[axis], axis, means, scales);
+            double gap = split - queryVector[axis];
+            double axisBound = Math.sqrt(gap * gap);
+            boolean queryLeft = queryVector[axis] < split;
+            int near = queryLeft ? left[node] : right[node];
+            int far = queryLeft ? right[node] : left[node];
+            if (far >= 0) {
+                stackNodes[top] = far;
+                stackBounds[top++] = Math.max(bound, axisBound);
+            }
+            if (near >= 0) {
+                stackNodes[top] = near;
+                stackBounds[top++] = bound;
+            }
+        }
+    }
+
+    private double distance(double[] features, double[] queryVector, double[] means, double[] scales,
+            double[] candidateVector) {
+        for (int axis = 0; axis < dimension; axis++) {
+            candidateVector[axis] = standardized(features[axis], axis, means, scales);
+        }
+        return distance.compute(candidateVector, queryVector);
+    }
+
+    private double standardized(double value, int axis, double[] means, double[] scales) {
+        if (!standardize) {
+            return value;
+        }
+        double scale = scales[axis];
+        return scale == 0d ? 0d : (value - means[axis]) / scale;
+    }
+
+    private static void offer(PriorityQueue<Neighbor> heap, int neighborCount, int candidateIndex,
+            double[] features, Num realizedReturn, double candidateDistance) {
+        Neighbor neighbor = new Neighbor(candidateIndex, features, realizedReturn, candidateDistance);
+        if (heap.size() < neighborCount) {
+            heap.add(neighbor);
+        } else if (ORDER.compare(neighbor, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(neighbor);
+        }
+    }
+
+    /**
+     * Welford feature moments in candidate order, matching a full scan.
+     */
+    private static final class Fit {
+
+        private int count;
+        private boolean finite = true;
+        private final double[] means;
+        private final double[] sumSquaredDifferences;
+
+        private Fit(int dimension) {
+            means = new double[dimension];
+            sumSquaredDifferences = new double[dimension];
+        }
+
+        private void reset() {
+            count = 0;
+            finite = true;
+            Arrays.fill(means, 0d);
+            Arrays.fill(sumSquaredDifferences, 0d);
+        }
+
+        private void add(double[] features) {
+            count++;
+            if (!finite) {
+                return;
+            }
+            for (int featureIndex = 0; featureIndex < means.length; featureIndex++) {
+                double value = features[featureIndex];
+                double difference = value - means[featureIndex];
+                means[featureIndex] += difference / count;
+                sumSquaredDifferences[featureIndex] += difference * (value - means[featureIndex]);
+                if (!Double.isFinite(means[featureIndex]) || !Double.isFinite(sumSquaredDifferences[featureIndex])) {
+                    finite = false;
+                    return;
+                }
+            }
+        }
+
+        private Fit copy() {
+            Fit copy = new Fit(means.length);
+            copy.count = count;
+            copy.finite = finite;
+            System.arraycopy(means, 0, copy.means, 0, means.length);
+            System.arraycopy(sumSquaredDifferences, 0, copy.sumSquaredDifferences, 0, means.length);
+            return copy;
+        }
+    }
+}
@@ -41,6 +41,11 @@ import org.ta4j.core.num.NumFactory;
  * {@link Forecast} whose support count is the selected-neighbor count.
  *
  * <p>
+ * Matured candidate rows are memoized and searched through an incremental k-d
+ * tree, so a full-history run no longer rebuilds and sorts every candidate per
+ * bar. The search is exact: forecasts match a full scan of the window.
+ *
+ * <p>
  * The shortest path uses a return-derived state source and the
  * {@code [mean, volatility]} log-return schema:
  *
@@ -67,6 +72,7 @@ public final class AnalogReturnProjectionIndicator<S extends ReturnMomentState>
     private final int minimumNeighborCount;
     private final boolean standardizeFeatures;
     private final List<Double> quantileProbabilities;
+    private final AnalogNeighborIndex neighborIndex;
 
     /**
      * Creates a one-bar analog projection with operator defaults.
@@ -102,6 +108,8 @@ public final class AnalogReturnProjectionIndicator<S extends ReturnMomentState>
         this.minimumNeighborCount = builder.minimumNeighborCount;
         this.standardizeFeatures = builder.standardizeFeatures;
         this.quantileProbabilities = builder.quantileProbabilities;
+        this.neighborIndex = builder.linearScan ? null
+                : new AnalogNeighborIndex(featureSchema.dimension(), standardizeFeatures, DISTANCE);
     }
 
     /**
@@ -151,6 +159,29 @@ public final class AnalogReturnProjectionIndicator<S extends ReturnMomentState>
 
         int lastCandidate = index - horizon;
         int firstCandidate = Math.max(getBarSeries().getBeginIndex(), lastCandidate - lookbackBarCount + 1);
+        if (neighborIndex != null) {
+            // rows whose forward returns end before the mutable last bar never change
+            int lastMatured = getBarSeries().getEndIndex() - horizon - 1;
+            AnalogNeighborIndex.Search search = neighborIndex.search(firstCandidate, lastCandidate, lastMatured,
+                    this::candidateRow, currentFeatures, neighborCount, minimumNeighborCount);
+            if (search != null) {
+                if (search.neighbors() == null || search.neighbors().size() < minimumNeighborCount) {
+                    return Forecast.unstable(index, horizon);
+                }
+                List<Candidate> neighbors = new ArrayList<>(search.neighbors().size());
+                for (AnalogNeighborIndex.Neighbor neighbor : search.neighbors()) {
+                    Candidate candidate = new Candidate(neighbor.index(), neighbor.features(),
+                            neighbor.realizedReturn());
+                    candidate.distance(neighbor.distance());
+                    neighbors.add(candidate);
+                }
+                return summarize(index, neighbors);
+            }
+        }
+        return scan(index, firstCandidate, lastCandidate, currentFeatures);
+    }
+
+    private Forecast scan(int index, int firstCandidate, int lastCandidate, double[] currentFeatures) {
         List<Candidate> candidates = new ArrayList<>(lookbackBarCount);
         for (int candidateIndex = firstCandidate; candidateIndex <= lastCandidate; candidateIndex++) {
             S candidateState = stateIndicator.getValue(candidateIndex);
@@ -221,6 +252,12 @@ public final class AnalogReturnProjectionIndicator<S extends ReturnMomentState>
         return ReturnRepresentation.LOG;
     }
 
+    private AnalogNeighborIndex.Row candidateRow(int candidateIndex) {
+        double[] features = usableFeatures(stateIndicator.getValue(candidateIndex), candidateIndex);
+        Num realizedReturn = features == null ? null : cumulativeReturn(candidateIndex);
+        return realizedReturn == null ? null : new AnalogNeighborIndex.Row(features, realizedReturn);
+    }
+
     private double[] usableFeatures(S state, int expectedIndex) {
         if (state == null) {
             return null;
@@ -490,6 +527,7 @@ public final class AnalogReturnProjectionIndicator<S extends ReturnMomentState>
         private ForecastFeatureExtractor<? super S> featureExtractor = ForecastFeatureExtractors
                 .meanVolatility(ReturnRepresentation.LOG);
         private List<Double> quantileProbabilities = Forecast.DEFAULT_QUANTILE_PROBABILITIES;
+        private boolean linearScan;
 
         private Builder(ForecastStateIndicator<S> stateIndicator, ReturnIndicator returnIndicator) {
             this.stateIndicator = Objects.requireNonNull(stateIndicator, "stateIndicator must not be null");
@@ -585,6 +623,19 @@ public final class AnalogReturnProjectionIndicator<S extends ReturnMomentState>
             return this;
         }
 
+        /**
+         * Scans every candidate per decision instead of using the incremental
+         * neighbor index. Both paths produce identical forecasts; the scan is kept
+         * as the reference implementation.
+         *
+         * @param value {@code true} to scan
+         * @return this builder
+         */
+        Builder<S> linearScan(boolean value) {
+            linearScan = value;
+            return this;
+        }
+
         /**
          * Builds the validated analog projection.
          *
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators.forecast;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable streaming quantile sketch with relative value accuracy.
+ *
+ * <p>
+ * Values are counted in logarithmically sized buckets, separately for positive
+ * and negative magnitudes, so every quantile is returned within
+ * {@code relativeAccuracy} of a value whose rank matches the request. Values
+ * closer to zero than {@link #MIN_MAGNITUDE} share one zero bucket. Counting is
+ * commutative, so merging per-block sketches in any order yields the same
+ * sketch. The extreme quantiles return the exact observed minimum and maximum.
+ *
+ * @since 0.23.1
+ */
+final class LogBucketQuantileSketch {
+
+    static final double MIN_MAGNITUDE = 1e-12;
+
+    private final double gamma;
+    private final double logGamma;
+    private final Buckets positive = new Buckets();
+    private final Buckets negative = new Buckets();
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    LogBucketQuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0d && relativeAccuracy < 1d)) {
+            throw new IllegalArgumentException("relativeAccuracy must be in (0, 1)");
+        }
+        this.gamma = (1d + relativeAccuracy) / (1d - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    void add(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("value must be finite");
+        }
+        double magnitude = Math.abs(value);
+        if (magnitude < MIN_MAGNITUDE) {
+            zeroCount++;
+        } else if (value > 0d) {
+            positive.increment(bucket(magnitude), 1);
+        } else {
+            negative.increment(bucket(magnitude), 1);
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    void merge(LogBucketQuantileSketch other) {
+        if (Double.compare(gamma, other.gamma) != 0) {
+            throw new IllegalArgumentException("sketches must share relativeAccuracy");
+        }
+        positive.merge(other.positive);
+        negative.merge(other.negative);
+        zeroCount += other.zeroCount;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * Returns the value at rank {@code probability * (count - 1)}.
+     *
+     * @param probability probability in {@code [0, 1]}
+     * @return approximate quantile, or {@code NaN} when empty
+     */
+    double quantile(double probability) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (probability <= 0d) {
+            return min;
+        }
+        if (probability >= 1d) {
+            return max;
+        }
+        double rank = probability * (count - 1);
+        long seen = 0;
+        for (int i = negative.counts.length - 1; i >= 0; i--) {
+            seen += negative.counts[i];
+            if (seen > rank) {
+                return clamp(-value(negative.offset + i));
+            }
+        }
+        seen += zeroCount;
+        if (seen > rank) {
+            return clamp(0d);
+        }
+        for (int i = 0; i < positive.counts.length; i++) {
+            seen += positive.counts[i];
+            if (seen > rank) {
+                return clamp(value(positive.offset + i));
+            }
+        }
+        return max;
+    }
+
+    private int bucket(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    private double value(int bucket) {
+        return 2d * Math.pow(gamma, bucket) / (gamma + 1d);
+    }
+
+    private double clamp(double value) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /** Dense counts over the occupied bucket range. */
+    private static final class Buckets {
+
+        private int offset;
+        private long[] counts = new long[0];
+
+        private void increment(int bucket, long amount) {
+            if (counts.length == 0) {
+                offset = bucket;
+                counts = new long[1];
+            } else if (bucket < offset) {
+                long[] grown = new long[counts.length + offset - bucket];
+                System.arraycopy(counts, 0, grown, offset - bucket, counts.length);
+                counts = grown;
+                offset = bucket;
+            } else if (bucket >= offset + counts.length) {
+                counts = Arrays.copyOf(counts, bucket - offset + 1);
+            }
+            counts[bucket - offset] += amount;
+        }
+
+        private void merge(Buckets other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] != 0) {
+                    increment(other.offset + i, other.counts[i]);
+                }
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.ta4j.core.criteria.ReturnRepresentation;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.IndicatorUtils;
 import org.ta4j.core.indicators.ReturnIndicator;
+import org.ta4j.core.indicators.forecast.MonteCarloReturnProjectionIndicator.SimulationEngine;
 import org.ta4j.core.indicators.forecast.projection.Forecast;
 import org.ta4j.core.indicators.forecast.projection.ForecastProjectionIndicator;
 import org.ta4j.core.indicators.forecast.state.ReturnForecastStateIndicator;
@@ -123,6 +124,7 @@ public final class MonteCarloPriceForecastIndicator extends CachedIndicator<Fore
         }
         NumFactory numFactory = price.getNumFactory();
         Num exponentLimit = numFactory.numOf(MAX_EXPONENT);
+        double primitivePrice = price.doubleValue();
         return simulation.project(index, cumulativeReturn -> {
             Num normalizedReturn = numFactory.numOf(cumulativeReturn.bigDecimalValue());
             if (!Num.isFinite(normalizedReturn) || normalizedReturn.isZero() && !cumulativeReturn.isZero()
@@ -132,6 +134,12 @@ public final class MonteCarloPriceForecastIndicator extends CachedIndicator<Fore
             Num growth = normalizedReturn.exp();
             Num terminalPrice = price.multipliedBy(growth);
             return terminalPrice.isZero() && !growth.isZero() ? null : terminalPrice;
+        }, cumulativeReturn -> {
+            if (Math.abs(cumulativeReturn) > MAX_EXPONENT) {
+                return Double.NaN;
+            }
+            double terminalPrice = primitivePrice * Math.exp(cumulativeReturn);
+            return terminalPrice > 0d ? terminalPrice : Double.NaN;
         });
     }
 
@@ -205,6 +213,7 @@ public final class MonteCarloPriceForecastIndicator extends CachedIndicator<Fore
         private MonteCarloReturnProjectionIndicator.VolatilityUpdateMode volatilityUpdateMode = MonteCarloReturnProjectionIndicator.VolatilityUpdateMode.CONSTANT;
         private double volatilityDecayFactor = 0.94d;
         private List<Double> quantileProbabilities = Forecast.DEFAULT_QUANTILE_PROBABILITIES;
+        private SimulationEngine engine = SimulationEngine.EXACT;
 
         private Builder(Indicator<Num> priceIndicator,
                 ReturnForecastStateIndicator<? extends ReturnMomentState> stateIndicator) {
@@ -296,6 +305,19 @@ public final class MonteCarloPriceForecastIndicator extends CachedIndicator<Fore
             return this;
         }
 
+        /**
+         * Sets the path engine. {@link SimulationEngine#PRIMITIVE} trades exact
+         * {@link Num} arithmetic for parallel primitive paths.
+         *
+         * @param value simulation engine
+         * @return this builder
+         * @since 0.23.1
+         */
+        public Builder simulationEngine(SimulationEngine value) {
+            engine = value;
+            return this;
+        }
+
         /**
          * Sets the quantile probabilities summarized from terminal prices.
          *
@@ -325,7 +347,7 @@ public final class MonteCarloPriceForecastIndicator extends CachedIndicator<Fore
 
         private MonteCarloSettings settings() {
             return new MonteCarloSettings(horizon, iterationCount, lookbackBarCount, seed, shockModel,
-                    volatilityUpdateMode, volatilityDecayFactor, quantileProbabilities);
+                    volatilityUpdateMode, volatilityDecayFactor, quantileProbabilities, engine);
         }
     }
 }
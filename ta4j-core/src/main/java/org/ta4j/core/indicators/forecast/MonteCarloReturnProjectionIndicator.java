@@ -64,7 +64,7 @@ public final class MonteCarloReturnProjectionIndicator extends CachedIndicator<F
 
     @Override
     protected Forecast calculate(int index) {
-        return simulation.project(index, value -> value);
+        return simulation.project(index, value -> value, value -> value);
     }
 
     /**
@@ -136,6 +136,26 @@ public final class MonteCarloReturnProjectionIndicator extends CachedIndicator<F
         EWMA
     }
 
+    /**
+     * Path simulation engine.
+     *
+     * @since 0.23.1
+     */
+    public enum SimulationEngine {
+        /**
+         * Simulate paths sequentially with {@link org.ta4j.core.num.Num} arithmetic
+         * and summarize every terminal value exactly.
+         */
+        EXACT,
+        /**
+         * Simulate blocks of paths on {@code double} arrays across the common
+         * fork-join pool, each block with its own split seed stream, and summarize
+         * terminal values with streaming moments and a relative-error quantile
+         * sketch. Seeded forecasts do not depend on the thread count.
+         */
+        PRIMITIVE
+    }
+
     /**
      * Builder for advanced Monte Carlo settings.
      *
@@ -152,6 +172,7 @@ public final class MonteCarloReturnProjectionIndicator extends CachedIndicator<F
         private VolatilityUpdateMode volatilityUpdateMode = VolatilityUpdateMode.CONSTANT;
         private double volatilityDecayFactor = 0.94d;
         private List<Double> quantileProbabilities = Forecast.DEFAULT_QUANTILE_PROBABILITIES;
+        private SimulationEngine engine = SimulationEngine.EXACT;
 
         private Builder(ReturnForecastStateIndicator<? extends ReturnMomentState> stateIndicator) {
             this.stateIndicator = Objects.requireNonNull(stateIndicator, "stateIndicator must not be null");
@@ -241,6 +262,19 @@ public final class MonteCarloReturnProjectionIndicator extends CachedIndicator<F
             return this;
         }
 
+        /**
+         * Sets the path engine. {@link SimulationEngine#PRIMITIVE} trades exact
+         * {@link org.ta4j.core.num.Num} arithmetic for parallel primitive paths.
+         *
+         * @param value simulation engine
+         * @return this builder
+         * @since 0.23.1
+         */
+        public Builder simulationEngine(SimulationEngine value) {
+            engine = value;
+            return this;
+        }
+
         /**
          * Sets the quantile probabilities summarized from terminal paths.
          *
@@ -270,7 +304,7 @@ public final class MonteCarloReturnProjectionIndicator extends CachedIndicator<F
 
         private MonteCarloSettings settings() {
             return new MonteCarloSettings(horizon, iterationCount, lookbackBarCount, seed, shockModel,
-                    volatilityUpdateMode, volatilityDecayFactor, quantileProbabilities);
+                    volatilityUpdateMode, volatilityDecayFactor, quantileProbabilities, engine);
         }
     }
 }
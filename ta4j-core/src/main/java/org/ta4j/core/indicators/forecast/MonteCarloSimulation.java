@@ -7,7 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.SplittableRandom;
-import java.util.TreeSet;
+import java.util.function.DoubleUnaryOperator;
 import java.util.random.RandomGenerator;
 
 import org.ta4j.core.criteria.ReturnRepresentation;
@@ -25,16 +25,20 @@ final class MonteCarloSimulation {
     private final ReturnForecastStateIndicator<? extends ReturnMomentState> stateIndicator;
     private final ReturnIndicator returnIndicator;
     private final MonteCarloSettings settings;
+    private final PrimitiveMonteCarloEngine primitiveEngine;
 
     MonteCarloSimulation(ReturnForecastStateIndicator<? extends ReturnMomentState> stateIndicator,
             MonteCarloSettings settings) {
         this.stateIndicator = validateStateIndicator(stateIndicator);
         this.returnIndicator = this.stateIndicator.getReturnIndicator();
         this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.primitiveEngine = settings.engine() == MonteCarloReturnProjectionIndicator.SimulationEngine.PRIMITIVE
+                ? new PrimitiveMonteCarloEngine(settings)
+                : null;
         IndicatorUtils.requireSameSeries(returnIndicator, this.stateIndicator);
     }
 
-    Forecast project(int index, TerminalValueMapper mapper) {
+    Forecast project(int index, TerminalValueMapper mapper, DoubleUnaryOperator primitiveMapper) {
         if (index < getCountOfUnstableBars()) {
             return Forecast.unstable(index, settings.horizon());
         }
@@ -57,6 +61,16 @@ final class MonteCarloSimulation {
             return Forecast.unstable(index, settings.horizon());
         }
 
+        if (primitiveEngine != null) {
+            double[] primitiveReturns = new double[historicalReturns.size()];
+            for (int i = 0; i < primitiveReturns.length; i++) {
+                primitiveReturns[i] = historicalReturns.get(i).doubleValue();
+            }
+            return primitiveEngine.project(index, mixSeed(settings.seed(), index, settings.horizon()),
+                    primitiveReturns, state.mean().doubleValue(), state.drift().doubleValue(),
+                    state.variance().doubleValue(), primitiveMapper, numFactory);
+        }
+
         ShockSampler sampler = ShockSampler.create(settings.shockModel(), historicalReturns, state, numFactory);
         RandomGenerator random = new SplittableRandom(mixSeed(settings.seed(), index, settings.horizon()));
         List<Num> terminalValues = new ArrayList<>(settings.iterationCount());
@@ -213,33 +227,3 @@ final class MonteCarloSimulation {
         }
     }
 }
-
-record MonteCarloSettings(int horizon, int iterationCount, int lookbackBarCount, long seed,
-        MonteCarloReturnProjectionIndicator.ShockModel shockModel,
-        MonteCarloReturnProjectionIndicator.VolatilityUpdateMode volatilityUpdateMode, double volatilityDecayFactor,
-        List<Double> quantileProbabilities) {
-
-    MonteCarloSettings {
-        if (horizon < 1 || iterationCount < 1 || lookbackBarCount < 1) {
-            throw new IllegalArgumentException("horizon, iterationCount, and lookbackBarCount must be >= 1");
-        }
-        shockModel = Objects.requireNonNull(shockModel, "shockModel must not be null");
-        volatilityUpdateMode = Objects.requireNonNull(volatilityUpdateMode, "volatilityUpdateMode must not be null");
-        if (Double.isNaN(volatilityDecayFactor) || volatilityDecayFactor <= 0d || volatilityDecayFactor >= 1d) {
-            throw new IllegalArgumentException("volatilityDecayFactor must be in (0, 1)");
-        }
-        List<Double> input = Objects.requireNonNull(quantileProbabilities, "quantileProbabilities must not be null");
-        if (input.isEmpty()) {
-            throw new IllegalArgumentException("quantileProbabilities must not be empty");
-        }
-        TreeSet<Double> sorted = new TreeSet<>();
-        for (Double probability : input) {
-            Double value = Objects.requireNonNull(probability, "quantile probability must not be null");
-            if (Double.isNaN(value) || value < 0d || value > 1d) {
-                throw new IllegalArgumentException("quantile probability must be in [0, 1]");
-            }
-            sorted.add(value);
-        }
-        quantileProbabilities = List.copyOf(sorted);
-    }
-}
@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators.forecast;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.IntStream;
+
+import org.ta4j.core.indicators.forecast.MonteCarloReturnProjectionIndicator.ShockModel;
+import org.ta4j.core.indicators.forecast.MonteCarloReturnProjectionIndicator.VolatilityUpdateMode;
+import org.ta4j.core.indicators.forecast.projection.Forecast;
+import org.ta4j.core.indicators.forecast.projection.ForecastSupport;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Primitive-array Monte Carlo path engine used by
+ * {@link MonteCarloReturnProjectionIndicator.SimulationEngine#PRIMITIVE}.
+ *
+ * <p>
+ * Paths are simulated in fixed-size blocks, one {@code double} array per path
+ * attribute, stepping every path of a block together. Each block draws from its
+ * own stream split from the decision seed in block order, and block summaries
+ * are merged in block order, so seeded forecasts do not depend on how many
+ * threads ran the blocks. Terminal values are summarized with streaming moments
+ * and a {@link LogBucketQuantileSketch} over cumulative log returns whose
+ * quantiles are mapped through the non-decreasing terminal-value mapper.
+ *
+ * @since 0.23.1
+ */
+final class PrimitiveMonteCarloEngine {
+
+    static final int BLOCK_SIZE = 1_024;
+    static final double RELATIVE_ACCURACY = 1e-3;
+
+    private final MonteCarloSettings settings;
+
+    PrimitiveMonteCarloEngine(MonteCarloSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Simulates every path and summarizes mapped terminal values.
+     *
+     * @param index             decision index
+     * @param seed              decision seed
+     * @param historicalReturns lookback log returns
+     * @param mean              state mean
+     * @param drift             state drift
+     * @param variance          state variance
+     * @param mapper            non-decreasing cumulative-return mapper returning
+     *                          {@code NaN} for unusable values
+     * @param numFactory        factory for the summary
+     * @return forecast, unstable when any path or mapped value is not finite
+     */
+    Forecast project(int index, long seed, double[] historicalReturns, double mean, double drift, double variance,
+            DoubleUnaryOperator mapper, NumFactory numFactory) {
+        int iterations = settings.iterationCount();
+        int blockCount = (iterations + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            streams[block] = root.split();
+        }
+        double volatility = variance == 0d ? 0d : Math.sqrt(variance);
+        double[] shocks = shocks(historicalReturns, mean, volatility);
+
+        IntStream blocks = IntStream.range(0, blockCount);
+        if (blockCount > 1) {
+            blocks = blocks.parallel();
+        }
+        BlockSummary[] summaries = blocks.mapToObj(block -> simulateBlock(streams[block],
+                Math.min(BLOCK_SIZE, iterations - block * BLOCK_SIZE), shocks, mean, drift, variance, mapper))
+                .toArray(BlockSummary[]::new);
+
+        BlockSummary total = summaries[0];
+        for (int block = 1; block < summaries.length; block++) {
+            if (total == null || summaries[block] == null) {
+                total = null;
+                break;
+            }
+            total.merge(summaries[block]);
+        }
+        if (total == null) {
+            return Forecast.unstable(index, settings.horizon());
+        }
+        return summarize(index, total, mapper, numFactory);
+    }
+
+    private double[] shocks(double[] historicalReturns, double mean, double volatility) {
+        return switch (settings.shockModel()) {
+        case HISTORICAL_BOOTSTRAP -> historicalReturns;
+        case STANDARDIZED_EMPIRICAL -> {
+            double[] standardized = new double[historicalReturns.length];
+            if (volatility != 0d) {
+                for (int i = 0; i < standardized.length; i++) {
+                    standardized[i] = (historicalReturns[i] - mean) / volatility;
+                }
+            }
+            yield standardized;
+        }
+        case NORMAL -> null;
+        };
+    }
+
+    private BlockSummary simulateBlock(SplittableRandom random, int paths, double[] shocks, double mean, double drift,
+            double variance, DoubleUnaryOperator mapper) {
+        boolean bootstrap = settings.shockModel() == ShockModel.HISTORICAL_BOOTSTRAP;
+        boolean ewma = settings.volatilityUpdateMode() == VolatilityUpdateMode.EWMA;
+        double decay = settings.volatilityDecayFactor();
+        double oneMinusDecay = 1d - decay;
+        double[] cumulative = new double[paths];
+        double[] pathMeans = new double[paths];
+        double[] pathVariances = new double[paths];
+        double[] pathVolatilities = new double[paths];
+        Arrays.fill(pathMeans, mean);
+        Arrays.fill(pathVariances, variance);
+        Arrays.fill(pathVolatilities, variance == 0d ? 0d : Math.sqrt(variance));
+
+        for (int step = 0; step < settings.horizon(); step++) {
+            for (int path = 0; path < paths; path++) {
+                double shock = shocks == null ? random.nextGaussian() : shocks[random.nextInt(shocks.length)];
+                double stepReturn = bootstrap ? shock : drift + pathVolatilities[path] * shock;
+                cumulative[path] += stepReturn;
+                if (ewma) {
+                    double deviation = stepReturn - pathMeans[path];
+                    pathMeans[path] = pathMeans[path] * decay + stepReturn * oneMinusDecay;
+                    pathVariances[path] = pathVariances[path] * decay + deviation * deviation * oneMinusDecay;
+                    pathVolatilities[path] = pathVariances[path] == 0d ? 0d : Math.sqrt(pathVariances[path]);
+                }
+            }
+        }
+
+        BlockSummary summary = new BlockSummary();
+        for (int path = 0; path < paths; path++) {
+            double cumulativeReturn = cumulative[path];
+            double terminalValue = Double.isFinite(cumulativeReturn) ? mapper.applyAsDouble(cumulativeReturn)
+                    : Double.NaN;
+            if (!Double.isFinite(terminalValue)) {
+                return null;
+            }
+            summary.add(cumulativeReturn, terminalValue);
+        }
+        return summary;
+    }
+
+    private Forecast summarize(int index, BlockSummary total, DoubleUnaryOperator mapper, NumFactory numFactory) {
+        double standardDeviation = Math.sqrt(total.m2 / total.count);
+        Num median = terminalQuantile(total, mapper, 0.5d, numFactory);
+        if (!Double.isFinite(total.mean) || !Double.isFinite(standardDeviation) || median == null) {
+            return Forecast.unstable(index, settings.horizon());
+        }
+        Map<Double, Num> quantiles = new LinkedHashMap<>();
+        for (double probability : settings.quantileProbabilities()) {
+            Num value = Double.compare(probability, 0.5d) == 0 ? median
+                    : terminalQuantile(total, mapper, probability, numFactory);
+            if (value == null) {
+                return Forecast.unstable(index, settings.horizon());
+            }
+            quantiles.put(probability, value);
+        }
+        try {
+            return Forecast
+                    .builder(index, settings.horizon(), numFactory, ForecastSupport.empirical((int) total.count))
+                    .mean(numFactory.numOf(total.mean))
+                    .median(median)
+                    .standardDeviation(numFactory.numOf(standardDeviation))
+                    .quantiles(quantiles)
+                    .build();
+        } catch (IllegalArgumentException | ArithmeticException exception) {
+            return Forecast.unstable(index, settings.horizon());
+        }
+    }
+
+    private static Num terminalQuantile(BlockSummary total, DoubleUnaryOperator mapper, double probability,
+            NumFactory numFactory) {
+        double value = mapper.applyAsDouble(total.sketch.quantile(probability));
+        return Double.isFinite(value) ? numFactory.numOf(value) : null;
+    }
+
+    /** Streaming terminal-value moments and cumulative-return sketch. */
+    private static final class BlockSummary {
+
+        private long count;
+        private double mean;
+        private double m2;
+        private final LogBucketQuantileSketch sketch = new LogBucketQuantileSketch(RELATIVE_ACCURACY);
+
+        private void add(double cumulativeReturn, double terminalValue) {
+            count++;
+            double delta = terminalValue - mean;
+            mean += delta / count;
+            m2 += delta * (terminalValue - mean);
+            sketch.add(cumulativeReturn);
+        }
+
+        private void merge(BlockSummary other) {
+            long combined = count + other.count;
+            double delta = other.mean - mean;
+            mean += delta * other.count / combined;
+            m2 += other.m2 + delta * delta * count / combined * other.count;
+            count = combined;
+            sketch.merge(other.sketch);
+        }
+    }
+}
@@ -32,10 +32,11 @@ public final class LPPLCalibrationProfile {
     private final int criticalOffsetStep;
     private final int maxEvaluations;
     private final double minRSquared;
+    private final int warmStartInterval;
 
     LPPLCalibrationProfile(int window, double minM, double maxM, int mSteps, double minOmega, double maxOmega,
             int omegaSteps, int minCriticalOffset, int maxCriticalOffset, int criticalOffsetStep, int maxEvaluations,
-            double minRSquared) {
+            double minRSquared, int warmStartInterval) {
         if (window < MINIMUM_WINDOW) {
             throw new IllegalArgumentException("window must be at least 5 bars");
         }
@@ -63,6 +64,9 @@ public final class LPPLCalibrationProfile {
         if (!Double.isFinite(minRSquared) || minRSquared < 0 || minRSquared > 1) {
             throw new IllegalArgumentException("minRSquared must be between 0 and 1");
         }
+        if (warmStartInterval < 0) {
+            throw new IllegalArgumentException("warmStartInterval must not be negative");
+        }
         this.window = window;
         this.minM = minM;
         this.maxM = maxM;
@@ -75,6 +79,7 @@ public final class LPPLCalibrationProfile {
         this.criticalOffsetStep = criticalOffsetStep;
         this.maxEvaluations = maxEvaluations;
         this.minRSquared = minRSquared;
+        this.warmStartInterval = warmStartInterval;
     }
 
     /**
@@ -82,7 +87,7 @@ public final class LPPLCalibrationProfile {
      * @since 0.23.1
      */
     public static LPPLCalibrationProfile defaults() {
-        return new LPPLCalibrationProfile(500, 0.1, 0.9, 5, 6.0, 13.0, 8, 1, 60, 5, 120, 0.75);
+        return new LPPLCalibrationProfile(500, 0.1, 0.9, 5, 6.0, 13.0, 8, 1, 60, 5, 120, 0.75, 0);
     }
 
     /**
@@ -92,7 +97,7 @@ public final class LPPLCalibrationProfile {
      */
     public LPPLCalibrationProfile withWindow(int window) {
         return copy(window, minM, maxM, mSteps, minOmega, maxOmega, omegaSteps, minCriticalOffset, maxCriticalOffset,
-                criticalOffsetStep, maxEvaluations, minRSquared);
+                criticalOffsetStep, maxEvaluations, minRSquared, warmStartInterval);
     }
 
     /**
@@ -104,7 +109,7 @@ public final class LPPLCalibrationProfile {
      */
     public LPPLCalibrationProfile withExponentSearch(double minM, double maxM, int steps) {
         return copy(window, minM, maxM, steps, minOmega, maxOmega, omegaSteps, minCriticalOffset, maxCriticalOffset,
-                criticalOffsetStep, maxEvaluations, minRSquared);
+                criticalOffsetStep, maxEvaluations, minRSquared, warmStartInterval);
     }
 
     /**
@@ -116,7 +121,7 @@ public final class LPPLCalibrationProfile {
      */
     public LPPLCalibrationProfile withFrequencySearch(double minOmega, double maxOmega, int steps) {
         return copy(window, minM, maxM, mSteps, minOmega, maxOmega, steps, minCriticalOffset, maxCriticalOffset,
-                criticalOffsetStep, maxEvaluations, minRSquared);
+                criticalOffsetStep, maxEvaluations, minRSquared, warmStartInterval);
     }
 
     /**
@@ -131,7 +136,7 @@ public final class LPPLCalibrationProfile {
      */
     public LPPLCalibrationProfile withCriticalTimeSearch(int minimumOffset, int maximumOffset, int step) {
         return copy(window, minM, maxM, mSteps, minOmega, maxOmega, omegaSteps, minimumOffset, maximumOffset, step,
-                maxEvaluations, minRSquared);
+                maxEvaluations, minRSquared, warmStartInterval);
     }
 
     /**
@@ -142,7 +147,25 @@ public final class LPPLCalibrationProfile {
      */
     public LPPLCalibrationProfile withOptimizerSettings(int maxEvaluations, double minRSquared) {
         return copy(window, minM, maxM, mSteps, minOmega, maxOmega, omegaSteps, minCriticalOffset, maxCriticalOffset,
-                criticalOffsetStep, maxEvaluations, minRSquared);
+                criticalOffsetStep, maxEvaluations, minRSquared, warmStartInterval);
+    }
+
+    /**
+     * Warm-starts each fit from the qualified fit of the previous bar instead of
+     * the full grid search. The grid search still runs every
+     * {@code reseedInterval} bars (at indices divisible by it) and whenever the
+     * previous fit is not qualified or the warm-started fit misses
+     * {@link #minRSquared()}, so each value depends only on the bars since the
+     * last reseed and never on the order in which indices are requested.
+     *
+     * @param reseedInterval bars between full grid searches, or {@code 0} to run
+     *                       the grid search for every bar
+     * @return a profile using the supplied warm-start setting
+     * @since 0.23.1
+     */
+    public LPPLCalibrationProfile withWarmStart(int reseedInterval) {
+        return copy(window, minM, maxM, mSteps, minOmega, maxOmega, omegaSteps, minCriticalOffset, maxCriticalOffset,
+                criticalOffsetStep, maxEvaluations, minRSquared, reseedInterval);
     }
 
     /**
@@ -241,11 +264,20 @@ public final class LPPLCalibrationProfile {
         return minRSquared;
     }
 
+    /**
+     * @return bars between full grid searches when warm-starting, or {@code 0}
+     *         when every bar runs the grid search
+     * @since 0.23.1
+     */
+    public int warmStartInterval() {
+        return warmStartInterval;
+    }
+
     private LPPLCalibrationProfile copy(int window, double minM, double maxM, int mSteps, double minOmega,
             double maxOmega, int omegaSteps, int minCriticalOffset, int maxCriticalOffset, int criticalOffsetStep,
-            int maxEvaluations, double minRSquared) {
+            int maxEvaluations, double minRSquared, int warmStartInterval) {
         return new LPPLCalibrationProfile(window, minM, maxM, mSteps, minOmega, maxOmega, omegaSteps, minCriticalOffset,
-                maxCriticalOffset, criticalOffsetStep, maxEvaluations, minRSquared);
+                maxCriticalOffset, criticalOffsetStep, maxEvaluations, minRSquared, warmStartInterval);
     }
 
     @Override
@@ -261,13 +293,13 @@ public final class LPPLCalibrationProfile {
                 && Double.compare(maxOmega, other.maxOmega) == 0 && omegaSteps == other.omegaSteps
                 && minCriticalOffset == other.minCriticalOffset && maxCriticalOffset == other.maxCriticalOffset
                 && criticalOffsetStep == other.criticalOffsetStep && maxEvaluations == other.maxEvaluations
-                && Double.compare(minRSquared, other.minRSquared) == 0;
+                && Double.compare(minRSquared, other.minRSquared) == 0 && warmStartInterval == other.warmStartInterval;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(window, minM, maxM, mSteps, minOmega, maxOmega, omegaSteps, minCriticalOffset,
-                maxCriticalOffset, criticalOffsetStep, maxEvaluations, minRSquared);
+                maxCriticalOffset, criticalOffsetStep, maxEvaluations, minRSquared, warmStartInterval);
     }
 
     @Override
@@ -276,6 +308,6 @@ public final class LPPLCalibrationProfile {
                 + ", minOmega=" + minOmega + ", maxOmega=" + maxOmega + ", omegaSteps=" + omegaSteps
                 + ", minCriticalOffset=" + minCriticalOffset + ", maxCriticalOffset=" + maxCriticalOffset
                 + ", criticalOffsetStep=" + criticalOffsetStep + ", maxEvaluations=" + maxEvaluations + ", minRSquared="
-                + minRSquared + "]";
+                + minRSquared + ", warmStartInterval=" + warmStartInterval + "]";
     }
 }
@@ -4,6 +4,7 @@
 package org.ta4j.core.indicators.lppl;
 
 import java.util.Arrays;
+import java.util.stream.IntStream;
 
 import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.fitting.leastsquares.LeastSquaresBuilder;
@@ -13,16 +14,14 @@ import org.apache.commons.math3.fitting.leastsquares.MultivariateJacobianFunctio
 import org.apache.commons.math3.fitting.leastsquares.ParameterValidator;
 import org.apache.commons.math3.linear.Array2DRowRealMatrix;
 import org.apache.commons.math3.linear.ArrayRealVector;
-import org.apache.commons.math3.linear.DecompositionSolver;
-import org.apache.commons.math3.linear.QRDecomposition;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.RealVector;
-import org.apache.commons.math3.linear.SingularMatrixException;
 import org.apache.commons.math3.util.Pair;
 
 final class LPPLFitCalibrator {
 
     private static final double SINGULARITY_THRESHOLD = 1e-9;
+    private static final long PARALLEL_GRID_THRESHOLD = 1L << 16;
 
     private final LPPLCalibrationProfile profile;
 
@@ -35,6 +34,19 @@ final class LPPLFitCalibrator {
      * log price. The optimizer never receives the evaluated value.
      */
     LPPLFit fit(double[] trainingLogPrices, double evaluationLogPrice) {
+        return fit(trainingLogPrices, evaluationLogPrice, null);
+    }
+
+    /**
+     * Fits like {@link #fit(double[], double)}, first starting the optimizer from
+     * the previous bar's fit. Its critical time is shifted one bar earlier to the
+     * current window; the grid search runs only when that warm fit fails or misses
+     * the profile's minimum R².
+     *
+     * @param previousFit qualified fit of the window ending one bar earlier, or
+     *                    {@code null} to run the grid search
+     */
+    LPPLFit fit(double[] trainingLogPrices, double evaluationLogPrice, LPPLFit previousFit) {
         int window = trainingLogPrices.length;
         if (window < LPPLCalibrationProfile.MINIMUM_WINDOW) {
             return LPPLFit.invalid(window, LPPLFitStatus.INSUFFICIENT_DATA);
@@ -48,28 +60,45 @@ final class LPPLFitCalibrator {
             }
         }
 
-        NonlinearFit seed = gridSearch(trainingLogPrices);
+        LinearModel model = new LinearModel(trainingLogPrices);
+        if (previousFit != null && previousFit.isConverged() && previousFit.window() == window) {
+            double[] start = clamp(
+                    new double[] { previousFit.criticalTime() - 1.0, previousFit.m(), previousFit.omega() }, window);
+            NonlinearFit warmFit = calibrate(model, solveLinear(model, start[0], start[1], start[2], 0));
+            if (warmFit != null && warmFit.rSquared >= profile.minRSquared()) {
+                return warmFit.toFit(trainingLogPrices, evaluationLogPrice);
+            }
+        }
+
+        NonlinearFit seed = gridSearch(model);
         if (seed == null || !seed.isFinite()) {
             return LPPLFit.invalid(window, LPPLFitStatus.OPTIMIZER_FAILED);
         }
+        NonlinearFit finalFit = calibrate(model, seed);
+        if (finalFit == null) {
+            return LPPLFit.invalid(window, LPPLFitStatus.OPTIMIZER_FAILED);
+        }
+        return finalFit.toFit(trainingLogPrices, evaluationLogPrice);
+    }
 
+    private NonlinearFit calibrate(LinearModel model, NonlinearFit seed) {
+        if (seed == null || !seed.isFinite()) {
+            return null;
+        }
         try {
-            LeastSquaresOptimizer.Optimum optimum = optimize(trainingLogPrices, seed);
+            LeastSquaresOptimizer.Optimum optimum = optimize(model, seed);
             double[] point = optimum.getPoint().toArray();
-            NonlinearFit finalFit = solveLinear(trainingLogPrices, point[0], point[1], point[2],
-                    optimum.getEvaluations());
-            if (finalFit == null || !finalFit.isFinite()) {
-                return LPPLFit.invalid(window, LPPLFitStatus.OPTIMIZER_FAILED);
-            }
-            return finalFit.toFit(trainingLogPrices, evaluationLogPrice);
+            NonlinearFit finalFit = solveLinear(model, point[0], point[1], point[2], optimum.getEvaluations());
+            return finalFit == null || !finalFit.isFinite() ? null : finalFit;
         } catch (MathIllegalStateException | IllegalArgumentException e) {
-            return LPPLFit.invalid(window, LPPLFitStatus.OPTIMIZER_FAILED);
+            return null;
         }
     }
 
-    private LeastSquaresOptimizer.Optimum optimize(double[] logPrices, NonlinearFit seed) {
+    private LeastSquaresOptimizer.Optimum optimize(LinearModel linearModel, NonlinearFit seed) {
+        double[] logPrices = linearModel.logPrices;
         double[] target = Arrays.copyOf(logPrices, logPrices.length);
-        MultivariateJacobianFunction model = point -> valueAndJacobian(logPrices, point.toArray());
+        MultivariateJacobianFunction model = point -> valueAndJacobian(linearModel, point.toArray());
         ParameterValidator validator = params -> new ArrayRealVector(clamp(params.toArray(), logPrices.length), false);
         LeastSquaresBuilder builder = new LeastSquaresBuilder().model(model)
                 .target(target)
@@ -81,9 +110,12 @@ final class LPPLFitCalibrator {
         return new LevenbergMarquardtOptimizer().optimize(builder.build());
     }
 
-    private Pair<RealVector, RealMatrix> valueAndJacobian(double[] logPrices, double[] rawPoint) {
+    private Pair<RealVector, RealMatrix> valueAndJacobian(LinearModel model, double[] rawPoint) {
+        double[] logPrices = model.logPrices;
         double[] point = clamp(rawPoint, logPrices.length);
-        double[] values = predictedValues(logPrices, point);
+        double[] values = predictedValues(model, point, new double[logPrices.length]);
+        double[] forwardValues = new double[logPrices.length];
+        double[] backwardValues = new double[logPrices.length];
         double[][] jacobian = new double[logPrices.length][3];
         for (int parameterIndex = 0; parameterIndex < point.length; parameterIndex++) {
             double delta = finiteDifferenceDelta(parameterIndex, point[parameterIndex]);
@@ -94,8 +126,8 @@ final class LPPLFitCalibrator {
             forward = clamp(forward, logPrices.length);
             backward = clamp(backward, logPrices.length);
 
-            double[] forwardValues = predictedValues(logPrices, forward);
-            double[] backwardValues = predictedValues(logPrices, backward);
+            predictedValues(model, forward, forwardValues);
+            predictedValues(model, backward, backwardValues);
             double denominator = forward[parameterIndex] - backward[parameterIndex];
             if (Math.abs(denominator) < SINGULARITY_THRESHOLD) {
                 denominator = delta;
@@ -117,14 +149,23 @@ final class LPPLFitCalibrator {
         return 1e-4;
     }
 
-    private double[] predictedValues(double[] logPrices, double[] point) {
-        NonlinearFit fit = solveLinear(logPrices, point[0], point[1], point[2], 0);
-        if (fit == null || !fit.isFinite()) {
-            double[] penalty = new double[logPrices.length];
-            Arrays.fill(penalty, 1e6);
-            return penalty;
+    private double[] predictedValues(LinearModel model, double[] point, double[] values) {
+        if (!isValidNonlinearPoint(model.logPrices.length, point[0], point[1], point[2])
+                || !model.solve(point[0], point[1], point[2]) || !model.isFinite()) {
+            Arrays.fill(values, 1e6);
+            return values;
+        }
+        System.arraycopy(model.predicted, 0, values, 0, values.length);
+        return values;
+    }
+
+    private static boolean isFinite(double[] values) {
+        for (double value : values) {
+            if (!Double.isFinite(value)) {
+                return false;
+            }
         }
-        return fit.predicted;
+        return true;
     }
 
     private double[] clamp(double[] point, int window) {
@@ -141,25 +182,57 @@ final class LPPLFitCalibrator {
         return Math.max(min, Math.min(max, value));
     }
 
-    private NonlinearFit gridSearch(double[] logPrices) {
-        NonlinearFit bestFit = null;
-        int window = logPrices.length;
+    /**
+     * Scans the critical-time rows in parallel and keeps the first grid point with
+     * the lowest residual sum of squares, exactly as a sequential scan would.
+     */
+    private NonlinearFit gridSearch(LinearModel model) {
+        int window = model.logPrices.length;
         double minTc = window + profile.minCriticalOffset();
         double maxTc = window + profile.maxCriticalOffset();
+        int rows = 0;
         for (double criticalTime = minTc; criticalTime <= maxTc + SINGULARITY_THRESHOLD; criticalTime += profile
                 .criticalOffsetStep()) {
-            for (int mIndex = 0; mIndex < profile.mSteps(); mIndex++) {
-                double m = gridValue(profile.minM(), profile.maxM(), profile.mSteps(), mIndex);
-                for (int omegaIndex = 0; omegaIndex < profile.omegaSteps(); omegaIndex++) {
-                    double omega = gridValue(profile.minOmega(), profile.maxOmega(), profile.omegaSteps(), omegaIndex);
-                    NonlinearFit candidate = solveLinear(logPrices, criticalTime, m, omega, 0);
-                    if (candidate != null && candidate.isFinite() && (bestFit == null || candidate.rss < bestFit.rss)) {
-                        bestFit = candidate;
-                    }
+            rows++;
+        }
+        double[] criticalTimes = new double[rows];
+        double criticalTime = minTc;
+        for (int row = 0; row < rows; row++) {
+            criticalTimes[row] = criticalTime;
+            criticalTime += profile.criticalOffsetStep();
+        }
+        IntStream rowIndices = IntStream.range(0, rows);
+        if (rows > 1 && (long) window * rows * profile.mSteps() * profile.omegaSteps() >= PARALLEL_GRID_THRESHOLD) {
+            rowIndices = rowIndices.parallel();
+        }
+        double[][] rowBests = rowIndices.mapToObj(row -> gridRow(model.copy(), criticalTimes[row]))
+                .toArray(double[][]::new);
+        double[] best = null;
+        for (double[] rowBest : rowBests) {
+            if (rowBest != null && (best == null || rowBest[0] < best[0])) {
+                best = rowBest;
+            }
+        }
+        return best == null ? null : solveLinear(model, best[1], best[2], best[3], 0);
+    }
+
+    /** @return {@code {rss, criticalTime, m, omega}} of the row's first best point */
+    private double[] gridRow(LinearModel model, double criticalTime) {
+        double[] best = null;
+        for (int mIndex = 0; mIndex < profile.mSteps(); mIndex++) {
+            double m = gridValue(profile.minM(), profile.maxM(), profile.mSteps(), mIndex);
+            for (int omegaIndex = 0; omegaIndex < profile.omegaSteps(); omegaIndex++) {
+                double omega = gridValue(profile.minOmega(), profile.maxOmega(), profile.omegaSteps(), omegaIndex);
+                if (!isValidNonlinearPoint(model.logPrices.length, criticalTime, m, omega)
+                        || !model.solve(criticalTime, m, omega) || !model.isFinite()) {
+                    continue;
+                }
+                if (best == null || model.rss < best[0]) {
+                    best = new double[] { model.rss, criticalTime, m, omega };
                 }
             }
         }
-        return bestFit;
+        return best;
     }
 
     private double gridValue(double min, double max, int steps, int index) {
@@ -169,42 +242,19 @@ final class LPPLFitCalibrator {
         return min + (max - min) * index / (steps - 1.0);
     }
 
-    private NonlinearFit solveLinear(double[] logPrices, double criticalTime, double m, double omega, int evaluations) {
-        if (!isValidNonlinearPoint(logPrices.length, criticalTime, m, omega)) {
-            return null;
-        }
-        double[][] designValues = new double[logPrices.length][4];
-        for (int i = 0; i < logPrices.length; i++) {
-            double[] basis = basisAt(criticalTime, m, omega, i);
-            if (basis == null) {
-                return null;
-            }
-            designValues[i] = basis;
-        }
-        try {
-            RealMatrix design = new Array2DRowRealMatrix(designValues, false);
-            DecompositionSolver solver = new QRDecomposition(design, SINGULARITY_THRESHOLD).getSolver();
-            RealVector beta = solver.solve(new ArrayRealVector(logPrices, false));
-            double[] coefficients = beta.toArray();
-            double[] predicted = design.operate(beta).toArray();
-            double mean = Arrays.stream(logPrices).average().orElse(0.0);
-            double rss = 0.0;
-            double tss = 0.0;
-            for (int i = 0; i < logPrices.length; i++) {
-                double residual = logPrices[i] - predicted[i];
-                rss += residual * residual;
-                double centered = logPrices[i] - mean;
-                tss += centered * centered;
-            }
-            double rms = Math.sqrt(rss / logPrices.length);
-            double rSquared = tss <= SINGULARITY_THRESHOLD ? 0.0 : 1.0 - rss / tss;
-            int criticalOffset = (int) Math.round(criticalTime - logPrices.length);
-            return new NonlinearFit(logPrices.length, coefficients[0], coefficients[1], coefficients[2],
-                    coefficients[3], criticalTime, m, omega, rss, rms, rSquared, criticalOffset, evaluations,
-                    predicted);
-        } catch (SingularMatrixException e) {
+    private NonlinearFit solveLinear(LinearModel model, double criticalTime, double m, double omega,
+            int evaluations) {
+        double[] logPrices = model.logPrices;
+        if (!isValidNonlinearPoint(logPrices.length, criticalTime, m, omega)
+                || !model.solve(criticalTime, m, omega)) {
             return null;
         }
+        double[] coefficients = model.coefficients;
+        double rms = Math.sqrt(model.rss / logPrices.length);
+        double rSquared = model.tss <= SINGULARITY_THRESHOLD ? 0.0 : 1.0 - model.rss / model.tss;
+        int criticalOffset = (int) Math.round(criticalTime - logPrices.length);
+        return new NonlinearFit(logPrices.length, coefficients[0], coefficients[1], coefficients[2], coefficients[3],
+                criticalTime, m, omega, model.rss, rms, rSquared, criticalOffset, evaluations, model.predicted.clone());
     }
 
     private static double[] basisAt(double criticalTime, double m, double omega, double time) {
@@ -224,6 +274,148 @@ final class LPPLFitCalibrator {
                 && omega >= profile.minOmega() && omega <= profile.maxOmega();
     }
 
+    /**
+     * Reusable primitive buffers for the linear LPPL sub-problem. The Householder
+     * QR factorization and solve follow Commons Math's {@code QRDecomposition}
+     * operation for operation, so results match it exactly without allocating a
+     * matrix per grid point or optimizer evaluation. Instances are not
+     * thread-safe; parallel callers use {@link #copy()}.
+     */
+    private static final class LinearModel {
+
+        private final double[] logPrices;
+        private final double tss;
+        private final double[][] design;
+        private final double[][] qrt;
+        private final double[] rDiag = new double[4];
+        private final double[] y;
+        private final double[] coefficients = new double[4];
+        private final double[] predicted;
+        private double rss;
+
+        private LinearModel(double[] logPrices) {
+            this(logPrices, totalSumOfSquares(logPrices));
+        }
+
+        private LinearModel(double[] logPrices, double tss) {
+            this.logPrices = logPrices;
+            this.tss = tss;
+            this.design = new double[4][logPrices.length];
+            this.qrt = new double[4][logPrices.length];
+            this.y = new double[logPrices.length];
+            this.predicted = new double[logPrices.length];
+        }
+
+        private static double totalSumOfSquares(double[] logPrices) {
+            double mean = Arrays.stream(logPrices).average().orElse(0.0);
+            double tss = 0.0;
+            for (double logPrice : logPrices) {
+                double centered = logPrice - mean;
+                tss += centered * centered;
+            }
+            return tss;
+        }
+
+        private LinearModel copy() {
+            return new LinearModel(logPrices, tss);
+        }
+
+        private boolean isFinite() {
+            return Double.isFinite(rss) && LPPLFitCalibrator.isFinite(coefficients);
+        }
+
+        /**
+         * Solves the linear coefficients for one nonlinear point into
+         * {@link #coefficients}, {@link #predicted} and {@link #rss}.
+         *
+         * @return {@code false} when the basis is undefined or the design is
+         *         singular
+         */
+        private boolean solve(double criticalTime, double m, double omega) {
+            int rows = logPrices.length;
+            double[] constant = design[0];
+            double[] power = design[1];
+            double[] cosine = design[2];
+            double[] sine = design[3];
+            for (int i = 0; i < rows; i++) {
+                double dt = criticalTime - i;
+                if (!Double.isFinite(dt) || dt <= 0.0) {
+                    return false;
+                }
+                double powerValue = Math.pow(dt, m);
+                double logDt = Math.log(dt);
+                constant[i] = 1.0;
+                power[i] = powerValue;
+                cosine[i] = powerValue * Math.cos(omega * logDt);
+                sine[i] = powerValue * Math.sin(omega * logDt);
+            }
+            for (int column = 0; column < 4; column++) {
+                System.arraycopy(design[column], 0, qrt[column], 0, rows);
+            }
+            for (int minor = 0; minor < 4; minor++) {
+                double[] qrtMinor = qrt[minor];
+                double xNormSqr = 0;
+                for (int row = minor; row < rows; row++) {
+                    double c = qrtMinor[row];
+                    xNormSqr += c * c;
+                }
+                double a = qrtMinor[minor] > 0 ? -Math.sqrt(xNormSqr) : Math.sqrt(xNormSqr);
+                rDiag[minor] = a;
+                if (a != 0.0) {
+                    qrtMinor[minor] -= a;
+                    for (int col = minor + 1; col < 4; col++) {
+                        double[] qrtCol = qrt[col];
+                        double alpha = 0;
+                        for (int row = minor; row < rows; row++) {
+                            alpha -= qrtCol[row] * qrtMinor[row];
+                        }
+                        alpha /= a * qrtMinor[minor];
+                        for (int row = minor; row < rows; row++) {
+                            qrtCol[row] -= alpha * qrtMinor[row];
+                        }
+                    }
+                }
+            }
+            for (double diagonal : rDiag) {
+                if (Math.abs(diagonal) <= SINGULARITY_THRESHOLD) {
+                    return false;
+                }
+            }
+            System.arraycopy(logPrices, 0, y, 0, rows);
+            for (int minor = 0; minor < 4; minor++) {
+                double[] qrtMinor = qrt[minor];
+                double dotProduct = 0;
+                for (int row = minor; row < rows; row++) {
+                    dotProduct += y[row] * qrtMinor[row];
+                }
+                dotProduct /= rDiag[minor] * qrtMinor[minor];
+                for (int row = minor; row < rows; row++) {
+                    y[row] += dotProduct * qrtMinor[row];
+                }
+            }
+            for (int row = 3; row >= 0; --row) {
+                y[row] /= rDiag[row];
+                double yRow = y[row];
+                double[] qrtRow = qrt[row];
+                coefficients[row] = yRow;
+                for (int i = 0; i < row; i++) {
+                    y[i] -= yRow * qrtRow[i];
+                }
+            }
+            rss = 0.0;
+            for (int i = 0; i < rows; i++) {
+                double value = 0;
+                for (int column = 0; column < 4; column++) {
+                    value += design[column][i] * coefficients[column];
+                }
+                predicted[i] = value;
+                double residual = logPrices[i] - value;
+                rss += residual * residual;
+            }
+            return true;
+        }
+    }
+
     private record NonlinearFit(int window, double a, double b, double c1, double c2, double criticalTime, double m,
             double omega, double rss, double rms, double rSquared, int criticalOffset, int evaluations,
             double[] predicted) {
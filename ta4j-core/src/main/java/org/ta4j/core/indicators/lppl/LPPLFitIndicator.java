@@ -35,6 +35,7 @@ public final class LPPLFitIndicator extends CachedIndicator<LPPLFit> {
     private final int criticalOffsetStep;
     private final int maxEvaluations;
     private final double minRSquared;
+    private final int warmStartInterval;
     private final transient LPPLCalibrationProfile profile;
     private final transient LPPLFitCalibrator calibrator;
 
@@ -81,16 +82,24 @@ public final class LPPLFitIndicator extends CachedIndicator<LPPLFit> {
         this(priceIndicator, Objects.requireNonNull(profile, "profile").window(), profile.minM(), profile.maxM(),
                 profile.mSteps(), profile.minOmega(), profile.maxOmega(), profile.omegaSteps(),
                 profile.minCriticalOffset(), profile.maxCriticalOffset(), profile.criticalOffsetStep(),
-                profile.maxEvaluations(), profile.minRSquared());
+                profile.maxEvaluations(), profile.minRSquared(), profile.warmStartInterval());
     }
 
     LPPLFitIndicator(Indicator<Num> priceIndicator, int window, double minM, double maxM, int mSteps, double minOmega,
             double maxOmega, int omegaSteps, int minCriticalOffset, int maxCriticalOffset, int criticalOffsetStep,
             int maxEvaluations, double minRSquared) {
+        this(priceIndicator, window, minM, maxM, mSteps, minOmega, maxOmega, omegaSteps, minCriticalOffset,
+                maxCriticalOffset, criticalOffsetStep, maxEvaluations, minRSquared, 0);
+    }
+
+    LPPLFitIndicator(Indicator<Num> priceIndicator, int window, double minM, double maxM, int mSteps, double minOmega,
+            double maxOmega, int omegaSteps, int minCriticalOffset, int maxCriticalOffset, int criticalOffsetStep,
+            int maxEvaluations, double minRSquared, int warmStartInterval) {
         super(requireSeries(priceIndicator));
         this.priceIndicator = Objects.requireNonNull(priceIndicator, "priceIndicator");
         this.profile = new LPPLCalibrationProfile(window, minM, maxM, mSteps, minOmega, maxOmega, omegaSteps,
-                minCriticalOffset, maxCriticalOffset, criticalOffsetStep, maxEvaluations, minRSquared);
+                minCriticalOffset, maxCriticalOffset, criticalOffsetStep, maxEvaluations, minRSquared,
+                warmStartInterval);
         this.window = this.profile.window();
         this.minM = this.profile.minM();
         this.maxM = this.profile.maxM();
@@ -103,6 +112,7 @@ public final class LPPLFitIndicator extends CachedIndicator<LPPLFit> {
         this.criticalOffsetStep = this.profile.criticalOffsetStep();
         this.maxEvaluations = this.profile.maxEvaluations();
         this.minRSquared = this.profile.minRSquared();
+        this.warmStartInterval = this.profile.warmStartInterval();
         this.calibrator = new LPPLFitCalibrator(this.profile);
     }
 
@@ -141,10 +151,32 @@ public final class LPPLFitIndicator extends CachedIndicator<LPPLFit> {
         if (!Double.isFinite(centeredEvaluationLogPrice) || !Double.isFinite(primitiveLogPriceLevel)) {
             return LPPLFit.invalid(window, LPPLFitStatus.INVALID_INPUT);
         }
-        LPPLFit centeredFit = calibrator.fit(trainingLogPrices, centeredEvaluationLogPrice);
+        LPPLFit centeredFit = calibrator.fit(trainingLogPrices, centeredEvaluationLogPrice, warmStartFit(index));
         return restoreLogPriceLevel(centeredFit, primitiveLogPriceLevel);
     }
 
+    /**
+     * Returns the previous bar's fit when it may seed this bar's calibration.
+     * Earlier bars of the same reseed interval are evaluated in ascending order so
+     * the warm-start chain never recurses more than one bar deep.
+     */
+    private LPPLFit warmStartFit(int index) {
+        int interval = profile.warmStartInterval();
+        if (interval == 0 || index % interval == 0) {
+            return null;
+        }
+        int firstIndex = Math.max(index - index % interval,
+                getBarSeries().getBeginIndex() + getCountOfUnstableBars());
+        if (index - 1 < firstIndex) {
+            return null;
+        }
+        for (int i = firstIndex; i < index - 1; i++) {
+            getValue(i);
+        }
+        LPPLFit previousFit = getValue(index - 1);
+        return previousFit.isQualified(profile) ? previousFit : null;
+    }
+
     private double centeredLogPrice(int index, Num priceLevel, Num logPriceLevel) {
         Num value = priceIndicator.getValue(index);
         if (!Num.isFinite(value) || !value.isPositive()) {
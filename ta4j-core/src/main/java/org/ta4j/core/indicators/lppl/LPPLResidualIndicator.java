@@ -46,6 +46,7 @@ public final class LPPLResidualIndicator extends CachedIndicator<Num> {
     private final int criticalOffsetStep;
     private final int maxEvaluations;
     private final double minRSquared;
+    private final int warmStartInterval;
     private final transient LPPLCalibrationProfile profile;
     private final transient Indicator<LPPLFit> fitIndicator;
 
@@ -92,14 +93,22 @@ public final class LPPLResidualIndicator extends CachedIndicator<Num> {
         this(priceIndicator, Objects.requireNonNull(profile, "profile").window(), profile.minM(), profile.maxM(),
                 profile.mSteps(), profile.minOmega(), profile.maxOmega(), profile.omegaSteps(),
                 profile.minCriticalOffset(), profile.maxCriticalOffset(), profile.criticalOffsetStep(),
-                profile.maxEvaluations(), profile.minRSquared());
+                profile.maxEvaluations(), profile.minRSquared(), profile.warmStartInterval());
     }
 
     LPPLResidualIndicator(Indicator<Num> priceIndicator, int window, double minM, double maxM, int mSteps,
             double minOmega, double maxOmega, int omegaSteps, int minCriticalOffset, int maxCriticalOffset,
             int criticalOffsetStep, int maxEvaluations, double minRSquared) {
+        this(priceIndicator, window, minM, maxM, mSteps, minOmega, maxOmega, omegaSteps, minCriticalOffset,
+                maxCriticalOffset, criticalOffsetStep, maxEvaluations, minRSquared, 0);
+    }
+
+    LPPLResidualIndicator(Indicator<Num> priceIndicator, int window, double minM, double maxM, int mSteps,
+            double minOmega, double maxOmega, int omegaSteps, int minCriticalOffset, int maxCriticalOffset,
+            int criticalOffsetStep, int maxEvaluations, double minRSquared, int warmStartInterval) {
         this(new LPPLFitIndicator(priceIndicator, window, minM, maxM, mSteps, minOmega, maxOmega, omegaSteps,
-                minCriticalOffset, maxCriticalOffset, criticalOffsetStep, maxEvaluations, minRSquared));
+                minCriticalOffset, maxCriticalOffset, criticalOffsetStep, maxEvaluations, minRSquared,
+                warmStartInterval));
     }
 
     private LPPLResidualIndicator(LPPLFitIndicator fitIndicator) {
@@ -119,6 +128,7 @@ public final class LPPLResidualIndicator extends CachedIndicator<Num> {
         this.criticalOffsetStep = profile.criticalOffsetStep();
         this.maxEvaluations = profile.maxEvaluations();
         this.minRSquared = profile.minRSquared();
+        this.warmStartInterval = profile.warmStartInterval();
     }
 
     @Override
@@ -31,6 +31,18 @@ import static org.ta4j.core.num.NaN.NaN;
  * recent {@value #DEFAULT_MAX_SWING_POINTS_FOR_TRENDLINE} swing points and
  * {@value #DEFAULT_MAX_CANDIDATE_PAIRS} candidate pairs; use the extended
  * constructors to widen the search if needed.
+ * <p>
+ * Candidate lines are maintained incrementally while the series grows. A new
+ * confirmed swing point adds the lines anchored at it and updates the touch,
+ * outside and violation counters of the existing lines, and a swing point that
+ * leaves the window is subtracted from them, so a new bar costs one pass over
+ * the live candidates instead of a rebuild over every swing-point pair. Lines
+ * violated by a swing point after their first anchor can never become valid
+ * again and are pruned as soon as the violation is seen. The candidates are
+ * rebuilt when the extreme swing price or the swing range changes, since both
+ * feed every line's touch test. Deviation sums are not subtracted: they are
+ * summed again over the remaining swing points, so a streamed line scores
+ * exactly like a freshly built one.
  *
  * @since 0.20
  */
@@ -66,7 +78,15 @@ public abstract class AbstractTrendLineIndicator extends CachedIndicator<Num> {
     private transient int cachedWindowStart = Integer.MIN_VALUE;
     private transient int cachedRemovedBars = Integer.MIN_VALUE;
     private transient List<Integer> cachedWindowSwings = List.of();
-    private transient List<TrendLineCandidate> cachedGeometries = List.of();
+    private transient boolean candidateSelected;
+    private transient Num cachedEvaluationPrice;
+    private transient TreeMap<Long, CandidateLine> candidateLines = new TreeMap<>();
+    private transient List<Integer> trackedSwings = List.of();
+    private transient List<Num> trackedSwingPrices = List.of();
+    private transient Num trackedExtreme = NaN;
+    private transient Num trackedRange = NaN;
+    private transient Num trackedTolerance = NaN;
+    private transient int trackedCoordinateBaseIndex = Integer.MIN_VALUE;
     private transient long coordinateBaseEpochMillis = Long.MIN_VALUE;
     private transient int coordinateBaseIndex = Integer.MIN_VALUE;
 
@@ -210,7 +230,7 @@ public abstract class AbstractTrendLineIndicator extends CachedIndicator<Num> {
             cachedWindowStart = Integer.MIN_VALUE;
             cachedEndIndex = Integer.MIN_VALUE;
             cachedWindowSwings = List.of();
-            cachedGeometries = List.of();
+            candidateSelected = false;
             cachedRemovedBars = removedBars;
             cachedEndIndex = endIndex;
         }
@@ -219,71 +239,233 @@ public abstract class AbstractTrendLineIndicator extends CachedIndicator<Num> {
     private void ensureGeometries(int windowStart, int windowEnd) {
         final List<Integer> windowSwings = windowedSwings(windowStart, windowEnd,
                 swingIndicator.getSwingPointIndexesUpTo(windowEnd));
-        final boolean geometryStale = cachedGeometries.isEmpty() || cachedEndIndex != windowEnd
-                || cachedWindowStart != windowStart || !cachedWindowSwings.equals(windowSwings);
+        final boolean geometryStale = cachedEndIndex != windowEnd || cachedWindowStart != windowStart
+                || !cachedWindowSwings.equals(windowSwings);
         if (!geometryStale) {
             return;
         }
         invalidateFrom(windowStart);
-        cachedGeometries = buildGeometries(windowStart, windowEnd, windowSwings);
+        updateCandidateLines(windowSwings);
         cachedWindowSwings = windowSwings;
+        cachedEndIndex = windowEnd;
+        cachedWindowStart = windowStart;
         cachedSegment = null;
+        candidateSelected = false;
     }
 
     private void ensureCandidate(int windowStart, int windowEnd) {
-        if (cachedGeometries.isEmpty()) {
-            cachedSegment = null;
+        final Num priceAtEvaluation = resolvePriceAtIndex(windowEnd);
+        if (candidateSelected && samePrice(priceAtEvaluation, cachedEvaluationPrice)) {
             return;
         }
-        cachedSegment = selectBestCandidate(windowEnd, resolvePriceAtIndex(windowEnd));
-        cachedEndIndex = windowEnd;
-        cachedWindowStart = windowStart;
+        if (candidateSelected) {
+            invalidateFrom(windowStart);
+        }
+        cachedSegment = selectBestCandidate(windowStart, windowEnd, priceAtEvaluation);
+        cachedEvaluationPrice = priceAtEvaluation;
+        candidateSelected = true;
     }
 
     private List<Integer> windowedSwings(int windowStart, int windowEnd, List<Integer> swingPoints) {
         final List<Integer> windowedSwings = new ArrayList<>();
-        for (int idx : swingPoints) {
-            if (idx >= windowStart && idx <= windowEnd) {
-                final Num price = swingPriceAt(idx);
-                if (Num.isNaNOrNull(price)) {
-                    continue;
-                }
-                windowedSwings.add(idx);
+        final ListIterator<Integer> iterator = swingPoints.listIterator(swingPoints.size());
+        while (iterator.hasPrevious() && windowedSwings.size() < maxSwingPointsForTrendline) {
+            final int idx = iterator.previous();
+            if (idx < windowStart) {
+                break;
             }
+            if (idx > windowEnd || Num.isNaNOrNull(swingPriceAt(idx))) {
+                continue;
+            }
+            windowedSwings.add(idx);
         }
-        if (windowedSwings.size() <= maxSwingPointsForTrendline) {
-            return windowedSwings;
-        }
-        return windowedSwings.subList(windowedSwings.size() - maxSwingPointsForTrendline, windowedSwings.size());
+        Collections.reverse(windowedSwings);
+        return windowedSwings;
     }
 
-    private List<TrendLineCandidate> buildGeometries(int windowStart, int windowEnd, List<Integer> swingPoints) {
-        if (swingPoints.size() < 2) {
-            return List.of();
+    /**
+     * Moves the candidate lines to the swing points of the current window. When
+     * the window only dropped its oldest swing points and appended newer ones, the
+     * dropped points are subtracted from every line and the new points are added;
+     * any other change rebuilds the lines by appending every window swing point in
+     * order.
+     */
+    private void updateCandidateLines(List<Integer> windowSwings) {
+        final List<Num> swingPrices = new ArrayList<>(windowSwings.size());
+        for (int swingIndex : windowSwings) {
+            swingPrices.add(swingPriceAt(swingIndex));
         }
-        final Num extremeSwingPrice = findExtremeSwingPrice(swingPoints);
-        final Num swingRange = findSwingRange(swingPoints);
+        final Num extremeSwingPrice = windowSwings.size() < 2 ? NaN : findExtremeSwingPrice(swingPrices);
+        final Num swingRange = windowSwings.size() < 2 ? NaN : findSwingRange(swingPrices);
         if (Num.isNaNOrNull(extremeSwingPrice) || Num.isNaNOrNull(swingRange)) {
-            return List.of();
+            resetCandidateLines();
+            return;
         }
         refreshCoordinateBase();
-        final int windowLength = windowEnd - windowStart + 1;
-        final List<TrendLineCandidate> geometries = new ArrayList<>();
-        for (int i = 0; i < swingPoints.size() - 1; i++) {
-            final int firstSwingIndex = swingPoints.get(i);
-            for (int j = i + 1; j < swingPoints.size(); j++) {
-                final int secondSwingIndex = swingPoints.get(j);
-                final TrendLineCandidate geometry = buildCandidateGeometry(firstSwingIndex, secondSwingIndex,
-                        swingPoints, windowStart, windowEnd, windowLength, extremeSwingPrice, swingRange);
-                if (geometry != null) {
-                    geometries.add(geometry);
-                    if (geometries.size() >= maxCandidatePairs) {
-                        return geometries;
-                    }
+        int droppedSwings = droppedSwingCount(windowSwings, swingPrices);
+        if (droppedSwings < 0 || coordinateBaseIndex != trackedCoordinateBaseIndex
+                || !samePrice(extremeSwingPrice, trackedExtreme) || !samePrice(swingRange, trackedRange)) {
+            resetCandidateLines();
+            droppedSwings = 0;
+            trackedExtreme = extremeSwingPrice;
+            trackedRange = swingRange;
+            trackedTolerance = toleranceForSwing(swingRange, getBarSeries().numFactory());
+            trackedCoordinateBaseIndex = coordinateBaseIndex;
+        }
+        for (int k = 0; k < droppedSwings; k++) {
+            dropSwing(trackedSwings.get(k), trackedSwingPrices.get(k));
+        }
+        if (droppedSwings > 0) {
+            recomputeDeviations(droppedSwings);
+        }
+        for (int k = trackedSwings.size() - droppedSwings; k < windowSwings.size(); k++) {
+            appendSwing(windowSwings, swingPrices, k);
+        }
+        trackedSwings = List.copyOf(windowSwings);
+        trackedSwingPrices = swingPrices;
+    }
+
+    /**
+     * @return how many of the oldest tracked swing points the window dropped, or
+     *         {@code -1} when the remaining tracked points are not the unchanged
+     *         head of the window
+     */
+    private int droppedSwingCount(List<Integer> windowSwings, List<Num> swingPrices) {
+        if (trackedSwings.isEmpty()) {
+            return 0;
+        }
+        if (windowSwings.isEmpty()) {
+            return -1;
+        }
+        final int droppedSwings = Collections.binarySearch(trackedSwings, windowSwings.get(0));
+        if (droppedSwings < 0) {
+            return -1;
+        }
+        final int retainedSwings = trackedSwings.size() - droppedSwings;
+        if (retainedSwings > windowSwings.size()) {
+            return -1;
+        }
+        for (int k = 0; k < retainedSwings; k++) {
+            if (!trackedSwings.get(droppedSwings + k).equals(windowSwings.get(k))
+                    || !samePrice(trackedSwingPrices.get(droppedSwings + k), swingPrices.get(k))) {
+                return -1;
+            }
+        }
+        return droppedSwings;
+    }
+
+    private void resetCandidateLines() {
+        candidateLines.clear();
+        trackedSwings = List.of();
+        trackedSwingPrices = List.of();
+        trackedExtreme = NaN;
+        trackedRange = NaN;
+        trackedTolerance = NaN;
+    }
+
+    /**
+     * Adds the swing point at {@code position} to every live line and creates the
+     * lines anchored at it, each scored against every swing point up to it.
+     */
+    private void appendSwing(List<Integer> swingIndexes, List<Num> swingPrices, int position) {
+        final int swingIndex = swingIndexes.get(position);
+        final Num swingPrice = swingPrices.get(position);
+        candidateLines.values().removeIf(line -> !accumulate(line, swingIndex, swingPrice, true));
+        for (int i = 0; i < position; i++) {
+            final CandidateLine line = createLine(swingIndexes.get(i), swingPrices.get(i), swingIndex, swingPrice);
+            if (line == null) {
+                continue;
+            }
+            boolean live = true;
+            for (int k = 0; k <= position && live; k++) {
+                live = accumulate(line, swingIndexes.get(k), swingPrices.get(k), true);
+            }
+            if (live) {
+                candidateLines.put(pairKey(line.firstIndex, line.secondIndex), line);
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest swing point from every line and drops the lines anchored
+     * at it.
+     */
+    private void dropSwing(int swingIndex, Num swingPrice) {
+        final Iterator<CandidateLine> iterator = candidateLines.values().iterator();
+        while (iterator.hasNext()) {
+            final CandidateLine line = iterator.next();
+            if (line.firstIndex == swingIndex || line.secondIndex == swingIndex) {
+                iterator.remove();
+            } else {
+                accumulate(line, swingIndex, swingPrice, false);
+            }
+        }
+    }
+
+    /**
+     * Sums every line's deviation again over the tracked swing points from
+     * {@code firstRetained} on, in the order a fresh build would add them.
+     */
+    private void recomputeDeviations(int firstRetained) {
+        final Num zero = getBarSeries().numFactory().zero();
+        for (CandidateLine line : candidateLines.values()) {
+            Num totalDeviation = zero;
+            for (int k = firstRetained; k < trackedSwings.size(); k++) {
+                final Num projectedAtSwing = line.valueAt(trackedSwings.get(k));
+                if (!Num.isNaNOrNull(projectedAtSwing)) {
+                    totalDeviation = totalDeviation.plus(projectedAtSwing.minus(trackedSwingPrices.get(k)).abs());
                 }
             }
+            line.totalDeviation = totalDeviation;
         }
-        return geometries;
+    }
+
+    /**
+     * Adds or subtracts one swing point's contribution to a line's counters. Only
+     * an added swing point changes the deviation sum; see
+     * {@link #recomputeDeviations(int)}.
+     *
+     * @return {@code false} when an added swing point after the line's first
+     *         anchor violates it, so the line can never become valid again
+     */
+    private boolean accumulate(CandidateLine line, int swingIndex, Num swingPrice, boolean adding) {
+        final int delta = adding ? 1 : -1;
+        final Num projectedAtSwing = line.valueAt(swingIndex);
+        if (Num.isNaNOrNull(projectedAtSwing)) {
+            line.violations += delta;
+            return !adding || swingIndex < line.firstIndex;
+        }
+        final boolean isAnchor = swingIndex == line.firstIndex || swingIndex == line.secondIndex;
+        final Num deviation = projectedAtSwing.minus(swingPrice).abs();
+        final boolean touchesSwing = isAnchor || (!Num.isNaNOrNull(trackedTolerance)
+                && (deviation.isZero() || deviation.isLessThanOrEqual(trackedTolerance)));
+        if (adding) {
+            line.totalDeviation = line.totalDeviation.plus(deviation);
+        }
+        if (touchesSwing) {
+            line.touchCount += delta;
+            if (swingPrice.isEqual(trackedExtreme)) {
+                line.extremeTouches += delta;
+            }
+            return true;
+        }
+        line.outsideCount += delta;
+        if (side.violates(projectedAtSwing, swingPrice)) {
+            line.violations += delta;
+            return !adding || swingIndex < line.firstIndex;
+        }
+        return true;
+    }
+
+    private static long pairKey(int firstIndex, int secondIndex) {
+        return ((long) firstIndex << 32) | (secondIndex & 0xFFFFFFFFL);
+    }
+
+    private static boolean samePrice(Num first, Num second) {
+        if (Num.isNaNOrNull(first) || Num.isNaNOrNull(second)) {
+            return Num.isNaNOrNull(first) && Num.isNaNOrNull(second);
+        }
+        return first.isEqual(second);
     }
 
     /**
@@ -321,16 +503,37 @@ public abstract class AbstractTrendLineIndicator extends CachedIndicator<Num> {
         return Num.isNaNOrNull(fallback) ? price : fallback;
     }
 
-    private TrendLineCandidate selectBestCandidate(int evaluationIndex, Num priceAtEvaluation) {
-        if (cachedGeometries.isEmpty()) {
+    /**
+     * Scores the live lines in pair order, stopping after
+     * {@link #getMaxCandidatePairs()} of them, and returns the best one.
+     */
+    private TrendLineCandidate selectBestCandidate(int windowStart, int windowEnd, Num priceAtEvaluation) {
+        if (candidateLines.isEmpty()) {
             return null;
         }
+        final int windowLength = windowEnd - windowStart + 1;
+        final int swingCount = trackedSwings.size();
+        final double swingRange = trackedRange.doubleValue();
         TrendLineCandidate bestCandidate = null;
-        for (TrendLineCandidate candidate : cachedGeometries) {
-            final Num projected = candidate.valueAt(evaluationIndex);
+        int evaluatedPairs = 0;
+        for (CandidateLine line : candidateLines.values()) {
+            if (line.violations > 0) {
+                continue;
+            }
+            if (evaluatedPairs++ >= maxCandidatePairs) {
+                break;
+            }
+            final Num projected = line.valueAt(windowEnd);
             if (Num.isNaNOrNull(projected)) {
                 continue;
             }
+            final double recencyAnchorScore = Math.min(1d,
+                    Math.max(0d, (double) (line.secondIndex - windowStart) / windowLength));
+            final double baseScore = calculateBaseScore(line.touchCount, swingCount, line.extremeTouches > 0,
+                    line.outsideCount, line.totalDeviation.doubleValue(), swingRange, recencyAnchorScore);
+            final TrendLineCandidate candidate = new TrendLineCandidate(line.firstIndex, line.secondIndex, line.slope,
+                    line.intercept, line.touchCount, line.outsideCount, line.extremeTouches > 0, baseScore,
+                    windowStart, windowEnd);
             if (bestCandidate == null || candidate.isBetterThan(bestCandidate, priceAtEvaluation)) {
                 bestCandidate = candidate;
             }
@@ -338,15 +541,7 @@ public abstract class AbstractTrendLineIndicator extends CachedIndicator<Num> {
         return bestCandidate;
     }
 
-    private TrendLineCandidate buildCandidateGeometry(int firstSwingIndex, int secondSwingIndex,
-            List<Integer> swingPointIndexes, int windowStart, int windowEnd, int windowLength, Num extremeSwingPrice,
-            Num swingRange) {
-        final Num firstValue = swingPriceAt(firstSwingIndex);
-        final Num secondValue = swingPriceAt(secondSwingIndex);
-        if (Num.isNaNOrNull(firstValue) || Num.isNaNOrNull(secondValue)) {
-            return null;
-        }
-        final NumFactory numFactory = getBarSeries().numFactory();
+    private CandidateLine createLine(int firstSwingIndex, Num firstValue, int secondSwingIndex, Num secondValue) {
         final Num x1 = coordinateForIndex(firstSwingIndex);
         final Num x2 = coordinateForIndex(secondSwingIndex);
         final Num denominator = x2.minus(x1);
@@ -361,54 +556,14 @@ public abstract class AbstractTrendLineIndicator extends CachedIndicator<Num> {
         if (Num.isNaNOrNull(intercept)) {
             return null;
         }
-
-        int touchCount = 0;
-        int outsideCount = 0;
-        boolean touchesExtreme = false;
-        Num totalDeviation = numFactory.zero();
-        for (int swingIndex : swingPointIndexes) {
-            final Num swingPrice = swingPriceAt(swingIndex);
-            if (Num.isNaNOrNull(swingPrice)) {
-                return null;
-            }
-            final Num projectedAtSwing = slope.multipliedBy(coordinateForIndex(swingIndex)).plus(intercept);
-            if (Num.isNaNOrNull(projectedAtSwing)) {
-                return null;
-            }
-            final Num tolerance = toleranceForSwing(swingRange, numFactory);
-            final boolean isAnchor = swingIndex == firstSwingIndex || swingIndex == secondSwingIndex;
-            final Num deviation = projectedAtSwing.minus(swingPrice).abs();
-            final boolean touchesSwing = isAnchor
-                    || (!Num.isNaNOrNull(tolerance) && (deviation.isZero() || deviation.isLessThanOrEqual(tolerance)));
-            if (touchesSwing) {
-                touchCount++;
-                if (!Num.isNaNOrNull(extremeSwingPrice) && swingPrice.isEqual(extremeSwingPrice)) {
-                    touchesExtreme = true;
-                }
-            } else {
-                outsideCount++;
-                if (side.violates(projectedAtSwing, swingPrice)) {
-                    return null;
-                }
-            }
-            totalDeviation = totalDeviation.plus(deviation);
-        }
-
-        final int mostRecentAnchor = Math.max(firstSwingIndex, secondSwingIndex);
-        final double recencyAnchorScore = Math.min(1d,
-                Math.max(0d, (double) (mostRecentAnchor - windowStart) / windowLength));
-        final double baseScore = calculateBaseScore(touchCount, swingPointIndexes.size(), touchesExtreme, outsideCount,
-                totalDeviation.doubleValue(), swingRange.doubleValue(), recencyAnchorScore);
-
-        return new TrendLineCandidate(firstSwingIndex, secondSwingIndex, slope, intercept, touchCount, outsideCount,
-                touchesExtreme, baseScore, windowStart, windowEnd);
+        return new CandidateLine(firstSwingIndex, secondSwingIndex, slope, intercept,
+                getBarSeries().numFactory().zero());
     }
 
-    private Num findSwingRange(List<Integer> swingPointIndexes) {
+    private Num findSwingRange(List<Num> swingPrices) {
         Num min = null;
         Num max = null;
-        for (int swingIndex : swingPointIndexes) {
-            final Num swingPrice = swingPriceAt(swingIndex);
+        for (Num swingPrice : swingPrices) {
             if (Num.isNaNOrNull(swingPrice)) {
                 continue;
             }
@@ -433,10 +588,9 @@ public abstract class AbstractTrendLineIndicator extends CachedIndicator<Num> {
         return toleranceSettings.toleranceFor(swingRange, numFactory);
     }
 
-    private Num findExtremeSwingPrice(List<Integer> swingPointIndexes) {
+    private Num findExtremeSwingPrice(List<Num> swingPrices) {
         Num extreme = null;
-        for (int swingIndex : swingPointIndexes) {
-            final Num swingPrice = swingPriceAt(swingIndex);
+        for (Num swingPrice : swingPrices) {
             if (Num.isNaNOrNull(swingPrice)) {
                 continue;
             }
@@ -468,6 +622,34 @@ public abstract class AbstractTrendLineIndicator extends CachedIndicator<Num> {
                 + scoringWeights.anchorRecencyWeight * recencyAnchorScore;
     }
 
+    /**
+     * Line through two window swing points with running counters over the
+     * window's swing points.
+     */
+    private final class CandidateLine {
+        private final int firstIndex;
+        private final int secondIndex;
+        private final Num slope;
+        private final Num intercept;
+        private int touchCount;
+        private int outsideCount;
+        private int extremeTouches;
+        private int violations;
+        private Num totalDeviation;
+
+        private CandidateLine(int firstIndex, int secondIndex, Num slope, Num intercept, Num totalDeviation) {
+            this.firstIndex = firstIndex;
+            this.secondIndex = secondIndex;
+            this.slope = slope;
+            this.intercept = intercept;
+            this.totalDeviation = totalDeviation;
+        }
+
+        private Num valueAt(int index) {
+            return slope.multipliedBy(coordinateForIndex(index)).plus(intercept);
+        }
+    }
+
     private final class TrendLineCandidate {
         private final int firstIndex;
         private final int secondIndex;
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators.supportresistance;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Volume histogram on a fixed price grid smoothed with a precomputed Gaussian
+ * kernel table.
+ *
+ * <p>
+ * Bin {@code k} collects the volume of every sample whose price rounds to
+ * {@code k * binWidth}. Samples are added and removed one at a time so a
+ * rolling look-back window only touches the bars that enter or leave it. A bin
+ * is dropped once its last sample is removed, so emptied bins never keep
+ * floating-point residue. With a zero bandwidth the density is the volume of
+ * the price's bin.
+ *
+ * @since 0.23.1
+ */
+final class BinnedVolumeProfile {
+
+    /** Kernel support in bandwidths; the Gaussian tail beyond it is negligible. */
+    static final double KERNEL_RADIUS_BANDWIDTHS = 6d;
+    static final int MAX_KERNEL_RADIUS = 1 << 16;
+
+    private final double binWidth;
+    private final double bandwidth;
+    private final double coefficient;
+    private final double[] kernel;
+    private final TreeMap<Long, Bin> bins = new TreeMap<>();
+
+    /**
+     * @param binWidth  positive grid spacing
+     * @param bandwidth non-negative Gaussian bandwidth
+     */
+    BinnedVolumeProfile(double binWidth, double bandwidth) {
+        if (!(binWidth > 0d) || !Double.isFinite(binWidth)) {
+            throw new IllegalArgumentException("binWidth must be positive");
+        }
+        if (!(bandwidth >= 0d) || !Double.isFinite(bandwidth)) {
+            throw new IllegalArgumentException("bandwidth must be greater than or equal to zero");
+        }
+        this.binWidth = binWidth;
+        this.bandwidth = bandwidth;
+        if (bandwidth == 0d) {
+            this.coefficient = 1d;
+            this.kernel = new double[] { 1d };
+            return;
+        }
+        this.coefficient = 1d / (bandwidth * Math.sqrt(2d * Math.PI));
+        int radius = (int) Math.min(MAX_KERNEL_RADIUS, Math.ceil(KERNEL_RADIUS_BANDWIDTHS * bandwidth / binWidth));
+        this.kernel = new double[radius + 1];
+        for (int offset = 0; offset <= radius; offset++) {
+            double standardized = offset * binWidth / bandwidth;
+            kernel[offset] = coefficient * Math.exp(-0.5d * standardized * standardized);
+        }
+    }
+
+    /**
+     * @param price sample price
+     * @return grid bin of the price, or {@code null} when it is outside the grid
+     */
+    Long binOf(double price) {
+        double scaled = price / binWidth;
+        if (!Double.isFinite(scaled) || Math.abs(scaled) >= Long.MAX_VALUE / 2d) {
+            return null;
+        }
+        return Math.round(scaled);
+    }
+
+    void add(long bin, double weight) {
+        Bin entry = bins.computeIfAbsent(bin, ignored -> new Bin());
+        entry.weight += weight;
+        entry.count++;
+    }
+
+    void remove(long bin, double weight) {
+        Bin entry = bins.get(bin);
+        if (entry == null) {
+            return;
+        }
+        if (--entry.count == 0) {
+            bins.remove(bin);
+        } else {
+            entry.weight -= weight;
+        }
+    }
+
+    void clear() {
+        bins.clear();
+    }
+
+    boolean isEmpty() {
+        return bins.isEmpty();
+    }
+
+    /**
+     * Evaluates the kernel-smoothed histogram at an arbitrary price, placing each
+     * bin's volume at its center.
+     *
+     * @param price evaluated price
+     * @return density, or {@code NaN} when the price is outside the grid
+     */
+    double density(double price) {
+        Long center = binOf(price);
+        if (center == null) {
+            return Double.NaN;
+        }
+        if (bandwidth == 0d) {
+            Bin entry = bins.get(center);
+            return entry == null ? 0d : entry.weight;
+        }
+        int radius = kernel.length - 1;
+        double density = 0d;
+        for (Map.Entry<Long, Bin> entry : bins.subMap(center - radius, true, center + radius, true).entrySet()) {
+            double standardized = (price - entry.getKey() * binWidth) / bandwidth;
+            density += entry.getValue().weight * coefficient * Math.exp(-0.5d * standardized * standardized);
+        }
+        return density;
+    }
+
+    /**
+     * Returns the occupied bin with the highest smoothed volume, convolving the
+     * histogram with the kernel table. Ties prefer the lower bin.
+     *
+     * @return modal bin, or {@code null} when empty
+     */
+    Long modeBin() {
+        int radius = kernel.length - 1;
+        Long bestBin = null;
+        double bestDensity = Double.NEGATIVE_INFINITY;
+        for (long bin : bins.keySet()) {
+            double density = 0d;
+            for (Map.Entry<Long, Bin> neighbor : bins.subMap(bin - radius, true, bin + radius, true).entrySet()) {
+                density += neighbor.getValue().weight * kernel[(int) Math.abs(neighbor.getKey() - bin)];
+            }
+            if (density > bestDensity) {
+                bestDensity = density;
+                bestBin = bin;
+            }
+        }
+        return bestBin;
+    }
+
+    private static final class Bin {
+        private double weight;
+        private int count;
+    }
+}
@@ -3,6 +3,7 @@
  */
 package org.ta4j.core.indicators.supportresistance;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -29,6 +30,14 @@ import org.ta4j.core.num.NumFactory;
  * "https://www.investopedia.com/terms/v/volume-profile.asp">Investopedia:
  * Volume Profile</a> for an overview of the trading concept.
  *
+ * <p>
+ * By default every query evaluates the kernel for each sample in the look-back
+ * window. With a positive {@code binWidth} the indicator instead keeps a
+ * rolling volume histogram on a price grid of that spacing, updated only for
+ * the bars entering and leaving the window, and smooths it with a precomputed
+ * kernel table. Densities are then accurate to the grid spacing, and the mode
+ * is the center of the densest occupied bin rather than a sample price.
+ *
  * @since 0.22.3
  */
 public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
@@ -39,9 +48,13 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
     private final Indicator<Num> volumeIndicator;
     private final int lookbackLength;
     private final Num bandwidth;
+    private final Num binWidth;
     private transient Num gaussianBandwidth;
     private transient Num gaussianCoefficient;
     private transient Num gaussianNegativeHalf;
+    private transient BinnedVolumeProfile binnedProfile;
+    private transient ArrayDeque<BinnedSample> binnedSamples;
+    private transient int binnedStartIndex;
 
     /**
      * Constructor using {@link ClosePriceIndicator}, {@link VolumeIndicator} with
@@ -67,7 +80,25 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
      */
     public VolumeProfileKDEIndicator(Indicator<Num> priceIndicator, Indicator<Num> volumeIndicator, int lookbackLength,
             Num bandwidth) {
-        this(validatedConfig(priceIndicator, volumeIndicator, lookbackLength, bandwidth));
+        this(validatedConfig(priceIndicator, volumeIndicator, lookbackLength, bandwidth, null));
+    }
+
+    /**
+     * Constructor for the binned KDE over custom price and volume indicators.
+     *
+     * @param priceIndicator  the price samples used for the KDE
+     * @param volumeIndicator the volume weights associated with each price
+     * @param lookbackLength  number of bars to consider (non-positive for the full
+     *                        history)
+     * @param bandwidth       kernel bandwidth (non-negative)
+     * @param binWidth        price grid spacing (positive), or zero to evaluate
+     *                        every sample exactly
+     * @since 0.23.1
+     */
+    public VolumeProfileKDEIndicator(Indicator<Num> priceIndicator, Indicator<Num> volumeIndicator, int lookbackLength,
+            Num bandwidth, Num binWidth) {
+        this(validatedConfig(priceIndicator, volumeIndicator, lookbackLength, bandwidth,
+                Objects.requireNonNull(binWidth, "binWidth must not be null")));
     }
 
     private VolumeProfileKDEIndicator(Config config) {
@@ -76,6 +107,7 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
         this.volumeIndicator = config.volumeIndicator();
         this.lookbackLength = config.lookbackLength();
         this.bandwidth = config.bandwidth();
+        this.binWidth = config.binWidth();
         this.gaussianBandwidth = NaN;
         this.gaussianCoefficient = NaN;
         this.gaussianNegativeHalf = NaN;
@@ -83,7 +115,7 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
     }
 
     private static Config validatedConfig(Indicator<Num> priceIndicator, Indicator<Num> volumeIndicator,
-            int lookbackLength, Num bandwidth) {
+            int lookbackLength, Num bandwidth, Num binWidth) {
         Indicator<Num> validatedPriceIndicator = Objects.requireNonNull(priceIndicator,
                 "priceIndicator must not be null");
         Indicator<Num> validatedVolumeIndicator = Objects.requireNonNull(volumeIndicator,
@@ -97,13 +129,18 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
         if (!Num.isFinite(validatedBandwidth) || validatedBandwidth.isLessThan(series.numFactory().zero())) {
             throw new IllegalArgumentException("bandwidth must be greater than or equal to zero");
         }
-        return new Config(validatedPriceIndicator, validatedVolumeIndicator, lookbackLength, validatedBandwidth);
+        Num validatedBinWidth = binWidth == null ? series.numFactory().zero() : binWidth;
+        if (!Num.isFinite(validatedBinWidth) || validatedBinWidth.isLessThan(series.numFactory().zero())) {
+            throw new IllegalArgumentException("binWidth must be greater than or equal to zero");
+        }
+        return new Config(validatedPriceIndicator, validatedVolumeIndicator, lookbackLength, validatedBandwidth,
+                validatedBinWidth);
     }
 
     private static Config validatedSeriesConfig(BarSeries series, Num bandwidth) {
         BarSeries validatedSeries = Objects.requireNonNull(series, "series must not be null");
         return validatedConfig(new ClosePriceIndicator(validatedSeries), new VolumeIndicator(validatedSeries, 1), 0,
-                bandwidth);
+                bandwidth, null);
     }
 
     /**
@@ -118,6 +155,9 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
         if (!Num.isFinite(price)) {
             return NaN;
         }
+        if (usesBins()) {
+            return binnedDensity(index, price);
+        }
         List<Sample> samples = collectSamples(index);
         if (samples.isEmpty()) {
             return NaN;
@@ -140,6 +180,9 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
         if (!Num.isFinite(price)) {
             return NaN;
         }
+        if (usesBins()) {
+            return binnedDensity(index, price);
+        }
         List<Sample> samples = collectSamples(index);
         if (samples.isEmpty()) {
             return NaN;
@@ -153,7 +196,8 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
      *
      * <p>
      * Ties prefer the lower price to reflect how traders often anchor to the lower
-     * bound of a high-volume node when mapping potential support zones.
+     * bound of a high-volume node when mapping potential support zones. In binned
+     * mode the result is the center of the densest occupied price bin.
      *
      * @param index the bar index
      * @return the modal price or {@code NaN} when no samples are available
@@ -163,6 +207,9 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
         if (index < getBarSeries().getBeginIndex() + getCountOfUnstableBars()) {
             return NaN;
         }
+        if (usesBins()) {
+            return binnedModePrice(index);
+        }
         List<Sample> samples = collectSamples(index);
         if (samples.isEmpty()) {
             return NaN;
@@ -181,6 +228,98 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
         return bestPrice == null ? NaN : bestPrice;
     }
 
+    /**
+     * @return the price grid spacing, zero when every sample is evaluated exactly
+     * @since 0.23.1
+     */
+    public Num getBinWidth() {
+        return binWidth;
+    }
+
+    private boolean usesBins() {
+        return binWidth.isPositive();
+    }
+
+    private Num binnedDensity(int index, Num price) {
+        double density;
+        synchronized (this) {
+            BinnedVolumeProfile profile = binnedProfileAt(index);
+            if (profile == null || profile.isEmpty()) {
+                return NaN;
+            }
+            density = profile.density(price.doubleValue());
+        }
+        return Double.isFinite(density) ? getBarSeries().numFactory().numOf(density) : NaN;
+    }
+
+    private Num binnedModePrice(int index) {
+        Long modeBin;
+        synchronized (this) {
+            BinnedVolumeProfile profile = binnedProfileAt(index);
+            modeBin = profile == null ? null : profile.modeBin();
+        }
+        return modeBin == null ? NaN : binWidth.multipliedBy(getBarSeries().numFactory().numOf(modeBin));
+    }
+
+    /**
+     * Moves the rolling histogram to the look-back window ending at
+     * {@code index}. Windows that advance are updated with the bars entering and
+     * leaving them; the previous last bar is re-read because it may still be
+     * changing. Any other move rebuilds the histogram.
+     */
+    private BinnedVolumeProfile binnedProfileAt(int index) {
+        BarSeries series = getBarSeries();
+        if (series == null || index < series.getBeginIndex()) {
+            return null;
+        }
+        if (binnedProfile == null) {
+            binnedProfile = new BinnedVolumeProfile(binWidth.doubleValue(), bandwidth.doubleValue());
+            binnedSamples = new ArrayDeque<>();
+        }
+        int startIndex = computeStartIndex(index, series);
+        int endIndex = binnedStartIndex + binnedSamples.size() - 1;
+        boolean incremental = !binnedSamples.isEmpty() && startIndex >= binnedStartIndex && index >= endIndex
+                && startIndex <= endIndex && (startIndex - binnedStartIndex) + (index - endIndex) < index - startIndex;
+        if (incremental) {
+            for (int i = binnedStartIndex; i < startIndex; i++) {
+                removeBinnedSample(binnedSamples.pollFirst());
+            }
+            removeBinnedSample(binnedSamples.pollLast());
+            for (int i = endIndex; i <= index; i++) {
+                addBinnedSample(i);
+            }
+        } else {
+            binnedProfile.clear();
+            binnedSamples.clear();
+            for (int i = startIndex; i <= index; i++) {
+                addBinnedSample(i);
+            }
+        }
+        binnedStartIndex = startIndex;
+        return binnedProfile;
+    }
+
+    private void addBinnedSample(int index) {
+        Num price = priceIndicator.getValue(index);
+        Num volume = volumeIndicator.getValue(index);
+        BinnedSample sample = BinnedSample.EMPTY;
+        if (Num.isFinite(price) && Num.isFinite(volume) && !volume.isZero()) {
+            Long bin = binnedProfile.binOf(price.doubleValue());
+            double weight = volume.abs().doubleValue();
+            if (bin != null && Double.isFinite(weight) && weight > 0d) {
+                sample = new BinnedSample(bin, weight);
+                binnedProfile.add(bin, weight);
+            }
+        }
+        binnedSamples.addLast(sample);
+    }
+
+    private void removeBinnedSample(BinnedSample sample) {
+        if (sample != BinnedSample.EMPTY) {
+            binnedProfile.remove(sample.bin(), sample.weight());
+        }
+    }
+
     /**
      * Implements collect samples.
      */
@@ -294,7 +433,12 @@ public class VolumeProfileKDEIndicator extends CachedIndicator<Num> {
         gaussianNegativeHalf = factory.numOf("-0.5");
     }
 
+    private record BinnedSample(long bin, double weight) {
+
+        private static final BinnedSample EMPTY = new BinnedSample(0L, 0d);
+    }
+
     private record Config(Indicator<Num> priceIndicator, Indicator<Num> volumeIndicator, int lookbackLength,
-            Num bandwidth) {
+            Num bandwidth, Num binWidth) {
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.journal;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Position;
+import org.ta4j.core.criteria.PositionAdditiveCriterion;
+import org.ta4j.core.num.Num;
+
+/**
+ * Running value of a {@link PositionAdditiveCriterion} over the closed
+ * positions of a {@link JournaledTradingRecord}.
+ *
+ * <p>
+ * The value is the sum of {@link AnalysisCriterion#calculate(BarSeries,
+ * Position)} over the closed positions, and each newly closed position is added
+ * once instead of re-evaluating the whole record. For a position-additive
+ * criterion, such as the gross/net profit and loss criteria or the winning,
+ * losing, and break-even position counts, this equals
+ * {@link AnalysisCriterion#calculate(BarSeries, org.ta4j.core.TradingRecord)}.
+ * {@link JournaledTradingRecord#track(AnalysisCriterion, BarSeries)} rejects
+ * other criteria; ratio, average, drawdown, and equity-curve criteria must be
+ * evaluated on {@link JournaledTradingRecord#getRecord()} instead.
+ * </p>
+ *
+ * @since 0.23.1
+ */
+public final class IncrementalCriterion {
+
+    private final AnalysisCriterion criterion;
+    private final BarSeries series;
+    private volatile Num value;
+
+    IncrementalCriterion(AnalysisCriterion criterion, BarSeries series) {
+        this.criterion = Objects.requireNonNull(criterion, "criterion");
+        this.series = Objects.requireNonNull(series, "series");
+        this.value = series.numFactory().zero();
+    }
+
+    /**
+     * @return the tracked criterion
+     */
+    public AnalysisCriterion getCriterion() {
+        return criterion;
+    }
+
+    /**
+     * @return the criterion value over all closed positions
+     */
+    public Num getValue() {
+        return value;
+    }
+
+    void addClosedPositions(List<Position> closedPositions) {
+        Num sum = value;
+        for (Position position : closedPositions) {
+            sum = sum.plus(criterion.calculate(series, position));
+        }
+        value = sum;
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.journal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Position;
+import org.ta4j.core.TradeFill;
+import org.ta4j.core.criteria.PositionAdditiveCriterion;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Event-sourced {@link BaseTradingRecord} backed by a {@link TradeFillJournal}
+ * and periodic snapshots.
+ *
+ * <p>
+ * Every fill passed to {@link #operate(TradeFill)} is applied to the record and
+ * appended to the journal. Every {@code snapshotInterval} fills (and on
+ * {@link #close()}) the record is serialized together with the journal offset
+ * it covers, so a restart deserializes the last snapshot and replays only the
+ * fills journaled after it instead of rebuilding the record from the first
+ * fill. {@link PositionAdditiveCriterion Position-additive} criteria registered
+ * with {@link #track(AnalysisCriterion, BarSeries)} are updated with each newly
+ * closed position.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * try (JournaledTradingRecord live = JournaledTradingRecord.open(stateDir, new BaseTradingRecord(), numFactory,
+ *         1_000)) {
+ *     IncrementalCriterion netProfit = live.track(new NetProfitCriterion(), series);
+ *     live.operate(fill);
+ *     Num profitSoFar = netProfit.getValue();
+ * }
+ * }</pre>
+ *
+ * <p>
+ * The record returned by {@link #getRecord()} must only be read: mutations that
+ * bypass {@link #operate(TradeFill)} are not journaled and are lost on restart.
+ * </p>
+ *
+ * @since 0.23.1
+ */
+public final class JournaledTradingRecord implements Closeable {
+
+    /** Name of the fill journal file in the state directory. */
+    public static final String JOURNAL_FILE = "fills.journal";
+
+    /** Name of the record snapshot file in the state directory. */
+    public static final String SNAPSHOT_FILE = "record.snapshot";
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Path directory;
+    private final TradeFillJournal journal;
+    private final BaseTradingRecord record;
+    private final int snapshotInterval;
+    private final List<IncrementalCriterion> criteria = new ArrayList<>();
+    private long fillCount;
+    private long fillsSinceSnapshot;
+    private int processedPositions;
+    private IOException journalFailure;
+
+    private JournaledTradingRecord(Path directory, TradeFillJournal journal, BaseTradingRecord record,
+            int snapshotInterval, long fillCount, long fillsSinceSnapshot) {
+        this.directory = directory;
+        this.journal = journal;
+        this.record = record;
+        this.snapshotInterval = snapshotInterval;
+        this.fillCount = fillCount;
+        this.fillsSinceSnapshot = fillsSinceSnapshot;
+        this.processedPositions = record.getPositionCount();
+    }
+
+    /**
+     * Opens (or creates) the journaled record stored in {@code directory}.
+     *
+     * <p>
+     * If the directory holds a snapshot, it is restored and rehydrated with the
+     * cost models of {@code initialRecord}; otherwise {@code initialRecord} itself
+     * is used. The fills journaled after the snapshot are then replayed into the
+     * record.
+     * </p>
+     *
+     * @param directory        the state directory, created if missing
+     * @param initialRecord    the empty record to start from when no snapshot
+     *                         exists; also supplies the cost models
+     * @param numFactory       the factory for the replayed numbers
+     * @param snapshotInterval the number of fills between two snapshots
+     * @return the opened record
+     * @throws IOException              if the journal or snapshot cannot be read
+     * @throws IllegalArgumentException if {@code snapshotInterval <= 0}
+     */
+    public static JournaledTradingRecord open(Path directory, BaseTradingRecord initialRecord, NumFactory numFactory,
+            int snapshotInterval) throws IOException {
+        Objects.requireNonNull(directory, "directory");
+        Objects.requireNonNull(initialRecord, "initialRecord");
+        Objects.requireNonNull(numFactory, "numFactory");
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("snapshotInterval must be greater than zero.");
+        }
+        Files.createDirectories(directory);
+
+        BaseTradingRecord record = initialRecord;
+        long journalOffset = TradeFillJournal.HEADER_SIZE;
+        long snapshotFillCount = 0;
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshotFile)) {
+            try (ObjectInputStream input = new ObjectInputStream(
+                    new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+                int version = input.readInt();
+                if (version != SNAPSHOT_VERSION) {
+                    throw new IOException("Unsupported snapshot version " + version + " in " + snapshotFile);
+                }
+                journalOffset = input.readLong();
+                snapshotFillCount = input.readLong();
+                record = (BaseTradingRecord) input.readObject();
+            } catch (ClassNotFoundException | ClassCastException e) {
+                throw new IOException("Invalid trading record snapshot " + snapshotFile, e);
+            }
+            record.rehydrate(initialRecord.getTransactionCostModel(), initialRecord.getHoldingCostModel());
+        }
+
+        BaseTradingRecord target = record;
+        long[] replayedFills = { 0 };
+        TradeFillJournal journal = TradeFillJournal.open(directory.resolve(JOURNAL_FILE), numFactory, journalOffset,
+                fill -> {
+                    target.operate(fill);
+                    replayedFills[0]++;
+                });
+        return new JournaledTradingRecord(directory, journal, record, snapshotInterval,
+                snapshotFillCount + replayedFills[0], replayedFills[0]);
+    }
+
+    /**
+     * Applies a fill to the record, journals it, and updates the tracked
+     * criteria.
+     *
+     * <p>
+     * The fill is applied before it is journaled, so a fill rejected by the
+     * record never reaches the journal. A {@link BaseTradingRecord} cannot undo an
+     * applied fill, so if the journal append fails the in-memory record is ahead
+     * of the durable state: this instance then rejects further fills and
+     * snapshots, and {@link #close()} only closes the journal. Reopening the
+     * directory restores the record from the durable snapshot and journal, without
+     * the failed fill.
+     * </p>
+     *
+     * @param fill the execution fill
+     * @throws UncheckedIOException  if the fill or a due snapshot cannot be
+     *                               written
+     * @throws IllegalStateException if an earlier journal append failed
+     */
+    public synchronized void operate(TradeFill fill) {
+        Objects.requireNonNull(fill, "fill");
+        requireJournalInSync();
+        record.operate(fill);
+        try {
+            journal.append(fill);
+        } catch (IOException e) {
+            journalFailure = e;
+            throw new UncheckedIOException(e);
+        }
+        fillCount++;
+        fillsSinceSnapshot++;
+        updateCriteria();
+        if (fillsSinceSnapshot >= snapshotInterval) {
+            try {
+                snapshot();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Starts tracking a position-additive criterion. Its value is computed once
+     * over the positions closed so far and then updated incrementally.
+     *
+     * @param criterion the criterion to track; must implement
+     *                  {@link PositionAdditiveCriterion}
+     * @param series    the series the positions were traded on
+     * @return the running criterion value
+     * @throws IllegalArgumentException if {@code criterion} is not
+     *                                  position-additive
+     */
+    public synchronized IncrementalCriterion track(AnalysisCriterion criterion, BarSeries series) {
+        Objects.requireNonNull(criterion, "criterion");
+        if (!(criterion instanceof PositionAdditiveCriterion)) {
+            throw new IllegalArgumentException(criterion.getClass().getSimpleName()
+                    + " is not position-additive; evaluate it on getRecord() instead.");
+        }
+        IncrementalCriterion incrementalCriterion = new IncrementalCriterion(criterion, series);
+        incrementalCriterion.addClosedPositions(record.getPositions());
+        criteria.add(incrementalCriterion);
+        return incrementalCriterion;
+    }
+
+    /**
+     * Writes a snapshot of the record covering all journaled fills.
+     *
+     * <p>
+     * The journal is synced first, then the snapshot is written to a temporary
+     * file and atomically moved over the previous snapshot, so a crash leaves
+     * either the old or the new snapshot in place.
+     * </p>
+     *
+     * @throws IOException           if the snapshot cannot be written
+     * @throws IllegalStateException if an earlier journal append failed
+     */
+    public synchronized void snapshot() throws IOException {
+        requireJournalInSync();
+        journal.sync();
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        Path temporaryFile = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (ObjectOutputStream output = new ObjectOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            output.writeInt(SNAPSHOT_VERSION);
+            output.writeLong(journal.size());
+            output.writeLong(fillCount);
+            output.writeObject(record);
+        }
+        try {
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        fillsSinceSnapshot = 0;
+    }
+
+    /**
+     * @return the underlying record; read-only by contract
+     */
+    public BaseTradingRecord getRecord() {
+        return record;
+    }
+
+    /**
+     * @return the number of fills recorded since the journal was created
+     */
+    public synchronized long getFillCount() {
+        return fillCount;
+    }
+
+    /**
+     * Writes a final snapshot if fills were recorded since the last one, and
+     * closes the journal. No snapshot is written after a failed journal append.
+     *
+     * @throws IOException if the snapshot cannot be written or the journal cannot
+     *                     be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (fillsSinceSnapshot > 0 && journalFailure == null) {
+                snapshot();
+            }
+        } finally {
+            journal.close();
+        }
+    }
+
+    private void requireJournalInSync() {
+        if (journalFailure != null) {
+            throw new IllegalStateException("The record is ahead of its journal after a failed append; reopen it.",
+                    journalFailure);
+        }
+    }
+
+    private void updateCriteria() {
+        int positionCount = record.getPositionCount();
+        if (positionCount == processedPositions) {
+            return;
+        }
+        if (!criteria.isEmpty()) {
+            List<Position> closedPositions = record.getPositions(processedPositions);
+            for (IncrementalCriterion criterion : criteria) {
+                criterion.addClosedPositions(closedPositions);
+            }
+        }
+        processedPositions = positionCount;
+    }
+}
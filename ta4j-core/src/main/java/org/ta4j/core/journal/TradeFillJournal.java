@@ -0,0 +1,320 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.journal;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.ta4j.core.ExecutionSide;
+import org.ta4j.core.TradeFill;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Append-only binary journal of {@link TradeFill trade fills}.
+ *
+ * <p>
+ * The file starts with a magic/version header followed by one frame per fill:
+ * the payload length, the payload, and a CRC32 of the payload. Prices, amounts
+ * and fees are stored as raw doubles for {@link DoubleNum} values and as
+ * decimal strings otherwise, so replay reproduces the journaled values exactly.
+ * </p>
+ *
+ * <p>
+ * Opening a journal verifies the frames from a known-good offset to the end of
+ * the file and truncates an incomplete or corrupt tail (e.g. a frame cut short
+ * by a crash). Appends are written to the file channel immediately; call
+ * {@link #sync()} to force them to the storage device.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @since 0.23.1
+ */
+public final class TradeFillJournal implements Closeable {
+
+    /** Size of the file header in bytes; the offset of the first frame. */
+    public static final long HEADER_SIZE = 8;
+
+    private static final int MAGIC = 0x7434464A;
+    private static final int VERSION = 1;
+    private static final int MAX_PAYLOAD_SIZE = 1 << 20;
+
+    private static final byte NUM_NULL = 0;
+    private static final byte NUM_DOUBLE = 1;
+    private static final byte NUM_DECIMAL = 2;
+    private static final byte NUM_NAN = 3;
+
+    private static final int HAS_TIME = 1;
+    private static final int HAS_SIDE = 1 << 1;
+    private static final int HAS_ORDER_ID = 1 << 2;
+    private static final int HAS_CORRELATION_ID = 1 << 3;
+
+    private final FileChannel channel;
+    private final NumFactory numFactory;
+    private final ByteArrayOutputStream payloadBuffer = new ByteArrayOutputStream(128);
+    private final DataOutputStream payloadOutput = new DataOutputStream(payloadBuffer);
+    private final CRC32 crc = new CRC32();
+    private long size;
+
+    private TradeFillJournal(FileChannel channel, NumFactory numFactory, long size) {
+        this.channel = channel;
+        this.numFactory = numFactory;
+        this.size = size;
+    }
+
+    /**
+     * Opens (or creates) a journal and verifies all of its frames.
+     *
+     * @param file       the journal file
+     * @param numFactory the factory for the replayed numbers
+     * @return the opened journal, positioned after its last valid frame
+     * @throws IOException if the file cannot be read or is not a fill journal
+     */
+    public static TradeFillJournal open(Path file, NumFactory numFactory) throws IOException {
+        return open(file, numFactory, HEADER_SIZE, fill -> {
+        });
+    }
+
+    /**
+     * Opens (or creates) a journal, replaying the fills from {@code fromOffset}
+     * on.
+     *
+     * <p>
+     * The frames before {@code fromOffset} are trusted (typically because a
+     * snapshot already covers them) and are not read. Replay stops at the first
+     * incomplete or corrupt frame, which is truncated along with everything after
+     * it.
+     * </p>
+     *
+     * @param file       the journal file
+     * @param numFactory the factory for the replayed numbers
+     * @param fromOffset the offset of the first frame to replay, as returned by
+     *                   {@link #size()} or {@link #append(TradeFill)}
+     * @param tail       receives the replayed fills in journal order
+     * @return the opened journal, positioned after its last valid frame
+     * @throws IOException              if the file cannot be read, is not a fill
+     *                                  journal, or is shorter than
+     *                                  {@code fromOffset}
+     * @throws IllegalArgumentException if {@code fromOffset} is before the first
+     *                                  frame
+     */
+    public static TradeFillJournal open(Path file, NumFactory numFactory, long fromOffset, Consumer<TradeFill> tail)
+            throws IOException {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(numFactory, "numFactory");
+        Objects.requireNonNull(tail, "tail");
+        if (fromOffset < HEADER_SIZE) {
+            throw new IllegalArgumentException("fromOffset must not be before the first frame.");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                // new journal, or a crash before the header was complete
+                ByteBuffer header = ByteBuffer.allocate((int) HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+                channel.truncate(0);
+                writeFully(channel, header, 0);
+            } else {
+                readHeader(channel, file);
+            }
+            if (channel.size() < fromOffset) {
+                throw new IOException("Journal " + file + " is shorter than offset " + fromOffset);
+            }
+            TradeFillJournal journal = new TradeFillJournal(channel, numFactory, fromOffset);
+            journal.replayTail(tail);
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a fill.
+     *
+     * @param fill the fill to append
+     * @return the journal size after the append, i.e. the offset of the next
+     *         frame
+     * @throws IOException if the frame cannot be written
+     */
+    public long append(TradeFill fill) throws IOException {
+        Objects.requireNonNull(fill, "fill");
+        payloadBuffer.reset();
+        writeFill(payloadOutput, fill);
+        byte[] payload = payloadBuffer.toByteArray();
+        crc.reset();
+        crc.update(payload, 0, payload.length);
+        ByteBuffer frame = ByteBuffer.allocate(payload.length + 8)
+                .putInt(payload.length)
+                .put(payload)
+                .putInt((int) crc.getValue())
+                .flip();
+        writeFully(channel, frame, size);
+        size += frame.limit();
+        return size;
+    }
+
+    /**
+     * Forces all appended fills to the storage device.
+     *
+     * @throws IOException if the channel cannot be forced
+     */
+    public void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * @return the offset after the last valid frame
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void replayTail(Consumer<TradeFill> tail) throws IOException {
+        long validSize = size;
+        InputStream stream = new BufferedInputStream(Channels.newInputStream(channel.position(size)), 1 << 16);
+        DataInputStream input = new DataInputStream(stream);
+        CRC32 frameCrc = new CRC32();
+        while (true) {
+            TradeFill fill;
+            int frameSize;
+            try {
+                int payloadSize = input.readInt();
+                if (payloadSize <= 0 || payloadSize > MAX_PAYLOAD_SIZE) {
+                    break;
+                }
+                byte[] payload = new byte[payloadSize];
+                input.readFully(payload);
+                int expectedCrc = input.readInt();
+                frameCrc.reset();
+                frameCrc.update(payload, 0, payloadSize);
+                if ((int) frameCrc.getValue() != expectedCrc) {
+                    break;
+                }
+                fill = readFill(new DataInputStream(new ByteArrayInputStream(payload)));
+                frameSize = payloadSize + 8;
+            } catch (EOFException e) {
+                break;
+            }
+            tail.accept(fill);
+            validSize += frameSize;
+        }
+        if (channel.size() > validSize) {
+            channel.truncate(validSize);
+        }
+        size = validSize;
+    }
+
+    private void writeFill(DataOutputStream output, TradeFill fill) throws IOException {
+        int flags = (fill.time() != null ? HAS_TIME : 0) | (fill.side() != null ? HAS_SIDE : 0)
+                | (fill.orderId() != null ? HAS_ORDER_ID : 0)
+                | (fill.correlationId() != null ? HAS_CORRELATION_ID : 0);
+        output.writeByte(flags);
+        output.writeInt(fill.index());
+        if (fill.time() != null) {
+            output.writeLong(fill.time().getEpochSecond());
+            output.writeInt(fill.time().getNano());
+        }
+        writeNum(output, fill.price());
+        writeNum(output, fill.amount());
+        writeNum(output, fill.fee());
+        if (fill.side() != null) {
+            output.writeByte(fill.side().ordinal());
+        }
+        if (fill.orderId() != null) {
+            output.writeUTF(fill.orderId());
+        }
+        if (fill.correlationId() != null) {
+            output.writeUTF(fill.correlationId());
+        }
+    }
+
+    private TradeFill readFill(DataInputStream input) throws IOException {
+        int flags = input.readUnsignedByte();
+        int index = input.readInt();
+        Instant time = (flags & HAS_TIME) != 0 ? Instant.ofEpochSecond(input.readLong(), input.readInt()) : null;
+        Num price = readNum(input);
+        Num amount = readNum(input);
+        Num fee = readNum(input);
+        ExecutionSide side = (flags & HAS_SIDE) != 0 ? ExecutionSide.values()[input.readUnsignedByte()] : null;
+        String orderId = (flags & HAS_ORDER_ID) != 0 ? input.readUTF() : null;
+        String correlationId = (flags & HAS_CORRELATION_ID) != 0 ? input.readUTF() : null;
+        return new TradeFill(index, time, price, amount, fee, side, orderId, correlationId);
+    }
+
+    private static void writeNum(DataOutputStream output, Num value) throws IOException {
+        if (value == null) {
+            output.writeByte(NUM_NULL);
+        } else if (value.isNaN()) {
+            output.writeByte(NUM_NAN);
+        } else if (value instanceof DoubleNum) {
+            output.writeByte(NUM_DOUBLE);
+            output.writeDouble(value.doubleValue());
+        } else {
+            output.writeByte(NUM_DECIMAL);
+            output.writeUTF(value.toString());
+        }
+    }
+
+    private Num readNum(DataInputStream input) throws IOException {
+        byte tag = input.readByte();
+        return switch (tag) {
+        case NUM_NULL -> null;
+        case NUM_NAN -> NaN.NaN;
+        case NUM_DOUBLE -> numFactory.numOf(input.readDouble());
+        case NUM_DECIMAL -> numFactory.numOf(input.readUTF());
+        default -> throw new IOException("Unknown number tag " + tag);
+        };
+    }
+
+    private static void readHeader(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate((int) HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new EOFException("Truncated journal header in " + file);
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException(file + " is not a trade fill journal");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported trade fill journal version " + version + " in " + file);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long writePosition = position;
+        while (buffer.hasRemaining()) {
+            writePosition += channel.write(buffer, writePosition);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+/**
+ * Durable live trading records.
+ *
+ * <p>
+ * {@link org.ta4j.core.journal.JournaledTradingRecord JournaledTradingRecord}
+ * appends execution fills to a binary
+ * {@link org.ta4j.core.journal.TradeFillJournal TradeFillJournal} and
+ * snapshots the record periodically, so a restart restores the last snapshot
+ * and replays only the journal tail.
+ * {@link org.ta4j.core.journal.IncrementalCriterion IncrementalCriterion}
+ * keeps position-additive criteria up to date as positions close.
+ * </p>
+ */
+package org.ta4j.core.journal;
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.named;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.serialization.ComponentDescriptor;
+import org.ta4j.core.serialization.IndicatorSerialization;
+import org.ta4j.core.serialization.RuleSerialization;
+import org.ta4j.core.serialization.StrategySerialization;
+
+/**
+ * Compile-once shorthand expression that builds strategies, rules or indicators
+ * for any {@link BarSeries} and parameter values.
+ * <p>
+ * The expression is parsed once; each {@link #bind(BarSeries, Object...)} only
+ * substitutes the parameter slots, expands the descriptor (reusing expanded
+ * sub-expressions) and constructs the component, e.g. for a parameter sweep:
+ *
+ * <pre>{@code
+ * ExpressionTemplate<Strategy> template = ExpressionTemplate.strategy("SMA({fast},{slow})");
+ * for (int fast = 2; fast < 50; fast++) {
+ *     for (int slow = fast + 1; slow <= 200; slow++) {
+ *         Strategy strategy = template.bind(series, fast, slow);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <T> the component type
+ * @see NamedAssetRegistry#compile(NamedAssetKind, String)
+ * @since 0.23.1
+ */
+public final class ExpressionTemplate<T> {
+
+    private final NamedAssetRegistry.Template template;
+    private final BiFunction<BarSeries, ComponentDescriptor, T> factory;
+
+    private ExpressionTemplate(NamedAssetRegistry.Template template,
+            BiFunction<BarSeries, ComponentDescriptor, T> factory) {
+        this.template = template;
+        this.factory = factory;
+    }
+
+    /**
+     * Compiles a strategy expression with the default registry.
+     *
+     * @param expression strategy shorthand with optional <code>{name}</code> slots
+     * @return strategy template
+     */
+    public static ExpressionTemplate<Strategy> strategy(String expression) {
+        return strategy(expression, NamedAssetRegistry.defaultRegistry());
+    }
+
+    /**
+     * Compiles a strategy expression.
+     *
+     * @param expression strategy shorthand with optional <code>{name}</code> slots
+     * @param registry   named asset registry
+     * @return strategy template
+     */
+    public static ExpressionTemplate<Strategy> strategy(String expression, NamedAssetRegistry registry) {
+        return compile(NamedAssetKind.STRATEGY, expression, registry, StrategySerialization::fromDescriptor);
+    }
+
+    /**
+     * Compiles a rule expression with the default registry.
+     *
+     * @param expression rule shorthand with optional <code>{name}</code> slots
+     * @return rule template
+     */
+    public static ExpressionTemplate<Rule> rule(String expression) {
+        return rule(expression, NamedAssetRegistry.defaultRegistry());
+    }
+
+    /**
+     * Compiles a rule expression.
+     *
+     * @param expression rule shorthand with optional <code>{name}</code> slots
+     * @param registry   named asset registry
+     * @return rule template
+     */
+    public static ExpressionTemplate<Rule> rule(String expression, NamedAssetRegistry registry) {
+        return compile(NamedAssetKind.RULE, expression, registry, RuleSerialization::fromDescriptor);
+    }
+
+    /**
+     * Compiles an indicator expression with the default registry.
+     *
+     * @param expression indicator shorthand with optional <code>{name}</code> slots
+     * @return indicator template
+     */
+    public static ExpressionTemplate<Indicator<?>> indicator(String expression) {
+        return indicator(expression, NamedAssetRegistry.defaultRegistry());
+    }
+
+    /**
+     * Compiles an indicator expression.
+     *
+     * @param expression indicator shorthand with optional <code>{name}</code> slots
+     * @param registry   named asset registry
+     * @return indicator template
+     */
+    public static ExpressionTemplate<Indicator<?>> indicator(String expression, NamedAssetRegistry registry) {
+        return compile(NamedAssetKind.INDICATOR, expression, registry, IndicatorSerialization::fromDescriptor);
+    }
+
+    private static <T> ExpressionTemplate<T> compile(NamedAssetKind kind, String expression,
+            NamedAssetRegistry registry, BiFunction<BarSeries, ComponentDescriptor, T> factory) {
+        Objects.requireNonNull(registry, "registry");
+        return new ExpressionTemplate<>(registry.compile(kind, expression), factory);
+    }
+
+    /**
+     * @return slot names in order of first appearance
+     */
+    public List<String> parameterNames() {
+        return template.parameterNames();
+    }
+
+    /**
+     * @return the compiled expression
+     */
+    public String expression() {
+        return template.expression();
+    }
+
+    /**
+     * Expands the template with positional slot values.
+     *
+     * @param values one value per {@link #parameterNames() slot name}, in order
+     * @return canonical descriptor
+     */
+    public ComponentDescriptor toDescriptor(Object... values) {
+        return template.toDescriptor(values);
+    }
+
+    /**
+     * Expands the template with named slot values.
+     *
+     * @param values slot values by name
+     * @return canonical descriptor
+     */
+    public ComponentDescriptor toDescriptor(Map<String, ?> values) {
+        return template.toDescriptor(values);
+    }
+
+    /**
+     * Builds the component for a series with positional slot values.
+     *
+     * @param series backing series
+     * @param values one value per {@link #parameterNames() slot name}, in order
+     * @return the component
+     */
+    public T bind(BarSeries series, Object... values) {
+        Objects.requireNonNull(series, "series");
+        return factory.apply(series, template.toDescriptor(values));
+    }
+
+    /**
+     * Builds the component for a series with named slot values.
+     *
+     * @param series backing series
+     * @param values slot values by name
+     * @return the component
+     */
+    public T bind(BarSeries series, Map<String, ?> values) {
+        Objects.requireNonNull(series, "series");
+        return factory.apply(series, template.toDescriptor(values));
+    }
+
+    @Override
+    public String toString() {
+        return template.kind() + " template " + template.expression();
+    }
+}
@@ -8,11 +8,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
@@ -112,7 +115,30 @@ public final class NamedAssetRegistry {
     public ComponentDescriptor toDescriptor(NamedAssetKind kind, String expression, String location) {
         Objects.requireNonNull(kind, "kind");
         ParsedExpression parsed = new Parser(expression, location).parseExpressionDocument();
-        return toDescriptor(kind, parsed, location);
+        return toDescriptor(kind, parsed, location, null);
+    }
+
+    /**
+     * Parses a shorthand expression once into a reusable template.
+     * <p>
+     * Arguments written as <code>{name}</code> are parameter slots, e.g.
+     * <code>And(CrossedUp(SMA({fast}),SMA({slow})),Over(RSI({rsi}),50))</code>.
+     * Binding values to the slots expands the parsed expression without parsing
+     * it again, and sub-expressions that resolve to the same values are expanded
+     * only once per template, which keeps parameter sweeps over one expression
+     * cheap. A slot name may appear several times and is bound to the same value
+     * everywhere.
+     *
+     * @param kind       owning asset family
+     * @param expression shorthand expression with optional parameter slots
+     * @return compiled template
+     * @since 0.23.1
+     */
+    public Template compile(NamedAssetKind kind, String expression) {
+        Objects.requireNonNull(kind, "kind");
+        String location = kind.name().toLowerCase();
+        ParsedExpression parsed = new Parser(expression, location).parseExpressionDocument();
+        return new Template(this, kind, parsed, location);
     }
 
     /**
@@ -152,7 +178,22 @@ public final class NamedAssetRegistry {
         return Collections.unmodifiableList(Parser.splitTopLevel(text, "expression list"));
     }
 
-    private ComponentDescriptor toDescriptor(NamedAssetKind kind, ParsedExpression parsed, String location) {
+    private ComponentDescriptor toDescriptor(NamedAssetKind kind, ParsedExpression parsed, String location,
+            DescriptorMemo memo) {
+        if (memo == null) {
+            return expand(kind, parsed, location, null);
+        }
+        DescriptorKey key = new DescriptorKey(kind, parsed);
+        ComponentDescriptor descriptor = memo.get(key);
+        if (descriptor == null) {
+            descriptor = expand(kind, parsed, location, memo);
+            memo.put(key, descriptor);
+        }
+        return descriptor;
+    }
+
+    private ComponentDescriptor expand(NamedAssetKind kind, ParsedExpression parsed, String location,
+            DescriptorMemo memo) {
         Binding binding = bindings.getOrDefault(kind, Map.of()).get(parsed.alias());
         if (binding == null) {
             if (kind == NamedAssetKind.STRATEGY && parsed.arguments().isEmpty() && parsed.alias().contains("_")) {
@@ -167,7 +208,7 @@ public final class NamedAssetRegistry {
             throw new IllegalArgumentException(
                     "Unknown named " + displayKind(kind) + " alias at " + location + ": " + parsed.alias());
         }
-        Arguments arguments = new Arguments(this, binding, parsed.arguments(), location);
+        Arguments arguments = new Arguments(this, binding, parsed.arguments(), location, memo);
         return binding.factory().create(arguments);
     }
 
@@ -778,13 +819,15 @@ public final class NamedAssetRegistry {
         private final Binding binding;
         private final List<ParsedArgument> arguments;
         private final String location;
+        private final DescriptorMemo memo;
 
         private Arguments(NamedAssetRegistry registry, Binding binding, List<ParsedArgument> arguments,
-                String location) {
+                String location, DescriptorMemo memo) {
             this.registry = registry;
             this.binding = binding;
             this.arguments = arguments;
             this.location = location;
+            this.memo = memo;
         }
 
         /**
@@ -914,9 +957,13 @@ public final class NamedAssetRegistry {
         private ComponentDescriptor descriptorValue(int index, NamedAssetKind descriptorKind) {
             ParsedArgument argument = argument(index);
             if (argument.isExpression()) {
-                return registry.toDescriptor(descriptorKind, argument.expression(), argLocation(index));
+                return registry.toDescriptor(descriptorKind, argument.expression(), argLocation(index), memo);
+            }
+            if (memo == null) {
+                return registry.toDescriptor(descriptorKind, argument.literal(), argLocation(index));
             }
-            return registry.toDescriptor(descriptorKind, argument.literal(), argLocation(index));
+            ParsedExpression parsed = new Parser(argument.literal(), argLocation(index)).parseExpressionDocument();
+            return registry.toDescriptor(descriptorKind, parsed, argLocation(index), memo);
         }
 
         private String literalText(int index) {
@@ -946,6 +993,244 @@ public final class NamedAssetRegistry {
             DescriptorFormatter formatter) {
     }
 
+    private record DescriptorKey(NamedAssetKind kind, ParsedExpression expression) {
+    }
+
+    /**
+     * Bounded, thread-safe memo of expanded sub-expressions. When it reaches its
+     * capacity it is cleared instead of evicting entries one by one.
+     */
+    static final class DescriptorMemo {
+
+        static final int DEFAULT_CAPACITY = 2_048;
+
+        private final int capacity;
+        private final ConcurrentHashMap<DescriptorKey, ComponentDescriptor> descriptors = new ConcurrentHashMap<>();
+
+        DescriptorMemo(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("capacity must be positive");
+            }
+            this.capacity = capacity;
+        }
+
+        private ComponentDescriptor get(DescriptorKey key) {
+            return descriptors.get(key);
+        }
+
+        private void put(DescriptorKey key, ComponentDescriptor descriptor) {
+            if (descriptors.size() >= capacity) {
+                descriptors.clear();
+            }
+            descriptors.putIfAbsent(key, descriptor);
+        }
+
+        int size() {
+            return descriptors.size();
+        }
+    }
+
+    /**
+     * Shorthand expression parsed once by
+     * {@link NamedAssetRegistry#compile(NamedAssetKind, String)}, with parameter
+     * slots that are bound per use.
+     * <p>
+     * Templates are thread-safe. Expanded sub-expressions are memoized in a memo
+     * of at most 2,048 entries that is cleared when full, so long parameter
+     * sweeps do not grow memory.
+     *
+     * @since 0.23.1
+     */
+    public static final class Template {
+
+        private final NamedAssetRegistry registry;
+        private final NamedAssetKind kind;
+        private final ParsedExpression parsed;
+        private final String location;
+        private final List<String> parameterNames;
+        private final DescriptorMemo memo = new DescriptorMemo(DescriptorMemo.DEFAULT_CAPACITY);
+
+        private Template(NamedAssetRegistry registry, NamedAssetKind kind, ParsedExpression parsed,
+                String location) {
+            this.registry = registry;
+            this.kind = kind;
+            this.parsed = parsed;
+            this.location = location;
+            LinkedHashSet<String> names = new LinkedHashSet<>();
+            collectSlots(parsed, names);
+            this.parameterNames = List.copyOf(names);
+        }
+
+        /**
+         * @return owning asset family
+         * @since 0.23.1
+         */
+        public NamedAssetKind kind() {
+            return kind;
+        }
+
+        /**
+         * @return the compiled expression
+         * @since 0.23.1
+         */
+        public String expression() {
+            return parsed.source();
+        }
+
+        /**
+         * @return slot names in order of first appearance
+         * @since 0.23.1
+         */
+        public List<String> parameterNames() {
+            return parameterNames;
+        }
+
+        /**
+         * Expands the template with positional slot values.
+         *
+         * @param values one value per {@link #parameterNames() slot name}, in order
+         * @return canonical descriptor
+         * @since 0.23.1
+         */
+        public ComponentDescriptor toDescriptor(Object... values) {
+            Objects.requireNonNull(values, "values");
+            if (values.length != parameterNames.size()) {
+                throw new IllegalArgumentException("Expected " + parameterNames.size() + " value(s) for "
+                        + parameterNames + " but found " + values.length);
+            }
+            Map<String, Object> byName = new LinkedHashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                byName.put(parameterNames.get(i), values[i]);
+            }
+            return toDescriptor(byName);
+        }
+
+        /**
+         * Expands the template with named slot values.
+         *
+         * @param values slot values by name; numbers, strings, booleans and enums
+         *               are accepted
+         * @return canonical descriptor
+         * @since 0.23.1
+         */
+        public ComponentDescriptor toDescriptor(Map<String, ?> values) {
+            Objects.requireNonNull(values, "values");
+            if (!values.keySet().equals(new LinkedHashSet<>(parameterNames))) {
+                throw new IllegalArgumentException(
+                        "Expected values for " + parameterNames + " at " + location + " but found " + values.keySet());
+            }
+            Map<String, String> literals = new LinkedHashMap<>();
+            values.forEach((name, value) -> literals.put(name, slotLiteral(name, value)));
+            // only sub-expressions are memoized, as sweeps rarely repeat a whole binding
+            return registry.expand(kind, bind(parsed, literals), location, memo);
+        }
+
+        int memoSize() {
+            return memo.size();
+        }
+
+        private static void collectSlots(ParsedExpression expression, Set<String> names) {
+            for (ParsedArgument argument : expression.arguments()) {
+                if (argument.isExpression()) {
+                    collectSlots(argument.expression(), names);
+                } else {
+                    forEachSlot(argument, (start, end) -> names.add(argument.source().substring(start + 1, end - 1)));
+                }
+            }
+        }
+
+        private static ParsedExpression bind(ParsedExpression expression, Map<String, String> literals) {
+            List<ParsedArgument> bound = null;
+            List<ParsedArgument> arguments = expression.arguments();
+            for (int i = 0; i < arguments.size(); i++) {
+                ParsedArgument argument = arguments.get(i);
+                ParsedArgument replacement = argument;
+                if (argument.isExpression()) {
+                    ParsedExpression child = bind(argument.expression(), literals);
+                    if (child != argument.expression()) {
+                        replacement = new ParsedArgument(child, null, child.source());
+                    }
+                } else {
+                    String literal = substituteSlots(argument, literals);
+                    if (literal != null) {
+                        replacement = new ParsedArgument(null, literal, literal);
+                    }
+                }
+                if (replacement != argument && bound == null) {
+                    bound = new ArrayList<>(arguments.subList(0, i));
+                }
+                if (bound != null) {
+                    bound.add(replacement);
+                }
+            }
+            if (bound == null) {
+                return expression;
+            }
+            StringBuilder source = new StringBuilder(expression.alias()).append('(');
+            for (int i = 0; i < bound.size(); i++) {
+                source.append(i == 0 ? "" : ",").append(bound.get(i).source());
+            }
+            return new ParsedExpression(expression.alias(), List.copyOf(bound), source.append(')').toString());
+        }
+
+        private static String substituteSlots(ParsedArgument argument, Map<String, String> literals) {
+            String source = argument.source();
+            StringBuilder bound = new StringBuilder();
+            int[] copied = { 0 };
+            forEachSlot(argument, (start, end) -> {
+                bound.append(source, copied[0], start).append(literals.get(source.substring(start + 1, end - 1)));
+                copied[0] = end;
+            });
+            return copied[0] == 0 ? null : bound.append(source, copied[0], source.length()).toString();
+        }
+
+        /**
+         * Visits the <code>{name}</code> slots of a bare literal argument, such as
+         * <code>{n}</code> or <code>{loss}%</code>, as source index ranges.
+         */
+        private static void forEachSlot(ParsedArgument argument, SlotVisitor visitor) {
+            String source = argument.source();
+            if (source.startsWith("\"")) {
+                return;
+            }
+            int open = source.indexOf('{');
+            while (open >= 0) {
+                int close = source.indexOf('}', open);
+                if (close < 0) {
+                    return;
+                }
+                if (Parser.isIdentifier(source.substring(open + 1, close))) {
+                    visitor.visit(open, close + 1);
+                }
+                open = source.indexOf('{', close);
+            }
+        }
+
+        private String slotLiteral(String name, Object value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Missing value for slot {" + name + "} at " + location);
+            }
+            if (value instanceof Double || value instanceof Float) {
+                double number = ((Number) value).doubleValue();
+                if (!Double.isFinite(number)) {
+                    throw new IllegalArgumentException(
+                            "Expected finite value for slot {" + name + "} at " + location + ": " + value);
+                }
+                return BigDecimal.valueOf(number).toPlainString();
+            }
+            if (value instanceof BigDecimal decimal) {
+                return decimal.toPlainString();
+            }
+            return value.toString();
+        }
+    }
+
+    @FunctionalInterface
+    private interface SlotVisitor {
+
+        void visit(int start, int end);
+    }
+
     private record ParsedExpression(String alias, List<ParsedArgument> arguments, String source) {
     }
 
@@ -3,10 +3,7 @@
  */
 package org.ta4j.core.serialization;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Modifier;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -39,6 +36,8 @@ public final class AnalysisCriterionSerialization {
             CRITERIA_PACKAGE + ".drawdown", CRITERIA_PACKAGE + ".commissions", CRITERIA_PACKAGE + ".helpers",
             CRITERIA_PACKAGE + ".risk" };
     private static final Object MISSING_PARAMETER = new Object();
+    private static final Object CONSTRUCTORS_BY_ASCENDING_COUNT = new Object();
+    private static final Object CONSTRUCTORS_BY_DESCENDING_COUNT = new Object();
 
     private AnalysisCriterionSerialization() {
     }
@@ -174,9 +173,10 @@ public final class AnalysisCriterionSerialization {
                 && currentState.equals(serializableState(defaultCriterion.get()))) {
             return Map.of();
         }
-        List<Constructor<?>> constructors = constructorsByParameterCount(criterion.getClass());
-        for (Constructor<?> constructor : constructors) {
-            if (constructor.getParameterCount() == 0) {
+        List<ReflectionMetadata.ConstructorInfo> constructors = constructorsByParameterCount(criterion.getClass(),
+                false);
+        for (ReflectionMetadata.ConstructorInfo constructor : constructors) {
+            if (constructor.parameterCount() == 0) {
                 continue;
             }
             Map<String, Object> currentValues = constructorParameterValues(criterion, constructor);
@@ -210,40 +210,42 @@ public final class AnalysisCriterionSerialization {
     }
 
     private static Optional<AnalysisCriterion> instantiateDefault(Class<?> criterionType) {
-        try {
-            Constructor<?> constructor = criterionType.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            return Optional.of((AnalysisCriterion) constructor.newInstance());
-        } catch (NoSuchMethodException ex) {
+        List<ReflectionMetadata.ConstructorInfo> constructors = constructorsByParameterCount(criterionType, false);
+        if (constructors.isEmpty() || constructors.get(0).parameterCount() != 0) {
             return Optional.empty();
+        }
+        try {
+            return Optional.of((AnalysisCriterion) constructors.get(0).constructor().newInstance());
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
             throw new IllegalStateException(
                     "Failed to construct default analysis criterion: " + criterionType.getName(), ex);
         }
     }
 
-    private static List<Constructor<?>> constructorsByParameterCount(Class<?> criterionType) {
-        Constructor<?>[] constructors = criterionType.getDeclaredConstructors();
-        List<Constructor<?>> orderedConstructors = new ArrayList<>(constructors.length);
-        for (Constructor<?> constructor : constructors) {
-            orderedConstructors.add(constructor);
-        }
-        orderedConstructors.sort(Comparator.comparingInt(Constructor::getParameterCount));
-        return orderedConstructors;
+    private static List<ReflectionMetadata.ConstructorInfo> constructorsByParameterCount(Class<?> criterionType,
+            boolean descending) {
+        Object key = descending ? CONSTRUCTORS_BY_DESCENDING_COUNT : CONSTRUCTORS_BY_ASCENDING_COUNT;
+        return ReflectionMetadata.of(criterionType).derive(key, metadata -> {
+            List<ReflectionMetadata.ConstructorInfo> orderedConstructors = new ArrayList<>(metadata.constructors());
+            Comparator<ReflectionMetadata.ConstructorInfo> byCount = Comparator
+                    .comparingInt(ReflectionMetadata.ConstructorInfo::parameterCount);
+            orderedConstructors.sort(descending ? byCount.reversed() : byCount);
+            return List.copyOf(orderedConstructors);
+        });
     }
 
     private static Map<String, Object> constructorParameterValues(AnalysisCriterion criterion,
-            Constructor<?> constructor) {
+            ReflectionMetadata.ConstructorInfo constructor) {
         LinkedHashMap<String, Object> values = new LinkedHashMap<>();
-        java.lang.reflect.Parameter[] parameterMetadata = constructor.getParameters();
-        for (int index = 0; index < constructor.getParameterCount(); index++) {
+        java.lang.reflect.Parameter[] parameterMetadata = constructor.parameters();
+        for (int index = 0; index < constructor.parameterCount(); index++) {
             if (parameterMetadata.length <= index || !parameterMetadata[index].isNamePresent()) {
                 return null;
             }
             String parameterName = parameterMetadata[index].getName();
             Optional<Object> value = fieldValue(criterion, parameterName, new IdentityHashMap<>(), 0);
             if (value.isEmpty()) {
-                value = uniqueFieldValueByType(criterion, constructor.getParameterTypes()[index]);
+                value = uniqueFieldValueByType(criterion, constructor.parameterTypes()[index]);
             }
             if (value.isEmpty()) {
                 return null;
@@ -269,10 +271,7 @@ public final class AnalysisCriterionSerialization {
         }
         visited.put(source, Boolean.TRUE);
         for (Class<?> type = source.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
-            for (Field field : type.getDeclaredFields()) {
-                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
-                    continue;
-                }
+            for (ReflectionMetadata.FieldAccessor field : ReflectionMetadata.of(type).fields()) {
                 Object value = readField(field, source);
                 if (value != null && isDescriptorParameterValue(value)
                         && isCompatibleParameterValue(parameterType, value)) {
@@ -292,12 +291,9 @@ public final class AnalysisCriterionSerialization {
         }
         visited.put(source, Boolean.TRUE);
         for (Class<?> type = source.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
-            for (Field field : type.getDeclaredFields()) {
-                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
-                    continue;
-                }
+            for (ReflectionMetadata.FieldAccessor field : ReflectionMetadata.of(type).fields()) {
                 Object value = readField(field, source);
-                if (field.getName().equals(name) && value != null && isDescriptorParameterValue(value)) {
+                if (field.name().equals(name) && value != null && isDescriptorParameterValue(value)) {
                     return Optional.of(value);
                 }
                 if (value != null && shouldSearchNestedValue(value)) {
@@ -328,12 +324,9 @@ public final class AnalysisCriterionSerialization {
         visited.put(source, Boolean.TRUE);
         boolean complete = true;
         for (Class<?> type = source.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
-            for (Field field : type.getDeclaredFields()) {
-                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
-                    continue;
-                }
+            for (ReflectionMetadata.FieldAccessor field : ReflectionMetadata.of(type).fields()) {
                 Object value = readField(field, source);
-                String key = prefix + field.getName();
+                String key = prefix + field.name();
                 if (value != null && isDescriptorParameterValue(value)) {
                     values.put(key, descriptorParameterValue(value));
                 } else if (value != null && shouldSearchNestedValue(value)) {
@@ -346,12 +339,11 @@ public final class AnalysisCriterionSerialization {
         return complete;
     }
 
-    private static Object readField(Field field, Object source) {
+    private static Object readField(ReflectionMetadata.FieldAccessor field, Object source) {
         try {
-            field.setAccessible(true);
             return field.get(source);
         } catch (IllegalAccessException ex) {
-            throw new IllegalStateException("Failed to read analysis criterion field: " + field.getName(), ex);
+            throw new IllegalStateException("Failed to read analysis criterion field: " + field.name(), ex);
         }
     }
 
@@ -429,23 +421,14 @@ public final class AnalysisCriterionSerialization {
         if (type == null || type.isBlank()) {
             throw new IllegalArgumentException("Analysis criterion descriptor missing type");
         }
-        try {
-            Class<?> clazz = Class.forName(type, false, AnalysisCriterionSerialization.class.getClassLoader());
-            if (AnalysisCriterion.class.isAssignableFrom(clazz)) {
-                return (Class<? extends AnalysisCriterion>) clazz;
-            }
-        } catch (ClassNotFoundException ex) {
-            // Try standard criterion packages below.
+        Class<?> clazz = ReflectionMetadata.findClass(type);
+        if (clazz != null && AnalysisCriterion.class.isAssignableFrom(clazz)) {
+            return (Class<? extends AnalysisCriterion>) clazz;
         }
         for (String packageName : CRITERIA_PACKAGES) {
-            try {
-                Class<?> clazz = Class.forName(packageName + "." + type, false,
-                        AnalysisCriterionSerialization.class.getClassLoader());
-                if (AnalysisCriterion.class.isAssignableFrom(clazz)) {
-                    return (Class<? extends AnalysisCriterion>) clazz;
-                }
-            } catch (ClassNotFoundException ex) {
-                // Continue through candidate packages.
+            clazz = ReflectionMetadata.findClass(packageName + "." + type);
+            if (clazz != null && AnalysisCriterion.class.isAssignableFrom(clazz)) {
+                return (Class<? extends AnalysisCriterion>) clazz;
             }
         }
         throw new IllegalArgumentException("Unknown analysis criterion type: " + type);
@@ -454,16 +437,13 @@ public final class AnalysisCriterionSerialization {
     private static AnalysisCriterion instantiate(Class<? extends AnalysisCriterion> criterionType,
             ComponentDescriptor descriptor) {
         initializeCriterionClass(criterionType);
-        List<Constructor<?>> orderedConstructors = constructorsByParameterCount(criterionType);
-        orderedConstructors.sort((left, right) -> Integer.compare(right.getParameterCount(), left.getParameterCount()));
-        for (Constructor<?> constructor : orderedConstructors) {
+        for (ReflectionMetadata.ConstructorInfo constructor : constructorsByParameterCount(criterionType, true)) {
             Object[] arguments = matchConstructor(constructor, descriptor.getParameters());
             if (arguments == null) {
                 continue;
             }
             try {
-                constructor.setAccessible(true);
-                Object instance = constructor.newInstance(arguments);
+                Object instance = constructor.constructor().newInstance(arguments);
                 return (AnalysisCriterion) instance;
             } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
                 throw new IllegalStateException("Failed to construct analysis criterion: " + criterionType.getName(),
@@ -482,15 +462,16 @@ public final class AnalysisCriterionSerialization {
         }
     }
 
-    private static Object[] matchConstructor(Constructor<?> constructor, Map<String, Object> parameters) {
+    private static Object[] matchConstructor(ReflectionMetadata.ConstructorInfo constructor,
+            Map<String, Object> parameters) {
         Map<String, Object> remaining = parameters == null ? Map.of() : new LinkedHashMap<>(parameters);
-        if (constructor.getParameterCount() != remaining.size()) {
+        if (constructor.parameterCount() != remaining.size()) {
             return null;
         }
-        Object[] arguments = new Object[constructor.getParameterCount()];
-        java.lang.reflect.Parameter[] parameterMetadata = constructor.getParameters();
-        for (int index = 0; index < constructor.getParameterCount(); index++) {
-            Class<?> parameterType = constructor.getParameterTypes()[index];
+        Object[] arguments = new Object[constructor.parameterCount()];
+        java.lang.reflect.Parameter[] parameterMetadata = constructor.parameters();
+        for (int index = 0; index < constructor.parameterCount(); index++) {
+            Class<?> parameterType = constructor.parameterTypes()[index];
             Object rawValue = pollParameterValue(remaining, parameterMetadata, index);
             if (rawValue == MISSING_PARAMETER) {
                 return null;
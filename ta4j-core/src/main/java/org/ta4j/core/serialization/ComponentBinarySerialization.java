@@ -0,0 +1,699 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.serialization;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+
+/**
+ * Compact binary encoding of {@link ComponentDescriptor} trees.
+ *
+ * <p>
+ * The encoding carries exactly the information of a descriptor (type, label,
+ * parameters, and components, including {@code null} component placeholders)
+ * and preserves the Java types of parameter values, so a decoded descriptor is
+ * {@link ComponentDescriptor#equals(Object) equal} to the encoded one and
+ * renders the same canonical JSON through {@link ComponentSerialization}.
+ * Strings (type names, labels, parameter keys, and string values) are interned:
+ * each distinct string is written once per stream and referenced by index
+ * afterwards. Integral numbers, lengths, and counts are written as variable
+ * length integers.
+ * </p>
+ *
+ * <p>
+ * {@link #toBytes(ComponentDescriptor)} and {@link #parse(byte[])} encode a
+ * single descriptor. {@link Encoder} and {@link Decoder} stream any number of
+ * descriptors and share the intern table across them, which is what makes
+ * shipping large batches of similar strategies between processes cheap.
+ * </p>
+ *
+ * @since 0.23.1
+ */
+public final class ComponentBinarySerialization {
+
+    /** Maximum number of strings interned per stream. */
+    static final int MAX_INTERNED_STRINGS = 1 << 16;
+
+    private static final byte[] MAGIC = { 'T', '4', 'J', 'D' };
+    private static final int VERSION = 1;
+    private static final int MAX_DEPTH = 512;
+
+    private static final int FLAG_PRESENT = 1;
+    private static final int FLAG_TYPE = 1 << 1;
+    private static final int FLAG_LABEL = 1 << 2;
+    private static final int FLAG_PARAMETERS = 1 << 3;
+    private static final int FLAG_COMPONENTS = 1 << 4;
+    private static final int KNOWN_FLAGS = FLAG_PRESENT | FLAG_TYPE | FLAG_LABEL | FLAG_PARAMETERS
+            | FLAG_COMPONENTS;
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_FALSE = 1;
+    private static final int TAG_TRUE = 2;
+    private static final int TAG_INT = 3;
+    private static final int TAG_LONG = 4;
+    private static final int TAG_INTEGRAL_DOUBLE = 5;
+    private static final int TAG_DOUBLE = 6;
+    private static final int TAG_FLOAT = 7;
+    private static final int TAG_SHORT = 8;
+    private static final int TAG_BYTE = 9;
+    private static final int TAG_BIG_DECIMAL = 10;
+    private static final int TAG_BIG_INTEGER = 11;
+    private static final int TAG_STRING = 12;
+    private static final int TAG_LIST = 13;
+    private static final int TAG_MAP = 14;
+    private static final int TAG_ENUM = 15;
+
+    /** Doubles with magnitude below this are exactly representable as longs. */
+    private static final double MAX_EXACT_INTEGRAL_DOUBLE = 0x1p53;
+
+    private ComponentBinarySerialization() {
+        // utility class
+    }
+
+    /**
+     * Encodes a descriptor.
+     *
+     * @param descriptor component descriptor
+     * @return binary payload
+     * @throws IllegalArgumentException if a parameter value has an unsupported type
+     */
+    public static byte[] toBytes(ComponentDescriptor descriptor) {
+        Objects.requireNonNull(descriptor, "descriptor");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (Encoder encoder = new Encoder(bytes)) {
+            encoder.write(descriptor);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a descriptor produced by {@link #toBytes(ComponentDescriptor)}.
+     *
+     * @param bytes binary payload
+     * @return descriptor instance
+     * @throws IllegalArgumentException if the payload is malformed
+     */
+    public static ComponentDescriptor parse(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+        try {
+            Decoder decoder = new Decoder(new ByteArrayInputStream(bytes));
+            ComponentDescriptor descriptor = decoder.read();
+            if (descriptor == null) {
+                throw new EOFException("No descriptor in payload");
+            }
+            if (decoder.read() != null) {
+                throw new StreamCorruptedException("Trailing data after descriptor");
+            }
+            return descriptor;
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Malformed binary component descriptor: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Encodes an indicator.
+     *
+     * @param indicator indicator instance
+     * @return binary payload
+     */
+    public static byte[] toBytes(Indicator<?> indicator) {
+        return toBytes(IndicatorSerialization.describe(indicator));
+    }
+
+    /**
+     * Encodes a rule.
+     *
+     * @param rule rule instance
+     * @return binary payload
+     */
+    public static byte[] toBytes(Rule rule) {
+        return toBytes(RuleSerialization.describe(rule));
+    }
+
+    /**
+     * Encodes a strategy.
+     *
+     * @param strategy strategy instance
+     * @return binary payload
+     */
+    public static byte[] toBytes(Strategy strategy) {
+        return toBytes(StrategySerialization.describe(strategy));
+    }
+
+    /**
+     * Encodes an analysis criterion.
+     *
+     * @param criterion criterion instance
+     * @return binary payload
+     * @throws IllegalArgumentException if the criterion has constructor state that
+     *                                  cannot be represented safely
+     */
+    public static byte[] toBytes(AnalysisCriterion criterion) {
+        return toBytes(AnalysisCriterionSerialization.describe(criterion));
+    }
+
+    /**
+     * Rebuilds an indicator from a binary payload.
+     *
+     * @param series bar series to attach to the indicator
+     * @param bytes  payload produced by {@link #toBytes(Indicator)}
+     * @return reconstructed indicator
+     */
+    public static Indicator<?> indicatorFromBytes(BarSeries series, byte[] bytes) {
+        return IndicatorSerialization.fromDescriptor(series, parse(bytes));
+    }
+
+    /**
+     * Rebuilds a rule from a binary payload.
+     *
+     * @param series bar series to attach to the rule
+     * @param bytes  payload produced by {@link #toBytes(Rule)}
+     * @return reconstructed rule
+     */
+    public static Rule ruleFromBytes(BarSeries series, byte[] bytes) {
+        return RuleSerialization.fromDescriptor(series, parse(bytes));
+    }
+
+    /**
+     * Rebuilds a strategy from a binary payload.
+     *
+     * @param series bar series to attach to the strategy
+     * @param bytes  payload produced by {@link #toBytes(Strategy)}
+     * @return reconstructed strategy
+     */
+    public static Strategy strategyFromBytes(BarSeries series, byte[] bytes) {
+        return StrategySerialization.fromDescriptor(series, parse(bytes));
+    }
+
+    /**
+     * Rebuilds an analysis criterion from a binary payload.
+     *
+     * @param bytes payload produced by {@link #toBytes(AnalysisCriterion)}
+     * @return reconstructed criterion
+     */
+    public static AnalysisCriterion criterionFromBytes(byte[] bytes) {
+        return AnalysisCriterionSerialization.fromDescriptor(parse(bytes));
+    }
+
+    /**
+     * Writes a stream of descriptors sharing one string intern table.
+     *
+     * <p>
+     * The stream header is written on construction. Each {@link #write} call
+     * appends one complete descriptor to the underlying stream; the stream is
+     * not closed by this encoder unless {@link #close()} is called.
+     * </p>
+     */
+    public static final class Encoder implements Flushable, AutoCloseable {
+
+        private final OutputStream out;
+        private final Map<String, Integer> interned = new HashMap<>();
+        private byte[] buffer = new byte[256];
+        private int size;
+
+        /**
+         * Creates an encoder and writes the stream header.
+         *
+         * @param out target stream
+         * @throws IOException if writing the header fails
+         */
+        public Encoder(OutputStream out) throws IOException {
+            this.out = Objects.requireNonNull(out, "out");
+            out.write(MAGIC);
+            out.write(VERSION);
+        }
+
+        /**
+         * Appends a descriptor.
+         *
+         * @param descriptor component descriptor
+         * @throws IOException              if writing fails
+         * @throws IllegalArgumentException if a parameter value has an unsupported
+         *                                  type
+         */
+        public void write(ComponentDescriptor descriptor) throws IOException {
+            Objects.requireNonNull(descriptor, "descriptor");
+            size = 0;
+            int internedBefore = interned.size();
+            try {
+                writeDescriptor(descriptor);
+            } catch (RuntimeException ex) {
+                // Forget strings of the rejected descriptor so the decoder's table stays in
+                // step
+                interned.values().removeIf(index -> index >= internedBefore);
+                throw ex;
+            }
+            out.write(buffer, 0, size);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        /**
+         * Flushes and closes the underlying stream.
+         *
+         * @throws IOException if closing fails
+         */
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        private void writeDescriptor(ComponentDescriptor descriptor) {
+            if (descriptor == null) {
+                writeByte(0);
+                return;
+            }
+            String type = descriptor.getType();
+            String label = descriptor.getLabel();
+            Map<String, Object> parameters = descriptor.getParameters();
+            List<ComponentDescriptor> components = descriptor.getComponents();
+            int flags = FLAG_PRESENT;
+            if (type != null) {
+                flags |= FLAG_TYPE;
+            }
+            if (label != null) {
+                flags |= FLAG_LABEL;
+            }
+            if (!parameters.isEmpty()) {
+                flags |= FLAG_PARAMETERS;
+            }
+            if (!components.isEmpty()) {
+                flags |= FLAG_COMPONENTS;
+            }
+            writeByte(flags);
+            if (type != null) {
+                writeString(type);
+            }
+            if (label != null) {
+                writeString(label);
+            }
+            if (!parameters.isEmpty()) {
+                writeEntries(parameters, 0);
+            }
+            if (!components.isEmpty()) {
+                writeVarLong(components.size());
+                for (ComponentDescriptor component : components) {
+                    writeDescriptor(component);
+                }
+            }
+        }
+
+        private void writeEntries(Map<?, ?> map, int depth) {
+            writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof String key)) {
+                    throw new IllegalArgumentException(
+                            "Descriptor map keys must be strings but found: " + entry.getKey() + ".");
+                }
+                writeString(key);
+                writeValue(entry.getValue(), depth);
+            }
+        }
+
+        private void writeValue(Object value, int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new IllegalArgumentException("Descriptor parameter nesting exceeds " + MAX_DEPTH + " levels.");
+            }
+            if (value == null) {
+                writeByte(TAG_NULL);
+            } else if (value instanceof String string) {
+                writeByte(TAG_STRING);
+                writeString(string);
+            } else if (value instanceof Boolean bool) {
+                writeByte(bool ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Integer integer) {
+                writeByte(TAG_INT);
+                writeVarLong(zigZag(integer));
+            } else if (value instanceof Double number) {
+                writeDouble(number);
+            } else if (value instanceof Long number) {
+                writeByte(TAG_LONG);
+                writeVarLong(zigZag(number));
+            } else if (value instanceof Float number) {
+                writeByte(TAG_FLOAT);
+                writeFixed(Float.floatToRawIntBits(number), Integer.BYTES);
+            } else if (value instanceof Short number) {
+                writeByte(TAG_SHORT);
+                writeVarLong(zigZag(number));
+            } else if (value instanceof Byte number) {
+                writeByte(TAG_BYTE);
+                writeByte(number);
+            } else if (value instanceof BigDecimal decimal) {
+                writeByte(TAG_BIG_DECIMAL);
+                writeVarLong(zigZag(decimal.scale()));
+                writeBytes(decimal.unscaledValue().toByteArray());
+            } else if (value instanceof BigInteger integer) {
+                writeByte(TAG_BIG_INTEGER);
+                writeBytes(integer.toByteArray());
+            } else if (value instanceof Enum<?> constant) {
+                writeByte(TAG_ENUM);
+                writeString(constant.getDeclaringClass().getName());
+                writeString(constant.name());
+            } else if (value instanceof List<?> list) {
+                writeByte(TAG_LIST);
+                writeVarLong(list.size());
+                for (Object element : list) {
+                    writeValue(element, depth + 1);
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                writeByte(TAG_MAP);
+                writeEntries(map, depth + 1);
+            } else {
+                throw new IllegalArgumentException(
+                        "Unsupported descriptor parameter type: " + value.getClass().getName() + ".");
+            }
+        }
+
+        private void writeDouble(double value) {
+            long integral = (long) value;
+            if (integral == value && Math.abs(value) < MAX_EXACT_INTEGRAL_DOUBLE
+                    && (integral != 0 || Double.doubleToRawLongBits(value) == 0L)) {
+                writeByte(TAG_INTEGRAL_DOUBLE);
+                writeVarLong(zigZag(integral));
+            } else {
+                writeByte(TAG_DOUBLE);
+                writeFixed(Double.doubleToRawLongBits(value), Long.BYTES);
+            }
+        }
+
+        private void writeString(String value) {
+            Integer index = interned.get(value);
+            if (index != null) {
+                writeVarLong(index + 1L);
+                return;
+            }
+            writeVarLong(0);
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            if (interned.size() < MAX_INTERNED_STRINGS) {
+                interned.put(value, interned.size());
+            }
+        }
+
+        private void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        private void writeFixed(long bits, int byteCount) {
+            ensureCapacity(byteCount);
+            for (int i = byteCount - 1; i >= 0; i--) {
+                buffer[size++] = (byte) (bits >>> (i * 8));
+            }
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    /**
+     * Reads a stream of descriptors written by an {@link Encoder}.
+     *
+     * <p>
+     * Streams other than {@link BufferedInputStream} and
+     * {@link ByteArrayInputStream} are buffered, so the decoder may read past the
+     * last descriptor it returns.
+     * </p>
+     */
+    public static final class Decoder {
+
+        private final InputStream in;
+        private final List<String> interned = new ArrayList<>();
+        private boolean headerRead;
+
+        /**
+         * Creates a decoder. The stream header is validated on the first
+         * {@link #read()}.
+         *
+         * @param in source stream
+         */
+        public Decoder(InputStream in) {
+            Objects.requireNonNull(in, "in");
+            this.in = in instanceof BufferedInputStream || in instanceof ByteArrayInputStream ? in
+                    : new BufferedInputStream(in);
+        }
+
+        /**
+         * Reads the next descriptor.
+         *
+         * @return the next descriptor, or {@code null} at the end of the stream
+         * @throws IOException if reading fails or the stream is malformed
+         */
+        public ComponentDescriptor read() throws IOException {
+            if (!headerRead) {
+                readHeader();
+                headerRead = true;
+            }
+            int flags = in.read();
+            if (flags < 0) {
+                return null;
+            }
+            if (flags == 0) {
+                throw new StreamCorruptedException("Top-level descriptor cannot be null");
+            }
+            try {
+                return readDescriptor(flags, 0);
+            } catch (NumberFormatException ex) {
+                throw (IOException) new StreamCorruptedException("Invalid numeric parameter").initCause(ex);
+            }
+        }
+
+        private void readHeader() throws IOException {
+            byte[] header = in.readNBytes(MAGIC.length + 1);
+            if (header.length < MAGIC.length + 1
+                    || !Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC)) {
+                throw new StreamCorruptedException("Not a binary component descriptor stream");
+            }
+            if (header[MAGIC.length] != VERSION) {
+                throw new StreamCorruptedException("Unsupported binary descriptor version: " + header[MAGIC.length]);
+            }
+        }
+
+        private ComponentDescriptor readDescriptor(int flags, int depth) throws IOException {
+            if (flags == 0) {
+                return null;
+            }
+            if ((flags & ~KNOWN_FLAGS) != 0 || (flags & FLAG_PRESENT) == 0) {
+                throw new StreamCorruptedException("Invalid descriptor flags: " + flags);
+            }
+            if (depth > MAX_DEPTH) {
+                throw new StreamCorruptedException("Descriptor nesting exceeds " + MAX_DEPTH + " levels");
+            }
+            ComponentDescriptor.Builder builder = ComponentDescriptor.builder();
+            if ((flags & FLAG_TYPE) != 0) {
+                builder.withType(readString());
+            }
+            if ((flags & FLAG_LABEL) != 0) {
+                builder.withLabel(readString());
+            }
+            if ((flags & FLAG_PARAMETERS) != 0) {
+                builder.withParameters(readEntries(depth));
+            }
+            if ((flags & FLAG_COMPONENTS) != 0) {
+                int count = readCount();
+                for (int i = 0; i < count; i++) {
+                    builder.addComponent(readDescriptor(readByte(), depth + 1));
+                }
+            }
+            return builder.build();
+        }
+
+        private Map<String, Object> readEntries(int depth) throws IOException {
+            int count = readCount();
+            Map<String, Object> entries = new LinkedHashMap<>(Math.min(count, 16) * 2);
+            for (int i = 0; i < count; i++) {
+                String key = readString();
+                entries.put(key, readValue(depth));
+            }
+            return entries;
+        }
+
+        private Object readValue(int depth) throws IOException {
+            if (depth > MAX_DEPTH) {
+                throw new StreamCorruptedException("Parameter nesting exceeds " + MAX_DEPTH + " levels");
+            }
+            int tag = readByte();
+            switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_INT:
+                return (int) readBounded(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            case TAG_LONG:
+                return unZigZag(readVarLong());
+            case TAG_INTEGRAL_DOUBLE:
+                return (double) unZigZag(readVarLong());
+            case TAG_DOUBLE:
+                return Double.longBitsToDouble(readFixed(Long.BYTES));
+            case TAG_FLOAT:
+                return Float.intBitsToFloat((int) readFixed(Integer.BYTES));
+            case TAG_SHORT:
+                return (short) readBounded(Short.MIN_VALUE, Short.MAX_VALUE);
+            case TAG_BYTE:
+                return (byte) readByte();
+            case TAG_BIG_DECIMAL:
+                int scale = (int) readBounded(Integer.MIN_VALUE, Integer.MAX_VALUE);
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case TAG_BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case TAG_STRING:
+                return readString();
+            case TAG_LIST:
+                int size = readCount();
+                List<Object> list = new ArrayList<>(Math.min(size, 16));
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(depth + 1));
+                }
+                return list;
+            case TAG_MAP:
+                return readEntries(depth + 1);
+            case TAG_ENUM:
+                return readEnum();
+            default:
+                throw new StreamCorruptedException("Unknown parameter value tag: " + tag);
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Object readEnum() throws IOException {
+            String className = readString();
+            String name = readString();
+            Class<?> type = ReflectionMetadata.findClass(className);
+            if (type == null || !type.isEnum()) {
+                throw new StreamCorruptedException("Unknown enum type: " + className);
+            }
+            try {
+                return Enum.valueOf((Class) type, name);
+            } catch (IllegalArgumentException ex) {
+                throw new StreamCorruptedException("Unknown constant " + name + " of enum " + className);
+            }
+        }
+
+        private long readBounded(long min, long max) throws IOException {
+            long value = unZigZag(readVarLong());
+            if (value < min || value > max) {
+                throw new StreamCorruptedException("Value out of range: " + value);
+            }
+            return value;
+        }
+
+        private String readString() throws IOException {
+            long reference = readVarLong();
+            if (reference != 0) {
+                if (reference > interned.size()) {
+                    throw new StreamCorruptedException("Invalid string reference: " + reference);
+                }
+                return interned.get((int) reference - 1);
+            }
+            String value = new String(readBytes(), StandardCharsets.UTF_8);
+            if (interned.size() < MAX_INTERNED_STRINGS) {
+                interned.add(value);
+            }
+            return value;
+        }
+
+        private byte[] readBytes() throws IOException {
+            int length = readCount();
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length != length) {
+                throw new EOFException("Truncated binary descriptor");
+            }
+            return bytes;
+        }
+
+        private long readFixed(int byteCount) throws IOException {
+            long bits = 0;
+            for (int i = 0; i < byteCount; i++) {
+                bits = (bits << 8) | readByte();
+            }
+            return bits;
+        }
+
+        private int readCount() throws IOException {
+            long count = readVarLong();
+            if (count > Integer.MAX_VALUE - 8) {
+                throw new StreamCorruptedException("Invalid length: " + count);
+            }
+            return (int) count;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new StreamCorruptedException("Malformed variable-length integer");
+        }
+
+        private int readByte() throws IOException {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated binary descriptor");
+            }
+            return b;
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
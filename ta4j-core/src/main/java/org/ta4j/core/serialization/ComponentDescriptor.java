@@ -14,6 +14,9 @@ import java.util.*;
  */
 public final class ComponentDescriptor {
 
+    private static final String[] STANDARD_PACKAGES = { "org.ta4j.core.rules", "org.ta4j.core.indicators",
+            "org.ta4j.core.strategy" };
+
     private final String type;
     private final String label;
     private final Map<String, Object> parameters;
@@ -80,21 +83,8 @@ public final class ComponentDescriptor {
         if (type == null || type.isBlank()) {
             return null;
         }
-        try {
-            // Try fully qualified name first
-            return Class.forName(type, false, ComponentDescriptor.class.getClassLoader());
-        } catch (ClassNotFoundException e) {
-            // Try simple name in standard packages
-            String[] standardPackages = { "org.ta4j.core.rules", "org.ta4j.core.indicators", "org.ta4j.core.strategy" };
-            for (String pkg : standardPackages) {
-                try {
-                    return Class.forName(pkg + "." + type, false, ComponentDescriptor.class.getClassLoader());
-                } catch (ClassNotFoundException ignored) {
-                    // Continue to next package
-                }
-            }
-            return null;
-        }
+        // Try the fully qualified name first, then simple names in standard packages
+        return ReflectionMetadata.findClass(type, STANDARD_PACKAGES);
     }
 
     /**
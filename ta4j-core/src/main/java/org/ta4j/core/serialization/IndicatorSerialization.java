@@ -77,6 +77,7 @@ public final class IndicatorSerialization {
 
     private static final Set<String> IGNORED_CHILD_FIELDS = Set.of();
     private static final Object NO_PARAMETER_VALUE = new Object();
+    private static final Object CONSTRUCTOR_CANDIDATES = new Object();
 
     private IndicatorSerialization() {
     }
@@ -318,20 +319,13 @@ public final class IndicatorSerialization {
 
     private static Object tryInstantiate(Class<?> type, BarSeries series, List<Indicator<?>> components,
             Map<String, Object> parameters) {
-        Constructor<?>[] constructors = type.getDeclaredConstructors();
-        Arrays.sort(constructors,
-                (left, right) -> Integer.compare(right.getParameterCount(), left.getParameterCount()));
+        ConstructorCandidates candidates = ReflectionMetadata.of(type)
+                .derive(CONSTRUCTOR_CANDIDATES, ConstructorCandidates::of);
         Map<String, Object> parameterValues = parameters == null ? Map.of() : new LinkedHashMap<>(parameters);
-        boolean hasIndicatorConstructor = Arrays.stream(constructors)
-                .filter(constructor -> !Modifier.isPrivate(constructor.getModifiers()))
-                .anyMatch(IndicatorSerialization::constructorConsumesIndicators);
         InvocationPlan bestPlan = null;
-        for (Constructor<?> constructor : constructors) {
-            if (Modifier.isPrivate(constructor.getModifiers())) {
-                continue;
-            }
+        for (ReflectionMetadata.ConstructorInfo constructor : candidates.constructors()) {
             Optional<InvocationPlan> plan = tryInvoke(constructor, series, components, parameterValues,
-                    hasIndicatorConstructor);
+                    candidates.hasIndicatorConstructor());
             if (plan.isEmpty()) {
                 continue;
             }
@@ -341,11 +335,6 @@ public final class IndicatorSerialization {
             }
         }
         if (bestPlan != null) {
-            try {
-                bestPlan.constructor().setAccessible(true);
-            } catch (SecurityException ignored) {
-                // Ignore - proceed with existing accessibility
-            }
             try {
                 return bestPlan.constructor().newInstance(bestPlan.arguments());
             } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
@@ -356,14 +345,16 @@ public final class IndicatorSerialization {
                 "Unable to instantiate indicator: " + type.getName() + " - no suitable constructor found");
     }
 
-    private static Optional<InvocationPlan> tryInvoke(Constructor<?> constructor, BarSeries series,
-            List<Indicator<?>> components, Map<String, Object> parameters, boolean hasIndicatorConstructor) {
+    private static Optional<InvocationPlan> tryInvoke(ReflectionMetadata.ConstructorInfo constructorInfo,
+            BarSeries series, List<Indicator<?>> components, Map<String, Object> parameters,
+            boolean hasIndicatorConstructor) {
         if (components == null) {
             return Optional.empty();
         }
-        Class<?>[] parameterTypes = constructor.getParameterTypes();
-        Parameter[] parameterMetadata = constructor.getParameters();
-        Type[] genericParameterTypes = constructor.getGenericParameterTypes();
+        Constructor<?> constructor = constructorInfo.constructor();
+        Class<?>[] parameterTypes = constructorInfo.parameterTypes();
+        Parameter[] parameterMetadata = constructorInfo.parameters();
+        Type[] genericParameterTypes = constructorInfo.genericParameterTypes();
         Object[] args = new Object[parameterTypes.length];
         int componentIndex = 0;
         int componentSpecificity = 0;
@@ -486,9 +477,9 @@ public final class IndicatorSerialization {
         return parameters.keySet().stream().anyMatch(parameter -> !parameter.startsWith("__enumType_"));
     }
 
-    private static boolean constructorConsumesIndicators(Constructor<?> constructor) {
-        Class<?>[] parameterTypes = constructor.getParameterTypes();
-        Type[] genericTypes = constructor.getGenericParameterTypes();
+    private static boolean constructorConsumesIndicators(ReflectionMetadata.ConstructorInfo constructor) {
+        Class<?>[] parameterTypes = constructor.parameterTypes();
+        Type[] genericTypes = constructor.genericParameterTypes();
         for (int i = 0; i < parameterTypes.length; i++) {
             Class<?> parameterType = parameterTypes[i];
             if (Indicator.class.isAssignableFrom(parameterType)) {
@@ -866,18 +857,15 @@ public final class IndicatorSerialization {
         Class<?> type = indicator.getClass();
         while (type != null && type != Object.class && type != AbstractIndicator.class && type != CachedIndicator.class
                 && type != RecursiveCachedIndicator.class) {
-            Field[] declared = type.getDeclaredFields();
-            for (Field field : declared) {
-                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
-                        || Modifier.isTransient(field.getModifiers())) {
+            for (ReflectionMetadata.FieldAccessor field : ReflectionMetadata.of(type).fields()) {
+                if (field.isTransient()) {
                     continue;
                 }
-                field.setAccessible(true);
                 try {
                     Object value = field.get(indicator);
-                    fields.add(new FieldView(field.getName(), value, field.getType()));
+                    fields.add(new FieldView(field.name(), value, field.type()));
                 } catch (IllegalAccessException e) {
-                    log.warn("Unable to access field '{}' in class '{}' for indicator serialization", field.getName(),
+                    log.warn("Unable to access field '{}' in class '{}' for indicator serialization", field.name(),
                             type.getName(), e);
                 }
             }
@@ -1037,6 +1025,27 @@ public final class IndicatorSerialization {
     private record NumericParameterRequest(int index, Class<?> type, Parameter parameter) {
     }
 
+    /**
+     * Non-private constructors ordered by descending parameter count (stable with
+     * respect to declaration order).
+     */
+    private record ConstructorCandidates(List<ReflectionMetadata.ConstructorInfo> constructors,
+            boolean hasIndicatorConstructor) {
+
+        private static ConstructorCandidates of(ReflectionMetadata metadata) {
+            List<ReflectionMetadata.ConstructorInfo> constructors = new ArrayList<>();
+            for (ReflectionMetadata.ConstructorInfo constructor : metadata.constructors()) {
+                if (!constructor.isPrivate()) {
+                    constructors.add(constructor);
+                }
+            }
+            constructors.sort((left, right) -> Integer.compare(right.parameterCount(), left.parameterCount()));
+            boolean hasIndicatorConstructor = constructors.stream()
+                    .anyMatch(IndicatorSerialization::constructorConsumesIndicators);
+            return new ConstructorCandidates(List.copyOf(constructors), hasIndicatorConstructor);
+        }
+    }
+
     private record InvocationPlan(Constructor<?> constructor, Object[] arguments, int consumedComponents,
             boolean usesIndicators, int componentSpecificity) {
     }
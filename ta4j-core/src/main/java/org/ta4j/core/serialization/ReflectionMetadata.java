@@ -0,0 +1,275 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.serialization;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Per-class reflection metadata shared by the indicator, rule, strategy, and
+ * analysis criterion serializers.
+ *
+ * <p>
+ * {@code getDeclaredConstructors()}, {@code getDeclaredFields()}, and
+ * {@code getParameters()} copy their results on every call, and failed
+ * {@link Class#forName(String)} lookups search the whole class path. Caching
+ * them per class (in a {@link ClassValue}, so classes can still be unloaded)
+ * makes deserializing large numbers of descriptors cost proportional to the
+ * descriptor trees rather than to reflection.
+ * </p>
+ */
+final class ReflectionMetadata {
+
+    private static final ClassValue<ReflectionMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected ReflectionMetadata computeValue(Class<?> type) {
+            return new ReflectionMetadata(type);
+        }
+    };
+
+    /** Bounds the cache against arbitrary unknown type names in untrusted input. */
+    private static final int MAX_CACHED_CLASS_NAMES = 4096;
+    private static final ConcurrentMap<String, Optional<Class<?>>> CLASSES_BY_NAME = new ConcurrentHashMap<>();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<?> type;
+    private final ConcurrentMap<Object, Object> derived = new ConcurrentHashMap<>();
+    private volatile List<ConstructorInfo> constructors;
+    private volatile List<FieldAccessor> fields;
+
+    private ReflectionMetadata(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * @param type the class
+     * @return the cached metadata of {@code type}
+     */
+    static ReflectionMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * Resolves a class name without initializing the class.
+     *
+     * @param name the fully qualified class name
+     * @return the class, or {@code null} if it cannot be loaded
+     */
+    static Class<?> findClass(String name) {
+        Optional<Class<?>> cached = CLASSES_BY_NAME.get(name);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        Optional<Class<?>> resolved;
+        try {
+            resolved = Optional.of(Class.forName(name, false, ReflectionMetadata.class.getClassLoader()));
+        } catch (ClassNotFoundException | LinkageError e) {
+            resolved = Optional.empty();
+        }
+        if (resolved.isPresent() || CLASSES_BY_NAME.size() < MAX_CACHED_CLASS_NAMES) {
+            CLASSES_BY_NAME.putIfAbsent(name, resolved);
+        }
+        return resolved.orElse(null);
+    }
+
+    /**
+     * Resolves a fully qualified class name or a simple name in one of the given
+     * packages, in order.
+     *
+     * @param name     the class name
+     * @param packages the packages to try for simple names
+     * @return the class, or {@code null} if it cannot be resolved
+     */
+    static Class<?> findClass(String name, String... packages) {
+        Class<?> resolved = findClass(name);
+        for (int i = 0; resolved == null && i < packages.length; i++) {
+            resolved = findClass(packages[i] + '.' + name);
+        }
+        return resolved;
+    }
+
+    /**
+     * @return the declared constructors in declaration order, made accessible
+     *         where permitted
+     */
+    List<ConstructorInfo> constructors() {
+        List<ConstructorInfo> result = constructors;
+        if (result == null) {
+            List<ConstructorInfo> infos = new ArrayList<>();
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                try {
+                    constructor.setAccessible(true);
+                } catch (RuntimeException ignored) {
+                    // Proceed with the existing accessibility
+                }
+                infos.add(new ConstructorInfo(constructor, constructor.getParameterTypes(),
+                        constructor.getParameters(), constructor.getGenericParameterTypes()));
+            }
+            result = List.copyOf(infos);
+            constructors = result;
+        }
+        return result;
+    }
+
+    /**
+     * @param parameterTypes the exact parameter types
+     * @return the declared constructor with these parameter types, or
+     *         {@code null} if there is none
+     */
+    ConstructorInfo declaredConstructor(Class<?>... parameterTypes) {
+        for (ConstructorInfo constructor : constructors()) {
+            if (Arrays.equals(constructor.parameterTypes(), parameterTypes)) {
+                return constructor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the declared non-static, non-synthetic fields of this class (not of
+     *         its superclasses) in declaration order
+     */
+    List<FieldAccessor> fields() {
+        List<FieldAccessor> result = fields;
+        if (result == null) {
+            List<FieldAccessor> accessors = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                accessors.add(new FieldAccessor(field));
+            }
+            result = List.copyOf(accessors);
+            fields = result;
+        }
+        return result;
+    }
+
+    /**
+     * @param name           the method name
+     * @param parameterTypes the parameter types
+     * @return the accessible declared method, or {@code null} if there is none
+     */
+    Method declaredMethod(String name, Class<?>... parameterTypes) {
+        Object key = List.of("method", name, List.of(parameterTypes));
+        Optional<?> method = derive(key, ignored -> {
+            try {
+                Method declared = type.getDeclaredMethod(name, parameterTypes);
+                declared.setAccessible(true);
+                return Optional.of(declared);
+            } catch (NoSuchMethodException | RuntimeException e) {
+                return Optional.empty();
+            }
+        });
+        return (Method) method.orElse(null);
+    }
+
+    /**
+     * Returns a value derived from this class's metadata, computing it once per
+     * key. Keys must identify the derivation (e.g. a constant owned by the
+     * caller).
+     *
+     * @param key     the derivation key
+     * @param factory computes the value from this metadata
+     * @param <T>     the value type
+     * @return the cached value
+     */
+    @SuppressWarnings("unchecked")
+    <T> T derive(Object key, Function<ReflectionMetadata, T> factory) {
+        Object value = derived.get(key);
+        if (value == null) {
+            value = factory.apply(this);
+            Object existing = derived.putIfAbsent(key, value);
+            if (existing != null) {
+                value = existing;
+            }
+        }
+        return (T) value;
+    }
+
+    /**
+     * A declared constructor with its parameter metadata. The arrays are shared
+     * and must not be modified.
+     */
+    record ConstructorInfo(Constructor<?> constructor, Class<?>[] parameterTypes, Parameter[] parameters,
+            Type[] genericParameterTypes) {
+
+        int parameterCount() {
+            return parameterTypes.length;
+        }
+
+        boolean isPrivate() {
+            return Modifier.isPrivate(constructor.getModifiers());
+        }
+    }
+
+    /** A declared instance field read through a cached method handle. */
+    static final class FieldAccessor {
+
+        private final Field field;
+        private final MethodHandle getter;
+
+        private FieldAccessor(Field field) {
+            this.field = field;
+            this.getter = getterOf(field);
+        }
+
+        private static MethodHandle getterOf(Field field) {
+            try {
+                field.setAccessible(true);
+                return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        Field field() {
+            return field;
+        }
+
+        String name() {
+            return field.getName();
+        }
+
+        Class<?> type() {
+            return field.getType();
+        }
+
+        boolean isTransient() {
+            return Modifier.isTransient(field.getModifiers());
+        }
+
+        /**
+         * @param target the instance to read from
+         * @return the field value
+         * @throws IllegalAccessException if the field cannot be made accessible
+         */
+        Object get(Object target) throws IllegalAccessException {
+            if (getter == null) {
+                throw new IllegalAccessException("Cannot access field " + field);
+            }
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to read field " + field, t);
+            }
+        }
+    }
+}
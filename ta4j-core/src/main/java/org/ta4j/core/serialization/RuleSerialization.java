@@ -37,6 +37,8 @@ public final class RuleSerialization {
     private static final String INDICATOR_PACKAGE = "org.ta4j.core.indicators";
     private static final String NUM_PACKAGE = "org.ta4j.core.num";
     private static final String JAVA_LANG_PACKAGE = "java.lang";
+    private static final Object INFERENCE_CONSTRUCTOR_ORDER = new Object();
+    private static final Object DESCRIPTION_CONSTRUCTOR_ORDER = new Object();
     private static final String RULE_ARRAY_PREFIX = "__ruleArray_";
 
     private RuleSerialization() {
@@ -271,15 +273,9 @@ public final class RuleSerialization {
             throw new IllegalArgumentException("Rule descriptor missing type: " + descriptor);
         }
 
-        Class<?> clazz;
-        try {
-            clazz = Class.forName(type);
-        } catch (ClassNotFoundException ex) {
-            try {
-                clazz = Class.forName("org.ta4j.core.rules." + type);
-            } catch (ClassNotFoundException inner) {
-                throw new IllegalArgumentException("Unknown rule type: " + type, inner);
-            }
+        Class<?> clazz = ReflectionMetadata.findClass(type, RULE_PACKAGE);
+        if (clazz == null) {
+            throw new IllegalArgumentException("Unknown rule type: " + type);
         }
         if (!Rule.class.isAssignableFrom(clazz)) {
             throw new IllegalArgumentException("Descriptor type does not implement Rule: " + type);
@@ -369,26 +365,30 @@ public final class RuleSerialization {
         // 1) highest parameter count
         // 2) most specific parameter types (Num over Number, etc.)
         // 3) stable signature ordering
-        Constructor<?>[] constructors = ruleType.getDeclaredConstructors();
-        List<Constructor<?>> orderedConstructors = new ArrayList<>(constructors.length);
-        Collections.addAll(orderedConstructors, constructors);
-        orderedConstructors.sort((left, right) -> {
-            int countComparison = Integer.compare(right.getParameterCount(), left.getParameterCount());
-            if (countComparison != 0) {
-                return countComparison;
-            }
-            int specificityComparison = Integer.compare(constructorSpecificity(right), constructorSpecificity(left));
-            if (specificityComparison != 0) {
-                return specificityComparison;
-            }
-            return left.toGenericString().compareTo(right.toGenericString());
-        });
+        List<ReflectionMetadata.ConstructorInfo> orderedConstructors = ReflectionMetadata.of(ruleType)
+                .derive(INFERENCE_CONSTRUCTOR_ORDER, metadata -> {
+                    List<ReflectionMetadata.ConstructorInfo> ordered = new ArrayList<>(metadata.constructors());
+                    ordered.sort((left, right) -> {
+                        int countComparison = Integer.compare(right.parameterCount(), left.parameterCount());
+                        if (countComparison != 0) {
+                            return countComparison;
+                        }
+                        int specificityComparison = Integer.compare(constructorSpecificity(right.constructor()),
+                                constructorSpecificity(left.constructor()));
+                        if (specificityComparison != 0) {
+                            return specificityComparison;
+                        }
+                        return left.constructor().toGenericString().compareTo(right.constructor().toGenericString());
+                    });
+                    return List.copyOf(ordered);
+                });
 
         List<DeserializationMatch> matches = new ArrayList<>();
         List<Constructor<?>> matchedConstructors = new ArrayList<>();
-        for (Constructor<?> constructor : orderedConstructors) {
-            Class<?>[] paramTypes = constructor.getParameterTypes();
-            java.lang.reflect.Parameter[] params = constructor.getParameters();
+        for (ReflectionMetadata.ConstructorInfo info : orderedConstructors) {
+            Constructor<?> constructor = info.constructor();
+            Class<?>[] paramTypes = info.parameterTypes();
+            java.lang.reflect.Parameter[] params = info.parameters();
 
             // Check if first parameter is BarSeries (common pattern)
             int startIndex = 0;
@@ -421,7 +421,8 @@ public final class RuleSerialization {
         }
 
         String ruleClassName = ruleType.getSimpleName();
-        String baseMessage = buildConstructorNotFoundMessage(ruleType, components, filteredParams, constructors);
+        String baseMessage = buildConstructorNotFoundMessage(ruleType, components, filteredParams,
+                orderedConstructors);
         String message = String.format(
                 "Rule '%s' does not support deserialization. %s "
                         + "See the TODO comment in the %s class for implementation details.",
@@ -480,7 +481,8 @@ public final class RuleSerialization {
      * and what constructor signatures are available.
      */
     private static String buildConstructorNotFoundMessage(Class<? extends Rule> ruleType,
-            List<ComponentDescriptor> components, Map<String, Object> filteredParams, Constructor<?>[] constructors) {
+            List<ComponentDescriptor> components, Map<String, Object> filteredParams,
+            List<ReflectionMetadata.ConstructorInfo> constructors) {
         StringBuilder msg = new StringBuilder();
         msg.append("No compatible constructor found for rule type: ").append(ruleType.getName());
         msg.append("\n  Found: ").append(components.size()).append(" component(s)");
@@ -547,9 +549,9 @@ public final class RuleSerialization {
             msg.append("(no arguments)");
         }
         msg.append("\n  Available constructors:");
-        for (Constructor<?> constructor : constructors) {
-            Class<?>[] paramTypes = constructor.getParameterTypes();
-            java.lang.reflect.Parameter[] params = constructor.getParameters();
+        for (ReflectionMetadata.ConstructorInfo constructor : constructors) {
+            Class<?>[] paramTypes = constructor.parameterTypes();
+            java.lang.reflect.Parameter[] params = constructor.parameters();
             msg.append("\n    ");
             int startIndex = 0;
             if (paramTypes.length > 0 && paramTypes[0].equals(BarSeries.class)) {
@@ -1197,22 +1199,14 @@ public final class RuleSerialization {
             case "double" -> double.class;
             case "char" -> char.class;
             default -> {
-                try {
-                    // Try as-is first (for fully qualified names or already resolved simple names)
-                    yield Class.forName(typeName);
-                } catch (ClassNotFoundException ex) {
-                    // Try common packages for simple names
-                    String[] packages = { CORE_PACKAGE, RULE_PACKAGE, INDICATOR_PACKAGE, NUM_PACKAGE,
-                            JAVA_LANG_PACKAGE };
-                    for (String pkg : packages) {
-                        try {
-                            yield Class.forName(pkg + "." + typeName);
-                        } catch (ClassNotFoundException ignored) {
-                            // Continue to next package
-                        }
-                    }
-                    throw new IllegalStateException("Unable to resolve argument type: " + typeName, ex);
+                // Try as-is first (for fully qualified names or already resolved simple names),
+                // then common packages for simple names
+                Class<?> resolved = ReflectionMetadata.findClass(typeName, CORE_PACKAGE, RULE_PACKAGE,
+                        INDICATOR_PACKAGE, NUM_PACKAGE, JAVA_LANG_PACKAGE);
+                if (resolved == null) {
+                    throw new IllegalStateException("Unable to resolve argument type: " + typeName);
                 }
+                yield resolved;
             }
             };
         }
@@ -1245,27 +1239,32 @@ public final class RuleSerialization {
         }
 
         private static ConstructorMatch locate(Rule rule) {
-            Constructor<?>[] constructors = rule.getClass().getDeclaredConstructors();
-            List<Constructor<?>> ordered = new ArrayList<>(constructors.length);
-            Collections.addAll(ordered, constructors);
-            ordered.sort((left, right) -> {
-                int countComparison = Integer.compare(right.getParameterCount(), left.getParameterCount());
-                if (countComparison != 0) {
-                    return countComparison;
-                }
-                int specificityComparison = Integer.compare(constructorSpecificity(right),
-                        constructorSpecificity(left));
-                if (specificityComparison != 0) {
-                    return specificityComparison;
-                }
-                return left.toGenericString().compareTo(right.toGenericString());
-            });
+            List<ReflectionMetadata.ConstructorInfo> ordered = ReflectionMetadata.of(rule.getClass())
+                    .derive(DESCRIPTION_CONSTRUCTOR_ORDER, metadata -> {
+                        List<ReflectionMetadata.ConstructorInfo> constructors = new ArrayList<>(
+                                metadata.constructors());
+                        constructors.sort((left, right) -> {
+                            int countComparison = Integer.compare(right.parameterCount(), left.parameterCount());
+                            if (countComparison != 0) {
+                                return countComparison;
+                            }
+                            int specificityComparison = Integer.compare(constructorSpecificity(right.constructor()),
+                                    constructorSpecificity(left.constructor()));
+                            if (specificityComparison != 0) {
+                                return specificityComparison;
+                            }
+                            return left.constructor()
+                                    .toGenericString()
+                                    .compareTo(right.constructor().toGenericString());
+                        });
+                        return List.copyOf(constructors);
+                    });
 
             Map<String, Object> values = FieldExtractor.extract(rule);
-            for (Constructor<?> constructor : ordered) {
-                Optional<List<Argument>> arguments = match(rule, constructor, values);
+            for (ReflectionMetadata.ConstructorInfo constructor : ordered) {
+                Optional<List<Argument>> arguments = match(rule, constructor.parameters(), values);
                 if (arguments.isPresent()) {
-                    return new ConstructorMatch(constructor, arguments.get());
+                    return new ConstructorMatch(constructor.constructor(), arguments.get());
                 }
             }
             return null;
@@ -1316,9 +1315,8 @@ public final class RuleSerialization {
             return 10;
         }
 
-        private static Optional<List<Argument>> match(Rule rule, Constructor<?> constructor,
+        private static Optional<List<Argument>> match(Rule rule, Parameter[] parameters,
                 Map<String, Object> values) {
-            Parameter[] parameters = constructor.getParameters();
             List<Argument> arguments = new ArrayList<>(parameters.length);
             Set<String> used = new LinkedHashSet<>();
 
@@ -1923,16 +1921,14 @@ public final class RuleSerialization {
             Map<String, Object> values = new LinkedHashMap<>();
             Class<?> type = rule.getClass();
             while (type != null && !type.equals(Object.class)) {
-                for (Field field : type.getDeclaredFields()) {
-                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())
-                            || field.isSynthetic()) {
-                        continue;
-                    }
-                    Class<?> declaringClass = field.getDeclaringClass();
-                    if (declaringClass.equals(Rule.class) || Modifier.isAbstract(declaringClass.getModifiers())) {
+                if (type.equals(Rule.class) || Modifier.isAbstract(type.getModifiers())) {
+                    type = type.getSuperclass();
+                    continue;
+                }
+                for (ReflectionMetadata.FieldAccessor field : ReflectionMetadata.of(type).fields()) {
+                    if (field.isTransient()) {
                         continue;
                     }
-                    field.setAccessible(true);
                     Object value;
                     try {
                         value = field.get(rule);
@@ -1942,10 +1938,10 @@ public final class RuleSerialization {
                     if (value == null) {
                         continue;
                     }
-                    if (shouldIgnore(field.getName())) {
+                    if (shouldIgnore(field.name())) {
                         continue;
                     }
-                    String key = field.getName();
+                    String key = field.name();
                     values.put(key, value);
                     // Extract nested components from composite indicators/rules
                     // Some rules store composite indicators (like CrossIndicator) as fields,
@@ -958,22 +958,16 @@ public final class StrategySerialization {
 
     private static Optional<Rule> invokeFactory(Class<? extends Rule> ruleType, BarSeries series,
             ComponentDescriptor descriptor) {
+        ReflectionMetadata metadata = ReflectionMetadata.of(ruleType);
         try {
-            Method factory = ruleType.getDeclaredMethod("fromDescriptor", BarSeries.class, ComponentDescriptor.class);
-            factory.setAccessible(true);
-            return Optional.of((Rule) factory.invoke(null, series, descriptor));
-        } catch (NoSuchMethodException ex) {
-            // ignore and try the next option
-        } catch (IllegalAccessException | InvocationTargetException ex) {
-            throw new IllegalStateException("Failed to invoke factory on rule type: " + ruleType.getName(), ex);
-        }
-
-        try {
-            Method factory = ruleType.getDeclaredMethod("fromDescriptor", ComponentDescriptor.class);
-            factory.setAccessible(true);
-            return Optional.of((Rule) factory.invoke(null, descriptor));
-        } catch (NoSuchMethodException ex) {
-            // ignore and try next
+            Method factory = metadata.declaredMethod("fromDescriptor", BarSeries.class, ComponentDescriptor.class);
+            if (factory != null) {
+                return Optional.of((Rule) factory.invoke(null, series, descriptor));
+            }
+            factory = metadata.declaredMethod("fromDescriptor", ComponentDescriptor.class);
+            if (factory != null) {
+                return Optional.of((Rule) factory.invoke(null, descriptor));
+            }
         } catch (IllegalAccessException | InvocationTargetException ex) {
             throw new IllegalStateException("Failed to invoke factory on rule type: " + ruleType.getName(), ex);
         }
@@ -982,9 +976,8 @@ public final class StrategySerialization {
     }
 
     private static Optional<Rule> tryCompositeConstructor(Class<? extends Rule> ruleType, List<Rule> components) {
-        Constructor<?>[] constructors = ruleType.getDeclaredConstructors();
-        for (Constructor<?> constructor : constructors) {
-            Class<?>[] parameterTypes = constructor.getParameterTypes();
+        for (ReflectionMetadata.ConstructorInfo constructor : ReflectionMetadata.of(ruleType).constructors()) {
+            Class<?>[] parameterTypes = constructor.parameterTypes();
             if (parameterTypes.length != components.size()) {
                 continue;
             }
@@ -999,8 +992,7 @@ public final class StrategySerialization {
                 continue;
             }
             try {
-                constructor.setAccessible(true);
-                return Optional.of((Rule) constructor.newInstance(components.toArray()));
+                return Optional.of((Rule) constructor.constructor().newInstance(components.toArray()));
             } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
                 throw new IllegalStateException("Failed to construct composite rule: " + ruleType.getName(), ex);
             }
@@ -1010,33 +1002,21 @@ public final class StrategySerialization {
 
     private static Optional<Rule> tryDescriptorConstructor(Class<? extends Rule> ruleType, BarSeries series,
             ComponentDescriptor descriptor) {
+        ReflectionMetadata metadata = ReflectionMetadata.of(ruleType);
         try {
-            Constructor<? extends Rule> constructor = ruleType.getDeclaredConstructor(BarSeries.class,
+            ReflectionMetadata.ConstructorInfo constructor = metadata.declaredConstructor(BarSeries.class,
                     ComponentDescriptor.class);
-            constructor.setAccessible(true);
-            return Optional.of(constructor.newInstance(series, descriptor));
-        } catch (NoSuchMethodException ex) {
-            // ignore
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
-            throw new IllegalStateException("Failed to construct rule: " + ruleType.getName(), ex);
-        }
-
-        try {
-            Constructor<? extends Rule> constructor = ruleType.getDeclaredConstructor(ComponentDescriptor.class);
-            constructor.setAccessible(true);
-            return Optional.of(constructor.newInstance(descriptor));
-        } catch (NoSuchMethodException ex) {
-            // ignore
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
-            throw new IllegalStateException("Failed to construct rule: " + ruleType.getName(), ex);
-        }
-
-        try {
-            Constructor<? extends Rule> constructor = ruleType.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            return Optional.of(constructor.newInstance());
-        } catch (NoSuchMethodException ex) {
-            // ignore
+            if (constructor != null) {
+                return Optional.of((Rule) constructor.constructor().newInstance(series, descriptor));
+            }
+            constructor = metadata.declaredConstructor(ComponentDescriptor.class);
+            if (constructor != null) {
+                return Optional.of((Rule) constructor.constructor().newInstance(descriptor));
+            }
+            constructor = metadata.declaredConstructor();
+            if (constructor != null) {
+                return Optional.of((Rule) constructor.constructor().newInstance());
+            }
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
             throw new IllegalStateException("Failed to construct rule: " + ruleType.getName(), ex);
         }
@@ -1046,16 +1026,11 @@ public final class StrategySerialization {
 
     @SuppressWarnings("unchecked")
     private static Class<? extends Rule> resolveRuleClass(String type) {
-        try {
-            return (Class<? extends Rule>) Class.forName(type);
-        } catch (ClassNotFoundException ex) {
-            // try ta4j core rules package
-        }
-        try {
-            return (Class<? extends Rule>) Class.forName("org.ta4j.core.rules." + type);
-        } catch (ClassNotFoundException ex) {
-            throw new IllegalArgumentException("Unknown rule type: " + type, ex);
+        Class<?> clazz = ReflectionMetadata.findClass(type, "org.ta4j.core.rules");
+        if (clazz == null) {
+            throw new IllegalArgumentException("Unknown rule type: " + type);
         }
+        return (Class<? extends Rule>) clazz;
     }
 
     @SuppressWarnings("unchecked")
@@ -1063,21 +1038,11 @@ public final class StrategySerialization {
         if (type == null || type.isBlank()) {
             return BaseStrategy.class;
         }
-        try {
-            Class<?> clazz = Class.forName(type);
-            if (Strategy.class.isAssignableFrom(clazz)) {
-                return (Class<? extends Strategy>) clazz;
-            }
-        } catch (ClassNotFoundException ex) {
-            // ignore and try package-local lookup
-        }
-        try {
-            Class<?> clazz = Class.forName(STRATEGY_PACKAGE + '.' + type);
-            if (Strategy.class.isAssignableFrom(clazz)) {
+        for (String name : new String[] { type, STRATEGY_PACKAGE + '.' + type }) {
+            Class<?> clazz = ReflectionMetadata.findClass(name);
+            if (clazz != null && Strategy.class.isAssignableFrom(clazz)) {
                 return (Class<? extends Strategy>) clazz;
             }
-        } catch (ClassNotFoundException ex) {
-            // ignore and fall back to BaseStrategy
         }
         return BaseStrategy.class;
     }
@@ -17,5 +17,11 @@
  * while preserving plain-text labels for non-JSON inputs. Numeric constructor
  * parameters follow finite JSON-number rules with exact integer conversion.
  * </p>
+ *
+ * <p>
+ * {@link org.ta4j.core.serialization.ComponentBinarySerialization} offers a
+ * compact binary form of the same descriptors for bulk exchange between
+ * processes; it decodes to descriptors equal to the encoded ones.
+ * </p>
  */
 package org.ta4j.core.serialization;
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+
+/**
+ * Layout of the columnar binary bar series file.
+ *
+ * <p>
+ * All values are little-endian. The file is laid out as follows:
+ * </p>
+ *
+ * <pre>
+ * header (64 bytes)
+ *   int   magic "T4BS"
+ *   short version
+ *   short column count
+ *   int   bar count
+ *   int   series name length in UTF-8 bytes, or -1 for no name
+ *   ...   reserved, zero
+ * column directory (32 bytes per column, in {@link Column} order)
+ *   byte  encoding
+ *   ...   padding (7 bytes)
+ *   long  base (the value of a CONSTANT column, the base of a SCALED_INT column)
+ *   long  scale (SCALED_INT columns only)
+ *   long  offset of the column data in the file
+ * series name (UTF-8)
+ * column data, each column aligned to 8 bytes
+ * </pre>
+ *
+ * <p>
+ * Times are epoch nanoseconds, prices/volumes/amounts are the raw bits of
+ * {@code double} values, and {@link #NULL_BITS} marks an absent value.
+ * </p>
+ */
+final class BinaryBarSeriesFormat {
+
+    static final int MAGIC = 0x54344253;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int DIRECTORY_ENTRY_SIZE = 32;
+
+    /** Raw bits of a quiet NaN payload that stands for a {@code null} value. */
+    static final long NULL_BITS = 0x7FF8_0000_7434_0000L;
+
+    /** Fixed-width 8-byte values. */
+    static final byte RAW = 0;
+    /** A single value shared by all bars, stored in the directory. */
+    static final byte CONSTANT = 1;
+    /** Integral values stored as {@code base + scale * int32}. */
+    static final byte SCALED_INT = 2;
+    /** Decimal values that round-trip exactly through {@code float}. */
+    static final byte FLOAT = 3;
+
+    enum Column {
+        END_TIME(true), TIME_PERIOD(true), OPEN(false), HIGH(false), LOW(false), CLOSE(false), VOLUME(false),
+        AMOUNT(false), TRADES(true);
+
+        final boolean integral;
+
+        Column(boolean integral) {
+            this.integral = integral;
+        }
+    }
+
+    private BinaryBarSeriesFormat() {
+    }
+
+    static ByteBuffer littleEndian(ByteBuffer buffer) {
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * @return the number of data bytes per bar for {@code encoding}
+     */
+    static int valueWidth(byte encoding) {
+        return switch (encoding) {
+        case RAW -> Long.BYTES;
+        case CONSTANT -> 0;
+        case SCALED_INT, FLOAT -> Integer.BYTES;
+        default -> throw new IllegalArgumentException("Unknown column encoding " + encoding + ".");
+        };
+    }
+
+    static long toEpochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    static Instant ofEpochNanos(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.storage;
+
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.CONSTANT;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.DIRECTORY_ENTRY_SIZE;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.FLOAT;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.HEADER_SIZE;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.MAGIC;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.NULL_BITS;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.RAW;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.SCALED_INT;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.VERSION;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.storage.BinaryBarSeriesFormat.Column;
+
+/**
+ * Writes a {@link BarSeries} to the columnar binary format read by
+ * {@link MappedBarSeries}.
+ *
+ * <p>
+ * Each column (end time, time period, OHLC, volume, amount, trades) is stored
+ * contiguously with a fixed width per bar, so readers can access any bar
+ * without parsing. With compression enabled, each column individually uses the
+ * smallest lossless fixed-width encoding: a single constant (e.g. a uniform
+ * time period or absent amounts), {@code base + scale * int32} for times and
+ * trade counts on a regular grid, or {@code float} for values that round-trip
+ * exactly.
+ * </p>
+ *
+ * <p>
+ * Numbers are stored in {@code double} precision, so only series whose
+ * {@link Num} values are doubles can be written without loss: series backed by
+ * {@link DoubleNumFactory} or read from a {@link MappedBarSeries}. Other
+ * series, such as {@link org.ta4j.core.num.DecimalNum} series, are rejected
+ * rather than silently rounded; use {@link SeriesExternalization} for them.
+ * </p>
+ *
+ * @since 0.23.1
+ */
+public final class BinaryBarSeriesWriter {
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private BinaryBarSeriesWriter() {
+    }
+
+    /**
+     * Writes the bars of {@code series} with per-column compression.
+     *
+     * @param series the series to write
+     * @param file   the target file, replaced if it exists
+     * @throws IOException              if the file cannot be written
+     * @throws IllegalArgumentException if the series values are not doubles
+     */
+    public static void write(BarSeries series, Path file) throws IOException {
+        write(series, file, true);
+    }
+
+    /**
+     * Writes the bars of {@code series}.
+     *
+     * @param series   the series to write
+     * @param file     the target file, replaced if it exists
+     * @param compress {@code true} to pick the smallest lossless encoding per
+     *                 column, {@code false} to store all columns with 8 bytes per
+     *                 bar
+     * @throws IOException              if the file cannot be written
+     * @throws IllegalArgumentException if the series values are not doubles
+     */
+    public static void write(BarSeries series, Path file, boolean compress) throws IOException {
+        Objects.requireNonNull(series, "series");
+        Objects.requireNonNull(file, "file");
+        if (!(series instanceof MappedBarSeries) && !(series.numFactory() instanceof DoubleNumFactory)) {
+            throw new IllegalArgumentException(
+                    "series must use DoubleNumFactory to be stored without rounding: " + series.numFactory());
+        }
+        int barCount = series.isEmpty() ? 0 : series.getBarCount();
+        Column[] columns = Column.values();
+        long[][] values = columnValues(series, barCount);
+
+        byte[] name = series.getName() == null ? null : series.getName().getBytes(StandardCharsets.UTF_8);
+        ColumnEncoding[] encodings = new ColumnEncoding[columns.length];
+        long offset = align(
+                HEADER_SIZE + (long) DIRECTORY_ENTRY_SIZE * columns.length + (name == null ? 0 : name.length));
+        for (int c = 0; c < columns.length; c++) {
+            ColumnEncoding encoding = compress ? encode(columns[c], values[c]) : ColumnEncoding.raw();
+            encodings[c] = encoding.at(offset);
+            offset = align(offset + (long) BinaryBarSeriesFormat.valueWidth(encoding.encoding()) * barCount);
+        }
+
+        ByteBuffer header = BinaryBarSeriesFormat
+                .littleEndian(ByteBuffer.allocate((int) encodings[0].offset()))
+                .putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) columns.length)
+                .putInt(barCount)
+                .putInt(name == null ? -1 : name.length)
+                .position(HEADER_SIZE);
+        for (ColumnEncoding encoding : encodings) {
+            header.put(encoding.encoding()).position(header.position() + 7);
+            header.putLong(encoding.base()).putLong(encoding.scale()).putLong(encoding.offset());
+        }
+        if (name != null) {
+            header.put(name);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header.clear(), 0);
+            ByteBuffer buffer = BinaryBarSeriesFormat.littleEndian(ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE));
+            for (int c = 0; c < columns.length; c++) {
+                writeColumn(channel, buffer, encodings[c], values[c]);
+            }
+        }
+    }
+
+    private static long[][] columnValues(BarSeries series, int barCount) {
+        long[][] values = new long[Column.values().length][barCount];
+        for (int i = 0; i < barCount; i++) {
+            Bar bar = series.getBar(series.getBeginIndex() + i);
+            values[Column.END_TIME.ordinal()][i] = BinaryBarSeriesFormat.toEpochNanos(bar.getEndTime());
+            values[Column.TIME_PERIOD.ordinal()][i] = bar.getTimePeriod().toNanos();
+            values[Column.OPEN.ordinal()][i] = bitsOf(bar.getOpenPrice());
+            values[Column.HIGH.ordinal()][i] = bitsOf(bar.getHighPrice());
+            values[Column.LOW.ordinal()][i] = bitsOf(bar.getLowPrice());
+            values[Column.CLOSE.ordinal()][i] = bitsOf(bar.getClosePrice());
+            values[Column.VOLUME.ordinal()][i] = bitsOf(bar.getVolume());
+            values[Column.AMOUNT.ordinal()][i] = bitsOf(bar.getAmount());
+            values[Column.TRADES.ordinal()][i] = bar.getTrades();
+        }
+        return values;
+    }
+
+    private static long bitsOf(Num value) {
+        return value == null ? NULL_BITS : Double.doubleToRawLongBits(value.doubleValue());
+    }
+
+    private static ColumnEncoding encode(Column column, long[] values) {
+        if (values.length == 0) {
+            return ColumnEncoding.raw();
+        }
+        long first = values[0];
+        boolean constant = true;
+        for (long value : values) {
+            if (value != first) {
+                constant = false;
+                break;
+            }
+        }
+        if (constant) {
+            return new ColumnEncoding(CONSTANT, first, 0, 0);
+        }
+        return column.integral ? encodeIntegral(values) : encodeDecimal(values);
+    }
+
+    private static ColumnEncoding encodeIntegral(long[] values) {
+        long min = Long.MAX_VALUE;
+        for (long value : values) {
+            min = Math.min(min, value);
+        }
+        long scale = 0;
+        long maxDelta = 0;
+        for (long value : values) {
+            long delta = value - min;
+            if (delta < 0) {
+                // overflowed: the range does not fit into a long
+                return ColumnEncoding.raw();
+            }
+            scale = gcd(scale, delta);
+            maxDelta = Math.max(maxDelta, delta);
+        }
+        if (maxDelta / scale > 0xFFFF_FFFFL) {
+            return ColumnEncoding.raw();
+        }
+        return new ColumnEncoding(SCALED_INT, min, scale, 0);
+    }
+
+    private static ColumnEncoding encodeDecimal(long[] values) {
+        for (long bits : values) {
+            if (bits == NULL_BITS) {
+                return ColumnEncoding.raw();
+            }
+            float value = (float) Double.longBitsToDouble(bits);
+            if (Double.doubleToRawLongBits(value) != bits) {
+                return ColumnEncoding.raw();
+            }
+        }
+        return new ColumnEncoding(FLOAT, 0, 0, 0);
+    }
+
+    private static void writeColumn(FileChannel channel, ByteBuffer buffer, ColumnEncoding encoding, long[] values)
+            throws IOException {
+        if (encoding.encoding() == CONSTANT) {
+            return;
+        }
+        long position = encoding.offset();
+        buffer.clear();
+        for (long value : values) {
+            if (buffer.remaining() < Long.BYTES) {
+                position += writeFully(channel, buffer.flip(), position);
+                buffer.clear();
+            }
+            switch (encoding.encoding()) {
+            case RAW -> buffer.putLong(value);
+            case SCALED_INT -> buffer.putInt((int) ((value - encoding.base()) / encoding.scale()));
+            case FLOAT -> buffer.putFloat((float) Double.longBitsToDouble(value));
+            default -> throw new IllegalStateException("Unexpected column encoding " + encoding.encoding());
+            }
+        }
+        writeFully(channel, buffer.flip(), position);
+    }
+
+    private static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+        return written;
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+
+    private record ColumnEncoding(byte encoding, long base, long scale, long offset) {
+
+        static ColumnEncoding raw() {
+            return new ColumnEncoding(RAW, 0, 0, 0);
+        }
+
+        ColumnEncoding at(long columnOffset) {
+            return new ColumnEncoding(encoding, base, scale, columnOffset);
+        }
+    }
+}
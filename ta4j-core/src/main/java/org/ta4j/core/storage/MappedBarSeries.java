@@ -0,0 +1,402 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.storage;
+
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.CONSTANT;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.DIRECTORY_ENTRY_SIZE;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.FLOAT;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.HEADER_SIZE;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.MAGIC;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.NULL_BITS;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.RAW;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.SCALED_INT;
+import static org.ta4j.core.storage.BinaryBarSeriesFormat.VERSION;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarBuilder;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+import org.ta4j.core.storage.BinaryBarSeriesFormat.Column;
+
+/**
+ * Read-only {@link BarSeries} backed by a memory-mapped file written by
+ * {@link BinaryBarSeriesWriter}.
+ *
+ * <p>
+ * Opening a file maps its columns and reads only the fixed-width header, so
+ * startup does not depend on the number of bars and the operating system pages
+ * the data in on demand. {@link #getBar(int)} returns a lightweight view over
+ * the mapped columns; its {@link Num} values are created by the series
+ * {@link NumFactory} only when a getter is called.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * BinaryBarSeriesWriter.write(csvSeries, Path.of("btc-1m.t4bs"));
+ * BarSeries series = MappedBarSeries.open(Path.of("btc-1m.t4bs"), DoubleNumFactory.getInstance());
+ * }</pre>
+ *
+ * <p>
+ * Mutating methods throw {@link UnsupportedOperationException}. Serializing the
+ * series writes a self-contained {@link org.ta4j.core.BaseBarSeries} copy.
+ * </p>
+ *
+ * @since 0.23.1
+ */
+public final class MappedBarSeries implements BarSeries {
+
+    @Serial
+    private static final long serialVersionUID = -4107462716584153215L;
+
+    private final String name;
+    private final transient NumFactory numFactory;
+    private final transient MappedColumn[] columns;
+    private final int firstBar;
+    private final int barCount;
+
+    private MappedBarSeries(String name, NumFactory numFactory, MappedColumn[] columns, int firstBar, int barCount) {
+        this.name = name;
+        this.numFactory = numFactory;
+        this.columns = columns;
+        this.firstBar = firstBar;
+        this.barCount = barCount;
+    }
+
+    /**
+     * Maps a bar series file.
+     *
+     * @param file       the file written by {@link BinaryBarSeriesWriter}
+     * @param numFactory the factory for the materialized numbers
+     * @return the mapped series
+     * @throws IOException if the file cannot be read or has an unsupported format
+     */
+    public static MappedBarSeries open(Path file, NumFactory numFactory) throws IOException {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(numFactory, "numFactory");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, 0, HEADER_SIZE, file);
+            if (header.getInt() != MAGIC) {
+                throw new IOException(file + " is not a binary bar series file");
+            }
+            short version = header.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary bar series version " + version + " in " + file);
+            }
+            int columnCount = header.getShort();
+            int barCount = header.getInt();
+            int nameLength = header.getInt();
+            if (columnCount != Column.values().length || barCount < 0) {
+                throw new IOException("Corrupt binary bar series header in " + file);
+            }
+
+            ByteBuffer directory = readFully(channel, HEADER_SIZE, DIRECTORY_ENTRY_SIZE * columnCount, file);
+            MappedColumn[] columns = new MappedColumn[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                byte encoding = directory.get();
+                directory.position(directory.position() + 7);
+                long base = directory.getLong();
+                long scale = directory.getLong();
+                long offset = directory.getLong();
+                long length = (long) BinaryBarSeriesFormat.valueWidth(encoding) * barCount;
+                if (offset < 0 || length > 0 && offset + length > channel.size()) {
+                    throw new IOException("Truncated binary bar series file " + file);
+                }
+                ByteBuffer data = length == 0 ? null
+                        : BinaryBarSeriesFormat
+                                .littleEndian(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+                columns[c] = new MappedColumn(encoding, base, scale, data);
+            }
+
+            String name = null;
+            if (nameLength >= 0) {
+                ByteBuffer nameBytes = readFully(channel, HEADER_SIZE + DIRECTORY_ENTRY_SIZE * columnCount, nameLength,
+                        file);
+                name = StandardCharsets.UTF_8.decode(nameBytes).toString();
+            }
+            // the mappings stay valid after the channel is closed
+            return new MappedBarSeries(name, numFactory, columns, 0, barCount);
+        }
+    }
+
+    @Override
+    public NumFactory numFactory() {
+        return numFactory;
+    }
+
+    @Override
+    public BarBuilder barBuilder() {
+        throw new UnsupportedOperationException("Mapped bar series are read-only");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Bar getBar(int i) {
+        if (i < 0 || i >= barCount) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %d out of bounds for mapped bar series of %d bars", i, barCount));
+        }
+        return new MappedBar(firstBar + i);
+    }
+
+    @Override
+    public int getBarCount() {
+        return barCount;
+    }
+
+    /**
+     * @return a read-only list view of the bars; bars are created on access
+     */
+    @Override
+    public List<Bar> getBarData() {
+        return new BarListView();
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return 0;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return barCount - 1;
+    }
+
+    @Override
+    public int getMaximumBarCount() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setMaximumBarCount(int maximumBarCount) {
+        throw new UnsupportedOperationException("Mapped bar series are read-only");
+    }
+
+    @Override
+    public int getRemovedBarsCount() {
+        return 0;
+    }
+
+    @Override
+    public void addBar(Bar bar, boolean replace) {
+        throw new UnsupportedOperationException("Mapped bar series are read-only");
+    }
+
+    @Override
+    public void addTrade(Num tradeVolume, Num tradePrice) {
+        throw new UnsupportedOperationException("Mapped bar series are read-only");
+    }
+
+    @Override
+    public void addPrice(Num price) {
+        throw new UnsupportedOperationException("Mapped bar series are read-only");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Mapped bar series are read-only");
+    }
+
+    /**
+     * Returns a view of the bars from {@code startIndex} (inclusive) to
+     * {@code endIndex} (exclusive) sharing this series' mappings. The view is
+     * indexed from zero.
+     */
+    @Override
+    public MappedBarSeries getSubSeries(int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        int start = Math.min(startIndex, barCount);
+        int end = Math.min(endIndex, barCount);
+        return new MappedBarSeries(name, numFactory, columns, firstBar + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d mapped bars", name, barCount);
+    }
+
+    @Serial
+    private Object writeReplace() {
+        List<Bar> bars = new ArrayList<>(barCount);
+        for (int i = 0; i < barCount; i++) {
+            bars.add(((MappedBar) getBar(i)).toBaseBar());
+        }
+        return new BaseBarSeriesBuilder().withName(name).withNumFactory(numFactory).withBars(bars).build();
+    }
+
+    private Num decimal(Column column, int bar) {
+        long bits = columns[column.ordinal()].bits(bar);
+        if (bits == NULL_BITS) {
+            return null;
+        }
+        double value = Double.longBitsToDouble(bits);
+        return Double.isNaN(value) ? NaN.NaN : numFactory.numOf(value);
+    }
+
+    private long integral(Column column, int bar) {
+        return columns[column.ordinal()].bits(bar);
+    }
+
+    /** Fixed-width column over a mapped region. */
+    private record MappedColumn(byte encoding, long base, long scale, ByteBuffer data) {
+
+        long bits(int bar) {
+            return switch (encoding) {
+            case CONSTANT -> base;
+            case RAW -> data.getLong(bar * Long.BYTES);
+            case SCALED_INT -> base + scale * Integer.toUnsignedLong(data.getInt(bar * Integer.BYTES));
+            case FLOAT -> Double.doubleToRawLongBits(data.getFloat(bar * Integer.BYTES));
+            default -> throw new IllegalStateException("Unknown column encoding " + encoding);
+            };
+        }
+    }
+
+    /** Read-only view of one mapped bar; values are materialized on access. */
+    private final class MappedBar implements Bar {
+
+        @Serial
+        private static final long serialVersionUID = 2934871051626301468L;
+
+        private final int bar;
+
+        private MappedBar(int bar) {
+            this.bar = bar;
+        }
+
+        @Override
+        public Duration getTimePeriod() {
+            return Duration.ofNanos(integral(Column.TIME_PERIOD, bar));
+        }
+
+        @Override
+        public Instant getBeginTime() {
+            return BinaryBarSeriesFormat
+                    .ofEpochNanos(integral(Column.END_TIME, bar) - integral(Column.TIME_PERIOD, bar));
+        }
+
+        @Override
+        public Instant getEndTime() {
+            return BinaryBarSeriesFormat.ofEpochNanos(integral(Column.END_TIME, bar));
+        }
+
+        @Override
+        public Num getOpenPrice() {
+            return decimal(Column.OPEN, bar);
+        }
+
+        @Override
+        public Num getHighPrice() {
+            return decimal(Column.HIGH, bar);
+        }
+
+        @Override
+        public Num getLowPrice() {
+            return decimal(Column.LOW, bar);
+        }
+
+        @Override
+        public Num getClosePrice() {
+            return decimal(Column.CLOSE, bar);
+        }
+
+        @Override
+        public Num getVolume() {
+            return decimal(Column.VOLUME, bar);
+        }
+
+        @Override
+        public Num getAmount() {
+            return decimal(Column.AMOUNT, bar);
+        }
+
+        @Override
+        public long getTrades() {
+            return integral(Column.TRADES, bar);
+        }
+
+        @Override
+        public NumFactory numFactory() {
+            return numFactory;
+        }
+
+        @Override
+        public void addTrade(Num tradeVolume, Num tradePrice) {
+            throw new UnsupportedOperationException("Mapped bars are read-only");
+        }
+
+        @Override
+        public void addPrice(Num price) {
+            throw new UnsupportedOperationException("Mapped bars are read-only");
+        }
+
+        @Override
+        public String toString() {
+            return toBaseBar().toString();
+        }
+
+        private BaseBar toBaseBar() {
+            return new BaseBar(getTimePeriod(), getBeginTime(), getEndTime(), getOpenPrice(), getHighPrice(),
+                    getLowPrice(), getClosePrice(), getVolume(), getAmount(), getTrades());
+        }
+
+        @Serial
+        private Object writeReplace() {
+            return toBaseBar();
+        }
+    }
+
+    private final class BarListView extends AbstractList<Bar> implements RandomAccess {
+
+        @Override
+        public Bar get(int index) {
+            return getBar(index);
+        }
+
+        @Override
+        public int size() {
+            return barCount;
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length, Path file)
+            throws IOException {
+        ByteBuffer buffer = BinaryBarSeriesFormat.littleEndian(ByteBuffer.allocate(length));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Truncated binary bar series file " + file);
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,747 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.ExecutionMatchPolicy;
+import org.ta4j.core.ExecutionSide;
+import org.ta4j.core.Trade;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradeFill;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.cost.CostModel;
+import org.ta4j.core.analysis.cost.RecordedTradeCostModel;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Compact, lossless stream encoding of bar series and trading records, for
+ * checkpointing and for shipping them between JVMs.
+ *
+ * <p>
+ * Unlike Java serialization, which writes every {@link DecimalNum} with its
+ * {@link BigDecimal} and {@link MathContext} objects, the {@link NumFactory}
+ * is written once in the header and values are written column by column:
+ * times and periods as variable-length deltas, {@link DoubleNum} values as raw
+ * {@code double} bits, and {@link DecimalNum} values as a variable-length
+ * unscaled value and scale. Decoding restores equal values of the same
+ * {@code Num} type and precision.
+ * </p>
+ *
+ * <pre>
+ * stream   := magic version numFactory body
+ * series   := name beginIndex maximumBarCount barCount
+ *             endTime* timePeriod* open* high* low* close* volume* amount* trades*
+ * record   := name startingType matchPolicy startIndex endIndex tradeCount
+ *             type* recordedCost* fillCount* then per fill
+ *             index* time* price* amount* fee* side* orderId* correlationId*
+ * </pre>
+ *
+ * <p>
+ * Series are restored as {@link org.ta4j.core.BaseBarSeries BaseBarSeries}
+ * with the same name, begin index, and maximum bar count, whose bars are
+ * {@link BaseBar BaseBars}. Trading records are restored as
+ * {@link BaseTradingRecord BaseTradingRecords} by replaying their trades'
+ * execution fills; as with Java serialization, cost models are not written and
+ * must be supplied when reading.
+ * </p>
+ *
+ * @since 0.23.1
+ */
+public final class SeriesExternalization {
+
+    private static final int SERIES_MAGIC = 0x54345358; // "T4SX"
+    private static final int RECORD_MAGIC = 0x54345258; // "T4RX"
+    private static final int VERSION = 1;
+
+    private static final int FACTORY_NONE = 0;
+    private static final int FACTORY_DOUBLE = 1;
+    private static final int FACTORY_DECIMAL = 2;
+
+    /** Column flag: a status byte per value precedes the values. */
+    private static final int HAS_SPECIAL_VALUES = 1;
+    private static final int VALUE_PRESENT = 0;
+    private static final int VALUE_NULL = 1;
+    private static final int VALUE_NAN = 2;
+
+    private static final RoundingMode[] ROUNDING_MODES = RoundingMode.values();
+    private static final TradeType[] TRADE_TYPES = TradeType.values();
+    private static final ExecutionMatchPolicy[] MATCH_POLICIES = ExecutionMatchPolicy.values();
+    private static final ExecutionSide[] SIDES = ExecutionSide.values();
+
+    private SeriesExternalization() {
+    }
+
+    /**
+     * Writes a bar series. The stream is flushed but not closed.
+     *
+     * @param series the series
+     * @param out    the output stream
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if the series uses an unsupported
+     *                                  {@link NumFactory}
+     */
+    public static void writeBarSeries(BarSeries series, OutputStream out) throws IOException {
+        Objects.requireNonNull(series, "series");
+        Objects.requireNonNull(out, "out");
+        Output output = new Output(out);
+        output.writeInt(SERIES_MAGIC);
+        output.writeByte(VERSION);
+        NumCodec codec = NumCodec.of(series.numFactory());
+        codec.writeHeader(output);
+        output.writeString(series.getName());
+
+        int barCount = series.getBarCount();
+        output.writeVarInt(series.isEmpty() ? 0 : series.getBeginIndex());
+        output.writeInt(series.getMaximumBarCount());
+        output.writeVarInt(barCount);
+        List<Bar> bars = series.getBarData();
+
+        long previous = 0;
+        for (Bar bar : bars) {
+            long endTime = BinaryBarSeriesFormat.toEpochNanos(bar.getEndTime());
+            output.writeVarLong(zigZag(endTime - previous));
+            previous = endTime;
+        }
+        previous = 0;
+        for (Bar bar : bars) {
+            long timePeriod = bar.getTimePeriod().toNanos();
+            output.writeVarLong(zigZag(timePeriod - previous));
+            previous = timePeriod;
+        }
+        Num[] column = new Num[barCount];
+        for (int field = 0; field < 6; field++) {
+            for (int i = 0; i < barCount; i++) {
+                column[i] = priceField(bars.get(i), field);
+            }
+            codec.writeColumn(output, column, barCount);
+        }
+        for (Bar bar : bars) {
+            output.writeVarLong(zigZag(bar.getTrades()));
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads a bar series written by {@link #writeBarSeries(BarSeries, OutputStream)}.
+     * Exactly the bytes of the series are consumed.
+     *
+     * @param in the input stream
+     * @return the series
+     * @throws IOException if reading fails or the data is malformed
+     */
+    public static BarSeries readBarSeries(InputStream in) throws IOException {
+        Objects.requireNonNull(in, "in");
+        Input input = new Input(in);
+        readHeader(input, SERIES_MAGIC, "bar series");
+        NumCodec codec = NumCodec.readHeader(input);
+        if (codec == null) {
+            throw new StreamCorruptedException("Missing number factory");
+        }
+        String name = input.readString();
+        int beginIndex = input.readVarInt();
+        int maximumBarCount = input.readInt();
+        int barCount = input.readVarInt();
+        if (beginIndex < 0 || barCount < 0) {
+            throw new StreamCorruptedException("Invalid bar range: " + beginIndex + "+" + barCount);
+        }
+
+        long[] endTimes = new long[barCount];
+        long previous = 0;
+        for (int i = 0; i < barCount; i++) {
+            previous += unZigZag(input.readVarLong());
+            endTimes[i] = previous;
+        }
+        long[] timePeriods = new long[barCount];
+        previous = 0;
+        for (int i = 0; i < barCount; i++) {
+            previous += unZigZag(input.readVarLong());
+            timePeriods[i] = previous;
+        }
+        Num[][] prices = new Num[6][];
+        for (int field = 0; field < prices.length; field++) {
+            prices[field] = codec.readColumn(input, barCount);
+        }
+        List<Bar> bars = new ArrayList<>(barCount);
+        Duration timePeriod = null;
+        for (int i = 0; i < barCount; i++) {
+            if (timePeriod == null || timePeriod.toNanos() != timePeriods[i]) {
+                timePeriod = Duration.ofNanos(timePeriods[i]);
+            }
+            bars.add(new BaseBar(timePeriod, null, BinaryBarSeriesFormat.ofEpochNanos(endTimes[i]), prices[0][i],
+                    prices[1][i], prices[2][i], prices[3][i], prices[4][i], prices[5][i],
+                    unZigZag(input.readVarLong())));
+        }
+        return new BaseBarSeriesBuilder().withName(name)
+                .withNumFactory(codec.factory)
+                .withBars(bars)
+                .withBeginIndex(beginIndex)
+                .withMaxBarCount(maximumBarCount)
+                .build();
+    }
+
+    /**
+     * Writes a trading record as the execution fills of its trades. The stream is
+     * flushed but not closed.
+     *
+     * @param record the trading record
+     * @param out    the output stream
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if the record uses an unsupported
+     *                                  {@link Num} type
+     */
+    public static void writeTradingRecord(TradingRecord record, OutputStream out) throws IOException {
+        Objects.requireNonNull(record, "record");
+        Objects.requireNonNull(out, "out");
+        List<Trade> trades = record.getTrades();
+        List<List<TradeFill>> fillsByTrade = new ArrayList<>(trades.size());
+        List<TradeFill> fills = new ArrayList<>();
+        for (Trade trade : trades) {
+            List<TradeFill> tradeFills = Trade.executionFillsOf(trade);
+            fillsByTrade.add(tradeFills);
+            fills.addAll(tradeFills);
+        }
+        NumCodec codec = fills.isEmpty() ? null : NumCodec.of(fills.getFirst().price().getNumFactory());
+
+        Output output = new Output(out);
+        output.writeInt(RECORD_MAGIC);
+        output.writeByte(VERSION);
+        if (codec == null) {
+            output.writeByte(FACTORY_NONE);
+        } else {
+            codec.writeHeader(output);
+        }
+        output.writeString(record.getName());
+        output.writeByte(record.getStartingType().ordinal());
+        output.writeByte(record instanceof BaseTradingRecord base ? base.getMatchPolicy().ordinal()
+                : ExecutionMatchPolicy.FIFO.ordinal());
+        writeNullableIndex(output, record.getStartIndex());
+        writeNullableIndex(output, record.getEndIndex());
+
+        output.writeVarInt(trades.size());
+        for (Trade trade : trades) {
+            output.writeByte(trade.getType().ordinal());
+        }
+        for (Trade trade : trades) {
+            output.writeByte(trade.getCostModel() instanceof RecordedTradeCostModel ? 1 : 0);
+        }
+        for (List<TradeFill> tradeFills : fillsByTrade) {
+            output.writeVarInt(tradeFills.size());
+        }
+        if (codec == null) {
+            output.flush();
+            return;
+        }
+
+        int previousIndex = 0;
+        for (TradeFill fill : fills) {
+            output.writeVarInt(zigZag(fill.index() - previousIndex));
+            previousIndex = fill.index();
+        }
+        long previousTime = 0;
+        for (TradeFill fill : fills) {
+            if (fill.time() == null) {
+                output.writeByte(0);
+            } else {
+                long time = BinaryBarSeriesFormat.toEpochNanos(fill.time());
+                output.writeByte(1);
+                output.writeVarLong(zigZag(time - previousTime));
+                previousTime = time;
+            }
+        }
+        Num[] column = new Num[fills.size()];
+        for (int field = 0; field < 3; field++) {
+            for (int i = 0; i < column.length; i++) {
+                TradeFill fill = fills.get(i);
+                column[i] = field == 0 ? fill.price() : field == 1 ? fill.amount() : fill.fee();
+            }
+            codec.writeColumn(output, column, column.length);
+        }
+        for (TradeFill fill : fills) {
+            output.writeByte(fill.side() == null ? 0 : fill.side().ordinal() + 1);
+        }
+        for (TradeFill fill : fills) {
+            output.writeString(fill.orderId());
+        }
+        for (TradeFill fill : fills) {
+            output.writeString(fill.correlationId());
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads a trading record written by
+     * {@link #writeTradingRecord(TradingRecord, OutputStream)}. Exactly the bytes
+     * of the record are consumed.
+     *
+     * @param in                   the input stream
+     * @param transactionCostModel the transaction cost model of the record (null
+     *                             defaults to zero costs)
+     * @param holdingCostModel     the holding cost model of the record (null
+     *                             defaults to zero costs)
+     * @return the trading record
+     * @throws IOException if reading fails or the data is malformed
+     */
+    public static BaseTradingRecord readTradingRecord(InputStream in, CostModel transactionCostModel,
+            CostModel holdingCostModel) throws IOException {
+        Objects.requireNonNull(in, "in");
+        Input input = new Input(in);
+        readHeader(input, RECORD_MAGIC, "trading record");
+        NumCodec codec = NumCodec.readHeader(input);
+        String name = input.readString();
+        TradeType startingType = TRADE_TYPES[input.readOrdinal(TRADE_TYPES.length)];
+        ExecutionMatchPolicy matchPolicy = MATCH_POLICIES[input.readOrdinal(MATCH_POLICIES.length)];
+        Integer startIndex = readNullableIndex(input);
+        Integer endIndex = readNullableIndex(input);
+        BaseTradingRecord record = new BaseTradingRecord(startingType, matchPolicy, transactionCostModel,
+                holdingCostModel, startIndex, endIndex);
+        record.setName(name);
+
+        int tradeCount = input.readVarInt();
+        TradeType[] types = new TradeType[tradeCount];
+        for (int i = 0; i < tradeCount; i++) {
+            types[i] = TRADE_TYPES[input.readOrdinal(TRADE_TYPES.length)];
+        }
+        boolean[] recordedCosts = new boolean[tradeCount];
+        for (int i = 0; i < tradeCount; i++) {
+            recordedCosts[i] = input.readOrdinal(2) == 1;
+        }
+        int[] fillCounts = new int[tradeCount];
+        int fillCount = 0;
+        for (int i = 0; i < tradeCount; i++) {
+            fillCounts[i] = input.readVarInt();
+            if (fillCounts[i] <= 0) {
+                throw new StreamCorruptedException("Invalid fill count: " + fillCounts[i]);
+            }
+            fillCount = Math.addExact(fillCount, fillCounts[i]);
+        }
+        if (fillCount == 0) {
+            return record;
+        }
+        if (codec == null) {
+            throw new StreamCorruptedException("Missing number factory");
+        }
+
+        int[] indices = new int[fillCount];
+        int previousIndex = 0;
+        for (int i = 0; i < fillCount; i++) {
+            previousIndex += unZigZag(input.readVarInt());
+            indices[i] = previousIndex;
+        }
+        Instant[] times = new Instant[fillCount];
+        long previousTime = 0;
+        for (int i = 0; i < fillCount; i++) {
+            if (input.readOrdinal(2) == 1) {
+                previousTime += unZigZag(input.readVarLong());
+                times[i] = BinaryBarSeriesFormat.ofEpochNanos(previousTime);
+            }
+        }
+        Num[] prices = codec.readColumn(input, fillCount);
+        Num[] amounts = codec.readColumn(input, fillCount);
+        Num[] fees = codec.readColumn(input, fillCount);
+        ExecutionSide[] sides = new ExecutionSide[fillCount];
+        for (int i = 0; i < fillCount; i++) {
+            int side = input.readOrdinal(SIDES.length + 1);
+            sides[i] = side == 0 ? null : SIDES[side - 1];
+        }
+        String[] orderIds = new String[fillCount];
+        for (int i = 0; i < fillCount; i++) {
+            orderIds[i] = input.readString();
+        }
+        String[] correlationIds = new String[fillCount];
+        for (int i = 0; i < fillCount; i++) {
+            correlationIds[i] = input.readString();
+        }
+
+        CostModel tradeCostModel = record.getTransactionCostModel();
+        int fill = 0;
+        for (int t = 0; t < tradeCount; t++) {
+            List<TradeFill> tradeFills = new ArrayList<>(fillCounts[t]);
+            for (int end = fill + fillCounts[t]; fill < end; fill++) {
+                tradeFills.add(new TradeFill(indices[fill], times[fill], prices[fill], amounts[fill], fees[fill],
+                        sides[fill], orderIds[fill], correlationIds[fill]));
+            }
+            try {
+                record.operate(Trade.fromFills(types[t], tradeFills,
+                        recordedCosts[t] ? RecordedTradeCostModel.INSTANCE : tradeCostModel));
+            } catch (RuntimeException ex) {
+                throw (IOException) new StreamCorruptedException("Invalid trade " + t).initCause(ex);
+            }
+        }
+        return record;
+    }
+
+    private static Num priceField(Bar bar, int field) {
+        return switch (field) {
+        case 0 -> bar.getOpenPrice();
+        case 1 -> bar.getHighPrice();
+        case 2 -> bar.getLowPrice();
+        case 3 -> bar.getClosePrice();
+        case 4 -> bar.getVolume();
+        default -> bar.getAmount();
+        };
+    }
+
+    private static void readHeader(Input input, int magic, String kind) throws IOException {
+        if (input.readInt() != magic) {
+            throw new StreamCorruptedException("Not an externalized " + kind);
+        }
+        int version = input.readByte() & 0xFF;
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported " + kind + " version: " + version);
+        }
+    }
+
+    private static void writeNullableIndex(Output output, Integer index) throws IOException {
+        output.writeVarLong(index == null ? 0 : zigZag((long) index) + 1);
+    }
+
+    private static Integer readNullableIndex(Input input) throws IOException {
+        long value = input.readVarLong();
+        return value == 0 ? null : Math.toIntExact(unZigZag(value - 1));
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /** Encodes {@link Num} columns for one {@link NumFactory}. */
+    private static final class NumCodec {
+
+        private final NumFactory factory;
+        private final MathContext mathContext;
+
+        private NumCodec(NumFactory factory, MathContext mathContext) {
+            this.factory = factory;
+            this.mathContext = mathContext;
+        }
+
+        static NumCodec of(NumFactory factory) {
+            Num one = factory.one();
+            if (one instanceof DoubleNum) {
+                return new NumCodec(factory, null);
+            }
+            if (one instanceof DecimalNum decimal) {
+                return new NumCodec(factory, decimal.getMathContext());
+            }
+            throw new IllegalArgumentException("Unsupported number factory: " + factory.getClass().getName() + ".");
+        }
+
+        void writeHeader(Output output) throws IOException {
+            if (mathContext == null) {
+                output.writeByte(FACTORY_DOUBLE);
+            } else {
+                output.writeByte(FACTORY_DECIMAL);
+                output.writeVarInt(mathContext.getPrecision());
+                output.writeByte(mathContext.getRoundingMode().ordinal());
+            }
+        }
+
+        static NumCodec readHeader(Input input) throws IOException {
+            int type = input.readByte() & 0xFF;
+            switch (type) {
+            case FACTORY_NONE:
+                return null;
+            case FACTORY_DOUBLE:
+                return new NumCodec(DoubleNumFactory.getInstance(), null);
+            case FACTORY_DECIMAL:
+                int precision = input.readVarInt();
+                RoundingMode roundingMode = ROUNDING_MODES[input.readOrdinal(ROUNDING_MODES.length)];
+                MathContext mathContext = new MathContext(precision, roundingMode);
+                return new NumCodec(DecimalNumFactory.getInstance(mathContext), mathContext);
+            default:
+                throw new StreamCorruptedException("Unknown number factory type: " + type);
+            }
+        }
+
+        void writeColumn(Output output, Num[] values, int count) throws IOException {
+            boolean special = false;
+            for (int i = 0; i < count && !special; i++) {
+                special = status(values[i]) != VALUE_PRESENT;
+            }
+            output.writeByte(special ? HAS_SPECIAL_VALUES : 0);
+            if (special) {
+                for (int i = 0; i < count; i++) {
+                    output.writeByte(status(values[i]));
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                Num value = values[i];
+                if (special && status(value) != VALUE_PRESENT) {
+                    continue;
+                }
+                if (mathContext == null) {
+                    output.writeLong(Double.doubleToRawLongBits(value.doubleValue()));
+                } else {
+                    writeDecimal(output, value.bigDecimalValue());
+                }
+            }
+        }
+
+        private static int status(Num value) {
+            return value == null ? VALUE_NULL : value instanceof NaN ? VALUE_NAN : VALUE_PRESENT;
+        }
+
+        private static void writeDecimal(Output output, BigDecimal value) throws IOException {
+            BigInteger unscaled = value.unscaledValue();
+            boolean big = unscaled.bitLength() > 62;
+            output.writeVarLong((zigZag((long) value.scale()) << 1) | (big ? 1 : 0));
+            if (big) {
+                byte[] bytes = unscaled.toByteArray();
+                output.writeVarInt(bytes.length);
+                output.write(bytes);
+            } else {
+                output.writeVarLong(zigZag(unscaled.longValue()));
+            }
+        }
+
+        Num[] readColumn(Input input, int count) throws IOException {
+            int flags = input.readByte() & 0xFF;
+            if ((flags & ~HAS_SPECIAL_VALUES) != 0) {
+                throw new StreamCorruptedException("Unknown column flags: " + flags);
+            }
+            byte[] statuses = null;
+            if (flags == HAS_SPECIAL_VALUES) {
+                statuses = new byte[count];
+                for (int i = 0; i < count; i++) {
+                    statuses[i] = (byte) input.readOrdinal(3);
+                }
+            }
+            Num[] values = new Num[count];
+            for (int i = 0; i < count; i++) {
+                int status = statuses == null ? VALUE_PRESENT : statuses[i];
+                if (status == VALUE_NAN) {
+                    values[i] = NaN.NaN;
+                } else if (status == VALUE_PRESENT) {
+                    values[i] = mathContext == null ? DoubleNum.valueOf(Double.longBitsToDouble(input.readLong()))
+                            : DecimalNum.valueOf(readDecimal(input), mathContext);
+                }
+            }
+            return values;
+        }
+
+        private static BigDecimal readDecimal(Input input) throws IOException {
+            long header = input.readVarLong();
+            int scale = Math.toIntExact(unZigZag(header >>> 1));
+            if ((header & 1) == 0) {
+                return BigDecimal.valueOf(unZigZag(input.readVarLong()), scale);
+            }
+            int length = input.readVarInt();
+            if (length <= 0 || length > 1 << 20) {
+                throw new StreamCorruptedException("Invalid decimal length: " + length);
+            }
+            return new BigDecimal(new BigInteger(input.readBytes(length)), scale);
+        }
+    }
+
+    /** Unsynchronized buffered writer with variable-length integers. */
+    private static final class Output {
+
+        private final OutputStream out;
+        private final byte[] buffer = new byte[1 << 16];
+        private int position;
+
+        private Output(OutputStream out) {
+            this.out = out;
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (position + bytes > buffer.length) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        void writeByte(int value) throws IOException {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeLong(long value) throws IOException {
+            ensure(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarInt(int value) throws IOException {
+            writeVarLong(value & 0xFFFF_FFFFL);
+        }
+
+        void writeVarLong(long value) throws IOException {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void write(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.length - position) {
+                out.write(buffer, 0, position);
+                position = 0;
+                out.write(bytes);
+                return;
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            write(bytes);
+        }
+
+        void flush() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+            out.flush();
+        }
+    }
+
+    /**
+     * Unsynchronized reader with variable-length integers. It reads the underlying
+     * stream one byte at a time when it is not buffered, so that exactly the
+     * encoded bytes are consumed; wrap streams in a
+     * {@link java.io.BufferedInputStream} for throughput.
+     */
+    private static final class Input {
+
+        private final InputStream in;
+        private final byte[] scratch = new byte[Long.BYTES];
+
+        private Input(InputStream in) {
+            this.in = in;
+        }
+
+        byte readByte() throws IOException {
+            int value = in.read();
+            if (value < 0) {
+                throw new EOFException();
+            }
+            return (byte) value;
+        }
+
+        int readOrdinal(int bound) throws IOException {
+            int value = readByte() & 0xFF;
+            if (value >= bound) {
+                throw new StreamCorruptedException("Invalid ordinal: " + value);
+            }
+            return value;
+        }
+
+        private void readFully(byte[] bytes, int length) throws IOException {
+            int read = 0;
+            while (read < length) {
+                int count = in.read(bytes, read, length - read);
+                if (count < 0) {
+                    throw new EOFException();
+                }
+                read += count;
+            }
+        }
+
+        int readInt() throws IOException {
+            readFully(scratch, Integer.BYTES);
+            return ((scratch[0] & 0xFF) << 24) | ((scratch[1] & 0xFF) << 16) | ((scratch[2] & 0xFF) << 8)
+                    | (scratch[3] & 0xFF);
+        }
+
+        long readLong() throws IOException {
+            readFully(scratch, Long.BYTES);
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (scratch[i] & 0xFF);
+            }
+            return value;
+        }
+
+        int readVarInt() throws IOException {
+            long value = readVarLong();
+            if ((value & ~0xFFFF_FFFFL) != 0) {
+                throw new StreamCorruptedException("Variable-length int out of range");
+            }
+            return (int) value;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte() & 0xFF;
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new StreamCorruptedException("Variable-length long too long");
+        }
+
+        byte[] readBytes(int length) throws IOException {
+            byte[] bytes = new byte[length];
+            readFully(bytes, length);
+            return bytes;
+        }
+
+        String readString() throws IOException {
+            int length = readVarInt();
+            if (length == 0) {
+                return null;
+            }
+            if (length < 0 || length > 1 << 24) {
+                throw new StreamCorruptedException("Invalid string length: " + length);
+            }
+            return new String(readBytes(length - 1), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+/**
+ * Binary storage for bar series.
+ *
+ * <p>
+ * {@link org.ta4j.core.storage.BinaryBarSeriesWriter BinaryBarSeriesWriter}
+ * stores a series in a versioned columnar file and
+ * {@link org.ta4j.core.storage.MappedBarSeries MappedBarSeries} maps it back as
+ * a read-only {@link org.ta4j.core.BarSeries BarSeries} without parsing, which
+ * keeps loading long histories independent of their length.
+ * </p>
+ *
+ * <p>
+ * {@link org.ta4j.core.storage.SeriesExternalization SeriesExternalization}
+ * writes series and trading records to streams in a compact, lossless columnar
+ * encoding for checkpoints and for transfer between JVMs, as a faster and
+ * smaller alternative to Java serialization.
+ * </p>
+ */
+package org.ta4j.core.storage;
@@ -852,6 +852,37 @@ class BaseTradingRecordTest {
         }
     }
 
+    @Test
+    void closedPositionsKeepRecordedFeesAfterSerializationAndRehydration() throws Exception {
+        BaseTradingRecord record = new BaseTradingRecord(TradeType.BUY, ExecutionMatchPolicy.FIFO, new ZeroCostModel(),
+                new ZeroCostModel(), null, null);
+        record.operate(new BaseTrade(0, Instant.parse("2025-01-01T00:00:00Z"), numFactory.hundred(), numFactory.one(),
+                numFactory.numOf(0.1), ExecutionSide.BUY, null, null));
+        record.operate(new BaseTrade(1, Instant.parse("2025-01-01T00:00:01Z"), numFactory.numOf(110), numFactory.one(),
+                numFactory.numOf(0.05), ExecutionSide.SELL, null, null));
+        Position original = record.getPositions().getFirst();
+        assertEquals(numFactory.numOf(0.15), original.getPositionCost());
+
+        byte[] data;
+        try (var output = new ByteArrayOutputStream(); var objectOutput = new ObjectOutputStream(output)) {
+            objectOutput.writeObject(record);
+            objectOutput.flush();
+            data = output.toByteArray();
+        }
+
+        try (var input = new ByteArrayInputStream(data); var objectInput = new ObjectInputStream(input)) {
+            BaseTradingRecord deserialized = (BaseTradingRecord) objectInput.readObject();
+            Position closed = deserialized.getPositions().getFirst();
+            assertEquals(original.getPositionCost(), closed.getPositionCost());
+            assertEquals(original.getProfit(), closed.getProfit());
+
+            deserialized.rehydrate(new FixedTransactionCostModel(1), new ZeroCostModel());
+            Position rehydrated = deserialized.getPositions().getFirst();
+            assertEquals(original.getPositionCost(), rehydrated.getPositionCost());
+            assertEquals(original.getProfit(), rehydrated.getProfit());
+        }
+    }
+
     @Test
     void tradeFillIndexIsAppliedConsistentlyWithLiveFill() {
         BaseTradingRecord liveFillRecord = new BaseTradingRecord();
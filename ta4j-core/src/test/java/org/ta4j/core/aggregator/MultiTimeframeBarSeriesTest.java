@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.aggregator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class MultiTimeframeBarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    public MultiTimeframeBarSeriesTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @Test
+    public void mapsBaseIndicesToLastCompletedAggregatedBar() {
+        BarSeries base = minuteSeries(10);
+        MultiTimeframeBarSeries.Timeframe threeMinutes = new MultiTimeframeBarSeries(base)
+                .addTimeframe(Duration.ofMinutes(3));
+
+        assertEquals(3, threeMinutes.getSeries().getBarCount());
+        int[] expected = { -1, -1, 0, 0, 0, 1, 1, 1, 2, 2 };
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("base index " + i, expected[i], threeMinutes.getIndex(i));
+        }
+    }
+
+    @Test
+    public void higherTimeframeIndicatorHasNoLookAhead() {
+        BarSeries base = minuteSeries(10);
+        MultiTimeframeBarSeries.Timeframe threeMinutes = new MultiTimeframeBarSeries(base)
+                .addTimeframe(Duration.ofMinutes(3));
+        Indicator<Num> close = threeMinutes.toBaseTimeframe(new ClosePriceIndicator(threeMinutes.getSeries()));
+
+        assertTrue(close.getValue(0).isNaN());
+        assertTrue(close.getValue(1).isNaN());
+        // the first three-minute bar closes with base bar 2
+        assertNumEquals(base.getBar(2).getClosePrice(), close.getValue(2));
+        assertNumEquals(base.getBar(2).getClosePrice(), close.getValue(4));
+        assertNumEquals(base.getBar(5).getClosePrice(), close.getValue(5));
+        assertEquals(2, close.getCountOfUnstableBars());
+    }
+
+    @Test
+    public void appendsCompletedBarsWhenBaseSeriesGrows() {
+        BarSeries base = minuteSeries(10);
+        MultiTimeframeBarSeries.Timeframe threeMinutes = new MultiTimeframeBarSeries(base)
+                .addTimeframe(Duration.ofMinutes(3));
+        BarSeries aggregated = threeMinutes.getSeries();
+
+        addMinuteBar(base, 10);
+        assertEquals(2, threeMinutes.getIndex(10));
+        assertEquals(3, aggregated.getBarCount());
+
+        addMinuteBar(base, 11);
+        assertEquals(3, threeMinutes.getIndex(11));
+        assertSame(aggregated, threeMinutes.getSeries());
+        assertEquals(4, aggregated.getBarCount());
+        assertNumEquals(base.getBar(9).getOpenPrice(), aggregated.getBar(3).getOpenPrice());
+        assertNumEquals(base.getBar(11).getClosePrice(), aggregated.getBar(3).getClosePrice());
+    }
+
+    @Test
+    public void rebuildsWhenBaseBarsAreReplaced() {
+        BarSeries base = minuteSeries(6);
+        MultiTimeframeBarSeries.Timeframe threeMinutes = new MultiTimeframeBarSeries(base)
+                .addTimeframe(Duration.ofMinutes(3));
+        assertNumEquals(base.getBar(5).getClosePrice(), threeMinutes.getSeries().getBar(1).getClosePrice());
+
+        base.addBar(base.barBuilder()
+                .timePeriod(Duration.ofMinutes(1))
+                .endTime(START.plus(Duration.ofMinutes(6)))
+                .openPrice(50d)
+                .highPrice(60d)
+                .lowPrice(40d)
+                .closePrice(42d)
+                .volume(1d)
+                .build(), true);
+
+        assertEquals(1, threeMinutes.getIndex(5));
+        assertNumEquals(42d, threeMinutes.getSeries().getBar(1).getClosePrice());
+        assertNumEquals(40d, threeMinutes.getSeries().getBar(1).getLowPrice());
+    }
+
+    @Test
+    public void streamsTradesIntoTheFormingBarWithoutRebuilding() {
+        BarSeries base = minuteSeries(6);
+        MultiTimeframeBarSeries.Timeframe threeMinutes = new MultiTimeframeBarSeries(base)
+                .addTimeframe(Duration.ofMinutes(3));
+        BarSeries aggregated = threeMinutes.getSeries();
+        Indicator<Num> close = threeMinutes.toBaseTimeframe(new ClosePriceIndicator(aggregated));
+        Bar firstAggregatedBar = aggregated.getBar(0);
+        assertNumEquals(105d, close.getValue(5));
+
+        // base bar 5 completes the second three-minute bar but is still forming
+        base.addTrade(2d, 107d);
+        assertNumEquals(107d, close.getValue(5));
+        base.addTrade(3d, 90d);
+        assertNumEquals(90d, close.getValue(5));
+        assertNumEquals(90d, aggregated.getBar(1).getLowPrice());
+        assertNumEquals(35d, aggregated.getBar(1).getVolume());
+        assertEquals(2, aggregated.getBarCount());
+        assertSame(firstAggregatedBar, aggregated.getBar(0));
+
+        // trades on a forming bar that is not aggregated yet leave the series alone
+        addMinuteBar(base, 6);
+        assertEquals(1, threeMinutes.getIndex(6));
+        Bar secondAggregatedBar = aggregated.getBar(1);
+        base.addTrade(1d, 200d);
+        assertEquals(1, threeMinutes.getIndex(6));
+        assertEquals(2, aggregated.getBarCount());
+        assertSame(secondAggregatedBar, aggregated.getBar(1));
+
+        addMinuteBar(base, 7);
+        addMinuteBar(base, 8);
+        assertEquals(2, threeMinutes.getIndex(8));
+        assertNumEquals(200d, aggregated.getBar(2).getHighPrice());
+        assertSame(firstAggregatedBar, aggregated.getBar(0));
+    }
+
+    @Test
+    public void rebuildsWhenEarlierBaseBarsAreReplaced() {
+        BaseBarSeries base = (BaseBarSeries) minuteSeries(6);
+        MultiTimeframeBarSeries.Timeframe threeMinutes = new MultiTimeframeBarSeries(base)
+                .addTimeframe(Duration.ofMinutes(3));
+        assertNumEquals(99d, threeMinutes.getSeries().getBar(0).getLowPrice());
+
+        base.replaceBar(1, base.barBuilder()
+                .timePeriod(Duration.ofMinutes(1))
+                .endTime(START.plus(Duration.ofMinutes(2)))
+                .openPrice(100d)
+                .highPrice(101d)
+                .lowPrice(10d)
+                .closePrice(100d)
+                .volume(1d)
+                .build());
+
+        assertEquals(1, threeMinutes.getIndex(5));
+        assertNumEquals(10d, threeMinutes.getSeries().getBar(0).getLowPrice());
+        assertNumEquals(base.getBar(5).getClosePrice(), threeMinutes.getSeries().getBar(1).getClosePrice());
+    }
+
+    @Test
+    public void followsBaseSeriesThatEvictsBars() {
+        BarSeries base = minuteSeries(6);
+        MultiTimeframeBarSeries.Timeframe threeMinutes = new MultiTimeframeBarSeries(base)
+                .addTimeframe(Duration.ofMinutes(3));
+        Indicator<Num> close = threeMinutes.toBaseTimeframe(new ClosePriceIndicator(threeMinutes.getSeries()));
+        base.setMaximumBarCount(4);
+
+        for (int minute = 6; minute < 60; minute++) {
+            addMinuteBar(base, minute);
+            base.addTrade(1d, 500d + minute);
+            assertEquals(minute - 3, base.getBeginIndex());
+            for (int i = base.getBeginIndex(); i <= minute; i++) {
+                int expected = (i + 1) / 3 - 1;
+                assertEquals("base index " + i + " after minute " + minute, expected, threeMinutes.getIndex(i));
+            }
+            if ((minute + 1) % 3 == 0) {
+                assertNumEquals(500d + minute, close.getValue(minute));
+            }
+        }
+    }
+
+    @Test
+    public void startsEmptyAndFollowsBaseSeries() {
+        BarSeries base = minuteSeries(0);
+        MultiTimeframeBarSeries.Timeframe twoMinutes = new MultiTimeframeBarSeries(base)
+                .addTimeframe(Duration.ofMinutes(2));
+
+        assertTrue(twoMinutes.getSeries().isEmpty());
+        addMinuteBar(base, 0);
+        addMinuteBar(base, 1);
+
+        assertEquals(0, twoMinutes.getIndex(1));
+        assertEquals(numFactory, twoMinutes.getSeries().numFactory());
+    }
+
+    @Test
+    public void rejectsIndicesOutsideBaseSeries() {
+        MultiTimeframeBarSeries.Timeframe threeMinutes = new MultiTimeframeBarSeries(minuteSeries(3))
+                .addTimeframe(Duration.ofMinutes(3));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> threeMinutes.getIndex(3));
+    }
+
+    private BarSeries minuteSeries(int barCount) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).withName("base").build();
+        for (int i = 0; i < barCount; i++) {
+            addMinuteBar(series, i);
+        }
+        return series;
+    }
+
+    private static void addMinuteBar(BarSeries series, int minute) {
+        double close = 100d + minute;
+        series.barBuilder()
+                .timePeriod(Duration.ofMinutes(1))
+                .endTime(START.plus(Duration.ofMinutes(minute + 1L)))
+                .openPrice(close - 0.5d)
+                .highPrice(close + 1d)
+                .lowPrice(close - 1d)
+                .closePrice(close)
+                .volume(10d)
+                .add();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.aggregator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class ParallelBarSeriesAggregatorTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    public ParallelBarSeriesAggregatorTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @After
+    public void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void chunkedAggregationMatchesSequentialAggregation() {
+        BarSeries source = minuteSeriesWithGaps(1_000);
+
+        for (Duration period : List.of(Duration.ofMinutes(5), Duration.ofMinutes(7), Duration.ofMinutes(60))) {
+            for (boolean onlyFinalBars : new boolean[] { true, false }) {
+                DurationBarAggregator barAggregator = new DurationBarAggregator(period, onlyFinalBars);
+                List<Bar> expected = barAggregator.aggregate(source.getBarData());
+
+                List<Bar> actual = new ParallelBarSeriesAggregator(barAggregator, pool, 50)
+                        .aggregate(source.getBarData());
+
+                assertSameBars(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void smallInputsAreAggregatedSequentially() {
+        BarSeries source = minuteSeriesWithGaps(30);
+        DurationBarAggregator barAggregator = new DurationBarAggregator(Duration.ofMinutes(5));
+
+        BarSeries aggregated = new ParallelBarSeriesAggregator(barAggregator, pool, 50).aggregate(source, "5m");
+
+        assertEquals("5m", aggregated.getName());
+        assertSameBars(barAggregator.aggregate(source.getBarData()), aggregated.getBarData());
+    }
+
+    @Test
+    public void aggregateAllKeepsInputOrder() {
+        BarSeries first = minuteSeriesWithGaps(400);
+        BarSeries second = minuteSeriesWithGaps(250);
+        DurationBarAggregator barAggregator = new DurationBarAggregator(Duration.ofMinutes(15));
+
+        List<BarSeries> aggregated = new ParallelBarSeriesAggregator(barAggregator, pool, 40)
+                .aggregateAll(List.of(first, second));
+
+        assertEquals(2, aggregated.size());
+        assertSameBars(barAggregator.aggregate(first.getBarData()), aggregated.get(0).getBarData());
+        assertSameBars(barAggregator.aggregate(second.getBarData()), aggregated.get(1).getBarData());
+    }
+
+    @Test
+    public void rejectsNonPositiveChunkSize() {
+        DurationBarAggregator barAggregator = new DurationBarAggregator(Duration.ofMinutes(5));
+
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBarSeriesAggregator(barAggregator, pool, 0));
+    }
+
+    private BarSeries minuteSeriesWithGaps(int barCount) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).withName("minutes").build();
+        long minute = 0;
+        for (int i = 0; i < barCount; i++) {
+            // irregular gaps shift the aggregation windows away from a fixed grid
+            if (i % 97 == 96) {
+                minute += 3;
+            }
+            minute++;
+            double close = 100d + Math.sin(i / 10d) * 5d;
+            series.barBuilder()
+                    .timePeriod(Duration.ofMinutes(1))
+                    .endTime(START.plus(Duration.ofMinutes(minute)))
+                    .openPrice(close - 0.25d)
+                    .highPrice(close + 1d)
+                    .lowPrice(close - 1d)
+                    .closePrice(close)
+                    .volume(10d + (i % 7))
+                    .amount(close * 10d)
+                    .trades(3)
+                    .add();
+        }
+        return series;
+    }
+
+    private static void assertSameBars(List<Bar> expected, List<Bar> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Bar expectedBar = expected.get(i);
+            Bar actualBar = actual.get(i);
+            assertEquals(expectedBar.getEndTime(), actualBar.getEndTime());
+            assertNumEquals(expectedBar.getOpenPrice(), actualBar.getOpenPrice());
+            assertNumEquals(expectedBar.getHighPrice(), actualBar.getHighPrice());
+            assertNumEquals(expectedBar.getLowPrice(), actualBar.getLowPrice());
+            assertNumEquals(expectedBar.getClosePrice(), actualBar.getClosePrice());
+            assertNumEquals(expectedBar.getVolume(), actualBar.getVolume());
+            assertNumEquals(expectedBar.getAmount(), actualBar.getAmount());
+            assertEquals(expectedBar.getTrades(), actualBar.getTrades());
+        }
+    }
+}
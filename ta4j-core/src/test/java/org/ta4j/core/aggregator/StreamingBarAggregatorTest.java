@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.aggregator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class StreamingBarAggregatorTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    public StreamingBarAggregatorTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @Test
+    public void durationStreamingMatchesBatchAggregation() {
+        List<Bar> bars = AggregatorTestFixtures.volatileBars(numFactory);
+        DurationBarAggregator aggregator = new DurationBarAggregator(Duration.ofMinutes(2));
+
+        assertStreamingMatchesBatch(aggregator.aggregate(bars), aggregator.streaming(newTargetSeries()), bars);
+    }
+
+    @Test
+    public void volumeStreamingMatchesBatchAggregation() {
+        List<Bar> bars = AggregatorTestFixtures.volatileBars(numFactory);
+        VolumeBarAggregator aggregator = new VolumeBarAggregator(100d);
+
+        assertStreamingMatchesBatch(aggregator.aggregate(bars), aggregator.streaming(newTargetSeries()), bars);
+    }
+
+    @Test
+    public void rangeStreamingMatchesBatchAggregation() {
+        List<Bar> bars = AggregatorTestFixtures.trendingBars(numFactory);
+        RangeBarAggregator aggregator = new RangeBarAggregator(5d);
+
+        assertStreamingMatchesBatch(aggregator.aggregate(bars), aggregator.streaming(newTargetSeries()), bars);
+    }
+
+    @Test
+    public void renkoStreamingMatchesBatchAggregation() {
+        List<Bar> bars = AggregatorTestFixtures.barsFromClosePrices(numFactory, 100d, 103d, 101d, 97d, 95d, 99d, 104d,
+                106d);
+        RenkoBarAggregator aggregator = new RenkoBarAggregator(2d, 2);
+
+        assertStreamingMatchesBatch(aggregator.aggregate(bars), aggregator.streaming(newTargetSeries()), bars);
+    }
+
+    @Test
+    public void heikinAshiStreamingMatchesBatchAggregation() {
+        List<Bar> bars = AggregatorTestFixtures.volatileBars(numFactory);
+        HeikinAshiBarAggregator aggregator = new HeikinAshiBarAggregator();
+
+        assertStreamingMatchesBatch(aggregator.aggregate(bars), aggregator.streaming(newTargetSeries()), bars);
+    }
+
+    @Test
+    public void pendingBarIsReplacedUntilComplete() {
+        List<Bar> bars = AggregatorTestFixtures.flatBars(numFactory);
+        BarSeries target = newTargetSeries();
+        StreamingBarAggregator aggregator = new VolumeBarAggregator(60d, false).streaming(target);
+
+        aggregator.addBar(bars.get(0));
+        assertEquals(1, target.getBarCount());
+        assertNumEquals(20d, target.getLastBar().getVolume());
+
+        aggregator.addBar(bars.get(1));
+        assertEquals(1, target.getBarCount());
+        assertNumEquals(40d, target.getLastBar().getVolume());
+
+        aggregator.addBar(bars.get(2));
+        assertEquals(1, target.getBarCount());
+        assertNumEquals(60d, target.getLastBar().getVolume());
+
+        aggregator.addBar(bars.get(3));
+        assertEquals(2, target.getBarCount());
+        assertNumEquals(60d, target.getBar(0).getVolume());
+        assertNumEquals(20d, target.getLastBar().getVolume());
+    }
+
+    @Test
+    public void pendingDurationStreamingMatchesBatchAggregation() {
+        List<Bar> bars = AggregatorTestFixtures.trendingBars(numFactory);
+        DurationBarAggregator aggregator = new DurationBarAggregator(Duration.ofMinutes(4), false);
+
+        assertStreamingMatchesBatch(aggregator.aggregate(bars), aggregator.streaming(newTargetSeries()), bars);
+    }
+
+    @Test
+    public void streamingRejectsNonContiguousSourceBars() {
+        List<Bar> bars = AggregatorTestFixtures.unevenIntervalBars(numFactory);
+        StreamingBarAggregator aggregator = new VolumeBarAggregator(100d).streaming(newTargetSeries());
+        aggregator.addBar(bars.get(0));
+        aggregator.addBar(bars.get(1));
+
+        assertThrows(IllegalArgumentException.class, () -> aggregator.addBar(bars.get(2)));
+    }
+
+    @Test
+    public void fanOutDrivesEveryTimeframe() {
+        List<Bar> bars = AggregatorTestFixtures.trendingBars(numFactory);
+        StreamingBarAggregatorFanOut fanOut = StreamingBarAggregatorFanOut.ofDurations("fixture", numFactory,
+                Duration.ofMinutes(2), Duration.ofMinutes(3));
+
+        bars.forEach(fanOut::addBar);
+
+        assertEquals("fixture_PT2M", fanOut.getTargetSeries(0).getName());
+        assertEquals(3, fanOut.getTargetSeries(0).getBarCount());
+        assertEquals(2, fanOut.getTargetSeries(1).getBarCount());
+        assertNumEquals(100d, fanOut.getTargetSeries(1).getBar(0).getOpenPrice());
+        assertNumEquals(105d, fanOut.getTargetSeries(1).getBar(0).getClosePrice());
+        assertNumEquals(111d, fanOut.getTargetSeries(1).getBar(1).getClosePrice());
+    }
+
+    private BarSeries newTargetSeries() {
+        return new BaseBarSeriesBuilder().withNumFactory(numFactory).withName("streaming-target").build();
+    }
+
+    private static void assertStreamingMatchesBatch(List<Bar> expected, StreamingBarAggregator aggregator,
+            List<Bar> sourceBars) {
+        sourceBars.forEach(aggregator::addBar);
+
+        BarSeries target = aggregator.getTargetSeries();
+        assertEquals(expected.size(), target.getBarCount());
+        for (int i = 0; i < expected.size(); i++) {
+            Bar expectedBar = expected.get(i);
+            Bar actualBar = target.getBar(i);
+            assertEquals(expectedBar.getBeginTime(), actualBar.getBeginTime());
+            assertEquals(expectedBar.getEndTime(), actualBar.getEndTime());
+            assertNumEquals(expectedBar.getOpenPrice(), actualBar.getOpenPrice());
+            assertNumEquals(expectedBar.getHighPrice(), actualBar.getHighPrice());
+            assertNumEquals(expectedBar.getLowPrice(), actualBar.getLowPrice());
+            assertNumEquals(expectedBar.getClosePrice(), actualBar.getClosePrice());
+            assertNumEquals(expectedBar.getVolume(), actualBar.getVolume());
+            assertNumEquals(expectedBar.getAmount(), actualBar.getAmount());
+            assertEquals(expectedBar.getTrades(), actualBar.getTrades());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.bars;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarBuilder;
+import org.ta4j.core.BarBuilderFactory;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.RealtimeBar;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.NumFactory;
+
+public class PrimitiveTradeAccumulationTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final int TRADE_COUNT = 250;
+
+    private final NumFactory numFactory = DoubleNumFactory.getInstance();
+
+    @Test
+    public void tickBarsMatchNumAccumulation() {
+        assertSameBars(new TickBarBuilderFactory(5, true), new TickBarBuilderFactory(5, true, true));
+    }
+
+    @Test
+    public void volumeBarsMatchNumAccumulation() {
+        assertSameBars(new VolumeBarBuilderFactory(10, true, RemainderCarryOverPolicy.NONE),
+                new VolumeBarBuilderFactory(10, true, RemainderCarryOverPolicy.NONE, true));
+        assertSameBars(new VolumeBarBuilderFactory(10, true, RemainderCarryOverPolicy.PROPORTIONAL_WITH_TRADE_COUNT),
+                new VolumeBarBuilderFactory(10, true, RemainderCarryOverPolicy.PROPORTIONAL_WITH_TRADE_COUNT, true));
+    }
+
+    @Test
+    public void amountBarsMatchNumAccumulation() {
+        assertSameBars(new AmountBarBuilderFactory(1000, true, true, RemainderCarryOverPolicy.PROPORTIONAL),
+                new AmountBarBuilderFactory(1000, true, true, RemainderCarryOverPolicy.PROPORTIONAL, true));
+        assertSameBars(new AmountBarBuilderFactory(1000, false, true, RemainderCarryOverPolicy.NONE),
+                new AmountBarBuilderFactory(1000, false, true, RemainderCarryOverPolicy.NONE, true));
+    }
+
+    @Test
+    public void timeBarsMatchNumAccumulation() {
+        assertSameBars(new TimeBarBuilderFactory(Duration.ofMinutes(1), true),
+                new TimeBarBuilderFactory(Duration.ofMinutes(1), true, true));
+    }
+
+    @Test
+    public void primitiveTimeBarTradesPublishTheFormingBarLikeNumTrades() {
+        final BarSeries expected = new BaseBarSeriesBuilder().withNumFactory(numFactory)
+                .withBarBuilderFactory(new TimeBarBuilderFactory(Duration.ofMinutes(1), false))
+                .build();
+        final BarSeries actual = new BaseBarSeriesBuilder().withNumFactory(numFactory)
+                .withBarBuilderFactory(new TimeBarBuilderFactory(Duration.ofMinutes(1), false, true))
+                .build();
+        final var numBuilder = (TimeBarBuilder) expected.barBuilder();
+        final var primitiveBuilder = (TimeBarBuilder) actual.barBuilder();
+
+        final long[] seconds = { 5, 20, 40, 65, 70, 200 };
+        final double[] volumes = { 1, 2, 1, 1, 0.5, 3 };
+        final double[] prices = { 100, 102, 99, 101, 103, 98 };
+        for (int i = 0; i < seconds.length; i++) {
+            final Instant time = START.plusSeconds(seconds[i]);
+            numBuilder.addTrade(time, numFactory.numOf(volumes[i]), numFactory.numOf(prices[i]));
+            primitiveBuilder.addTrade(time, volumes[i], prices[i]);
+
+            assertEquals(expected.getBarCount(), actual.getBarCount());
+            final Bar expectedBar = expected.getLastBar();
+            final Bar actualBar = actual.getLastBar();
+            assertEquals(expectedBar.getEndTime(), actualBar.getEndTime());
+            assertEquals(expectedBar.getOpenPrice(), actualBar.getOpenPrice());
+            assertEquals(expectedBar.getHighPrice(), actualBar.getHighPrice());
+            assertEquals(expectedBar.getLowPrice(), actualBar.getLowPrice());
+            assertEquals(expectedBar.getClosePrice(), actualBar.getClosePrice());
+            assertEquals(expectedBar.getVolume(), actualBar.getVolume());
+            assertEquals(expectedBar.getAmount(), actualBar.getAmount());
+            assertEquals(expectedBar.getTrades(), actualBar.getTrades());
+        }
+        assertEquals(3, actual.getBarCount());
+        final Bar first = actual.getBar(0);
+        assertNumEquals(100, first.getOpenPrice());
+        assertNumEquals(102, first.getHighPrice());
+        assertNumEquals(99, first.getLowPrice());
+        assertNumEquals(99, first.getClosePrice());
+        assertNumEquals(4, first.getVolume());
+        assertNumEquals(403, first.getAmount());
+        assertEquals(3, first.getTrades());
+    }
+
+    @Test
+    public void numSettersContinueThePrimitiveBar() {
+        final BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory)
+                .withBarBuilderFactory(new TickBarBuilderFactory(3, false, true))
+                .build();
+        final var builder = (TickBarBuilder) series.barBuilder();
+
+        builder.addTrade(START, 1d, 10d);
+        builder.addTrade(START.plusSeconds(1), 2d, 12d);
+        builder.closePrice(numFactory.numOf(9)).volume(numFactory.numOf(3)).trades(1);
+        builder.add();
+
+        assertEquals(1, series.getBarCount());
+        final Bar bar = series.getBar(0);
+        assertNumEquals(10, bar.getOpenPrice());
+        assertNumEquals(12, bar.getHighPrice());
+        assertNumEquals(9, bar.getLowPrice());
+        assertNumEquals(9, bar.getClosePrice());
+        assertNumEquals(6, bar.getVolume());
+        assertEquals(3, bar.getTrades());
+    }
+
+    private void assertSameBars(BarBuilderFactory numFactoryBuilders, BarBuilderFactory primitiveFactoryBuilders) {
+        final BarSeries expected = feedTrades(numFactoryBuilders, false);
+        final BarSeries actual = feedTrades(primitiveFactoryBuilders, true);
+
+        assertTrue(expected.getBarCount() > 1);
+        assertEquals(expected.getBarCount(), actual.getBarCount());
+        for (int i = expected.getBeginIndex(); i <= expected.getEndIndex(); i++) {
+            final var expectedBar = (RealtimeBar) expected.getBar(i);
+            final var actualBar = (RealtimeBar) actual.getBar(i);
+            assertEquals(expectedBar.getBeginTime(), actualBar.getBeginTime());
+            assertEquals(expectedBar.getEndTime(), actualBar.getEndTime());
+            assertEquals(expectedBar.getOpenPrice(), actualBar.getOpenPrice());
+            assertEquals(expectedBar.getHighPrice(), actualBar.getHighPrice());
+            assertEquals(expectedBar.getLowPrice(), actualBar.getLowPrice());
+            assertEquals(expectedBar.getClosePrice(), actualBar.getClosePrice());
+            assertEquals(expectedBar.getVolume(), actualBar.getVolume());
+            assertEquals(expectedBar.getAmount(), actualBar.getAmount());
+            assertEquals(expectedBar.getTrades(), actualBar.getTrades());
+            assertEquals(expectedBar.getBuyVolume(), actualBar.getBuyVolume());
+            assertEquals(expectedBar.getSellAmount(), actualBar.getSellAmount());
+            assertEquals(expectedBar.getBuyTrades(), actualBar.getBuyTrades());
+            assertEquals(expectedBar.getMakerAmount(), actualBar.getMakerAmount());
+            assertEquals(expectedBar.getTakerVolume(), actualBar.getTakerVolume());
+            assertEquals(expectedBar.getTakerTrades(), actualBar.getTakerTrades());
+        }
+    }
+
+    private BarSeries feedTrades(BarBuilderFactory barBuilderFactory, boolean primitiveAccumulation) {
+        final BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory)
+                .withBarBuilderFactory(barBuilderFactory)
+                .build();
+        final BarBuilder builder = series.barBuilder();
+        for (int i = 0; i < TRADE_COUNT; i++) {
+            final Instant time = START.plusSeconds(7L * i);
+            final double volume = 0.5d + (i % 7) * 0.5d;
+            final double price = 100d + Math.sin(i / 9d) * 4d;
+            final var side = i % 3 == 0 ? RealtimeBar.Side.SELL : RealtimeBar.Side.BUY;
+            final var liquidity = i % 4 == 0 ? RealtimeBar.Liquidity.TAKER : RealtimeBar.Liquidity.MAKER;
+            builder.addTrade(time, numFactory.numOf(volume), numFactory.numOf(price), side, liquidity);
+        }
+        return series;
+    }
+}
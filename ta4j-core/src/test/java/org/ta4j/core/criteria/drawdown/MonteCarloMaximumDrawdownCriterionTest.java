@@ -3,11 +3,13 @@
  */
 package org.ta4j.core.criteria.drawdown;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.random.RandomGenerator;
 
 import org.junit.Assert;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 import org.junit.Test;
 import org.ta4j.core.BaseTradingRecord;
 import org.ta4j.core.ExecutionMatchPolicy;
@@ -252,6 +254,92 @@ public class MonteCarloMaximumDrawdownCriterionTest extends AbstractCriterionTes
         assertEquals(2, counter.get());
     }
 
+    @Test
+    public void splitStreamResultsDoNotDependOnParallelism() throws Exception {
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(1, 2, 3, 4, 3, 2, 4, 5, 6, 5)
+                .build();
+        var record = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(2, series), Trade.buyAt(3, series),
+                Trade.sellAt(4, series), Trade.buyAt(5, series), Trade.sellAt(7, series), Trade.buyAt(8, series),
+                Trade.sellAt(9, series));
+        var parallel = MonteCarloMaximumDrawdownCriterion.builder().iterations(5_000).seed(11L).build();
+        var sequential = MonteCarloMaximumDrawdownCriterion.builder()
+                .iterations(5_000)
+                .seed(11L)
+                .parallel(false)
+                .build();
+
+        var expected = sequential.calculate(series, record);
+        var pool = new ForkJoinPool(1);
+        try {
+            assertNumEquals(expected, pool.submit(() -> parallel.calculate(series, record)).get());
+        } finally {
+            pool.shutdown();
+        }
+        assertNumEquals(expected, parallel.calculate(series, record));
+    }
+
+    @Test
+    public void splitStreamAgreesWithSequentialEngine() {
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(1, 2, 3, 4, 3, 2, 4, 5, 6, 5)
+                .build();
+        var record = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(2, series), Trade.buyAt(3, series),
+                Trade.sellAt(4, series), Trade.buyAt(5, series), Trade.sellAt(7, series), Trade.buyAt(8, series),
+                Trade.sellAt(9, series));
+        for (var statistics : Statistics.values()) {
+            var exact = new MonteCarloMaximumDrawdownCriterion(10_000, null, 42L, statistics).calculate(series, record);
+            var primitive = MonteCarloMaximumDrawdownCriterion.builder()
+                    .statistics(statistics)
+                    .build()
+                    .calculate(series, record);
+            assertEquals(statistics.name(), exact.doubleValue(), primitive.doubleValue(), 0.02);
+        }
+    }
+
+    @Test
+    public void earlyStoppingEndsAfterFirstTightRound() {
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(1, 2, 3, 4, 3, 2, 4, 5, 6, 5)
+                .build();
+        var record = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(2, series), Trade.buyAt(3, series),
+                Trade.sellAt(4, series), Trade.buyAt(5, series), Trade.sellAt(7, series), Trade.buyAt(8, series),
+                Trade.sellAt(9, series));
+        int round = MonteCarloMaximumDrawdownCriterion.CHUNK_SIZE * MonteCarloMaximumDrawdownCriterion.CHUNKS_PER_ROUND;
+        for (var statistics : new Statistics[] { Statistics.MEDIAN, Statistics.P99, Statistics.MEAN }) {
+            var adaptive = MonteCarloMaximumDrawdownCriterion.builder()
+                    .statistics(statistics)
+                    .earlyStopping(1.0)
+                    .build();
+            var firstRound = MonteCarloMaximumDrawdownCriterion.builder()
+                    .statistics(statistics)
+                    .iterations(round)
+                    .build();
+            var tight = MonteCarloMaximumDrawdownCriterion.builder()
+                    .statistics(statistics)
+                    .earlyStopping(1e-9)
+                    .build();
+            var full = MonteCarloMaximumDrawdownCriterion.builder().statistics(statistics).build();
+
+            assertNumEquals(firstRound.calculate(series, record), adaptive.calculate(series, record));
+            assertNumEquals(full.calculate(series, record), tight.calculate(series, record));
+        }
+    }
+
+    @Test
+    public void builderRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MonteCarloMaximumDrawdownCriterion.builder().iterations(0).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> MonteCarloMaximumDrawdownCriterion.builder().pathBlocks(0).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> MonteCarloMaximumDrawdownCriterion.builder().earlyStopping(-0.1).build());
+        assertThrows(IllegalArgumentException.class, () -> MonteCarloMaximumDrawdownCriterion.builder()
+                .statistics(Statistics.MAX)
+                .earlyStopping(0.01)
+                .build());
+    }
+
     private BaseTradingRecord buildRecordWithOpenLot(org.ta4j.core.BarSeries series, boolean includeOpenLot) {
         var record = new BaseTradingRecord(Trade.TradeType.BUY, ExecutionMatchPolicy.SPECIFIC_ID, new ZeroCostModel(),
                 new ZeroCostModel(), null, null);
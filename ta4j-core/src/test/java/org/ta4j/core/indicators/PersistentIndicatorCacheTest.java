@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.MathContext;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+class PersistentIndicatorCacheTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void warmRestoresStoredValuesWithoutRecomputing() {
+        BarSeries series = series(DecimalNumFactory.getInstance(), 40);
+        PersistentIndicatorCache cache = new PersistentIndicatorCache(directory);
+        SMAIndicator stored = new SMAIndicator(new ClosePriceIndicator(series), 5);
+        assertEquals(40, cache.store(stored, IndicatorValueCodec.num()));
+
+        CountingSma warmed = new CountingSma(series, 5);
+        assertEquals(39, cache.warm(warmed, IndicatorValueCodec.num()));
+
+        for (int i = series.getBeginIndex(); i < series.getEndIndex(); i++) {
+            assertEquals(stored.getValue(i), warmed.getValue(i));
+        }
+        assertEquals(0, warmed.calculations);
+        warmed.getValue(series.getEndIndex());
+        assertEquals(1, warmed.calculations);
+    }
+
+    @Test
+    void appendedBarsReuseStoredPrefix() {
+        BarSeries series = series(DecimalNumFactory.getInstance(), 30);
+        PersistentIndicatorCache cache = new PersistentIndicatorCache(directory);
+        cache.store(new SMAIndicator(new ClosePriceIndicator(series), 5), IndicatorValueCodec.num());
+
+        addBar(series, 30);
+        CountingSma warmed = new CountingSma(series, 5);
+
+        assertEquals(30, cache.warm(warmed, IndicatorValueCodec.num()));
+    }
+
+    @Test
+    void replacedBarsMissAndInvalidateWarmedValues() {
+        BaseBarSeries series = series(DecimalNumFactory.getInstance(), 30);
+        PersistentIndicatorCache cache = new PersistentIndicatorCache(directory);
+        cache.store(new SMAIndicator(new ClosePriceIndicator(series), 5), IndicatorValueCodec.num());
+        CountingSma warmed = new CountingSma(series, 5);
+        assertEquals(29, cache.warm(warmed, IndicatorValueCodec.num()));
+
+        series.replaceBar(10, series.barBuilder()
+                .timePeriod(Duration.ofMinutes(1))
+                .endTime(START.plus(Duration.ofMinutes(10)))
+                .openPrice(1)
+                .highPrice(1000)
+                .lowPrice(1)
+                .closePrice(1000)
+                .volume(1)
+                .build());
+
+        assertEquals(0, cache.warm(warmed, IndicatorValueCodec.num()));
+        SMAIndicator fresh = new SMAIndicator(new ClosePriceIndicator(series), 5);
+        assertEquals(fresh.getValue(12), warmed.getValue(12));
+        assertTrue(warmed.calculations > 0);
+    }
+
+    @Test
+    void differentParametersOrNumTypesDoNotShareEntries() {
+        BarSeries decimalSeries = series(DecimalNumFactory.getInstance(), 20);
+        BarSeries doubleSeries = series(DoubleNumFactory.getInstance(), 20);
+        PersistentIndicatorCache cache = new PersistentIndicatorCache(directory);
+        cache.store(new SMAIndicator(new ClosePriceIndicator(decimalSeries), 5), IndicatorValueCodec.num());
+
+        assertEquals(0, cache.warm(new CountingSma(decimalSeries, 6), IndicatorValueCodec.num()));
+        assertEquals(0, cache.warm(new CountingSma(doubleSeries, 5), IndicatorValueCodec.num()));
+        assertEquals(0, cache.warm(new CountingSma(series(DecimalNumFactory.getInstance(8), 20), 5),
+                IndicatorValueCodec.num()));
+    }
+
+    @Test
+    void corruptEntriesAreDiscarded() throws IOException {
+        BarSeries series = series(DecimalNumFactory.getInstance(), 20);
+        PersistentIndicatorCache cache = new PersistentIndicatorCache(directory);
+        SMAIndicator indicator = new SMAIndicator(new ClosePriceIndicator(series), 5);
+        cache.store(indicator, IndicatorValueCodec.num());
+        Path file;
+        try (Stream<Path> files = Files.list(directory)) {
+            file = files.findFirst().orElseThrow();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertEquals(0, cache.warm(new CountingSma(series, 5), IndicatorValueCodec.num()));
+        assertFalse(Files.exists(file));
+        assertFalse(cache.invalidate(indicator, IndicatorValueCodec.num()));
+    }
+
+    @Test
+    void codecsRoundTripValues() throws IOException {
+        Num decimal = DecimalNum.valueOf("123.4567890123456789", new MathContext(40));
+        Num minusZero = DoubleNum.valueOf(-0.0d);
+        assertEquals(List.of(decimal, minusZero),
+                roundTrip(IndicatorValueCodec.num(), List.of(decimal, minusZero)));
+        assertEquals(40, ((DecimalNum) roundTrip(IndicatorValueCodec.num(), List.of(decimal)).get(0)).getMathContext()
+                .getPrecision());
+        assertEquals(NaN.NaN, roundTrip(IndicatorValueCodec.num(), List.of(NaN.NaN)).get(0));
+
+        Fit fit = new Fit(3, Status.CONVERGED, 0.25d, DoubleNum.valueOf(2), null);
+        Fit nested = new Fit(-1, null, Double.NaN, NaN.NaN, new Inner("x", 'y'));
+        assertEquals(List.of(fit, nested), roundTrip(IndicatorValueCodec.record(Fit.class), List.of(fit, nested)));
+        assertEquals(List.of(7, -7), roundTrip(IndicatorValueCodec.integer(), List.of(7, -7)));
+    }
+
+    private static <T> List<T> roundTrip(IndicatorValueCodec<T> codec, List<T> values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (T value : values) {
+            codec.write(out, value);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        List<T> restored = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            restored.add(codec.read(in));
+        }
+        assertEquals(-1, in.read());
+        return restored;
+    }
+
+    private static BaseBarSeries series(NumFactory numFactory, int barCount) {
+        BaseBarSeries series = (BaseBarSeries) new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+        for (int i = 0; i < barCount; i++) {
+            addBar(series, i);
+        }
+        return series;
+    }
+
+    private static void addBar(BarSeries series, int minute) {
+        double close = 100 + Math.sin(minute / 3d) * 5;
+        series.barBuilder()
+                .timePeriod(Duration.ofMinutes(1))
+                .endTime(START.plus(Duration.ofMinutes(minute)))
+                .openPrice(close - 0.5d)
+                .highPrice(close + 1d)
+                .lowPrice(close - 1d)
+                .closePrice(close)
+                .volume(10d + minute % 7)
+                .add();
+    }
+
+    enum Status {
+        CONVERGED
+    }
+
+    record Inner(String name, char code) {
+    }
+
+    record Fit(int window, Status status, double error, Num value, Inner inner) {
+    }
+
+    /** SMA variant counting calculations, described like an {@link SMAIndicator}. */
+    private static final class CountingSma extends CachedIndicator<Num> {
+
+        private final SMAIndicator delegate;
+        private int calculations;
+
+        private CountingSma(BarSeries series, int barCount) {
+            super(series);
+            this.delegate = new SMAIndicator(new ClosePriceIndicator(series), barCount);
+        }
+
+        @Override
+        protected Num calculate(int index) {
+            calculations++;
+            return delegate.getValue(index);
+        }
+
+        @Override
+        public int getCountOfUnstableBars() {
+            return delegate.getCountOfUnstableBars();
+        }
+
+        @Override
+        public String toJson() {
+            return delegate.toJson();
+        }
+    }
+}
@@ -4,12 +4,14 @@
 package org.ta4j.core.indicators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.ta4j.core.indicators.supportresistance.AbstractTrendLineIndicator.DEFAULT_MAX_CANDIDATE_PAIRS;
 import static org.ta4j.core.num.NaN.NaN;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 import org.ta4j.core.BarSeries;
@@ -578,6 +580,46 @@ public class TrendLineSupportIndicatorTest extends AbstractIndicatorTest<Indicat
         assertThat(updatedValue).isNotEqualByComparingTo(initialValue);
     }
 
+    @Test
+    public void incrementalCandidatesMatchFreshIndicatorWhileStreaming() {
+        final var series = new MockBarSeriesBuilder().withNumFactory(numFactory).build();
+        final var weights = ScoringWeights.defaultWeights();
+        final var random = new Random(11L);
+        final var lowIndicator = new LowPriceIndicator(series);
+        final var streaming = new TrendLineSupportIndicator(new RecentFractalSwingLowIndicator(lowIndicator, 2, 2, 0),
+                60, weights.touchCountWeight, weights.touchesExtremeWeight, weights.outsideCountWeight,
+                weights.averageDeviationWeight, weights.anchorRecencyWeight, ToleranceSettings.defaultSettings(), 12,
+                DEFAULT_MAX_CANDIDATE_PAIRS);
+        double low = 100d;
+        int comparedSegments = 0;
+        for (int i = 0; i < 300; i++) {
+            low = Math.max(1d, low + random.nextGaussian());
+            series.barBuilder().openPrice(low + 1d).closePrice(low + 1d).highPrice(low + 2d).lowPrice(low).add();
+
+            final var fresh = new TrendLineSupportIndicator(new RecentFractalSwingLowIndicator(lowIndicator, 2, 2, 0),
+                    60, weights.touchCountWeight, weights.touchesExtremeWeight, weights.outsideCountWeight,
+                    weights.averageDeviationWeight, weights.anchorRecencyWeight, ToleranceSettings.defaultSettings(),
+                    12, DEFAULT_MAX_CANDIDATE_PAIRS);
+            final var expected = fresh.getCurrentSegment();
+            final var actual = streaming.getCurrentSegment();
+            if (expected == null) {
+                assertThat(actual).isNull();
+                continue;
+            }
+            comparedSegments++;
+            assertThat(actual).isNotNull();
+            assertThat(actual.firstIndex).isEqualTo(expected.firstIndex);
+            assertThat(actual.secondIndex).isEqualTo(expected.secondIndex);
+            assertThat(actual.touchCount).isEqualTo(expected.touchCount);
+            assertThat(actual.outsideCount).isEqualTo(expected.outsideCount);
+            assertThat(actual.touchesExtreme).isEqualTo(expected.touchesExtreme);
+            assertThat(actual.score).isEqualTo(expected.score);
+            assertThat(streaming.getValue(series.getEndIndex()))
+                    .isEqualByComparingTo(fresh.getValue(series.getEndIndex()));
+        }
+        assertThat(comparedSegments).isGreaterThan(200);
+    }
+
     private BarSeries seriesFromLows(double... lows) {
         final var builder = new MockBarSeriesBuilder().withNumFactory(numFactory);
         final var series = builder.build();
@@ -4,6 +4,8 @@
 package org.ta4j.core.indicators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.Assert.assertThrows;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
 import java.util.List;
@@ -145,6 +147,98 @@ public class VolumeProfileKDEIndicatorTest extends AbstractIndicatorTest<Indicat
         assertThat(indicator.getValue(6).isNaN()).isFalse();
     }
 
+    /**
+     * Verifies that binned densities and modes track the exact KDE.
+     */
+    @Test
+    public void binnedKdeTracksExactKde() {
+        double[] closes = new double[120];
+        double[] volumes = new double[120];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 100 + 3 * Math.sin(i * 0.3) + (i % 7) * 0.13;
+            volumes[i] = 50 + (i % 5 == 0 ? 400 : 10 * (i % 3));
+        }
+        BarSeries series = buildSeries(closes, volumes);
+        var price = new ClosePriceIndicator(series);
+        var volume = new VolumeIndicator(series, 1);
+        var exact = new VolumeProfileKDEIndicator(price, volume, 40, numOf(1.5));
+        var binned = new VolumeProfileKDEIndicator(price, volume, 40, numOf(1.5), numOf(0.02));
+
+        for (int i = binned.getCountOfUnstableBars(); i <= series.getEndIndex(); i++) {
+            double expected = exact.getValue(i).doubleValue();
+            assertThat(binned.getValue(i).doubleValue()).isCloseTo(expected, within(expected * 0.01));
+            Num exactMode = exact.getModePrice(i);
+            Num binnedMode = binned.getModePrice(i);
+            assertThat(exact.getDensityAtPrice(i, binnedMode).doubleValue())
+                    .isCloseTo(exact.getDensityAtPrice(i, exactMode).doubleValue(), within(expected * 0.02));
+        }
+    }
+
+    /**
+     * Verifies that the rolling histogram matches a rebuilt one in any query
+     * order.
+     */
+    @Test
+    public void binnedRollingWindowMatchesRebuild() {
+        double[] closes = new double[60];
+        double[] volumes = new double[60];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 20 + Math.cos(i * 0.7) * 2;
+            volumes[i] = i % 4 == 0 ? 0 : 10 + i;
+        }
+        BarSeries series = buildSeries(closes, volumes);
+        var price = new ClosePriceIndicator(series);
+        var volume = new VolumeIndicator(series, 1);
+        var rolling = new VolumeProfileKDEIndicator(price, volume, 15, numOf(0.4), numOf(0.05));
+
+        for (int i = series.getEndIndex(); i >= rolling.getCountOfUnstableBars(); i--) {
+            var rebuilt = new VolumeProfileKDEIndicator(price, volume, 15, numOf(0.4), numOf(0.05));
+            Num target = numOf(20);
+            double expectedDensity = rebuilt.getDensityAtPrice(i, target).doubleValue();
+            Num expectedMode = rebuilt.getModePrice(i);
+            int ascending = Math.max(rolling.getCountOfUnstableBars(), i - 3);
+            for (int j = ascending; j <= i; j++) {
+                rolling.getModePrice(j);
+            }
+            assertThat(rolling.getDensityAtPrice(i, target).doubleValue()).isCloseTo(expectedDensity, within(1e-9));
+            assertThat(rolling.getModePrice(i)).isEqualByComparingTo(expectedMode);
+        }
+    }
+
+    /**
+     * Verifies that binned mode with zero bandwidth sums volumes per bin.
+     */
+    @Test
+    public void binnedZeroBandwidthSumsBinVolumes() {
+        BarSeries series = buildSeries(new double[] { 10, 10.02, 10.5, 10.49 }, new double[] { 40, 30, 50, 10 });
+        var indicator = new VolumeProfileKDEIndicator(new ClosePriceIndicator(series), new VolumeIndicator(series, 1),
+                0, numOf(0), numOf(0.1));
+
+        assertNumEquals(70, indicator.getDensityAtPrice(3, numOf(10.01)));
+        assertNumEquals(60, indicator.getDensityAtPrice(3, numOf(10.5)));
+        assertThat(indicator.getModePrice(3)).isEqualByComparingTo(numOf(10));
+        assertThat(indicator.getBinWidth()).isEqualByComparingTo(numOf(0.1));
+    }
+
+    /**
+     * Verifies that binned indicators serialize their grid spacing.
+     */
+    @Test
+    public void binnedRoundTripSerializeAndDeserialize() {
+        BarSeries series = buildSeries(new double[] { 10, 10.5, 11 }, new double[] { 150, 60, 25 });
+        var indicator = new VolumeProfileKDEIndicator(new ClosePriceIndicator(series), new VolumeIndicator(series, 1),
+                0, numOf(0.5), numOf(0.25));
+
+        var restored = (VolumeProfileKDEIndicator) Indicator.fromJson(series, indicator.toJson());
+
+        assertThat(restored.toDescriptor()).isEqualTo(indicator.toDescriptor());
+        assertThat(restored.getBinWidth()).isEqualByComparingTo(numOf(0.25));
+        assertThat(restored.getModePrice(2)).isEqualByComparingTo(indicator.getModePrice(2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VolumeProfileKDEIndicator(new ClosePriceIndicator(series), new VolumeIndicator(series, 1), 0,
+                        numOf(0.5), numOf(-0.25)));
+    }
+
     /**
      * Builds series.
      */
@@ -550,6 +550,38 @@ class ElliottScenarioGeneratorTest {
         assertThat(limitedGenerator.lastDiagnostics().retainedScenarioCount()).isZero();
     }
 
+    @Test
+    void memoizedGenerationMatchesFreshGeneration() {
+        ConfidenceModel model = ConfidenceProfiles.defaultModel(numFactory);
+        ElliottScenarioMemo memo = new ElliottScenarioMemo();
+        List<ElliottSwing> swings = createAlternatingSwings();
+        ElliottChannel channel = new ElliottChannel(numFactory.numOf(170), numFactory.numOf(100),
+                numFactory.numOf(135));
+        ElliottScenarioGenerator fresh = new ElliottScenarioGenerator(numFactory, 0.0, 10, model, PatternSet.all());
+        ElliottScenarioSet expected = fresh.generate(swings, ElliottDegree.MINOR, channel, 25);
+
+        ElliottScenarioSet first = new ElliottScenarioGenerator(numFactory, 0.0, 10, model, PatternSet.all(), memo)
+                .generate(swings, ElliottDegree.MINOR, channel, 25);
+        int memoized = memo.size();
+        ElliottScenarioGenerator reused = new ElliottScenarioGenerator(numFactory, 0.0, 10, model, PatternSet.all(),
+                memo);
+        ElliottScenarioSet second = reused.generate(swings, ElliottDegree.MINOR, channel, 25);
+
+        assertThat(memoized).isEqualTo(swings.size());
+        assertThat(memo.size()).isEqualTo(memoized);
+        assertThat(first.all()).isEqualTo(expected.all());
+        assertThat(second.all()).isEqualTo(expected.all());
+        assertThat(reused.lastDiagnostics()).isEqualTo(fresh.lastDiagnostics());
+
+        // Dropping the oldest swing keeps every remaining start's inputs, while a
+        // moved channel changes all of them.
+        reused.generate(swings.subList(1, swings.size()), ElliottDegree.MINOR, channel, 25);
+        assertThat(memo.size()).isEqualTo(memoized);
+        reused.generate(swings, ElliottDegree.MINOR,
+                new ElliottChannel(numFactory.numOf(171), numFactory.numOf(100), numFactory.numOf(135.5)), 25);
+        assertThat(memo.size()).isEqualTo(2 * memoized);
+    }
+
     private boolean invokePartialImpulseBranchValidator(final List<ElliottSwing> swings,
             final List<Integer> cutPoints) {
         final List<ElliottScenarioGenerator.SwingPivotPoint> pivots = generator.extractPivots(swings);
@@ -13,6 +13,7 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.ta4j.core.analysis.AnalysisRunner;
+import org.ta4j.core.analysis.AnalysisWindow;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.mocks.MockBarSeriesBuilder;
 import org.ta4j.core.num.Num;
@@ -113,6 +114,89 @@ class ElliottWaveAnalysisRunnerMultiDegreeTest {
         assertThat(result.recommendedBaseScenario().orElseThrow().id()).isEqualTo("broader-completion");
     }
 
+    @Test
+    void parallelDegreesMatchSequentialAnalysis() {
+        BarSeries series = buildWavySeries(900);
+        ElliottWaveAnalysisRunner sequential = ElliottWaveAnalysisRunner.builder()
+                .degree(ElliottDegree.PRIMARY)
+                .higherDegrees(1)
+                .lowerDegrees(1)
+                .build();
+        ElliottWaveAnalysisRunner parallel = ElliottWaveAnalysisRunner.builder()
+                .degree(ElliottDegree.PRIMARY)
+                .higherDegrees(1)
+                .lowerDegrees(1)
+                .parallelDegrees(true)
+                .build();
+
+        ElliottWaveAnalysisResult expected = sequential.analyze(series);
+        ElliottWaveAnalysisResult actual = parallel.analyze(series);
+        // The second pass reuses memoized scenario candidates.
+        ElliottWaveAnalysisResult repeated = parallel.analyze(series);
+
+        assertThat(expected.rankedBaseScenarios()).isNotEmpty();
+        assertSameAnalysis(actual, expected);
+        assertSameAnalysis(repeated, expected);
+    }
+
+    @Test
+    void analyzeWindowsMatchesSingleWindowCalls() {
+        BarSeries series = buildWavySeries(600);
+        ElliottWaveAnalysisRunner single = ElliottWaveAnalysisRunner.builder().degree(ElliottDegree.PRIMARY).build();
+        ElliottWaveAnalysisRunner sequentialBatch = ElliottWaveAnalysisRunner.builder()
+                .degree(ElliottDegree.PRIMARY)
+                .build();
+        ElliottWaveAnalysisRunner parallelBatch = ElliottWaveAnalysisRunner.builder()
+                .degree(ElliottDegree.PRIMARY)
+                .parallelWindows(true)
+                .build();
+        List<AnalysisWindow.BarRange> windows = List.of(new AnalysisWindow.BarRange(0, 299),
+                new AnalysisWindow.BarRange(50, 349), new AnalysisWindow.BarRange(100, 399),
+                new AnalysisWindow.BarRange(0, 299), new AnalysisWindow.BarRange(0, 599));
+
+        List<ElliottWaveAnalysisResult> sequentialResults = sequentialBatch.analyzeWindows(series, windows);
+        List<ElliottWaveAnalysisResult> parallelResults = parallelBatch.analyzeWindows(series, windows);
+
+        assertThat(sequentialResults).hasSize(windows.size());
+        assertThat(parallelResults).hasSize(windows.size());
+        for (int i = 0; i < windows.size(); i++) {
+            AnalysisWindow.BarRange window = windows.get(i);
+            ElliottWaveAnalysisResult expected = single.analyzeWindow(series, window.startIndexInclusive(),
+                    window.endIndexInclusive());
+            assertSameAnalysis(sequentialResults.get(i), expected);
+            assertSameAnalysis(parallelResults.get(i), expected);
+        }
+        assertThat(sequentialResults.get(3)).isSameAs(sequentialResults.get(0));
+    }
+
+    @Test
+    void analyzeWindowsRejectsWindowsOutsideTheSeries() {
+        BarSeries series = buildWavySeries(100);
+        ElliottWaveAnalysisRunner runner = ElliottWaveAnalysisRunner.builder().degree(ElliottDegree.PRIMARY).build();
+
+        assertThrows(IllegalArgumentException.class, () -> runner.analyzeWindows(series,
+                List.of(new AnalysisWindow.BarRange(0, 50), new AnalysisWindow.BarRange(10, 100))));
+    }
+
+    private static void assertSameAnalysis(final ElliottWaveAnalysisResult actual,
+            final ElliottWaveAnalysisResult expected) {
+        assertThat(actual.rankedBaseScenarios()).isEqualTo(expected.rankedBaseScenarios());
+        assertThat(actual.notes()).isEqualTo(expected.notes());
+        assertThat(actual.analyses()).hasSize(expected.analyses().size());
+        for (int i = 0; i < expected.analyses().size(); i++) {
+            ElliottWaveAnalysisResult.DegreeAnalysis expectedDegree = expected.analyses().get(i);
+            ElliottWaveAnalysisResult.DegreeAnalysis actualDegree = actual.analyses().get(i);
+            assertThat(actualDegree.degree()).isEqualTo(expectedDegree.degree());
+            assertThat(actualDegree.barCount()).isEqualTo(expectedDegree.barCount());
+            assertThat(actualDegree.analysis().processedSwings())
+                    .isEqualTo(expectedDegree.analysis().processedSwings());
+            assertThat(actualDegree.analysis().scenarios().all())
+                    .isEqualTo(expectedDegree.analysis().scenarios().all());
+            assertThat(actualDegree.analysis().confidenceBreakdowns())
+                    .isEqualTo(expectedDegree.analysis().confidenceBreakdowns());
+        }
+    }
+
     @Test
     void builderRequiresDegree() {
         IllegalStateException exception = assertThrows(IllegalStateException.class,
@@ -176,4 +260,23 @@ class ElliottWaveAnalysisRunnerMultiDegreeTest {
         }
         return series;
     }
+
+    private static BarSeries buildWavySeries(final int barCount) {
+        BarSeries series = new MockBarSeriesBuilder().withName("MultiDegreeWavySeries").build();
+        Duration period = Duration.ofDays(1);
+        Instant time = Instant.parse("2022-01-01T00:00:00Z");
+        for (int i = 0; i < barCount; i++) {
+            double close = 100 + (i * 0.05) + (20 * Math.sin(i / 15.0)) + (6 * Math.sin(i / 4.0));
+            series.barBuilder()
+                    .timePeriod(period)
+                    .endTime(time.plus(period.multipliedBy(i + 1)))
+                    .openPrice(close)
+                    .highPrice(close + 1)
+                    .lowPrice(close - 1)
+                    .closePrice(close)
+                    .volume(1)
+                    .add();
+        }
+        return series;
+    }
 }
@@ -4,16 +4,27 @@
 package org.ta4j.core.indicators.elliott.confidence;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.indicators.elliott.ElliottChannel;
+import org.ta4j.core.indicators.elliott.ElliottDegree;
 import org.ta4j.core.indicators.elliott.ElliottPhase;
+import org.ta4j.core.indicators.elliott.ElliottScenario;
+import org.ta4j.core.indicators.elliott.ElliottScenarioGenerator;
+import org.ta4j.core.indicators.elliott.ElliottScenarioSet;
+import org.ta4j.core.indicators.elliott.ElliottSwing;
+import org.ta4j.core.indicators.elliott.PatternSet;
 import org.ta4j.core.indicators.elliott.ScenarioType;
 import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
 
 class ScenarioTypeConfidenceModelTest {
 
@@ -41,6 +52,47 @@ class ScenarioTypeConfidenceModelTest {
                 .isGreaterThan(corrective.confidence().overall().doubleValue());
     }
 
+    @Test
+    void batchScoresMatchPerScenarioScores() {
+        for (NumFactory numFactory : List.of(DoubleNumFactory.getInstance(), DecimalNumFactory.getInstance())) {
+            ScenarioTypeConfidenceModel model = ConfidenceProfiles.patternAwareModel(numFactory);
+            List<ElliottSwing> swings = List.of(swing(numFactory, 0, 5, 100, 120), swing(numFactory, 5, 10, 120, 110),
+                    swing(numFactory, 10, 15, 110, 140), swing(numFactory, 15, 20, 140, 125),
+                    swing(numFactory, 20, 25, 125, 160), swing(numFactory, 25, 30, 160, 138),
+                    swing(numFactory, 30, 35, 138, 150), swing(numFactory, 35, 40, 150, 128));
+            ElliottChannel channel = new ElliottChannel(numFactory.numOf(170), numFactory.numOf(100),
+                    numFactory.numOf(135));
+            ElliottScenarioSet scenarios = new ElliottScenarioGenerator(numFactory, 0.0, 50, model, PatternSet.all())
+                    .generate(swings, ElliottDegree.MINOR, channel, 40);
+            assertThat(scenarios.all().stream().map(ElliottScenario::type).distinct().count()).isGreaterThan(1);
+
+            double[] batch = model.scoreAll(scenarios, channel);
+
+            assertThat(batch).hasSize(scenarios.size());
+            for (int i = 0; i < batch.length; i++) {
+                ElliottScenario scenario = scenarios.all().get(i);
+                double expected = model.score(scenario.swings(), scenario.currentPhase(), channel, scenario.type())
+                        .confidence()
+                        .overall()
+                        .doubleValue();
+                assertThat(batch[i]).isCloseTo(expected, within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void batchScoresOfAnEmptySetAreEmpty() {
+        ScenarioTypeConfidenceModel model = ConfidenceProfiles.defaultModel(DoubleNumFactory.getInstance());
+
+        assertThat(model.scoreAll(ElliottScenarioSet.empty(0), null)).isEmpty();
+    }
+
+    private static ElliottSwing swing(final NumFactory numFactory, final int fromIndex, final int toIndex,
+            final double fromPrice, final double toPrice) {
+        return new ElliottSwing(fromIndex, toIndex, numFactory.numOf(fromPrice), numFactory.numOf(toPrice),
+                ElliottDegree.MINOR);
+    }
+
     private static final class ConstantFactor implements ConfidenceFactor {
 
         private final Num score;
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators.elliott.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarBuilder;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.indicators.elliott.ElliottDegree;
+import org.ta4j.core.mocks.MockBarBuilderFactory;
+
+class FractalSwingDetectorTest {
+
+    @Test
+    void streamingDetectionMatchesFreshDetectionOnEveryBar() {
+        CountingBarSeries series = buildLiveSeries(20);
+        FractalSwingDetector streamingDetector = new FractalSwingDetector(3);
+
+        for (int bar = 0; bar < 120; bar++) {
+            appendBar(series, 100.0 + (3.0 * Math.sin(bar * 0.35)) + (bar * 0.01));
+            SwingDetectorResult streamed = streamingDetector.detect(series, series.getEndIndex(),
+                    ElliottDegree.MINOR);
+            SwingDetectorResult fresh = new FractalSwingDetector(3).detect(series, series.getEndIndex(),
+                    ElliottDegree.MINOR);
+
+            assertThat(streamed).as("bar %s", series.getEndIndex()).isEqualTo(fresh);
+        }
+        assertThat(streamingDetector.detect(series, series.getEndIndex(), ElliottDegree.MINOR).swings())
+                .isNotEmpty();
+    }
+
+    @Test
+    void reusesPipelineAcrossRepeatedLiveDetection() {
+        CountingBarSeries series = buildLiveSeries(300);
+        FractalSwingDetector detector = new FractalSwingDetector(3);
+
+        SwingDetectorResult initial = detector.detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+        series.resetBarReads();
+        SwingDetectorResult repeated = detector.detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+
+        assertThat(repeated).isEqualTo(initial);
+        assertThat(series.barReads()).isLessThan(20);
+
+        appendBar(series, 104.0);
+        series.resetBarReads();
+        SwingDetectorResult advanced = detector.detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+
+        long advancedBarReads = series.barReads();
+        series.resetBarReads();
+        SwingDetectorResult fresh = new FractalSwingDetector(3).detect(series, series.getEndIndex(),
+                ElliottDegree.MINOR);
+
+        assertThat(advanced).isEqualTo(fresh);
+        assertThat(advancedBarReads).isLessThan(series.barReads() / 20L);
+    }
+
+    @Test
+    void cachedDetectorPreservesCausalityForHistoricalQueries() {
+        CountingBarSeries series = buildLiveSeries(80);
+        FractalSwingDetector cachedDetector = new FractalSwingDetector(2);
+        cachedDetector.detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+
+        for (int index = series.getBeginIndex(); index <= series.getEndIndex(); index++) {
+            SwingDetectorResult fresh = new FractalSwingDetector(2).detect(series, index, ElliottDegree.MINOR);
+            SwingDetectorResult cached = cachedDetector.detect(series, index, ElliottDegree.MINOR);
+
+            assertThat(cached).as("historical index %s", index).isEqualTo(fresh);
+        }
+    }
+
+    @Test
+    void replacedTerminalBarMatchesFreshDetection() {
+        CountingBarSeries series = buildLiveSeries(60);
+        FractalSwingDetector detector = new FractalSwingDetector(2);
+        detector.detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+
+        Bar lastBar = series.getLastBar();
+        Bar replacement = series.barBuilder()
+                .timePeriod(lastBar.getTimePeriod())
+                .endTime(lastBar.getEndTime())
+                .openPrice(90.0)
+                .highPrice(90.2)
+                .lowPrice(89.8)
+                .closePrice(90.0)
+                .volume(1000.0)
+                .build();
+        series.addBar(replacement, true);
+        SwingDetectorResult replaced = detector.detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+
+        assertThat(replaced)
+                .isEqualTo(new FractalSwingDetector(2).detect(series, series.getEndIndex(), ElliottDegree.MINOR));
+    }
+
+    @Test
+    void formingBarTradesReusePipelineAndMatchFreshDetection() {
+        CountingBarSeries series = buildLiveSeries(300);
+        // the forming bar confirms a swing high two bars back until a trade tops it
+        for (double close : new double[] { 101.0, 103.0, 102.0, 101.0 }) {
+            appendBar(series, close);
+        }
+        FractalSwingDetector detector = new FractalSwingDetector(2);
+        int peakIndex = series.getEndIndex() - 2;
+        assertThat(detector.detect(series, series.getEndIndex(), ElliottDegree.MINOR).pivots())
+                .anyMatch(pivot -> pivot.index() == peakIndex);
+
+        double[] tradePrices = { 104.0, 95.0, 101.0, 108.0, 92.0, 100.0 };
+        for (double price : tradePrices) {
+            series.addTrade(10.0, price);
+            series.resetBarReads();
+            SwingDetectorResult streamed = detector.detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+            long streamedBarReads = series.barReads();
+            series.resetBarReads();
+            SwingDetectorResult fresh = new FractalSwingDetector(2).detect(series, series.getEndIndex(),
+                    ElliottDegree.MINOR);
+
+            assertThat(streamed).as("trade at %s", price).isEqualTo(fresh);
+            assertThat(streamedBarReads).as("trade at %s", price).isLessThan(series.barReads() / 20L);
+        }
+    }
+
+    @Test
+    void rebuildsPipelineWhenAnEarlierBarIsReplaced() {
+        CountingBarSeries series = buildLiveSeries(60);
+        FractalSwingDetector detector = new FractalSwingDetector(2);
+        detector.detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+
+        int replacedIndex = series.getEndIndex() - 10;
+        Bar original = series.getBar(replacedIndex);
+        series.replaceBar(replacedIndex, series.barBuilder()
+                .timePeriod(original.getTimePeriod())
+                .endTime(original.getEndTime())
+                .openPrice(120.0)
+                .highPrice(120.2)
+                .lowPrice(119.8)
+                .closePrice(120.0)
+                .volume(1000.0)
+                .build());
+        SwingDetectorResult replaced = detector.detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+
+        assertThat(replaced)
+                .isEqualTo(new FractalSwingDetector(2).detect(series, series.getEndIndex(), ElliottDegree.MINOR));
+    }
+
+    private static CountingBarSeries buildLiveSeries(final int barCount) {
+        CountingBarSeries series = new CountingBarSeries();
+        Duration period = Duration.ofMinutes(1);
+        Instant time = Instant.parse("2024-01-01T00:00:00Z");
+        for (int index = 0; index < barCount; index++) {
+            double close = 100.0 + (2.0 * Math.sin(index * 0.3));
+            series.barBuilder()
+                    .timePeriod(period)
+                    .endTime(time.plus(period.multipliedBy(index + 1L)))
+                    .openPrice(close)
+                    .highPrice(close + 0.2)
+                    .lowPrice(close - 0.2)
+                    .closePrice(close)
+                    .volume(1000.0)
+                    .add();
+        }
+        return series;
+    }
+
+    private static void appendBar(final BarSeries series, final double close) {
+        Bar lastBar = series.getLastBar();
+        series.barBuilder()
+                .timePeriod(lastBar.getTimePeriod())
+                .endTime(lastBar.getEndTime().plus(lastBar.getTimePeriod()))
+                .openPrice(close)
+                .highPrice(close + 0.2)
+                .lowPrice(close - 0.2)
+                .closePrice(close)
+                .volume(1000.0)
+                .add();
+    }
+
+    private static final class CountingBarSeries extends BaseBarSeries {
+
+        private long barReads;
+
+        private CountingBarSeries() {
+            super("FractalSwingLiveTest", List.of());
+        }
+
+        @Override
+        public BarBuilder barBuilder() {
+            return new MockBarBuilderFactory().createBarBuilder(this);
+        }
+
+        @Override
+        public Bar getBar(final int index) {
+            barReads++;
+            return super.getBar(index);
+        }
+
+        private long barReads() {
+            return barReads;
+        }
+
+        private void resetBarReads() {
+            barReads = 0;
+        }
+    }
+}
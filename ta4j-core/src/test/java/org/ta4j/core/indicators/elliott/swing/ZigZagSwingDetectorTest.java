@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators.elliott.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.indicators.elliott.ElliottDegree;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+
+class ZigZagSwingDetectorTest {
+
+    @Test
+    void streamingDetectionMatchesFreshDetectionOnEveryBar() {
+        BarSeries series = buildSeries(20);
+        ZigZagSwingDetector streamingDetector = ZigZagSwingDetector.atrBased(series, 5);
+
+        for (int bar = 0; bar < 120; bar++) {
+            appendBar(series, 100.0 + (3.0 * Math.sin(bar * 0.35)) + (bar * 0.01));
+            SwingDetectorResult streamed = streamingDetector.detect(series, series.getEndIndex(),
+                    ElliottDegree.MINOR);
+            SwingDetectorResult fresh = new ZigZagSwingDetector(streamingDetector.getReversalIndicator())
+                    .detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+
+            assertThat(streamed).as("bar %s", series.getEndIndex()).isEqualTo(fresh);
+        }
+        assertThat(streamingDetector.detect(series, series.getEndIndex(), ElliottDegree.MINOR).swings())
+                .isNotEmpty();
+    }
+
+    @Test
+    void cachedDetectorPreservesCausalityForHistoricalQueries() {
+        BarSeries series = buildSeries(80);
+        ZigZagSwingDetector cachedDetector = ZigZagSwingDetector.atrBased(series, 3);
+        cachedDetector.detect(series, series.getEndIndex(), ElliottDegree.MINOR);
+
+        for (int index = series.getBeginIndex(); index <= series.getEndIndex(); index++) {
+            SwingDetectorResult fresh = new ZigZagSwingDetector(cachedDetector.getReversalIndicator()).detect(series,
+                    index, ElliottDegree.MINOR);
+            SwingDetectorResult cached = cachedDetector.detect(series, index, ElliottDegree.MINOR);
+
+            assertThat(cached).as("historical index %s", index).isEqualTo(fresh);
+        }
+    }
+
+    @Test
+    void rejectsSeriesThatDoNotBackTheReversalIndicator() {
+        ZigZagSwingDetector detector = ZigZagSwingDetector.atrBased(buildSeries(10), 3);
+
+        assertThatThrownBy(() -> detector.detect(buildSeries(10), 9, ElliottDegree.MINOR))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BarSeries buildSeries(final int barCount) {
+        BarSeries series = new MockBarSeriesBuilder().withName("ZigZagSwingLiveTest").build();
+        Duration period = Duration.ofMinutes(1);
+        Instant time = Instant.parse("2024-01-01T00:00:00Z");
+        for (int index = 0; index < barCount; index++) {
+            double close = 100.0 + (2.0 * Math.sin(index * 0.3));
+            series.barBuilder()
+                    .timePeriod(period)
+                    .endTime(time.plus(period.multipliedBy(index + 1L)))
+                    .openPrice(close)
+                    .highPrice(close + 0.2)
+                    .lowPrice(close - 0.2)
+                    .closePrice(close)
+                    .volume(1000.0)
+                    .add();
+        }
+        return series;
+    }
+
+    private static void appendBar(final BarSeries series, final double close) {
+        Bar lastBar = series.getLastBar();
+        series.barBuilder()
+                .timePeriod(lastBar.getTimePeriod())
+                .endTime(lastBar.getEndTime().plus(lastBar.getTimePeriod()))
+                .openPrice(close)
+                .highPrice(close + 0.2)
+                .lowPrice(close - 0.2)
+                .closePrice(close)
+                .volume(1000.0)
+                .add();
+    }
+}
@@ -9,6 +9,8 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.util.Random;
+
 import org.junit.Test;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.criteria.ReturnRepresentation;
@@ -24,6 +26,7 @@ import org.ta4j.core.indicators.forecast.state.ReturnForecastState;
 import org.ta4j.core.indicators.forecast.state.ReturnForecastStateIndicator;
 import org.ta4j.core.indicators.forecast.state.ReturnMomentState;
 import org.ta4j.core.indicators.forecast.state.ReturnMoments;
+import org.ta4j.core.indicators.helpers.LogReturnIndicator;
 import org.ta4j.core.mocks.MockBarSeriesBuilder;
 import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
@@ -377,6 +380,131 @@ public class AnalogReturnProjectionIndicatorTest
         assertTrue(projection.getValue(14).isStable());
     }
 
+    @Test
+    public void indexedSearchMatchesLinearScanForSlidingWindows() {
+        BarSeries series = randomWalk(400, 11);
+        EwmaReturnForecastStateIndicator states = new EwmaReturnForecastStateIndicator(new LogReturnIndicator(series));
+
+        assertIndexedMatchesScan(series, AnalogReturnProjectionIndicator.builder(states)
+                .horizon(3)
+                .lookbackBarCount(60)
+                .neighborCount(7), AnalogReturnProjectionIndicator.builder(states)
+                        .horizon(3)
+                        .lookbackBarCount(60)
+                        .neighborCount(7));
+    }
+
+    @Test
+    public void indexedSearchMatchesLinearScanForGrowingUnstandardizedWindows() {
+        BarSeries series = randomWalk(400, 29);
+        EwmaReturnForecastStateIndicator states = new EwmaReturnForecastStateIndicator(new LogReturnIndicator(series));
+
+        assertIndexedMatchesScan(series, AnalogReturnProjectionIndicator.builder(states)
+                .lookbackBarCount(1_000)
+                .neighborCount(12)
+                .standardizeFeatures(false), AnalogReturnProjectionIndicator.builder(states)
+                        .lookbackBarCount(1_000)
+                        .neighborCount(12)
+                        .standardizeFeatures(false));
+    }
+
+    @Test
+    public void indexedSearchKeepsEarlierIndexForTiedDistances() {
+        double[] means = new double[120];
+        for (int i = 0; i < means.length; i++) {
+            means[i] = i % 3;
+        }
+        double[] returns = new double[means.length];
+        for (int i = 0; i < returns.length; i++) {
+            returns[i] = i;
+        }
+        Fixture fixture = fixture(returns, means);
+        AnalogReturnProjectionIndicator<ReturnForecastState> indexed = AnalogReturnProjectionIndicator
+                .builder(fixture.states())
+                .lookbackBarCount(50)
+                .neighborCount(4)
+                .minimumNeighborCount(2)
+                .build();
+        AnalogReturnProjectionIndicator<ReturnForecastState> scanned = AnalogReturnProjectionIndicator
+                .builder(fixture.states())
+                .lookbackBarCount(50)
+                .neighborCount(4)
+                .minimumNeighborCount(2)
+                .linearScan(true)
+                .build();
+
+        for (int i = 0; i < means.length; i++) {
+            assertSameForecast(scanned.getValue(i), indexed.getValue(i));
+        }
+    }
+
+    @Test
+    public void indexedSearchFollowsAppendedBars() {
+        BarSeries series = randomWalk(150, 5);
+        EwmaReturnForecastStateIndicator states = new EwmaReturnForecastStateIndicator(new LogReturnIndicator(series));
+        AnalogReturnProjectionIndicator<ReturnForecastState> indexed = AnalogReturnProjectionIndicator.builder(states)
+                .horizon(2)
+                .lookbackBarCount(40)
+                .build();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 30; step++) {
+            Forecast live = indexed.getValue(series.getEndIndex());
+            AnalogReturnProjectionIndicator<ReturnForecastState> scanned = AnalogReturnProjectionIndicator
+                    .builder(states)
+                    .horizon(2)
+                    .lookbackBarCount(40)
+                    .linearScan(true)
+                    .build();
+            assertSameForecast(scanned.getValue(series.getEndIndex()), live);
+            double close = series.getLastBar().getClosePrice().doubleValue() * Math.exp(random.nextGaussian() * 0.01);
+            series.barBuilder()
+                    .timePeriod(series.getLastBar().getTimePeriod())
+                    .endTime(series.getLastBar().getEndTime().plus(series.getLastBar().getTimePeriod()))
+                    .openPrice(close)
+                    .highPrice(close)
+                    .lowPrice(close)
+                    .closePrice(close)
+                    .volume(1)
+                    .add();
+        }
+    }
+
+    private static void assertIndexedMatchesScan(BarSeries series,
+            AnalogReturnProjectionIndicator.Builder<ReturnForecastState> indexedBuilder,
+            AnalogReturnProjectionIndicator.Builder<ReturnForecastState> scanBuilder) {
+        AnalogReturnProjectionIndicator<ReturnForecastState> indexed = indexedBuilder.build();
+        AnalogReturnProjectionIndicator<ReturnForecastState> scanned = scanBuilder.linearScan(true).build();
+        int stable = 0;
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            Forecast expected = scanned.getValue(i);
+            assertSameForecast(expected, indexed.getValue(i));
+            stable += expected.isStable() ? 1 : 0;
+        }
+        assertTrue(stable > series.getBarCount() / 2);
+    }
+
+    private static void assertSameForecast(Forecast expected, Forecast actual) {
+        assertEquals(expected.isStable(), actual.isStable());
+        if (expected.isStable()) {
+            assertEquals(expected.support(), actual.support());
+            assertEquals(expected.mean(), actual.mean());
+            assertEquals(expected.median(), actual.median());
+            assertEquals(expected.standardDeviation(), actual.standardDeviation());
+            assertEquals(expected.quantiles(), actual.quantiles());
+        }
+    }
+
+    private BarSeries randomWalk(int barCount, long seed) {
+        Random random = new Random(seed);
+        double[] prices = new double[barCount];
+        prices[0] = 100d;
+        for (int i = 1; i < barCount; i++) {
+            prices[i] = prices[i - 1] * Math.exp(random.nextGaussian() * 0.01 + (i % 50 < 25 ? 0.002 : -0.002));
+        }
+        return new MockBarSeriesBuilder().withNumFactory(numFactory).withData(prices).build();
+    }
+
     private AnalogReturnProjectionIndicator<ReturnForecastState> configured(Fixture fixture, int decisionIndex) {
         return AnalogReturnProjectionIndicator.builder(fixture.states())
                 .lookbackBarCount(decisionIndex)
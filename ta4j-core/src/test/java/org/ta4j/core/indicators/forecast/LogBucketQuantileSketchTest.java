@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.indicators.forecast;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LogBucketQuantileSketchTest {
+
+    @Test
+    public void quantilesStayWithinRelativeAccuracyOfExactRanks() {
+        Random random = new Random(3);
+        double[] values = new double[20_000];
+        LogBucketQuantileSketch sketch = new LogBucketQuantileSketch(1e-3);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian() * 0.02 + 0.001;
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double probability : new double[] { 0.01, 0.05, 0.25, 0.5, 0.75, 0.95, 0.99 }) {
+            double expected = values[(int) Math.floor(probability * (values.length - 1))];
+            double actual = sketch.quantile(probability);
+            assertEquals(expected, actual, Math.abs(expected) * 1e-3 + 1e-6);
+        }
+        assertEquals(values[0], sketch.quantile(0), 0);
+        assertEquals(values[values.length - 1], sketch.quantile(1), 0);
+    }
+
+    @Test
+    public void mergeOrderDoesNotChangeQuantiles() {
+        LogBucketQuantileSketch left = new LogBucketQuantileSketch(1e-2);
+        LogBucketQuantileSketch right = new LogBucketQuantileSketch(1e-2);
+        LogBucketQuantileSketch all = new LogBucketQuantileSketch(1e-2);
+        for (int i = -500; i <= 500; i++) {
+            double value = i * 0.37;
+            (i % 2 == 0 ? left : right).add(value);
+            all.add(value);
+        }
+        LogBucketQuantileSketch leftFirst = new LogBucketQuantileSketch(1e-2);
+        leftFirst.merge(left);
+        leftFirst.merge(right);
+        LogBucketQuantileSketch rightFirst = new LogBucketQuantileSketch(1e-2);
+        rightFirst.merge(right);
+        rightFirst.merge(left);
+
+        assertEquals(all.count(), leftFirst.count());
+        for (double probability = 0; probability <= 1; probability += 0.05) {
+            assertEquals(all.quantile(probability), leftFirst.quantile(probability), 0);
+            assertEquals(all.quantile(probability), rightFirst.quantile(probability), 0);
+        }
+    }
+
+    @Test
+    public void rejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new LogBucketQuantileSketch(0));
+        assertThrows(IllegalArgumentException.class, () -> new LogBucketQuantileSketch(1e-3).add(Double.NaN));
+        assertEquals(Double.NaN, new LogBucketQuantileSketch(1e-3).quantile(0.5), 0);
+    }
+}
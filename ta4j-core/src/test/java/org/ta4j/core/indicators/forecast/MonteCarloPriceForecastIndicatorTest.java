@@ -87,6 +87,33 @@ public class MonteCarloPriceForecastIndicatorTest
         assertEquivalent(inferred.getValue(series.getEndIndex()), explicit.getValue(series.getEndIndex()));
     }
 
+    @Test
+    public void primitiveEngineMapsReturnQuantilesToTerminalPrices() {
+        double[] prices = new double[80];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = 100 + i * 0.2 + 3 * Math.sin(i * 0.7);
+        }
+        BarSeries series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(prices).build();
+        EwmaReturnForecastStateIndicator state = new EwmaReturnForecastStateIndicator(new LogReturnIndicator(series));
+        MonteCarloPriceForecastIndicator.Builder builder = MonteCarloPriceForecastIndicator.builder(state)
+                .horizon(5)
+                .iterationCount(20_000)
+                .lookbackBarCount(30);
+        Forecast exact = builder.build().getValue(series.getEndIndex());
+        Forecast primitive = builder.simulationEngine(MonteCarloReturnProjectionIndicator.SimulationEngine.PRIMITIVE)
+                .build()
+                .getValue(series.getEndIndex());
+
+        double spread = exact.standardDeviation().doubleValue();
+        assertEquals(ForecastSupport.empirical(20_000), primitive.support());
+        assertEquals(exact.mean().doubleValue(), primitive.mean().doubleValue(), spread * 0.05);
+        assertEquals(spread, primitive.standardDeviation().doubleValue(), spread * 0.05);
+        for (double probability : Forecast.DEFAULT_QUANTILE_PROBABILITIES) {
+            assertEquals(exact.quantile(probability).doubleValue(), primitive.quantile(probability).doubleValue(),
+                    spread * 0.1);
+        }
+    }
+
     @Test
     public void rejectsCustomSourceInferenceButSupportsExplicitPrice() {
         BarSeries series = constantSeries(3, 100);
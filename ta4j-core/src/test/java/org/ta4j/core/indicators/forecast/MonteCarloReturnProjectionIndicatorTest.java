@@ -274,6 +274,97 @@ public class MonteCarloReturnProjectionIndicatorTest extends AbstractIndicatorTe
         assertFalse(removed.isStable());
     }
 
+    @Test
+    public void primitiveEngineIsReproducibleAcrossThreadCounts() throws Exception {
+        BarSeries series = trendingSeries(80);
+        MonteCarloReturnProjectionIndicator parallel = primitiveForecast(series,
+                MonteCarloReturnProjectionIndicator.VolatilityUpdateMode.EWMA);
+        MonteCarloReturnProjectionIndicator singleThreaded = primitiveForecast(series,
+                MonteCarloReturnProjectionIndicator.VolatilityUpdateMode.EWMA);
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(1);
+
+        try {
+            for (int index = 40; index <= series.getEndIndex(); index += 13) {
+                int decision = index;
+                Forecast expected = pool.submit(() -> singleThreaded.getValue(decision)).get();
+                Forecast actual = parallel.getValue(decision);
+
+                assertTrue(actual.isStable());
+                assertEquals(10_000, actual.sampleCount());
+                assertEquals(expected.mean(), actual.mean());
+                assertEquals(expected.standardDeviation(), actual.standardDeviation());
+                assertEquals(expected.quantiles(), actual.quantiles());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void primitiveEngineAgreesWithExactEngineWithinSamplingError() {
+        BarSeries series = trendingSeries(80);
+        LogReturnIndicator returns = new LogReturnIndicator(series);
+        EwmaReturnForecastStateIndicator state = new EwmaReturnForecastStateIndicator(returns, 2, 0.5,
+                EwmaReturnForecastStateIndicator.DriftMode.ROLLING_MEAN);
+        MonteCarloReturnProjectionIndicator.Builder builder = MonteCarloReturnProjectionIndicator.builder(state)
+                .horizon(5)
+                .iterationCount(20_000)
+                .lookbackBarCount(30)
+                .shockModel(MonteCarloReturnProjectionIndicator.ShockModel.NORMAL)
+                .quantiles(0.05, 0.5, 0.95);
+        Forecast exact = builder.build().getValue(series.getEndIndex());
+        Forecast primitive = builder.simulationEngine(MonteCarloReturnProjectionIndicator.SimulationEngine.PRIMITIVE)
+                .build()
+                .getValue(series.getEndIndex());
+
+        double spread = exact.standardDeviation().doubleValue();
+        assertTrue(spread > 0);
+        assertEquals(exact.mean().doubleValue(), primitive.mean().doubleValue(), spread * 0.05);
+        assertEquals(spread, primitive.standardDeviation().doubleValue(), spread * 0.05);
+        for (double probability : List.of(0.05, 0.5, 0.95)) {
+            assertEquals(exact.quantile(probability).doubleValue(), primitive.quantile(probability).doubleValue(),
+                    spread * 0.1);
+        }
+    }
+
+    @Test
+    public void primitiveEngineCollapsesConstantPrices() {
+        BarSeries series = constantSeries(40, 100);
+        MonteCarloReturnProjectionIndicator forecast = primitiveForecast(series,
+                MonteCarloReturnProjectionIndicator.VolatilityUpdateMode.CONSTANT);
+
+        Forecast prediction = forecast.getValue(series.getEndIndex());
+
+        assertTrue(prediction.isStable());
+        assertNumEquals(0, prediction.mean());
+        assertNumEquals(0, prediction.median());
+        assertNumEquals(0, prediction.standardDeviation());
+    }
+
+    private MonteCarloReturnProjectionIndicator primitiveForecast(BarSeries series,
+            MonteCarloReturnProjectionIndicator.VolatilityUpdateMode updateMode) {
+        LogReturnIndicator returns = new LogReturnIndicator(series);
+        EwmaReturnForecastStateIndicator state = new EwmaReturnForecastStateIndicator(returns, 2, 0.5,
+                EwmaReturnForecastStateIndicator.DriftMode.ROLLING_MEAN);
+        return MonteCarloReturnProjectionIndicator.builder(state)
+                .horizon(3)
+                .iterationCount(10_000)
+                .lookbackBarCount(20)
+                .seed(11L)
+                .shockModel(MonteCarloReturnProjectionIndicator.ShockModel.STANDARDIZED_EMPIRICAL)
+                .volatilityUpdateMode(updateMode)
+                .simulationEngine(MonteCarloReturnProjectionIndicator.SimulationEngine.PRIMITIVE)
+                .build();
+    }
+
+    private BarSeries trendingSeries(int barCount) {
+        double[] values = new double[barCount];
+        for (int i = 0; i < barCount; i++) {
+            values[i] = 100 + i * 0.2 + 3 * Math.sin(i * 0.7);
+        }
+        return new MockBarSeriesBuilder().withNumFactory(numFactory).withData(values).build();
+    }
+
     private MonteCarloReturnProjectionIndicator forecast(BarSeries series,
             MonteCarloReturnProjectionIndicator.ShockModel shockModel, int horizon, int iterations, int lookback,
             long seed, MonteCarloReturnProjectionIndicator.VolatilityUpdateMode updateMode) {
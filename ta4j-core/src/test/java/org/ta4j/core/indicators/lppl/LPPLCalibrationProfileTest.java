@@ -18,6 +18,18 @@ class LPPLCalibrationProfileTest {
         assertThat(profile.minCriticalOffset()).isEqualTo(1);
         assertThat(profile.maxCriticalOffset()).isEqualTo(60);
         assertThat(profile.minRSquared()).isEqualTo(0.75);
+        assertThat(profile.warmStartInterval()).isZero();
+    }
+
+    @Test
+    void warmStartIsPartOfTheProfileValue() {
+        LPPLCalibrationProfile warm = LPPLCalibrationProfile.defaults().withWarmStart(20);
+
+        assertThat(warm.warmStartInterval()).isEqualTo(20);
+        assertThat(warm).isNotEqualTo(LPPLCalibrationProfile.defaults())
+                .isEqualTo(LPPLCalibrationProfile.defaults().withWarmStart(20));
+        assertThat(warm.withWindow(250).warmStartInterval()).isEqualTo(20);
+        assertThat(warm.toString()).contains("warmStartInterval=20");
     }
 
     @Test
@@ -47,5 +59,6 @@ class LPPLCalibrationProfileTest {
                 () -> LPPLCalibrationProfile.defaults().withCriticalTimeSearch(0, 30, 5));
         assertThrows(IllegalArgumentException.class,
                 () -> LPPLCalibrationProfile.defaults().withOptimizerSettings(10, 1.1));
+        assertThrows(IllegalArgumentException.class, () -> LPPLCalibrationProfile.defaults().withWarmStart(-1));
     }
 }
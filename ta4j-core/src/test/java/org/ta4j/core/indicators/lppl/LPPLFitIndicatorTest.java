@@ -157,6 +157,55 @@ class LPPLFitIndicatorTest {
                 .isEqualTo(original.getValue(LPPLTestFixtures.WINDOW));
     }
 
+    @Test
+    void warmStartedFitsDoNotDependOnRequestOrder() {
+        double[] prices = LPPLTestFixtures.syntheticPrices(LPPLTestFixtures.WINDOW + 30, LPPLTestFixtures.WINDOW + 60.0,
+                -0.03);
+        BarSeries series = new MockBarSeriesBuilder().withData(prices).build();
+        LPPLCalibrationProfile profile = LPPLTestFixtures.compactProfile().withWarmStart(10);
+        LPPLFitIndicator ascending = new LPPLFitIndicator(series, profile);
+        LPPLFitIndicator latestFirst = new LPPLFitIndicator(series, profile);
+        LPPLFitIndicator cold = new LPPLFitIndicator(series, LPPLTestFixtures.compactProfile());
+
+        LPPLFit latest = latestFirst.getValue(series.getEndIndex());
+        for (int i = LPPLTestFixtures.WINDOW; i <= series.getEndIndex(); i++) {
+            assertThat(ascending.getValue(i)).isEqualTo(latestFirst.getValue(i));
+        }
+        assertThat(ascending.getValue(series.getEndIndex())).isEqualTo(latest);
+        assertThat(ascending.getValue(LPPLTestFixtures.WINDOW + 10))
+                .isEqualTo(cold.getValue(LPPLTestFixtures.WINDOW + 10));
+        assertThat(ascending.getValue(LPPLTestFixtures.WINDOW + 15).criticalTime())
+                .isCloseTo(cold.getValue(LPPLTestFixtures.WINDOW + 15).criticalTime(), within(1.0));
+    }
+
+    @Test
+    void warmStartProfileRoundTripsThroughDescriptors() {
+        BarSeries series = LPPLTestFixtures.syntheticSeries(-0.03, 0.04);
+        LPPLFitIndicator original = new LPPLFitIndicator(new ClosePriceIndicator(series),
+                LPPLTestFixtures.compactProfile().withWarmStart(25));
+
+        LPPLFitIndicator fromDescriptor = (LPPLFitIndicator) IndicatorSerialization.fromDescriptor(series,
+                original.toDescriptor());
+
+        assertThat(fromDescriptor.getProfile()).isEqualTo(original.getProfile());
+    }
+
+    @Test
+    void descriptorsWithoutWarmStartIntervalStillDeserialize() {
+        BarSeries series = LPPLTestFixtures.syntheticSeries(-0.03, 0.04);
+        LPPLFitIndicator original = new LPPLFitIndicator(new ClosePriceIndicator(series),
+                LPPLTestFixtures.compactProfile());
+        String json = original.toJson();
+        String legacyJson = json.replace(",\"warmStartInterval\":0", "");
+
+        Indicator<?> restored = Indicator.fromJson(series, legacyJson);
+
+        assertThat(legacyJson).isNotEqualTo(json).doesNotContain("warmStartInterval");
+        assertThat(restored).isInstanceOf(LPPLFitIndicator.class);
+        assertThat(((LPPLFitIndicator) restored).getProfile()).isEqualTo(original.getProfile());
+        assertThat(restored.getValue(LPPLTestFixtures.WINDOW)).isEqualTo(original.getValue(LPPLTestFixtures.WINDOW));
+    }
+
     private static LPPLFit fit(BarSeries series) {
         return new LPPLFitIndicator(series, LPPLTestFixtures.compactProfile()).getValue(LPPLTestFixtures.WINDOW);
     }
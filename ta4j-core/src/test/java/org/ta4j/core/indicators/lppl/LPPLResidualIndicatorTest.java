@@ -85,6 +85,21 @@ class LPPLResidualIndicatorTest {
         assertThat(fromJson.getValue(LPPLTestFixtures.WINDOW)).isEqualTo(original.getValue(LPPLTestFixtures.WINDOW));
     }
 
+    @Test
+    void descriptorsWithoutWarmStartIntervalStillDeserialize() {
+        BarSeries series = LPPLTestFixtures.syntheticSeries(-0.03, -0.08);
+        LPPLResidualIndicator original = new LPPLResidualIndicator(new ClosePriceIndicator(series),
+                LPPLTestFixtures.compactProfile());
+        String json = original.toJson();
+        String legacyJson = json.replace(",\"warmStartInterval\":0", "");
+
+        Indicator<?> restored = Indicator.fromJson(series, legacyJson);
+
+        assertThat(legacyJson).isNotEqualTo(json).doesNotContain("warmStartInterval");
+        assertThat(restored).isInstanceOf(LPPLResidualIndicator.class);
+        assertThat(restored.getValue(LPPLTestFixtures.WINDOW)).isEqualTo(original.getValue(LPPLTestFixtures.WINDOW));
+    }
+
     @Test
     void sharedFitViewPreservesIndicatorSerializationContract() {
         BarSeries series = LPPLTestFixtures.syntheticSeries(-0.03, -0.08);
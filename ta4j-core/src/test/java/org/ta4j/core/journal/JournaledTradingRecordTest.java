@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ta4j.core.AnalysisCriterion.PositionFilter;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.ExecutionSide;
+import org.ta4j.core.TradeFill;
+import org.ta4j.core.criteria.NumberOfPositionsCriterion;
+import org.ta4j.core.criteria.NumberOfWinningPositionsCriterion;
+import org.ta4j.core.criteria.PositionsRatioCriterion;
+import org.ta4j.core.criteria.drawdown.MaximumDrawdownCriterion;
+import org.ta4j.core.criteria.drawdown.ReturnOverMaxDrawdownCriterion;
+import org.ta4j.core.criteria.pnl.NetProfitCriterion;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.NumFactory;
+
+class JournaledTradingRecordTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final NumFactory numFactory = DoubleNumFactory.getInstance();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void journalRoundTripsFills() throws IOException {
+        NumFactory decimalFactory = DecimalNumFactory.getInstance();
+        Path file = tempDir.resolve("fills.journal");
+        List<TradeFill> fills = List.of(
+                new TradeFill(0, START, decimalFactory.numOf("100.125"), decimalFactory.numOf("0.5"),
+                        decimalFactory.numOf("0.01"), ExecutionSide.BUY, "order-1", "corr-1"),
+                new TradeFill(3, null, decimalFactory.numOf("101"), decimalFactory.one(), null, ExecutionSide.SELL,
+                        null, null));
+        try (TradeFillJournal journal = TradeFillJournal.open(file, decimalFactory)) {
+            for (TradeFill fill : fills) {
+                journal.append(fill);
+            }
+        }
+
+        List<TradeFill> replayed = new ArrayList<>();
+        try (TradeFillJournal journal = TradeFillJournal.open(file, decimalFactory, TradeFillJournal.HEADER_SIZE,
+                replayed::add)) {
+            assertEquals(Files.size(file), journal.size());
+        }
+        assertEquals(fills, replayed);
+    }
+
+    @Test
+    void truncatedTailIsDiscarded() throws IOException {
+        Path file = tempDir.resolve("fills.journal");
+        long validSize;
+        try (TradeFillJournal journal = TradeFillJournal.open(file, numFactory)) {
+            journal.append(fill(0));
+            validSize = journal.append(fill(1));
+            journal.append(fill(2));
+        }
+        // simulates a crash in the middle of the last append
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        List<TradeFill> replayed = new ArrayList<>();
+        try (TradeFillJournal journal = TradeFillJournal.open(file, numFactory, TradeFillJournal.HEADER_SIZE,
+                replayed::add)) {
+            assertEquals(validSize, journal.size());
+            assertEquals(validSize, Files.size(file));
+            journal.append(fill(2));
+        }
+        assertEquals(List.of(fill(0), fill(1)), replayed);
+
+        replayed.clear();
+        TradeFillJournal.open(file, numFactory, TradeFillJournal.HEADER_SIZE, replayed::add).close();
+        assertEquals(List.of(fill(0), fill(1), fill(2)), replayed);
+    }
+
+    @Test
+    void restartRestoresSnapshotAndReplaysTail() throws IOException {
+        Path directory = tempDir.resolve("live");
+        Path crashed = tempDir.resolve("crashed");
+        BaseTradingRecord expected = new BaseTradingRecord();
+        try (JournaledTradingRecord live = JournaledTradingRecord.open(directory, new BaseTradingRecord(), numFactory,
+                4)) {
+            for (int i = 0; i < 10; i++) {
+                live.operate(fill(i));
+                expected.operate(fill(i));
+            }
+            // copies the state left behind by a crash: snapshot at 8 fills, 2 fills in the tail
+            Files.createDirectories(crashed);
+            Files.copy(directory.resolve(JournaledTradingRecord.JOURNAL_FILE),
+                    crashed.resolve(JournaledTradingRecord.JOURNAL_FILE));
+            Files.copy(directory.resolve(JournaledTradingRecord.SNAPSHOT_FILE),
+                    crashed.resolve(JournaledTradingRecord.SNAPSHOT_FILE));
+        }
+
+        for (Path restartDirectory : List.of(crashed, directory)) {
+            try (JournaledTradingRecord restored = JournaledTradingRecord.open(restartDirectory,
+                    new BaseTradingRecord(), numFactory, 4)) {
+                assertEquals(10, restored.getFillCount());
+                assertSameRecord(expected, restored.getRecord());
+
+                restored.operate(fill(10));
+                assertEquals(11, restored.getFillCount());
+            }
+        }
+    }
+
+    @Test
+    void trackedCriteriaMatchBatchEvaluation() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+        NetProfitCriterion netProfit = new NetProfitCriterion();
+        NumberOfWinningPositionsCriterion winners = new NumberOfWinningPositionsCriterion();
+        Path directory = tempDir.resolve("live");
+
+        try (JournaledTradingRecord live = JournaledTradingRecord.open(directory, new BaseTradingRecord(), numFactory,
+                3)) {
+            live.operate(fill(0));
+            live.operate(fill(1));
+            IncrementalCriterion trackedProfit = live.track(netProfit, series);
+            IncrementalCriterion trackedWinners = live.track(winners, series);
+            for (int i = 2; i < 25; i++) {
+                live.operate(fill(i));
+                assertEquals(netProfit.calculate(series, live.getRecord()), trackedProfit.getValue());
+                assertEquals(winners.calculate(series, live.getRecord()), trackedWinners.getValue());
+            }
+        }
+
+        try (JournaledTradingRecord restored = JournaledTradingRecord.open(directory, new BaseTradingRecord(),
+                numFactory, 3)) {
+            IncrementalCriterion trackedProfit = restored.track(netProfit, series);
+            restored.operate(fill(25));
+            assertEquals(netProfit.calculate(series, restored.getRecord()), trackedProfit.getValue());
+        }
+    }
+
+    @Test
+    void trackRejectsCriteriaThatAreNotPositionAdditive() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+
+        try (JournaledTradingRecord live = JournaledTradingRecord.open(tempDir.resolve("live"),
+                new BaseTradingRecord(), numFactory, 3)) {
+            live.operate(fill(0));
+            live.operate(fill(1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> live.track(new ReturnOverMaxDrawdownCriterion(), series));
+            assertThrows(IllegalArgumentException.class, () -> live.track(new MaximumDrawdownCriterion(), series));
+            assertThrows(IllegalArgumentException.class,
+                    () -> live.track(new PositionsRatioCriterion(PositionFilter.PROFIT), series));
+            assertThrows(IllegalArgumentException.class, () -> live.track(new NumberOfPositionsCriterion(), series));
+        }
+    }
+
+    @Test
+    void failedAppendStopsTheRecordUntilItIsReopened() throws IOException {
+        Path directory = tempDir.resolve("live");
+        BaseTradingRecord expected = new BaseTradingRecord();
+        // order ids longer than 65535 bytes cannot be journaled
+        TradeFill unjournaled = new TradeFill(1, START.plusSeconds(60), numFactory.hundred(), numFactory.one(),
+                numFactory.zero(), ExecutionSide.SELL, "x".repeat(70_000), null);
+        try (JournaledTradingRecord live = JournaledTradingRecord.open(directory, new BaseTradingRecord(), numFactory,
+                100)) {
+            live.operate(fill(0));
+            expected.operate(fill(0));
+
+            assertThrows(UncheckedIOException.class, () -> live.operate(unjournaled));
+            assertThrows(IllegalStateException.class, () -> live.operate(fill(2)));
+            assertThrows(IllegalStateException.class, live::snapshot);
+            assertEquals(1, live.getFillCount());
+        }
+        assertFalse(Files.exists(directory.resolve(JournaledTradingRecord.SNAPSHOT_FILE)));
+
+        try (JournaledTradingRecord restored = JournaledTradingRecord.open(directory, new BaseTradingRecord(),
+                numFactory, 100)) {
+            assertEquals(1, restored.getFillCount());
+            assertSameRecord(expected, restored.getRecord());
+        }
+    }
+
+    private TradeFill fill(int index) {
+        ExecutionSide side = index % 2 == 0 ? ExecutionSide.BUY : ExecutionSide.SELL;
+        return new TradeFill(index, START.plusSeconds(60L * index), numFactory.numOf(100 + (index * 7) % 11),
+                numFactory.one(), numFactory.numOf(0.05), side, "order-" + index, null);
+    }
+
+    private static void assertSameRecord(BaseTradingRecord expected, BaseTradingRecord actual) {
+        assertEquals(expected.getTrades().size(), actual.getTrades().size());
+        assertEquals(expected.getPositionCount(), actual.getPositionCount());
+        for (int i = 0; i < expected.getPositionCount(); i++) {
+            assertEquals(expected.getPositions().get(i).getProfit(), actual.getPositions().get(i).getProfit());
+        }
+        assertEquals(expected.getRecordedTotalFees(), actual.getRecordedTotalFees());
+        assertEquals(expected.getCurrentPosition().isOpened(), actual.getCurrentPosition().isOpened());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.named;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.serialization.ComponentDescriptor;
+
+public class ExpressionTemplateTest {
+
+    private final NamedAssetRegistry registry = NamedAssetRegistry.defaultRegistry();
+
+    @Test
+    public void compiledStrategyMatchesDirectExpansion() {
+        ExpressionTemplate<Strategy> template = ExpressionTemplate.strategy("SMA({fast},{slow})");
+
+        assertThat(template.parameterNames()).containsExactly("fast", "slow");
+        for (int fast = 2; fast < 6; fast++) {
+            for (int slow = fast + 1; slow < 9; slow++) {
+                ComponentDescriptor expected = registry.toDescriptor(NamedAssetKind.STRATEGY,
+                        "SMA(" + fast + "," + slow + ")");
+                assertThat(template.toDescriptor(fast, slow)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void repeatedSlotsAndNestedExpressionsAreBound() {
+        ExpressionTemplate<Rule> template = ExpressionTemplate.rule("CrossedUp(SMA({n}),EMA(RSI({rsi}),{n}))");
+
+        assertThat(template.parameterNames()).containsExactly("n", "rsi");
+        assertThat(template.toDescriptor(Map.of("n", 5, "rsi", 14)))
+                .isEqualTo(registry.toDescriptor(NamedAssetKind.RULE, "CrossedUp(SMA(5),EMA(RSI(14),5))"));
+        assertThat(template.toDescriptor(7, 10))
+                .isEqualTo(registry.toDescriptor(NamedAssetKind.RULE, "CrossedUp(SMA(7),EMA(RSI(10),7))"));
+    }
+
+    @Test
+    public void decimalValuesUsePlainNotation() {
+        ExpressionTemplate<Rule> template = ExpressionTemplate.rule("StopLoss({loss}%)");
+
+        assertThat(template.toDescriptor(0.0000001))
+                .isEqualTo(registry.toDescriptor(NamedAssetKind.RULE, "StopLoss(0.0000001%)"));
+        assertThrows(IllegalArgumentException.class, () -> template.toDescriptor(Double.NaN));
+    }
+
+    @Test
+    public void mismatchedValuesThrow() {
+        ExpressionTemplate<Strategy> template = ExpressionTemplate.strategy("SMA({fast},{slow})");
+
+        assertThrows(IllegalArgumentException.class, () -> template.toDescriptor(5));
+        assertThrows(IllegalArgumentException.class, () -> template.toDescriptor(Map.of("fast", 5, "other", 20)));
+        assertThrows(IllegalArgumentException.class, () -> template.toDescriptor(5, null));
+    }
+
+    @Test
+    public void memoStaysBoundedAcrossLargeSweeps() {
+        NamedAssetRegistry.Template template = registry.compile(NamedAssetKind.RULE,
+                "Or(CrossedUp(SMA({fast}),SMA({slow})),CrossedDown(SMA({fast}),SMA({slow})))");
+
+        for (int fast = 2; fast < 62; fast++) {
+            for (int slow = 100; slow < 160; slow++) {
+                template.toDescriptor(fast, slow);
+                assertThat(template.memoSize()).isLessThanOrEqualTo(NamedAssetRegistry.DescriptorMemo.DEFAULT_CAPACITY);
+            }
+        }
+        assertThat(template.toDescriptor(61, 159)).isEqualTo(registry.toDescriptor(NamedAssetKind.RULE,
+                "Or(CrossedUp(SMA(61),SMA(159)),CrossedDown(SMA(61),SMA(159)))"));
+    }
+
+    @Test
+    public void bindBuildsComponentsPerSeries() {
+        BarSeries series = new MockBarSeriesBuilder().withData(1, 2, 3, 4, 5, 6, 5, 4, 3, 2).build();
+
+        Strategy strategy = ExpressionTemplate.strategy("SMA({fast},{slow})").bind(series, 2, 4);
+        Indicator<?> indicator = ExpressionTemplate.indicator("SMA({n})").bind(series, 3);
+
+        assertThat(strategy.getUnstableBars()).isEqualTo(4);
+        assertThat(((Num) indicator.getValue(4)).doubleValue()).isEqualTo(4.0);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.analysis.EquityCurveMode;
+import org.ta4j.core.analysis.OpenPositionHandling;
+import org.ta4j.core.criteria.OmegaRatioCriterion;
+import org.ta4j.core.criteria.ReturnRepresentation;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.averages.EMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.OverIndicatorRule;
+import org.ta4j.core.rules.StopLossRule;
+import org.ta4j.core.rules.UnderIndicatorRule;
+
+public class ComponentBinarySerializationTest {
+
+    private final BarSeries series = new MockBarSeriesBuilder().withData(1, 2, 3, 4, 5, 4, 3, 2, 3, 4).build();
+
+    @Test
+    public void strategyRoundTripsLosslesslyWithJson() {
+        Strategy strategy = strategy(9, 26);
+
+        byte[] bytes = ComponentBinarySerialization.toBytes(strategy);
+        Strategy restored = ComponentBinarySerialization.strategyFromBytes(series, bytes);
+
+        assertThat(ComponentBinarySerialization.parse(bytes)).isEqualTo(StrategySerialization.describe(strategy));
+        assertThat(restored.toJson()).isEqualTo(strategy.toJson());
+        assertThat(bytes.length < strategy.toJson().getBytes(StandardCharsets.UTF_8).length).isTrue();
+    }
+
+    @Test
+    public void indicatorRuleAndCriterionRoundTrip() {
+        ClosePriceIndicator close = new ClosePriceIndicator(series);
+        Indicator<?> indicator = new MACDIndicator(close, 12, 26);
+        Rule rule = new OverIndicatorRule(new EMAIndicator(close, 5), new EMAIndicator(close, 10));
+        AnalysisCriterion criterion = new OmegaRatioCriterion(ReturnRepresentation.PERCENTAGE, 0.05,
+                EquityCurveMode.REALIZED, OpenPositionHandling.IGNORE);
+
+        Indicator<?> restoredIndicator = ComponentBinarySerialization.indicatorFromBytes(series,
+                ComponentBinarySerialization.toBytes(indicator));
+        Rule restoredRule = ComponentBinarySerialization.ruleFromBytes(series,
+                ComponentBinarySerialization.toBytes(rule));
+        AnalysisCriterion restoredCriterion = ComponentBinarySerialization
+                .criterionFromBytes(ComponentBinarySerialization.toBytes(criterion));
+
+        assertThat(restoredIndicator.toJson()).isEqualTo(indicator.toJson());
+        assertThat(restoredRule.toJson()).isEqualTo(rule.toJson());
+        assertThat(restoredCriterion.toJson()).isEqualTo(criterion.toJson());
+    }
+
+    @Test
+    public void parsedJsonDescriptorsKeepParameterTypes() {
+        String json = "{\"type\":\"AndRule\",\"label\":\"entry\",\"parameters\":{\"period\":14.0,\"threshold\":-0.25,"
+                + "\"flag\":true,\"name\":\"x\",\"nested\":{\"values\":[1.0,null,\"a\"]}},"
+                + "\"components\":[{\"label\":\"left\"},null,{\"type\":\"FixedRule\"}]}";
+        ComponentDescriptor parsed = ComponentSerialization.parse(json);
+
+        ComponentDescriptor restored = ComponentBinarySerialization.parse(ComponentBinarySerialization.toBytes(parsed));
+
+        assertThat(restored).isEqualTo(parsed);
+        assertThat(ComponentSerialization.toJson(restored)).isEqualTo(ComponentSerialization.toJson(parsed));
+    }
+
+    @Test
+    public void javaParameterTypesArePreserved() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("int", -7);
+        parameters.put("long", Long.MIN_VALUE);
+        parameters.put("short", (short) 300);
+        parameters.put("byte", (byte) -3);
+        parameters.put("float", 1.5f);
+        parameters.put("negativeZero", -0.0d);
+        parameters.put("nan", Double.NaN);
+        parameters.put("large", 1e300);
+        parameters.put("decimal", new BigDecimal("-12345678901234567890.000123"));
+        parameters.put("integer", new BigInteger("123456789012345678901234567890"));
+        parameters.put("enum", TradeType.SELL);
+        parameters.put("list", List.of(1, "two", List.of(3.0)));
+        parameters.put("null", null);
+        ComponentDescriptor descriptor = ComponentDescriptor.builder()
+                .withType("Custom")
+                .withParameters(parameters)
+                .build();
+
+        ComponentDescriptor restored = ComponentBinarySerialization
+                .parse(ComponentBinarySerialization.toBytes(descriptor));
+
+        assertThat(restored).isEqualTo(descriptor);
+        assertThat(restored.getParameters().get("short")).isInstanceOf(Short.class);
+        assertThat(Double.doubleToRawLongBits((Double) restored.getParameters().get("negativeZero")))
+                .isEqualTo(Double.doubleToRawLongBits(-0.0d));
+    }
+
+    @Test
+    public void streamSharesInternedStringsAcrossDescriptors() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        int single = 0;
+        try (ComponentBinarySerialization.Encoder encoder = new ComponentBinarySerialization.Encoder(stream)) {
+            for (int shortPeriod = 2; shortPeriod < 12; shortPeriod++) {
+                ComponentDescriptor descriptor = StrategySerialization.describe(strategy(shortPeriod, 26));
+                single += ComponentBinarySerialization.toBytes(descriptor).length;
+                encoder.write(descriptor);
+            }
+        }
+        assertThat(stream.size() < single / 2).isTrue();
+
+        ComponentBinarySerialization.Decoder decoder = new ComponentBinarySerialization.Decoder(
+                new ByteArrayInputStream(stream.toByteArray()));
+        for (int shortPeriod = 2; shortPeriod < 12; shortPeriod++) {
+            ComponentDescriptor descriptor = decoder.read();
+            assertThat(StrategySerialization.fromDescriptor(series, descriptor).toJson())
+                    .isEqualTo(strategy(shortPeriod, 26).toJson());
+        }
+        assertThat(decoder.read()).isNull();
+    }
+
+    @Test
+    public void rejectsMalformedPayloads() {
+        byte[] bytes = ComponentBinarySerialization.toBytes(strategy(9, 26));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ComponentBinarySerialization.parse(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> ComponentBinarySerialization.parse(Arrays.copyOf(bytes, bytes.length + 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> ComponentBinarySerialization.parse("{\"type\":\"AndRule\"}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalArgumentException.class, () -> ComponentBinarySerialization.toBytes(ComponentDescriptor
+                .builder()
+                .withType("Custom")
+                .withParameters(Map.of("value", new StringBuilder("unsupported")))
+                .build()));
+    }
+
+    private Strategy strategy(int shortPeriod, int longPeriod) {
+        ClosePriceIndicator close = new ClosePriceIndicator(series);
+        EMAIndicator shortEma = new EMAIndicator(close, shortPeriod);
+        EMAIndicator longEma = new EMAIndicator(close, longPeriod);
+        Rule entry = new OverIndicatorRule(shortEma, longEma).and(new CrossedDownIndicatorRule(close, shortEma));
+        Rule exit = new UnderIndicatorRule(shortEma, longEma).or(new StopLossRule(close, 3));
+        return new BaseStrategy("Momentum " + shortPeriod, entry, exit, longPeriod);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.NumFactory;
+
+class MappedBarSeriesTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final NumFactory numFactory = DoubleNumFactory.getInstance();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void mappedSeriesMatchesWrittenSeries() throws IOException {
+        BarSeries series = minuteSeries(2_000);
+        Path compressed = tempDir.resolve("compressed.t4bs");
+        Path raw = tempDir.resolve("raw.t4bs");
+
+        BinaryBarSeriesWriter.write(series, compressed);
+        BinaryBarSeriesWriter.write(series, raw, false);
+
+        assertTrue(Files.size(compressed) < Files.size(raw));
+        for (Path file : new Path[] { compressed, raw }) {
+            MappedBarSeries mapped = MappedBarSeries.open(file, numFactory);
+            assertEquals("minutes", mapped.getName());
+            assertEquals(series.getBarCount(), mapped.getBarCount());
+            assertEquals(0, mapped.getBeginIndex());
+            assertEquals(series.getEndIndex(), mapped.getEndIndex());
+            for (int i = 0; i < series.getBarCount(); i++) {
+                assertSameBar(series.getBar(i), mapped.getBar(i));
+            }
+        }
+    }
+
+    @Test
+    void constantTrailingColumnNeedsNoPadding() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+        for (int i = 0; i < 3; i++) {
+            series.barBuilder()
+                    .timePeriod(Duration.ofMinutes(1))
+                    .endTime(START.plus(Duration.ofMinutes(i + 1)))
+                    .openPrice(1.5d + i)
+                    .highPrice(2.5d + i)
+                    .lowPrice(0.5d + i)
+                    .closePrice(1.25d + i)
+                    .volume(4d + i)
+                    .add();
+        }
+        Path file = tempDir.resolve("constant.t4bs");
+        BinaryBarSeriesWriter.write(series, file);
+
+        MappedBarSeries mapped = MappedBarSeries.open(file, numFactory);
+        for (int i = 0; i < series.getBarCount(); i++) {
+            assertSameBar(series.getBar(i), mapped.getBar(i));
+        }
+    }
+
+    @Test
+    void indicatorsOnMappedSeriesMatchTheSource() throws IOException {
+        BarSeries series = minuteSeries(500);
+        Path file = tempDir.resolve("series.t4bs");
+        BinaryBarSeriesWriter.write(series, file);
+
+        MappedBarSeries mapped = MappedBarSeries.open(file, numFactory);
+        SMAIndicator expected = new SMAIndicator(new ClosePriceIndicator(series), 20);
+        SMAIndicator actual = new SMAIndicator(new ClosePriceIndicator(mapped), 20);
+        for (int i = 0; i < series.getBarCount(); i++) {
+            assertEquals(expected.getValue(i), actual.getValue(i));
+        }
+
+        MappedBarSeries subSeries = mapped.getSubSeries(100, 200);
+        assertEquals(100, subSeries.getBarCount());
+        assertSameBar(series.getBar(100), subSeries.getBar(0));
+        assertSameBar(series.getBar(199), subSeries.getBar(subSeries.getEndIndex()));
+        assertEquals(subSeries.getBarCount(), subSeries.getBarData().size());
+    }
+
+    @Test
+    void absentValuesAndEmptySeriesRoundTrip() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+        series.addBar(new BaseBar(Duration.ofMinutes(1), null, START, null, null, null, numFactory.numOf(10),
+                numFactory.one(), null, 0));
+        Path file = tempDir.resolve("sparse.t4bs");
+        BinaryBarSeriesWriter.write(series, file);
+
+        Bar bar = MappedBarSeries.open(file, numFactory).getBar(0);
+        assertNull(bar.getOpenPrice());
+        assertNull(bar.getAmount());
+        assertEquals(numFactory.numOf(10), bar.getClosePrice());
+
+        Path empty = tempDir.resolve("empty.t4bs");
+        BinaryBarSeriesWriter.write(new BaseBarSeriesBuilder().withNumFactory(numFactory).withName("empty").build(),
+                empty);
+        MappedBarSeries emptySeries = MappedBarSeries.open(empty, numFactory);
+        assertTrue(emptySeries.isEmpty());
+        assertEquals("empty", emptySeries.getName());
+    }
+
+    @Test
+    void mappedSeriesIsReadOnlyAndSerializesAsCopy() throws IOException, ClassNotFoundException {
+        BarSeries series = minuteSeries(50);
+        Path file = tempDir.resolve("series.t4bs");
+        BinaryBarSeriesWriter.write(series, file);
+        MappedBarSeries mapped = MappedBarSeries.open(file, numFactory);
+
+        assertThrows(UnsupportedOperationException.class, () -> mapped.addBar(series.getBar(0)));
+        assertThrows(UnsupportedOperationException.class, () -> mapped.addPrice(numFactory.one()));
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.getBar(50));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(mapped);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            BaseBarSeries copy = assertInstanceOf(BaseBarSeries.class, input.readObject());
+            assertEquals(50, copy.getBarCount());
+            assertSameBar(series.getBar(49), copy.getBar(49));
+        }
+    }
+
+    @Test
+    void rejectsForeignFiles() throws IOException {
+        Path file = tempDir.resolve("foreign.t4bs");
+        Files.write(file, new byte[128]);
+
+        assertThrows(IOException.class, () -> MappedBarSeries.open(file, numFactory));
+    }
+
+    @Test
+    void rejectsSeriesThatWouldBeRounded() throws IOException {
+        BarSeries decimalSeries = new BaseBarSeriesBuilder().withNumFactory(DecimalNumFactory.getInstance()).build();
+        decimalSeries.barBuilder()
+                .timePeriod(Duration.ofMinutes(1))
+                .endTime(START.plus(Duration.ofMinutes(1)))
+                .openPrice("0.1")
+                .highPrice("0.30000000000000000001")
+                .lowPrice("0.1")
+                .closePrice("0.2")
+                .volume(1)
+                .add();
+        Path file = tempDir.resolve("decimal.t4bs");
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryBarSeriesWriter.write(decimalSeries, file));
+
+        Path doubleFile = tempDir.resolve("double.t4bs");
+        BinaryBarSeriesWriter.write(minuteSeries(10), doubleFile);
+        MappedBarSeries mapped = MappedBarSeries.open(doubleFile, DecimalNumFactory.getInstance());
+        BinaryBarSeriesWriter.write(mapped, file);
+        MappedBarSeries rewritten = MappedBarSeries.open(file, numFactory);
+        for (int i = 0; i < mapped.getBarCount(); i++) {
+            assertEquals(mapped.getBar(i).getClosePrice().doubleValue(),
+                    rewritten.getBar(i).getClosePrice().doubleValue());
+        }
+    }
+
+    private BarSeries minuteSeries(int barCount) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).withName("minutes").build();
+        long minute = 0;
+        for (int i = 0; i < barCount; i++) {
+            if (i % 97 == 96) {
+                minute += 3;
+            }
+            minute++;
+            double close = 100d + Math.sin(i / 10d) * 5d;
+            series.barBuilder()
+                    .timePeriod(Duration.ofMinutes(1))
+                    .endTime(START.plus(Duration.ofMinutes(minute)))
+                    .openPrice(close - 0.25d)
+                    .highPrice(close + 1d)
+                    .lowPrice(close - 1d)
+                    .closePrice(close)
+                    .volume(10d + (i % 7))
+                    .amount(close * 10d)
+                    .trades(3 + i % 5)
+                    .add();
+        }
+        return series;
+    }
+
+    private static void assertSameBar(Bar expected, Bar actual) {
+        assertEquals(expected.getTimePeriod(), actual.getTimePeriod());
+        assertEquals(expected.getBeginTime(), actual.getBeginTime());
+        assertEquals(expected.getEndTime(), actual.getEndTime());
+        assertEquals(expected.getOpenPrice(), actual.getOpenPrice());
+        assertEquals(expected.getHighPrice(), actual.getHighPrice());
+        assertEquals(expected.getLowPrice(), actual.getLowPrice());
+        assertEquals(expected.getClosePrice(), actual.getClosePrice());
+        assertEquals(expected.getVolume(), actual.getVolume());
+        assertEquals(expected.getAmount(), actual.getAmount());
+        assertEquals(expected.getTrades(), actual.getTrades());
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package org.ta4j.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.ExecutionSide;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradeFill;
+import org.ta4j.core.analysis.cost.LinearTransactionCostModel;
+import org.ta4j.core.analysis.cost.ZeroCostModel;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.NumFactory;
+
+class SeriesExternalizationTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void decimalSeriesRoundTripsExactlyAndSmallerThanJavaSerialization() throws IOException {
+        NumFactory numFactory = DecimalNumFactory.getInstance(new MathContext(24, RoundingMode.HALF_EVEN));
+        BarSeries series = minuteSeries(numFactory, 1_000);
+
+        byte[] bytes = write(series);
+        BarSeries restored = SeriesExternalization.readBarSeries(new ByteArrayInputStream(bytes));
+
+        assertSameSeries(series, restored);
+        DecimalNum close = (DecimalNum) restored.getBar(10).getClosePrice();
+        assertEquals(24, close.getMathContext().getPrecision());
+        assertEquals(RoundingMode.HALF_EVEN, close.getMathContext().getRoundingMode());
+        assertTrue(bytes.length * 5 < javaSerializedSize(series));
+    }
+
+    @Test
+    void doubleSeriesKeepsIndicesNullsAndNaN() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withName("gaps")
+                .withNumFactory(DoubleNumFactory.getInstance())
+                .withMaxBarCount(50)
+                .build();
+        for (int i = 0; i < 60; i++) {
+            if (i == 30) {
+                NumFactory numFactory = series.numFactory();
+                series.addBar(new BaseBar(Duration.ofHours(4), null, START.plus(Duration.ofHours(4L * i)),
+                        numFactory.numOf(13), numFactory.numOf(14), numFactory.numOf(12), numFactory.numOf(13),
+                        numFactory.numOf(30), null, 0));
+                continue;
+            }
+            series.barBuilder()
+                    .timePeriod(Duration.ofHours(i % 3 == 0 ? 1 : 4))
+                    .endTime(START.plus(Duration.ofHours(4L * i)))
+                    .openPrice(i == 20 ? Double.NaN : 10 + i * 0.1)
+                    .highPrice(11 + i * 0.1)
+                    .lowPrice(9 + i * 0.1)
+                    .closePrice(i == 0 ? -0.0d : i)
+                    .volume(i)
+                    .trades(i * 3L)
+                    .add();
+        }
+
+        BarSeries restored = SeriesExternalization.readBarSeries(new ByteArrayInputStream(write(series)));
+
+        assertSameSeries(series, restored);
+        assertEquals(10, restored.getBeginIndex());
+        assertEquals(50, restored.getMaximumBarCount());
+        assertNull(restored.getBar(30).getAmount());
+    }
+
+    @Test
+    void consecutiveObjectsShareOneStream() throws IOException {
+        NumFactory numFactory = DoubleNumFactory.getInstance();
+        BarSeries first = minuteSeries(numFactory, 10);
+        BarSeries second = minuteSeries(numFactory, 20);
+        BaseTradingRecord record = record(numFactory);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SeriesExternalization.writeBarSeries(first, out);
+        SeriesExternalization.writeTradingRecord(record, out);
+        SeriesExternalization.writeBarSeries(second, out);
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        assertSameSeries(first, SeriesExternalization.readBarSeries(in));
+        assertSameRecord(record, SeriesExternalization.readTradingRecord(in, null, null));
+        assertSameSeries(second, SeriesExternalization.readBarSeries(in));
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    void tradingRecordRoundTripsFillsAndCosts() throws IOException {
+        NumFactory numFactory = DecimalNumFactory.getInstance();
+        BaseTradingRecord record = new BaseTradingRecord(Trade.TradeType.BUY, new LinearTransactionCostModel(0.01),
+                new ZeroCostModel());
+        record.setName("swing");
+        record.enter(1, numFactory.numOf("100.25"), numFactory.numOf(3));
+        record.exit(4, numFactory.numOf("104.5"), numFactory.numOf(3));
+        record.enter(6, numFactory.numOf(99), numFactory.two());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SeriesExternalization.writeTradingRecord(record, out);
+
+        BaseTradingRecord restored = SeriesExternalization.readTradingRecord(
+                new ByteArrayInputStream(out.toByteArray()), new LinearTransactionCostModel(0.01), null);
+
+        assertSameRecord(record, restored);
+        assertEquals("swing", restored.getName());
+        assertEquals(record.getTotalFees(), restored.getTotalFees());
+        assertEquals(1, restored.getOpenPositions().size());
+
+        BaseTradingRecord live = record(numFactory);
+        out.reset();
+        SeriesExternalization.writeTradingRecord(live, out);
+        assertSameRecord(live,
+                SeriesExternalization.readTradingRecord(new ByteArrayInputStream(out.toByteArray()), null, null));
+    }
+
+    @Test
+    void rejectsMalformedStreams() throws IOException {
+        byte[] bytes = write(minuteSeries(DoubleNumFactory.getInstance(), 5));
+
+        assertThrows(IOException.class, () -> SeriesExternalization
+                .readBarSeries(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1))));
+        assertThrows(StreamCorruptedException.class, () -> SeriesExternalization
+                .readTradingRecord(new ByteArrayInputStream(bytes), null, null));
+    }
+
+    private static BaseTradingRecord record(NumFactory numFactory) {
+        BaseTradingRecord record = new BaseTradingRecord();
+        for (int i = 0; i < 6; i++) {
+            ExecutionSide side = i % 2 == 0 ? ExecutionSide.BUY : ExecutionSide.SELL;
+            record.operate(new TradeFill(i, START.plusSeconds(60L * i), numFactory.numOf(100 + (i * 7) % 11),
+                    numFactory.one(), numFactory.numOf(0.05), side, "order-" + i, i == 3 ? "group" : null));
+        }
+        return record;
+    }
+
+    private static byte[] write(BarSeries series) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SeriesExternalization.writeBarSeries(series, out);
+        return out.toByteArray();
+    }
+
+    private static int javaSerializedSize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.size();
+    }
+
+    private static BarSeries minuteSeries(NumFactory numFactory, int barCount) {
+        BarSeries series = new BaseBarSeriesBuilder().withName("minutes").withNumFactory(numFactory).build();
+        for (int i = 0; i < barCount; i++) {
+            double close = 100 + Math.round(Math.sin(i / 10d) * 500) / 100d;
+            series.barBuilder()
+                    .timePeriod(Duration.ofMinutes(1))
+                    .endTime(START.plus(Duration.ofMinutes(i + 1)))
+                    .openPrice(close - 0.25d)
+                    .highPrice(close + 1d)
+                    .lowPrice(close - 1d)
+                    .closePrice(close)
+                    .volume(10d + (i % 7))
+                    .amount(close * 10d)
+                    .trades(i % 5)
+                    .add();
+        }
+        return series;
+    }
+
+    private static void assertSameSeries(BarSeries expected, BarSeries actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getBeginIndex(), actual.getBeginIndex());
+        assertEquals(expected.getEndIndex(), actual.getEndIndex());
+        assertInstanceOf(expected.numFactory().getClass(), actual.numFactory());
+        for (int i = expected.getBeginIndex(); i <= expected.getEndIndex(); i++) {
+            Bar expectedBar = expected.getBar(i);
+            Bar actualBar = actual.getBar(i);
+            if (Double.isNaN(expectedBar.getOpenPrice().doubleValue())) {
+                // NaN-valued DoubleNums never equal each other
+                assertTrue(Double.isNaN(actualBar.getOpenPrice().doubleValue()));
+                assertEquals(expectedBar.getEndTime(), actualBar.getEndTime());
+            } else {
+                assertEquals(expectedBar, actualBar);
+            }
+            assertEquals(Double.doubleToRawLongBits(expectedBar.getClosePrice().doubleValue()),
+                    Double.doubleToRawLongBits(actualBar.getClosePrice().doubleValue()));
+        }
+    }
+
+    private static void assertSameRecord(BaseTradingRecord expected, BaseTradingRecord actual) {
+        assertEquals(expected.getStartingType(), actual.getStartingType());
+        assertEquals(expected.getMatchPolicy(), actual.getMatchPolicy());
+        assertEquals(expected.getTrades(), actual.getTrades());
+        assertEquals(expected.getPositions(), actual.getPositions());
+        assertEquals(expected.getCurrentPosition().isOpened(), actual.getCurrentPosition().isOpened());
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.barSeries;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.NumFactory;
+import org.ta4j.core.storage.SeriesExternalization;
+
+/**
+ * Compares {@link SeriesExternalization} with Java serialization
+ * ({@link ObjectOutputStream}) for bar series and trading records, by encoded
+ * size and by write and read throughput.
+ * <p>
+ * Arguments: {@code [bars] [iterations]}.
+ *
+ * @since 0.23.1
+ */
+public class SeriesExternalizationBenchmark {
+
+    private static final Logger LOG = LogManager.getLogger(SeriesExternalizationBenchmark.class);
+
+    private static final int DEFAULT_BARS = 100_000;
+    private static final int DEFAULT_ITERATIONS = 10;
+    private static final Instant START = Instant.parse("2020-01-01T00:00:00Z");
+
+    public static void main(String[] args) throws Exception {
+        int bars = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BARS;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+
+        for (NumFactory numFactory : new NumFactory[] { DoubleNumFactory.getInstance(),
+                DecimalNumFactory.getInstance() }) {
+            BarSeries series = buildSeries(numFactory, bars);
+            BaseTradingRecord record = buildRecord(numFactory, bars);
+            String type = numFactory.one().getClass().getSimpleName();
+            compare(type + " series", series, iterations, new Codec() {
+                @Override
+                public void write(Object value, ByteArrayOutputStream out) throws IOException {
+                    SeriesExternalization.writeBarSeries((BarSeries) value, out);
+                }
+
+                @Override
+                public Object read(byte[] bytes) throws IOException {
+                    return SeriesExternalization.readBarSeries(new ByteArrayInputStream(bytes));
+                }
+            });
+            compare(type + " trading record", record, iterations, new Codec() {
+                @Override
+                public void write(Object value, ByteArrayOutputStream out) throws IOException {
+                    SeriesExternalization.writeTradingRecord((BaseTradingRecord) value, out);
+                }
+
+                @Override
+                public Object read(byte[] bytes) throws IOException {
+                    return SeriesExternalization.readTradingRecord(new ByteArrayInputStream(bytes), null, null);
+                }
+            });
+        }
+    }
+
+    private interface Codec {
+
+        void write(Object value, ByteArrayOutputStream out) throws IOException;
+
+        Object read(byte[] bytes) throws IOException, ClassNotFoundException;
+    }
+
+    private static final Codec JAVA_SERIALIZATION = new Codec() {
+        @Override
+        public void write(Object value, ByteArrayOutputStream out) throws IOException {
+            try (ObjectOutputStream objects = new ObjectOutputStream(out)) {
+                objects.writeObject(value);
+            }
+        }
+
+        @Override
+        public Object read(byte[] bytes) throws IOException, ClassNotFoundException {
+            try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                return objects.readObject();
+            }
+        }
+    };
+
+    private static void compare(String label, Object value, int iterations, Codec codec) throws Exception {
+        Result java = measure(value, iterations, JAVA_SERIALIZATION);
+        Result columnar = measure(value, iterations, codec);
+        NumberFormat format = NumberFormat.getIntegerInstance(Locale.US);
+        LOG.info("{}: java serialization {} bytes, write {} ms, read {} ms", label, format.format(java.bytes),
+                format.format(java.writeMillis), format.format(java.readMillis));
+        LOG.info("{}: externalization    {} bytes, write {} ms, read {} ms ({}x smaller, {}x faster round trip)",
+                label, format.format(columnar.bytes), format.format(columnar.writeMillis),
+                format.format(columnar.readMillis),
+                String.format(Locale.US, "%.1f", (double) java.bytes / Math.max(1, columnar.bytes)),
+                String.format(Locale.US, "%.1f", (java.writeMillis + java.readMillis)
+                        / Math.max(0.001, columnar.writeMillis + columnar.readMillis)));
+    }
+
+    private record Result(long bytes, double writeMillis, double readMillis) {
+    }
+
+    private static Result measure(Object value, int iterations, Codec codec) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(value, out);
+        byte[] bytes = out.toByteArray();
+        for (int i = 0; i < Math.max(1, iterations / 2); i++) {
+            out.reset();
+            codec.write(value, out);
+            codec.read(bytes);
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            out.reset();
+            codec.write(value, out);
+        }
+        double writeMillis = (System.nanoTime() - started) / 1e6 / iterations;
+        started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            codec.read(bytes);
+        }
+        double readMillis = (System.nanoTime() - started) / 1e6 / iterations;
+        return new Result(bytes.length, writeMillis, readMillis);
+    }
+
+    private static BarSeries buildSeries(NumFactory numFactory, int bars) {
+        BarSeries series = new BaseBarSeriesBuilder().withName("externalization-benchmark")
+                .withNumFactory(numFactory)
+                .build();
+        double close = 100;
+        for (int i = 0; i < bars; i++) {
+            close = Math.max(1, close + Math.round(Math.sin(i * 0.37) * 50) / 100d);
+            series.barBuilder()
+                    .timePeriod(Duration.ofMinutes(1))
+                    .endTime(START.plus(Duration.ofMinutes(i + 1L)))
+                    .openPrice(close - 0.25)
+                    .highPrice(close + 0.5)
+                    .lowPrice(close - 0.5)
+                    .closePrice(close)
+                    .volume(1_000 + i % 97)
+                    .trades(10 + i % 13)
+                    .add();
+        }
+        return series;
+    }
+
+    private static BaseTradingRecord buildRecord(NumFactory numFactory, int bars) {
+        BaseTradingRecord record = new BaseTradingRecord();
+        for (int i = 0; i + 5 < bars / 10; i += 10) {
+            record.enter(i, numFactory.numOf(100 + i % 7), numFactory.one());
+            record.exit(i + 5, numFactory.numOf(101 + i % 5), numFactory.one());
+        }
+        return record;
+    }
+}
@@ -3,19 +3,14 @@
  */
 package ta4jexamples.datasources;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.stream.JsonReader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.ta4j.core.BarSeries;
 import ta4jexamples.datasources.file.AbstractFileBarSeriesDataSource;
-import ta4jexamples.datasources.json.AdaptiveBarSeriesTypeAdapter;
+import ta4jexamples.datasources.json.StreamingBarSeriesTypeAdapter;
 
 import java.io.FileInputStream;
-import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 
@@ -23,9 +18,9 @@ import java.time.Instant;
  * A data source for BarSeries objects that can adapt to different JSON formats.
  * This class provides methods to load BarSeries data from JSON format,
  * specifically supporting multiple exchange formats such as Binance and
- * Coinbase. It uses Gson with a custom TypeAdapter to handle the
- * deserialization process. The data source can read from either an InputStream
- * or a file path.
+ * Coinbase. It uses a streaming Gson TypeAdapter to handle the deserialization
+ * process. The data source can read from either an InputStream or a file path,
+ * including gzip-compressed JSON.
  * <p>
  * Implements {@link BarSeriesDataSource} to support domain-driven loading by
  * ticker, interval, and date range. Searches for JSON files matching the
@@ -34,9 +29,7 @@ import java.time.Instant;
  * @since 0.19
  */
 public class JsonFileBarSeriesDataSource extends AbstractFileBarSeriesDataSource {
-    private static final Gson TYPEADAPTER_GSON = new GsonBuilder()
-            .registerTypeAdapter(BarSeries.class, new AdaptiveBarSeriesTypeAdapter())
-            .create();
+    private static final StreamingBarSeriesTypeAdapter STREAMING_ADAPTER = new StreamingBarSeriesTypeAdapter();
     private static final Logger LOG = LogManager.getLogger(JsonFileBarSeriesDataSource.class);
 
     /**
@@ -147,7 +140,9 @@ public class JsonFileBarSeriesDataSource extends AbstractFileBarSeriesDataSource
      * Internal implementation for loading from InputStream.
      * <p>
      * This method fully consumes the stream but does not close it, as per the
-     * interface contract. The caller is responsible for closing the stream.
+     * interface contract. The caller is responsible for closing the stream. Bars
+     * are parsed incrementally, and gzip-compressed JSON is detected
+     * automatically.
      */
     private BarSeries loadFromStream(InputStream inputStream) {
         if (inputStream == null) {
@@ -155,20 +150,8 @@ public class JsonFileBarSeriesDataSource extends AbstractFileBarSeriesDataSource
             return null;
         }
 
-        // Read the stream fully into a String without closing it
-        // This ensures we fully consume the stream while respecting the contract
-        // that the caller is responsible for closing it
-        String jsonContent;
         try {
-            jsonContent = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            LOG.debug("Unable to read from input stream", e);
-            return null;
-        }
-
-        // Parse the JSON content from the String
-        try (JsonReader reader = new JsonReader(new java.io.StringReader(jsonContent))) {
-            return TYPEADAPTER_GSON.fromJson(reader, BarSeries.class);
+            return STREAMING_ADAPTER.read(inputStream);
         } catch (Exception e) {
             LOG.debug("Unable to load bars from JSON using TypeAdapter", e);
             return null;
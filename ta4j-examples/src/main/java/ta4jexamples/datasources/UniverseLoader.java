@@ -0,0 +1,413 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.datasources;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ta4j.core.BarSeries;
+import ta4jexamples.datasources.http.HttpBarSeriesDataSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the series of many symbols concurrently, e.g. a whole universe for a
+ * cross-sectional backtest.
+ * <p>
+ * Requests to {@link HttpBarSeriesDataSource}s run on virtual threads, so
+ * thousands of symbols can wait on the network without tying up platform
+ * threads. Requests to other (file-based, CPU-bound) data sources run on a
+ * bounded pool of {@link Builder#parsingThreads(int) parsing threads}. At most
+ * {@link Builder#maxInFlight(int) maxInFlight} requests are outstanding at any
+ * time; submission blocks until one completes, which keeps memory bounded for
+ * large universes. {@link Builder#rateLimit(String, double) Rate limits} space
+ * out the {@code loadSeries} calls of each data source.
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * UniverseLoader loader = UniverseLoader.builder().maxInFlight(32).rateLimit("YahooFinance", 10).build();
+ * UniverseLoader.Result result = loader.load(new YahooFinanceHttpBarSeriesDataSource(), tickers,
+ *         Duration.ofDays(1), start, end);
+ * Map<String, BarSeries> series = result.series();
+ * Map<String, Duration> timings = result.loadTimes();
+ * }</pre>
+ * <p>
+ * Failing symbols do not abort the load; their exceptions (or a missing result)
+ * are reported by {@link Result#failures()}. Data sources must be safe to call
+ * from several threads, which holds for the HTTP and file sources in this
+ * package.
+ *
+ * @since 0.23.1
+ */
+public final class UniverseLoader {
+
+    private static final Logger LOG = LogManager.getLogger(UniverseLoader.class);
+
+    private final int maxInFlight;
+    private final int parsingThreads;
+    private final double defaultRequestsPerSecond;
+    private final Map<String, Double> requestsPerSecond;
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    private UniverseLoader(Builder builder) {
+        this.maxInFlight = builder.maxInFlight;
+        this.parsingThreads = builder.parsingThreads;
+        this.defaultRequestsPerSecond = builder.defaultRequestsPerSecond;
+        this.requestsPerSecond = Map.copyOf(builder.requestsPerSecond);
+    }
+
+    /**
+     * Creates a builder with 64 requests in flight, one parsing thread per
+     * available processor and no rate limits.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A series to load.
+     *
+     * @param source   the data source
+     * @param ticker   the symbol, unique within one load
+     * @param interval the bar interval
+     * @param start    the start of the range
+     * @param end      the end of the range
+     */
+    public record Request(BarSeriesDataSource source, String ticker, Duration interval, Instant start, Instant end) {
+
+        /**
+         * Creates a request.
+         */
+        public Request {
+            Objects.requireNonNull(source, "source");
+            Objects.requireNonNull(ticker, "ticker");
+            Objects.requireNonNull(interval, "interval");
+            Objects.requireNonNull(start, "start");
+            Objects.requireNonNull(end, "end");
+        }
+    }
+
+    /**
+     * The outcome of loading one symbol.
+     *
+     * @param ticker   the symbol
+     * @param series   the loaded series, or null if loading failed
+     * @param loadTime the time spent in {@code loadSeries}, excluding queueing and
+     *                 rate-limit waits
+     * @param failure  the failure, or null if the series was loaded
+     */
+    public record SymbolLoad(String ticker, BarSeries series, Duration loadTime, Exception failure) {
+
+        /**
+         * @return true if the series was loaded
+         */
+        public boolean isLoaded() {
+            return series != null;
+        }
+    }
+
+    /**
+     * The outcome of loading a universe.
+     *
+     * @param loads   the outcome per symbol, in request order
+     * @param elapsed the wall-clock time of the whole load
+     */
+    public record Result(Map<String, SymbolLoad> loads, Duration elapsed) {
+
+        /**
+         * Creates a result.
+         */
+        public Result {
+            loads = Collections.unmodifiableMap(new LinkedHashMap<>(loads));
+        }
+
+        /**
+         * @return the loaded series by symbol, in request order
+         */
+        public Map<String, BarSeries> series() {
+            Map<String, BarSeries> series = new LinkedHashMap<>();
+            loads.values()
+                    .stream()
+                    .filter(SymbolLoad::isLoaded)
+                    .forEach(load -> series.put(load.ticker(), load.series()));
+            return series;
+        }
+
+        /**
+         * @return the load time by symbol, in request order
+         */
+        public Map<String, Duration> loadTimes() {
+            Map<String, Duration> loadTimes = new LinkedHashMap<>();
+            loads.values().forEach(load -> loadTimes.put(load.ticker(), load.loadTime()));
+            return loadTimes;
+        }
+
+        /**
+         * @return the failures by symbol, in request order
+         */
+        public Map<String, Exception> failures() {
+            Map<String, Exception> failures = new LinkedHashMap<>();
+            loads.values()
+                    .stream()
+                    .filter(load -> !load.isLoaded())
+                    .forEach(load -> failures.put(load.ticker(), load.failure()));
+            return failures;
+        }
+    }
+
+    /**
+     * Loads the same range and interval for many symbols of one data source.
+     *
+     * @param source   the data source
+     * @param tickers  the symbols
+     * @param interval the bar interval
+     * @param start    the start of the range
+     * @param end      the end of the range
+     * @return the loaded series and timings
+     * @throws InterruptedException     if interrupted while waiting for the loads
+     * @throws IllegalArgumentException if a symbol is repeated
+     */
+    public Result load(BarSeriesDataSource source, Collection<String> tickers, Duration interval, Instant start,
+            Instant end) throws InterruptedException {
+        Objects.requireNonNull(tickers, "tickers");
+        List<Request> requests = new ArrayList<>(tickers.size());
+        for (String ticker : tickers) {
+            requests.add(new Request(source, ticker, interval, start, end));
+        }
+        return load(requests);
+    }
+
+    /**
+     * Loads the requested series, possibly from different data sources.
+     *
+     * @param requests the series to load
+     * @return the loaded series and timings
+     * @throws InterruptedException     if interrupted while waiting for the loads
+     * @throws IllegalArgumentException if a symbol is repeated
+     */
+    public Result load(List<Request> requests) throws InterruptedException {
+        Objects.requireNonNull(requests, "requests");
+        Map<String, Request> byTicker = new LinkedHashMap<>();
+        for (Request request : requests) {
+            Objects.requireNonNull(request, "request");
+            if (byTicker.put(request.ticker(), request) != null) {
+                throw new IllegalArgumentException("Duplicate ticker " + request.ticker() + ".");
+            }
+        }
+
+        long started = System.nanoTime();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<Future<SymbolLoad>> futures = new ArrayList<>(requests.size());
+        try (ExecutorService network = Executors.newVirtualThreadPerTaskExecutor();
+                ExecutorService parsing = Executors.newFixedThreadPool(parsingThreads, parsingThreadFactory())) {
+            try {
+                for (Request request : byTicker.values()) {
+                    inFlight.acquire();
+                    ExecutorService executor = request.source() instanceof HttpBarSeriesDataSource ? network
+                            : parsing;
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return loadOne(request);
+                        } finally {
+                            inFlight.release();
+                        }
+                    }));
+                }
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+
+            Map<String, SymbolLoad> loads = new LinkedHashMap<>();
+            for (Future<SymbolLoad> future : futures) {
+                SymbolLoad load = result(future);
+                loads.put(load.ticker(), load);
+            }
+            Result result = new Result(loads, Duration.ofNanos(System.nanoTime() - started));
+            LOG.debug("Loaded {} of {} series in {}", result.series().size(), loads.size(), result.elapsed());
+            return result;
+        }
+    }
+
+    private SymbolLoad loadOne(Request request) throws InterruptedException {
+        rateLimiter(request.source()).acquire();
+        long started = System.nanoTime();
+        try {
+            BarSeries series = request.source()
+                    .loadSeries(request.ticker(), request.interval(), request.start(), request.end());
+            Duration loadTime = Duration.ofNanos(System.nanoTime() - started);
+            if (series == null) {
+                return new SymbolLoad(request.ticker(), null, loadTime,
+                        new IllegalStateException("No series returned for " + request.ticker() + "."));
+            }
+            return new SymbolLoad(request.ticker(), series, loadTime, null);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to load {}: {}", request.ticker(), e.getMessage());
+            return new SymbolLoad(request.ticker(), null, Duration.ofNanos(System.nanoTime() - started), e);
+        }
+    }
+
+    private static SymbolLoad result(Future<SymbolLoad> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // loadOne reports runtime exceptions itself, so only errors end up here
+            throw new IllegalStateException("Universe load failed.", e.getCause());
+        }
+    }
+
+    private RateLimiter rateLimiter(BarSeriesDataSource source) {
+        String name = sourceName(source);
+        return rateLimiters.computeIfAbsent(name,
+                key -> new RateLimiter(requestsPerSecond.getOrDefault(key, defaultRequestsPerSecond)));
+    }
+
+    private static String sourceName(BarSeriesDataSource source) {
+        String name = source.getSourceName();
+        return name == null || name.isEmpty() ? source.getClass().getName() : name;
+    }
+
+    private static ThreadFactory parsingThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "universe-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /** Spaces calls evenly; waiting callers reserve consecutive slots. */
+    private static final class RateLimiter {
+
+        private final long intervalNanos;
+        private long nextSlot = System.nanoTime();
+
+        private RateLimiter(double requestsPerSecond) {
+            this.intervalNanos = requestsPerSecond <= 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        }
+
+        void acquire() throws InterruptedException {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = now - nextSlot > 0 ? now : nextSlot;
+                nextSlot = slot + intervalNanos;
+                wait = slot - now;
+            }
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link UniverseLoader}.
+     */
+    public static final class Builder {
+
+        private int maxInFlight = 64;
+        private int parsingThreads = Runtime.getRuntime().availableProcessors();
+        private double defaultRequestsPerSecond;
+        private final Map<String, Double> requestsPerSecond = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how many requests may be outstanding at once.
+         *
+         * @param maxInFlight the maximum number of concurrent requests
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxInFlight} is not positive
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            if (maxInFlight <= 0) {
+                throw new IllegalArgumentException("maxInFlight must be positive.");
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads loading from non-HTTP data sources.
+         *
+         * @param parsingThreads the pool size
+         * @return this builder
+         * @throws IllegalArgumentException if {@code parsingThreads} is not positive
+         */
+        public Builder parsingThreads(int parsingThreads) {
+            if (parsingThreads <= 0) {
+                throw new IllegalArgumentException("parsingThreads must be positive.");
+            }
+            this.parsingThreads = parsingThreads;
+            return this;
+        }
+
+        /**
+         * Limits the {@code loadSeries} calls of every data source without its own
+         * limit.
+         *
+         * @param requestsPerSecond the calls per second, or 0 for no limit
+         * @return this builder
+         * @throws IllegalArgumentException if {@code requestsPerSecond} is negative
+         */
+        public Builder rateLimit(double requestsPerSecond) {
+            this.defaultRequestsPerSecond = validatedRate(requestsPerSecond);
+            return this;
+        }
+
+        /**
+         * Limits the {@code loadSeries} calls of one data source. Note that a single
+         * call may issue several HTTP requests for paginated ranges.
+         *
+         * @param sourceName        the {@link BarSeriesDataSource#getSourceName()
+         *                          source name}
+         * @param requestsPerSecond the calls per second, or 0 for no limit
+         * @return this builder
+         * @throws IllegalArgumentException if {@code requestsPerSecond} is negative
+         */
+        public Builder rateLimit(String sourceName, double requestsPerSecond) {
+            Objects.requireNonNull(sourceName, "sourceName");
+            this.requestsPerSecond.put(sourceName, validatedRate(requestsPerSecond));
+            return this;
+        }
+
+        private static double validatedRate(double requestsPerSecond) {
+            if (!(requestsPerSecond >= 0) || Double.isInfinite(requestsPerSecond)) {
+                throw new IllegalArgumentException("requestsPerSecond must be a finite, non-negative number.");
+            }
+            return requestsPerSecond;
+        }
+
+        /**
+         * @return the configured loader
+         */
+        public UniverseLoader build() {
+            return new UniverseLoader(this);
+        }
+    }
+}
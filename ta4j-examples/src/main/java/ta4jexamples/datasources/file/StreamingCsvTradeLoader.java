@@ -0,0 +1,468 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.datasources.file;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.bars.TimeBarBuilder;
+import org.ta4j.core.bars.TimeBarBuilderFactory;
+import org.ta4j.core.num.NumFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams a CSV file of trades into time bars without materializing rows.
+ *
+ * <p>
+ * The file is read through a {@link FileChannel} in chunks of about
+ * {@code chunkSize} bytes that are split at newline boundaries. Timestamps,
+ * prices, and volumes are parsed directly from the chunk bytes into primitive
+ * arrays and fed to a {@link TimeBarBuilder} in primitive accumulation mode, so
+ * no {@code String} or row object is created and memory stays bounded by the
+ * chunks in flight regardless of the file size. With a {@link ForkJoinPool}, up
+ * to {@code parallelism} chunks are parsed concurrently while the bars are
+ * still built in file order.
+ * </p>
+ *
+ * <p>
+ * Trades must be sorted by time, either ascending or descending (as in Bitstamp
+ * exports, which list the most recent trade first); the direction is detected
+ * from the first and last trade. Fields are unquoted numbers; lines that cannot
+ * be parsed are skipped and reported.
+ * </p>
+ */
+public final class StreamingCsvTradeLoader {
+
+    /** Default chunk size in bytes. */
+    public static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+    private static final Logger LOG = LogManager.getLogger(StreamingCsvTradeLoader.class);
+
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final int BOUNDARY_SCAN_SIZE = 4096;
+
+    private final byte delimiter;
+    private final int timeColumn;
+    private final int priceColumn;
+    private final int volumeColumn;
+    private final long nanosPerTimeUnit;
+    private final int headerLines;
+    private final int chunkSize;
+
+    /**
+     * Creates a loader.
+     *
+     * @param delimiter    the field delimiter
+     * @param timeColumn   the zero-based column of the integral epoch timestamp
+     * @param priceColumn  the zero-based column of the trade price
+     * @param volumeColumn the zero-based column of the trade volume
+     * @param timeUnit     the unit of the epoch timestamps
+     * @param headerLines  the number of header lines to skip
+     * @param chunkSize    the approximate number of bytes parsed per chunk
+     * @throws IllegalArgumentException if a column or {@code headerLines} is
+     *                                  negative, or {@code chunkSize <= 0}
+     */
+    public StreamingCsvTradeLoader(char delimiter, int timeColumn, int priceColumn, int volumeColumn,
+            TimeUnit timeUnit, int headerLines, int chunkSize) {
+        if (timeColumn < 0 || priceColumn < 0 || volumeColumn < 0) {
+            throw new IllegalArgumentException("Column indices must not be negative.");
+        }
+        if (headerLines < 0) {
+            throw new IllegalArgumentException("headerLines must not be negative.");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than zero.");
+        }
+        this.delimiter = (byte) delimiter;
+        this.timeColumn = timeColumn;
+        this.priceColumn = priceColumn;
+        this.volumeColumn = volumeColumn;
+        this.nanosPerTimeUnit = Objects.requireNonNull(timeUnit, "timeUnit").toNanos(1);
+        this.headerLines = headerLines;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return a loader for Bitstamp trade exports ({@code timestamp,price,amount}
+     *         with epoch seconds and one header line)
+     */
+    public static StreamingCsvTradeLoader bitstamp() {
+        return new StreamingCsvTradeLoader(',', 0, 1, 2, TimeUnit.SECONDS, 1, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Loads the trades of {@code file} into epoch-aligned time bars on the calling
+     * thread.
+     *
+     * @param file       the CSV trade file
+     * @param barPeriod  the bar period
+     * @param numFactory the factory of the series numbers
+     * @return the series named after the file
+     * @throws IOException if the file cannot be read
+     */
+    public BarSeries loadTimeBars(Path file, Duration barPeriod, NumFactory numFactory) throws IOException {
+        return loadTimeBars(file, barPeriod, numFactory, null);
+    }
+
+    /**
+     * Loads the trades of {@code file} into epoch-aligned time bars, parsing
+     * chunks on {@code pool}.
+     *
+     * @param file       the CSV trade file
+     * @param barPeriod  the bar period
+     * @param numFactory the factory of the series numbers
+     * @param pool       the pool parsing chunks, or {@code null} to parse on the
+     *                   calling thread
+     * @return the series named after the file
+     * @throws IOException if the file cannot be read
+     */
+    public BarSeries loadTimeBars(Path file, Duration barPeriod, NumFactory numFactory, ForkJoinPool pool)
+            throws IOException {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(barPeriod, "barPeriod");
+        Objects.requireNonNull(numFactory, "numFactory");
+        BarSeries series = new BaseBarSeriesBuilder().withName(file.getFileName().toString())
+                .withNumFactory(numFactory)
+                .withBarBuilderFactory(new TimeBarBuilderFactory(barPeriod, false, true))
+                .build();
+        TimeBarBuilder builder = (TimeBarBuilder) series.barBuilder();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel);
+            int chunkCount = bounds.length - 1;
+            if (chunkCount == 0) {
+                return series;
+            }
+            TradeChunk firstChunk = parseChunk(channel, bounds, 0);
+            TradeChunk lastChunk = chunkCount == 1 ? firstChunk : parseChunk(channel, bounds, chunkCount - 1);
+            boolean descending = !firstChunk.isEmpty() && !lastChunk.isEmpty()
+                    && firstChunk.epochNanos[0] > lastChunk.epochNanos[lastChunk.size - 1];
+
+            int window = pool == null ? 1 : Math.max(1, pool.getParallelism());
+            Deque<ForkJoinTask<TradeChunk>> inFlight = new ArrayDeque<>(window);
+            int nextChunk = 0;
+            TradeFeed feed = new TradeFeed(builder);
+            for (int fed = 0; fed < chunkCount; fed++) {
+                while (nextChunk < chunkCount && inFlight.size() < window) {
+                    int index = descending ? chunkCount - 1 - nextChunk : nextChunk;
+                    inFlight.addLast(submit(channel, bounds, index, firstChunk, lastChunk, pool));
+                    nextChunk++;
+                }
+                feed.accept(join(inFlight.removeFirst()), descending);
+            }
+        }
+        return series;
+    }
+
+    private ForkJoinTask<TradeChunk> submit(FileChannel channel, long[] bounds, int index, TradeChunk firstChunk,
+            TradeChunk lastChunk, ForkJoinPool pool) {
+        // the first and last chunks were parsed to detect the direction
+        if (index == 0) {
+            return completed(firstChunk);
+        }
+        if (index == bounds.length - 2) {
+            return completed(lastChunk);
+        }
+        if (pool == null) {
+            return completed(parseChunkUnchecked(channel, bounds, index));
+        }
+        return pool.submit(() -> parseChunkUnchecked(channel, bounds, index));
+    }
+
+    private static ForkJoinTask<TradeChunk> completed(TradeChunk chunk) {
+        ForkJoinTask<TradeChunk> task = ForkJoinTask.adapt(() -> chunk);
+        task.complete(chunk);
+        return task;
+    }
+
+    private static TradeChunk join(ForkJoinTask<TradeChunk> task) throws IOException {
+        try {
+            return task.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return the chunk start offsets followed by the file size
+     */
+    private long[] chunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return new long[] { 0 };
+        }
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long next = chunkSize;
+        while (next < size) {
+            long lineStart = nextLineStart(channel, next, size);
+            if (lineStart >= size) {
+                break;
+            }
+            bounds.add(lineStart);
+            next = lineStart + chunkSize;
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long scanPosition = position - 1;
+        while (scanPosition < size) {
+            buffer.clear();
+            int read = channel.read(buffer, scanPosition);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return scanPosition + i + 1;
+                }
+            }
+            scanPosition += read;
+        }
+        return size;
+    }
+
+    private TradeChunk parseChunkUnchecked(FileChannel channel, long[] bounds, int index) {
+        try {
+            return parseChunk(channel, bounds, index);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private TradeChunk parseChunk(FileChannel channel, long[] bounds, int index) throws IOException {
+        long start = bounds[index];
+        int length = Math.toIntExact(bounds[index + 1] - start);
+        byte[] bytes = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file at offset " + (start + buffer.position()));
+            }
+        }
+
+        TradeChunk chunk = new TradeChunk(Math.max(16, length / 24));
+        int skippedLines = 0;
+        int linesToSkip = index == 0 ? headerLines : 0;
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && bytes[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+            if (linesToSkip > 0) {
+                linesToSkip--;
+            } else if (contentEnd > lineStart && !parseLine(bytes, lineStart, contentEnd, chunk)) {
+                skippedLines++;
+            }
+            lineStart = lineEnd + 1;
+        }
+        if (skippedLines > 0) {
+            LOG.warn("Skipped {} malformed trade line(s) between byte offsets {} and {}", skippedLines, start,
+                    bounds[index + 1]);
+        }
+        return chunk;
+    }
+
+    private boolean parseLine(byte[] bytes, int from, int to, TradeChunk chunk) {
+        long timestamp = 0;
+        double price = Double.NaN;
+        double volume = Double.NaN;
+        boolean hasTime = false;
+        int column = 0;
+        int fieldStart = from;
+        try {
+            for (int i = from; i <= to; i++) {
+                if (i < to && bytes[i] != delimiter) {
+                    continue;
+                }
+                if (column == timeColumn) {
+                    timestamp = parseLong(bytes, fieldStart, i);
+                    hasTime = true;
+                }
+                if (column == priceColumn) {
+                    price = parseDouble(bytes, fieldStart, i);
+                }
+                if (column == volumeColumn) {
+                    volume = parseDouble(bytes, fieldStart, i);
+                }
+                column++;
+                fieldStart = i + 1;
+            }
+            if (!hasTime || Double.isNaN(price) || Double.isNaN(volume)) {
+                return false;
+            }
+            chunk.add(Math.multiplyExact(timestamp, nanosPerTimeUnit), price, volume);
+            return true;
+        } catch (NumberFormatException | ArithmeticException e) {
+            return false;
+        }
+    }
+
+    static long parseLong(byte[] bytes, int from, int to) {
+        int start = trimStart(bytes, from, to);
+        int end = trimEnd(bytes, start, to);
+        boolean negative = start < end && bytes[start] == '-';
+        int i = negative ? start + 1 : start;
+        if (i == end) {
+            throw new NumberFormatException("Empty number");
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Invalid digit in integral field");
+            }
+            value = Math.addExact(Math.multiplyExact(value, 10), digit);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a decimal number. Plain decimals with at most 15 significant digits
+     * are computed exactly from the digits (a correctly rounded division by an
+     * exact power of ten); anything else falls back to
+     * {@link Double#parseDouble(String)}, so the result always equals it.
+     */
+    static double parseDouble(byte[] bytes, int from, int to) {
+        int start = trimStart(bytes, from, to);
+        int end = trimEnd(bytes, start, to);
+        int i = start;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean hasDigits = false;
+        boolean inFraction = false;
+        for (; i < end; i++) {
+            byte c = bytes[i];
+            if (c >= '0' && c <= '9') {
+                hasDigits = true;
+                if (mantissa != 0 || c != '0') {
+                    significantDigits++;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (inFraction) {
+                    fractionDigits++;
+                }
+                if (significantDigits > MAX_EXACT_DIGITS) {
+                    break;
+                }
+            } else if (c == '.' && !inFraction) {
+                inFraction = true;
+            } else {
+                break;
+            }
+        }
+        if (i < end || !hasDigits || fractionDigits >= POWERS_OF_TEN.length) {
+            // exponents, long mantissas, and invalid input
+            return Double.parseDouble(new String(bytes, start, end - start, StandardCharsets.US_ASCII));
+        }
+        double value = fractionDigits == 0 ? mantissa : mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private static int trimStart(byte[] bytes, int from, int to) {
+        int i = from;
+        while (i < to && bytes[i] == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int trimEnd(byte[] bytes, int from, int to) {
+        int i = to;
+        while (i > from && bytes[i - 1] == ' ') {
+            i--;
+        }
+        return i;
+    }
+
+    /** Parsed trades of one chunk in primitive arrays. */
+    private static final class TradeChunk {
+
+        private long[] epochNanos;
+        private double[] prices;
+        private double[] volumes;
+        private int size;
+
+        private TradeChunk(int capacity) {
+            epochNanos = new long[capacity];
+            prices = new double[capacity];
+            volumes = new double[capacity];
+        }
+
+        private void add(long time, double price, double volume) {
+            if (size == epochNanos.length) {
+                int capacity = size + (size >> 1) + 1;
+                epochNanos = Arrays.copyOf(epochNanos, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                volumes = Arrays.copyOf(volumes, capacity);
+            }
+            epochNanos[size] = time;
+            prices[size] = price;
+            volumes[size] = volume;
+            size++;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    /** Feeds chunks to the bar builder in time order. */
+    private static final class TradeFeed {
+
+        private final TimeBarBuilder builder;
+        private long lastEpochNanos = Long.MIN_VALUE;
+        private Instant lastTime;
+
+        private TradeFeed(TimeBarBuilder builder) {
+            this.builder = builder;
+        }
+
+        private void accept(TradeChunk chunk, boolean descending) {
+            for (int k = 0; k < chunk.size; k++) {
+                int i = descending ? chunk.size - 1 - k : k;
+                long epochNanos = chunk.epochNanos[i];
+                if (lastTime == null || epochNanos != lastEpochNanos) {
+                    // consecutive trades often share a timestamp
+                    lastTime = Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                            Math.floorMod(epochNanos, 1_000_000_000L));
+                    lastEpochNanos = epochNanos;
+                }
+                builder.addTrade(lastTime, chunk.volumes[i], chunk.prices[i]);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ package ta4jexamples.datasources.http;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.ta4j.core.BarSeries;
 
 import java.io.IOException;
 import java.net.http.HttpClient;
@@ -28,6 +29,8 @@ import java.util.stream.Stream;
  * <li>Response caching to disk for faster subsequent requests</li>
  * <li>Cache validation and management</li>
  * <li>Common cache file operations</li>
+ * <li>An indexed binary bar cache that fetches only missing time ranges (see
+ * {@link #loadSeriesCached(String, Duration, Instant, Instant)})</li>
  * </ul>
  * <p>
  * Subclasses should implement the API-specific logic such as:
@@ -59,11 +62,20 @@ public abstract class AbstractHttpBarSeriesDataSource implements HttpBarSeriesDa
      */
     public static final String DEFAULT_RESPONSE_CACHE_DIR = "temp/responses";
 
+    /**
+     * Subdirectory of the response cache directory that holds the indexed bar
+     * cache.
+     *
+     * @since 0.23.1
+     */
+    public static final String BAR_CACHE_DIR = "bars";
+
     private static final Logger LOG = LogManager.getLogger(AbstractHttpBarSeriesDataSource.class);
 
     protected final HttpClientWrapper httpClient;
     protected final boolean enableResponseCaching;
     protected final String responseCacheDir;
+    private final BarSeriesRangeCache barCache;
 
     /**
      * Creates a new AbstractHttpBarSeriesDataSource with the specified
@@ -127,6 +139,7 @@ public abstract class AbstractHttpBarSeriesDataSource implements HttpBarSeriesDa
         this.httpClient = config.httpClient();
         this.enableResponseCaching = config.enableResponseCaching();
         this.responseCacheDir = config.responseCacheDir();
+        this.barCache = new BarSeriesRangeCache(Paths.get(responseCacheDir, BAR_CACHE_DIR));
         if (enableResponseCaching) {
             ensureCacheDirectoryExists();
         }
@@ -181,6 +194,62 @@ public abstract class AbstractHttpBarSeriesDataSource implements HttpBarSeriesDa
         return responseCacheDir;
     }
 
+    /**
+     * Returns the indexed bar cache used by
+     * {@link #loadSeriesCached(String, Duration, Instant, Instant)}.
+     *
+     * @return the bar cache, stored in {@value #BAR_CACHE_DIR} below the response
+     *         cache directory
+     * @since 0.23.1
+     */
+    public BarSeriesRangeCache getBarCache() {
+        return barCache;
+    }
+
+    /**
+     * Loads bars through the indexed bar cache. Bars already cached for the
+     * requested range are served from a memory-mapped file without parsing; only
+     * the missing parts of the range are requested with
+     * {@link #loadSeries(String, Duration, Instant, Instant)} and merged into the
+     * cache, so overlapping and extended ranges fetch just the new bars.
+     * <p>
+     * The bar cache is independent of the JSON response cache; create the data
+     * source with response caching disabled to keep only the binary bars.
+     * <p>
+     * Unlike {@link #loadSeries(String, Duration, Instant, Instant)}, the returned
+     * series is a read-only {@link org.ta4j.core.storage.MappedBarSeries} view:
+     * adding, replacing, or updating bars throws
+     * {@link UnsupportedOperationException}, and its values were stored with
+     * {@code double} precision before being created by the cache's numeric
+     * factory. To keep appending live bars, copy the bars into a new series, for
+     * example with {@link org.ta4j.core.BaseBarSeriesBuilder#withBars(java.util.List)}.
+     *
+     * @param symbol   the symbol (ticker, product ID, etc.)
+     * @param interval the bar interval
+     * @param start    the range start (inclusive, by bar begin time)
+     * @param end      the range end (exclusive, by bar begin time)
+     * @return the read-only bars of the range, or null if none could be loaded
+     * @throws IllegalArgumentException if an argument is null or invalid
+     * @since 0.23.1
+     */
+    public BarSeries loadSeriesCached(String symbol, Duration interval, Instant start, Instant end) {
+        if (symbol == null || symbol.trim().isEmpty()) {
+            throw new IllegalArgumentException("Symbol cannot be null or empty");
+        }
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end dates cannot be null");
+        }
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Start date must be before or equal to end date");
+        }
+        String trimmed = symbol.trim();
+        return barCache.load(getSourceName(), trimmed, interval, start, end,
+                (from, to) -> loadSeries(trimmed, interval, from, to));
+    }
+
     /**
      * Ensures the cache directory exists, creating it if necessary.
      */
@@ -0,0 +1,456 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.datasources.http;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+import org.ta4j.core.storage.BinaryBarSeriesWriter;
+import org.ta4j.core.storage.MappedBarSeries;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Disk cache of parsed bars for HTTP data sources, indexed by source, symbol,
+ * interval and covered time ranges.
+ * <p>
+ * All bars of one (source, symbol, interval) are kept in a single binary file
+ * written by {@link BinaryBarSeriesWriter}, next to a small index of the time
+ * ranges that have been fetched. A request is split into the parts already
+ * covered, which are served as a memory-mapped {@link MappedBarSeries} view
+ * without parsing, and the missing parts, which are fetched through a
+ * {@link RangeLoader} and merged into the file. Overlapping requests therefore
+ * only fetch the bars they do not have yet.
+ * <p>
+ * Bars are selected by their begin time, {@code start <= beginTime < end}.
+ * Ranges are only recorded as covered up to the last completed bar, so bars
+ * that may still change are fetched again on the next request; fetched bars
+ * replace cached bars with the same end time.
+ * <p>
+ * Values are stored with {@code double} precision, and served series are
+ * read-only views whose mutators throw {@link UnsupportedOperationException}.
+ * Files are replaced atomically, so series returned earlier stay valid while
+ * the cache is updated.
+ *
+ * @since 0.23.1
+ */
+public class BarSeriesRangeCache {
+
+    private static final Logger LOG = LogManager.getLogger(BarSeriesRangeCache.class);
+
+    private static final int INDEX_MAGIC = 0x54345249; // "T4RI"
+    private static final int INDEX_VERSION = 1;
+    private static final String BARS_EXTENSION = ".t4bs";
+    private static final String INDEX_EXTENSION = ".t4ri";
+    // the binary bar store only accepts double values
+    private static final NumFactory STORED_NUM_FACTORY = DoubleNumFactory.getInstance();
+
+    private final Path directory;
+    private final NumFactory numFactory;
+    private final Clock clock;
+
+    /**
+     * Loads the bars of one missing time range.
+     */
+    @FunctionalInterface
+    public interface RangeLoader {
+
+        /**
+         * Fetches the bars beginning in the given range.
+         *
+         * @param start the range start (inclusive)
+         * @param end   the range end (exclusive)
+         * @return the fetched bars, or null if the request failed
+         */
+        BarSeries load(Instant start, Instant end);
+    }
+
+    /**
+     * A half-open time range {@code [start, end)}.
+     *
+     * @param start the range start (inclusive)
+     * @param end   the range end (exclusive)
+     */
+    public record TimeRange(Instant start, Instant end) {
+
+        /**
+         * Creates a time range.
+         *
+         * @throws IllegalArgumentException if {@code end} is before {@code start}
+         */
+        public TimeRange {
+            Objects.requireNonNull(start, "start");
+            Objects.requireNonNull(end, "end");
+            if (end.isBefore(start)) {
+                throw new IllegalArgumentException("Range end must not be before its start.");
+            }
+        }
+    }
+
+    /**
+     * Creates a cache in {@code directory} that materializes bars as
+     * {@link org.ta4j.core.num.DecimalNum}.
+     *
+     * @param directory the cache directory, created on first write
+     */
+    public BarSeriesRangeCache(Path directory) {
+        this(directory, DecimalNumFactory.getInstance());
+    }
+
+    /**
+     * Creates a cache in {@code directory}.
+     *
+     * @param directory  the cache directory, created on first write
+     * @param numFactory the factory for the values of served bars
+     */
+    public BarSeriesRangeCache(Path directory, NumFactory numFactory) {
+        this(directory, numFactory, Clock.systemUTC());
+    }
+
+    BarSeriesRangeCache(Path directory, NumFactory numFactory, Clock clock) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.numFactory = Objects.requireNonNull(numFactory, "numFactory");
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * Returns the bars beginning in {@code [start, end)}, fetching and merging only
+     * the parts of the range that are not cached yet.
+     *
+     * @param source   the data source name
+     * @param symbol   the symbol
+     * @param interval the bar interval
+     * @param start    the range start (inclusive)
+     * @param end      the range end (exclusive)
+     * @param loader   fetches missing ranges
+     * @return the cached bars of the range as a read-only memory-mapped view, or
+     *         null if none are available
+     */
+    public synchronized BarSeries load(String source, String symbol, Duration interval, Instant start, Instant end,
+            RangeLoader loader) {
+        Objects.requireNonNull(loader, "loader");
+        List<TimeRange> missing = missingRanges(source, symbol, interval, start, end);
+        for (TimeRange range : missing) {
+            BarSeries fetched = loader.load(range.start(), range.end());
+            if (fetched == null) {
+                LOG.warn("Could not fetch {} {} bars from {} to {}", symbol, interval, range.start(), range.end());
+                continue;
+            }
+            put(source, symbol, interval, range, fetched);
+        }
+        if (missing.isEmpty()) {
+            LOG.debug("Bar cache hit: {} {} ({} to {})", symbol, interval, start, end);
+        }
+        return get(source, symbol, interval, start, end);
+    }
+
+    /**
+     * Returns the parts of {@code [start, end)} that are not covered by the cache.
+     *
+     * @param source   the data source name
+     * @param symbol   the symbol
+     * @param interval the bar interval
+     * @param start    the range start (inclusive)
+     * @param end      the range end (exclusive)
+     * @return the missing ranges in chronological order
+     */
+    public synchronized List<TimeRange> missingRanges(String source, String symbol, Duration interval, Instant start,
+            Instant end) {
+        TimeRange requested = new TimeRange(start, end);
+        List<TimeRange> missing = new ArrayList<>();
+        Instant cursor = requested.start();
+        for (TimeRange covered : readIndex(indexFile(source, symbol, interval))) {
+            if (!covered.end().isAfter(cursor)) {
+                continue;
+            }
+            if (!covered.start().isBefore(requested.end())) {
+                break;
+            }
+            if (covered.start().isAfter(cursor)) {
+                missing.add(new TimeRange(cursor, covered.start()));
+            }
+            cursor = covered.end();
+            if (!cursor.isBefore(requested.end())) {
+                return missing;
+            }
+        }
+        if (cursor.isBefore(requested.end())) {
+            missing.add(new TimeRange(cursor, requested.end()));
+        }
+        return missing;
+    }
+
+    /**
+     * Returns the cached bars beginning in {@code [start, end)} as a read-only
+     * memory-mapped view, regardless of whether the whole range is covered.
+     *
+     * @param source   the data source name
+     * @param symbol   the symbol
+     * @param interval the bar interval
+     * @param start    the range start (inclusive)
+     * @param end      the range end (exclusive)
+     * @return the cached bars, or null if there are none
+     */
+    public synchronized BarSeries get(String source, String symbol, Duration interval, Instant start, Instant end) {
+        MappedBarSeries bars = open(barsFile(source, symbol, interval));
+        if (bars == null) {
+            return null;
+        }
+        int from = firstBeginningAtOrAfter(bars, start);
+        int to = firstBeginningAtOrAfter(bars, end);
+        return from < to ? bars.getSubSeries(from, to) : null;
+    }
+
+    /**
+     * Merges fetched bars into the cache and records {@code fetched} as covered up
+     * to the last completed bar. Fetched bars replace cached bars with the same end
+     * time.
+     *
+     * @param source   the data source name
+     * @param symbol   the symbol
+     * @param interval the bar interval
+     * @param fetched  the range the bars were fetched for
+     * @param bars     the fetched bars
+     */
+    public synchronized void put(String source, String symbol, Duration interval, TimeRange fetched, BarSeries bars) {
+        Objects.requireNonNull(fetched, "fetched");
+        Objects.requireNonNull(bars, "bars");
+        Path barsFile = barsFile(source, symbol, interval);
+        Path indexFile = indexFile(source, symbol, interval);
+
+        TreeMap<Instant, Bar> merged = new TreeMap<>();
+        MappedBarSeries cached = open(barsFile);
+        List<TimeRange> coverage = new ArrayList<>();
+        if (cached != null) {
+            for (int i = 0; i < cached.getBarCount(); i++) {
+                Bar bar = cached.getBar(i);
+                merged.put(bar.getEndTime(), stored(bar));
+            }
+            coverage.addAll(readIndex(indexFile));
+        }
+        if (!bars.isEmpty()) {
+            for (int i = bars.getBeginIndex(); i <= bars.getEndIndex(); i++) {
+                Bar bar = bars.getBar(i);
+                merged.put(bar.getEndTime(), stored(bar));
+            }
+        }
+
+        Instant completed = clock.instant().minus(interval);
+        Instant coveredEnd = fetched.end().isAfter(completed) ? completed : fetched.end();
+        if (coveredEnd.isAfter(fetched.start())) {
+            coverage.add(new TimeRange(fetched.start(), coveredEnd));
+        }
+
+        BarSeries series = new BaseBarSeriesBuilder().withName(symbol).withNumFactory(STORED_NUM_FACTORY).build();
+        merged.values().forEach(series::addBar);
+        try {
+            Files.createDirectories(directory);
+            // the index is replaced last, so a failure in between only loses coverage
+            replace(barsFile, temp -> BinaryBarSeriesWriter.write(series, temp));
+            replace(indexFile, temp -> writeIndex(temp, union(coverage)));
+            LOG.debug("Cached {} bars for {} {} ({} in total)", bars.getBarCount(), symbol, interval, merged.size());
+        } catch (IOException e) {
+            LOG.warn("Failed to write bar cache for {}: {}", symbol, e.getMessage());
+        }
+    }
+
+    /**
+     * Removes the cached bars of one (source, symbol, interval).
+     *
+     * @param source   the data source name
+     * @param symbol   the symbol
+     * @param interval the bar interval
+     * @return true if cached bars were removed
+     */
+    public synchronized boolean invalidate(String source, String symbol, Duration interval) {
+        try {
+            boolean deleted = Files.deleteIfExists(indexFile(source, symbol, interval));
+            return Files.deleteIfExists(barsFile(source, symbol, interval)) || deleted;
+        } catch (IOException e) {
+            LOG.warn("Failed to delete bar cache for {}: {}", symbol, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns the directory holding one {@code .t4bs} bar file and one
+     * {@code .t4ri} range index per cached source, symbol, and interval.
+     *
+     * @return the cache directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private MappedBarSeries open(Path barsFile) {
+        if (!Files.exists(barsFile)) {
+            return null;
+        }
+        try {
+            return MappedBarSeries.open(barsFile, numFactory);
+        } catch (IOException e) {
+            LOG.warn("Discarding unreadable bar cache {}: {}", barsFile.getFileName(), e.getMessage());
+            deleteQuietly(barsFile);
+            deleteQuietly(indexFileFor(barsFile));
+            return null;
+        }
+    }
+
+    private static Bar stored(Bar bar) {
+        if (bar.getClosePrice() != null && STORED_NUM_FACTORY.produces(bar.getClosePrice())) {
+            return bar;
+        }
+        return new BaseBar(bar.getTimePeriod(), bar.getBeginTime(), bar.getEndTime(), stored(bar.getOpenPrice()),
+                stored(bar.getHighPrice()), stored(bar.getLowPrice()), stored(bar.getClosePrice()),
+                stored(bar.getVolume()), stored(bar.getAmount()), bar.getTrades());
+    }
+
+    private static Num stored(Num value) {
+        if (value == null || value.isNaN()) {
+            return value;
+        }
+        return STORED_NUM_FACTORY.numOf(value.doubleValue());
+    }
+
+    private static int firstBeginningAtOrAfter(BarSeries bars, Instant time) {
+        int low = 0;
+        int high = bars.getBarCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bars.getBar(mid).getBeginTime().isBefore(time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static List<TimeRange> union(List<TimeRange> ranges) {
+        List<TimeRange> sorted = new ArrayList<>(ranges);
+        sorted.sort((a, b) -> a.start().compareTo(b.start()));
+        List<TimeRange> union = new ArrayList<>();
+        for (TimeRange range : sorted) {
+            int last = union.size() - 1;
+            if (last >= 0 && !range.start().isAfter(union.get(last).end())) {
+                TimeRange previous = union.get(last);
+                if (range.end().isAfter(previous.end())) {
+                    union.set(last, new TimeRange(previous.start(), range.end()));
+                }
+            } else {
+                union.add(range);
+            }
+        }
+        return union;
+    }
+
+    private List<TimeRange> readIndex(Path indexFile) {
+        if (!Files.exists(indexFile)) {
+            return List.of();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION) {
+                throw new IOException("unsupported index format");
+            }
+            int count = in.readInt();
+            List<TimeRange> ranges = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Instant start = Instant.ofEpochSecond(in.readLong(), in.readInt());
+                Instant end = Instant.ofEpochSecond(in.readLong(), in.readInt());
+                ranges.add(new TimeRange(start, end));
+            }
+            return ranges;
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.warn("Discarding unreadable bar cache index {}: {}", indexFile.getFileName(), e.getMessage());
+            deleteQuietly(indexFile);
+            return List.of();
+        }
+    }
+
+    private static void writeIndex(Path file, List<TimeRange> ranges) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(INDEX_VERSION);
+            out.writeInt(ranges.size());
+            for (TimeRange range : ranges) {
+                out.writeLong(range.start().getEpochSecond());
+                out.writeInt(range.start().getNano());
+                out.writeLong(range.end().getEpochSecond());
+                out.writeInt(range.end().getNano());
+            }
+        }
+    }
+
+    private interface FileWriter {
+
+        void write(Path file) throws IOException;
+    }
+
+    private void replace(Path target, FileWriter writer) throws IOException {
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            writer.write(temp);
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Failed to delete {}: {}", file.getFileName(), e.getMessage());
+        }
+    }
+
+    private Path barsFile(String source, String symbol, Duration interval) {
+        return directory.resolve(baseName(source, symbol, interval) + BARS_EXTENSION);
+    }
+
+    private Path indexFile(String source, String symbol, Duration interval) {
+        return directory.resolve(baseName(source, symbol, interval) + INDEX_EXTENSION);
+    }
+
+    private static Path indexFileFor(Path barsFile) {
+        String name = barsFile.getFileName().toString();
+        return barsFile.resolveSibling(name.substring(0, name.length() - BARS_EXTENSION.length()) + INDEX_EXTENSION);
+    }
+
+    private static String baseName(String source, String symbol, Duration interval) {
+        Objects.requireNonNull(symbol, "symbol");
+        Objects.requireNonNull(interval, "interval");
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive.");
+        }
+        String sourcePrefix = source == null || source.isEmpty() ? "" : source + "-";
+        return String.format("%s%s-%s", sourcePrefix, symbol.toUpperCase().replaceAll("[^A-Z0-9-]", "_"), interval);
+    }
+}
@@ -3,18 +3,18 @@
  */
 package ta4jexamples.datasources.json;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.utils.DeprecationNotifier;
 import ta4jexamples.datasources.JsonFileBarSeriesDataSource;
 
-import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 
 /**
  * @deprecated
@@ -28,6 +28,10 @@ public class JsonBarsSerializer {
 
     private static final Logger LOG = LogManager.getLogger(JsonBarsSerializer.class);
 
+    /** Streams the legacy "ohlc" layout with daily bars. */
+    private static final StreamingBarSeriesTypeAdapter LEGACY_ADAPTER = new StreamingBarSeriesTypeAdapter(null,
+            Duration.ofDays(1));
+
     public JsonBarsSerializer() {
         warnDeprecatedUse();
     }
@@ -40,10 +44,8 @@ public class JsonBarsSerializer {
     @Deprecated(since = "0.19", forRemoval = true)
     public static void persistSeries(BarSeries series, String filename) {
         warnDeprecatedUse();
-        LegacyJsonBarSeriesPayload exportableSeries = LegacyJsonBarSeriesPayload.from(series);
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        try (Writer writer = Files.newBufferedWriter(Path.of(filename), StandardCharsets.UTF_8)) {
-            gson.toJson(exportableSeries, writer);
+        try (OutputStream output = Files.newOutputStream(Path.of(filename))) {
+            LEGACY_ADAPTER.write(series, output, false, true);
             LOG.debug("Bar series '{}' successfully saved to '{}'", series.getName(), filename);
         } catch (IOException e) {
             LOG.error("Unable to store bars in JSON", e);
@@ -53,12 +55,9 @@ public class JsonBarsSerializer {
     @Deprecated(since = "0.19", forRemoval = true)
     public static BarSeries loadSeries(String filename) {
         warnDeprecatedUse();
-        Gson gson = new Gson();
         BarSeries result = null;
-        try (Reader reader = Files.newBufferedReader(Path.of(filename), StandardCharsets.UTF_8)) {
-            LegacyJsonBarSeriesPayload loadedSeries = gson.fromJson(reader, LegacyJsonBarSeriesPayload.class);
-
-            result = LegacyJsonBarSeriesPayload.toBarSeriesOrNull(loadedSeries);
+        try {
+            result = LEGACY_ADAPTER.read(Path.of(filename));
             if (result == null) {
                 LOG.warn("Failed to parse JSON, loadedSeries is null");
                 return null;
@@ -94,12 +93,9 @@ public class JsonBarsSerializer {
             return null;
         }
 
-        Gson gson = new Gson();
         BarSeries result = null;
-        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            LegacyJsonBarSeriesPayload loadedSeries = gson.fromJson(reader, LegacyJsonBarSeriesPayload.class);
-
-            result = LegacyJsonBarSeriesPayload.toBarSeriesOrNull(loadedSeries);
+        try (inputStream) {
+            result = LEGACY_ADAPTER.read(inputStream);
             if (result == null) {
                 LOG.warn("Failed to parse JSON, loadedSeries is null");
                 return null;
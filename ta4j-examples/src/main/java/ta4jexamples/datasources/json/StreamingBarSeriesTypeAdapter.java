@@ -0,0 +1,520 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.datasources.json;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A streaming TypeAdapter that reads and writes {@link BarSeries} JSON bar by
+ * bar through {@link JsonReader} and {@link JsonWriter}.
+ * <p>
+ * Unlike {@link AdaptiveBarSeriesTypeAdapter}, which parses the whole document
+ * into a {@code JsonObject} tree before creating bars, this adapter turns every
+ * array element into a bar as soon as it is read, so no intermediate object
+ * graph is kept besides the series itself. It reads the same formats:
+ * <ul>
+ * <li><strong>Coinbase format:</strong> a "candles" array whose "start" field
+ * (epoch seconds) is the begin of the candle period.</li>
+ * <li><strong>Binance format:</strong> an "ohlc" array whose "endTime" field
+ * (epoch milliseconds) is the end of the bar, as written by
+ * {@link #write(JsonWriter, BarSeries)}.</li>
+ * </ul>
+ * <p>
+ * Bar durations are inferred from consecutive timestamps exactly as
+ * {@link AdaptiveBarSeriesTypeAdapter} does, using a one-bar lookahead. Bars in
+ * ascending order are appended while streaming; if a bar is out of order (e.g.
+ * newest-first API payloads), the remaining bars are collected and the series
+ * is rebuilt in timestamp order once the array has been read.
+ * <p>
+ * The {@link #read(Path)} and {@link #write(BarSeries, Path)} helpers
+ * transparently handle gzip-compressed files.
+ *
+ * @since 0.23.1
+ */
+public class StreamingBarSeriesTypeAdapter extends TypeAdapter<BarSeries> {
+
+    private static final Logger LOG = LogManager.getLogger(StreamingBarSeriesTypeAdapter.class);
+
+    private static final String COINBASE_SERIES_NAME = "CoinbaseData";
+    private static final String BINANCE_SERIES_NAME = "BinanceData";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final NumFactory numFactory;
+    private final Duration timePeriod;
+
+    /**
+     * Creates an adapter that infers bar durations and uses the default number
+     * factory of {@link BaseBarSeriesBuilder}.
+     */
+    public StreamingBarSeriesTypeAdapter() {
+        this(null, null);
+    }
+
+    /**
+     * Creates an adapter.
+     *
+     * @param numFactory the number factory of the read series, or {@code null} for
+     *                   the default of {@link BaseBarSeriesBuilder}
+     * @param timePeriod the duration of all read bars, or {@code null} to infer
+     *                   durations from consecutive timestamps
+     */
+    public StreamingBarSeriesTypeAdapter(NumFactory numFactory, Duration timePeriod) {
+        if (timePeriod != null && (timePeriod.isZero() || timePeriod.isNegative())) {
+            throw new IllegalArgumentException("timePeriod must be positive.");
+        }
+        this.numFactory = numFactory;
+        this.timePeriod = timePeriod;
+    }
+
+    /**
+     * Writes {@code value} in the Binance "ohlc" format: the series name followed
+     * by one object per bar with its end time in epoch milliseconds, OHLC prices,
+     * volume, and amount.
+     *
+     * @param out   the writer
+     * @param value the series to write
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void write(JsonWriter out, BarSeries value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("name").value(value.getName());
+        out.name("ohlc").beginArray();
+        for (int i = value.getBeginIndex(); i <= value.getEndIndex(); i++) {
+            Bar bar = value.getBar(i);
+            out.beginObject();
+            out.name("endTime").value(bar.getEndTime().toEpochMilli());
+            writeNum(out.name("openPrice"), bar.getOpenPrice());
+            writeNum(out.name("highPrice"), bar.getHighPrice());
+            writeNum(out.name("lowPrice"), bar.getLowPrice());
+            writeNum(out.name("closePrice"), bar.getClosePrice());
+            writeNum(out.name("volume"), bar.getVolume());
+            writeNum(out.name("amount"), bar.getAmount());
+            out.endObject();
+        }
+        out.endArray();
+        out.endObject();
+    }
+
+    /**
+     * Reads a series by detecting the format from the root object's fields.
+     *
+     * @param in the reader positioned at the root object
+     * @return the parsed series, or {@code null} for a JSON {@code null}
+     * @throws JsonParseException if neither "candles" nor "ohlc" is present
+     * @throws IOException        if reading fails
+     */
+    @Override
+    public BarSeries read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String name = null;
+        BarCollector candles = null;
+        BarCollector ohlc = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case "name" -> name = nextStringOrNull(in);
+            case "candles" -> candles = readBars(in, true);
+            case "ohlc" -> ohlc = readBars(in, false);
+            default -> in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (candles != null) {
+            LOG.trace("Parsed Coinbase format");
+            return candles.finish(COINBASE_SERIES_NAME);
+        }
+        if (ohlc != null) {
+            LOG.trace("Parsed Binance format");
+            return ohlc.finish(name == null ? BINANCE_SERIES_NAME : name);
+        }
+        throw new JsonParseException("Unknown format - neither 'candles' nor 'ohlc' found");
+    }
+
+    /**
+     * Reads a series from a JSON file, decompressing it if it is gzip-compressed.
+     *
+     * @param file the file to read
+     * @return the parsed series
+     * @throws IOException if the file cannot be read
+     */
+    public BarSeries read(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return read(input);
+        }
+    }
+
+    /**
+     * Reads a series from a stream of JSON, decompressing it if it is
+     * gzip-compressed. The stream is consumed but not closed.
+     *
+     * @param input the stream to read
+     * @return the parsed series
+     * @throws IOException if the stream cannot be read
+     */
+    public BarSeries read(InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(new NonClosingInputStream(input), BUFFER_SIZE);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        boolean gzip = first == (GZIPInputStream.GZIP_MAGIC & 0xFF) && second == (GZIPInputStream.GZIP_MAGIC >>> 8);
+        InputStream source = gzip ? new GZIPInputStream(buffered, BUFFER_SIZE) : buffered;
+        try (Reader reader = new InputStreamReader(source, StandardCharsets.UTF_8);
+                JsonReader jsonReader = new JsonReader(reader)) {
+            return read(jsonReader);
+        }
+    }
+
+    /**
+     * Writes a series to a JSON file, gzip-compressed if the file name ends with
+     * {@code .gz}.
+     *
+     * @param series the series to write
+     * @param file   the target file, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void write(BarSeries series, Path file) throws IOException {
+        try (OutputStream output = Files.newOutputStream(file)) {
+            write(series, output, file.getFileName().toString().endsWith(GZIP_SUFFIX), false);
+        }
+    }
+
+    /**
+     * Writes a series as JSON to a stream, omitting absent values. The stream is
+     * flushed but not closed.
+     *
+     * @param series the series to write
+     * @param output the target stream
+     * @param gzip   {@code true} to gzip-compress the JSON
+     * @param pretty {@code true} to indent the JSON
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(BarSeries series, OutputStream output, boolean gzip, boolean pretty) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(output, BUFFER_SIZE);
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(buffered, BUFFER_SIZE) : null;
+        Writer writer = new OutputStreamWriter(compressed == null ? buffered : compressed, StandardCharsets.UTF_8);
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setSerializeNulls(false);
+        if (pretty) {
+            jsonWriter.setIndent("  ");
+        }
+        write(jsonWriter, series);
+        jsonWriter.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        buffered.flush();
+    }
+
+    private BarCollector readBars(JsonReader in, boolean coinbase) throws IOException {
+        BarCollector collector = new BarCollector(coinbase);
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return collector;
+        }
+        in.beginArray();
+        while (in.hasNext()) {
+            PendingBar bar = coinbase ? readCoinbaseCandle(in, collector.numFactory())
+                    : readBinanceBar(in, collector.numFactory());
+            if (bar != null) {
+                collector.accept(bar);
+            }
+        }
+        in.endArray();
+        return collector;
+    }
+
+    private static PendingBar readCoinbaseCandle(JsonReader in, NumFactory factory) throws IOException {
+        String start = null;
+        String open = null;
+        String high = null;
+        String low = null;
+        String close = null;
+        String volume = "0";
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case "start" -> start = nextStringOrNull(in);
+            case "open" -> open = nextStringOrNull(in);
+            case "high" -> high = nextStringOrNull(in);
+            case "low" -> low = nextStringOrNull(in);
+            case "close" -> close = nextStringOrNull(in);
+            case "volume" -> {
+                String value = nextStringOrNull(in);
+                volume = value == null ? "0" : value;
+            }
+            default -> in.skipValue();
+            }
+        }
+        in.endObject();
+
+        // Skip candles with null or missing required fields
+        if (start == null || open == null || high == null || low == null || close == null) {
+            return null;
+        }
+        long startSeconds;
+        try {
+            startSeconds = Long.parseLong(start);
+        } catch (NumberFormatException nfe) {
+            LOG.warn("Invalid timestamp format in Coinbase data, skipping candle: {}", start, nfe);
+            return null;
+        }
+        return new PendingBar(startSeconds, factory.numOf(open), factory.numOf(high), factory.numOf(low),
+                factory.numOf(close), factory.numOf(volume), null);
+    }
+
+    private static PendingBar readBinanceBar(JsonReader in, NumFactory factory) throws IOException {
+        String endTime = null;
+        Num open = null;
+        Num high = null;
+        Num low = null;
+        Num close = null;
+        Num volume = null;
+        Num amount = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case "endTime" -> endTime = nextStringOrNull(in);
+            case "openPrice" -> open = nextNumOrNull(in, factory);
+            case "highPrice" -> high = nextNumOrNull(in, factory);
+            case "lowPrice" -> low = nextNumOrNull(in, factory);
+            case "closePrice" -> close = nextNumOrNull(in, factory);
+            case "volume" -> volume = nextNumOrNull(in, factory);
+            case "amount" -> amount = nextNumOrNull(in, factory);
+            default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        if (endTime == null) {
+            throw new JsonParseException("Missing 'endTime' in Binance bar at " + in.getPath());
+        }
+        try {
+            return new PendingBar(Long.parseLong(endTime), open, high, low, close, volume, amount);
+        } catch (NumberFormatException nfe) {
+            throw new JsonParseException("Invalid 'endTime' in Binance bar: " + endTime, nfe);
+        }
+    }
+
+    private static String nextStringOrNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        // numbers are returned with their original text, so no precision is lost
+        return in.nextString();
+    }
+
+    private static Num nextNumOrNull(JsonReader in, NumFactory factory) throws IOException {
+        String value = nextStringOrNull(in);
+        return value == null ? null : factory.numOf(value);
+    }
+
+    private static void writeNum(JsonWriter out, Num value) throws IOException {
+        if (!Num.isFinite(value)) {
+            out.nullValue();
+        } else {
+            out.value(value.getDelegate());
+        }
+    }
+
+    private static Duration inferDuration(Instant previous, Instant current, Instant next, Duration fallback) {
+        Duration candidate = null;
+        if (next != null) {
+            candidate = Duration.between(current, next);
+        } else if (previous != null) {
+            candidate = Duration.between(previous, current);
+        }
+
+        if (candidate != null) {
+            if (candidate.isNegative()) {
+                candidate = candidate.negated();
+            }
+            if (!candidate.isZero()) {
+                return candidate;
+            }
+        }
+
+        if (fallback != null && !fallback.isZero() && !fallback.isNegative()) {
+            return fallback;
+        }
+
+        return Duration.ofSeconds(1);
+    }
+
+    /**
+     * A parsed bar whose duration is not known yet. The time is the start in epoch
+     * seconds (Coinbase) or the end in epoch milliseconds (Binance).
+     */
+    private record PendingBar(long time, Num open, Num high, Num low, Num close, Num volume, Num amount) {
+    }
+
+    /**
+     * Appends bars to a series while they arrive in ascending order, holding back
+     * one bar to infer its duration from its successor.
+     */
+    private final class BarCollector {
+
+        private final boolean coinbase;
+        private final BaseBarSeries series;
+        private PendingBar pending;
+        private Instant lastAppendedTime;
+        private Duration lastDuration;
+        private List<PendingBar> unordered;
+
+        private BarCollector(boolean coinbase) {
+            this.coinbase = coinbase;
+            this.series = newSeries(null);
+            this.lastDuration = timePeriod;
+        }
+
+        private NumFactory numFactory() {
+            return series.numFactory();
+        }
+
+        private void accept(PendingBar bar) {
+            if (unordered != null) {
+                unordered.add(bar);
+                return;
+            }
+            if (pending != null && bar.time() < pending.time()) {
+                LOG.trace("Bars are not in ascending order, sorting them before building the series");
+                unordered = new ArrayList<>();
+                unordered.add(pending);
+                unordered.add(bar);
+                pending = null;
+                return;
+            }
+            if (pending != null) {
+                append(series, pending, instantOf(bar.time()));
+            }
+            pending = bar;
+        }
+
+        private BarSeries finish(String name) {
+            if (unordered == null) {
+                if (pending != null) {
+                    append(series, pending, null);
+                    pending = null;
+                }
+                return rename(series, name);
+            }
+
+            // rebuild from the appended bars and the collected remainder
+            List<PendingBar> bars = new ArrayList<>(series.getBarCount() + unordered.size());
+            for (Bar bar : series.getBarData()) {
+                long time = coinbase ? bar.getBeginTime().getEpochSecond() : bar.getEndTime().toEpochMilli();
+                bars.add(new PendingBar(time, bar.getOpenPrice(), bar.getHighPrice(), bar.getLowPrice(),
+                        bar.getClosePrice(), bar.getVolume(), coinbase ? null : bar.getAmount()));
+            }
+            bars.addAll(unordered);
+            bars.sort(Comparator.comparingLong(PendingBar::time));
+            BaseBarSeries sorted = newSeries(name);
+            lastAppendedTime = null;
+            lastDuration = timePeriod;
+            for (int i = 0; i < bars.size(); i++) {
+                append(sorted, bars.get(i), i + 1 < bars.size() ? instantOf(bars.get(i + 1).time()) : null);
+            }
+            return sorted;
+        }
+
+        private void append(BaseBarSeries target, PendingBar bar, Instant nextTime) {
+            Instant time = instantOf(bar.time());
+            Duration duration = timePeriod != null ? timePeriod
+                    : inferDuration(lastAppendedTime, time, nextTime, lastDuration);
+            lastDuration = duration;
+            lastAppendedTime = time;
+            Instant endTime = coinbase ? time.plus(duration) : time;
+            var builder = target.barBuilder()
+                    .timePeriod(duration)
+                    .endTime(endTime)
+                    .openPrice(bar.open())
+                    .highPrice(bar.high())
+                    .lowPrice(bar.low())
+                    .closePrice(bar.close())
+                    .volume(bar.volume());
+            if (bar.amount() != null) {
+                builder.amount(bar.amount());
+            }
+            builder.add();
+        }
+
+        private Instant instantOf(long time) {
+            return coinbase ? Instant.ofEpochSecond(time) : Instant.ofEpochMilli(time);
+        }
+
+        private BaseBarSeries newSeries(String name) {
+            BaseBarSeriesBuilder builder = new BaseBarSeriesBuilder().withName(name);
+            if (numFactory != null) {
+                builder.withNumFactory(numFactory);
+            }
+            return builder.build();
+        }
+
+        private BarSeries rename(BaseBarSeries source, String name) {
+            if (name.equals(source.getName())) {
+                return source;
+            }
+            BaseBarSeriesBuilder builder = new BaseBarSeriesBuilder().withName(name)
+                    .withNumFactory(source.numFactory())
+                    .withBars(source.getBarData());
+            return builder.build();
+        }
+    }
+
+    /** Keeps the caller's stream open when the readers wrapping it are closed. */
+    private static final class NonClosingInputStream extends FilterInputStream {
+
+        private NonClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // the caller owns the stream
+        }
+    }
+}
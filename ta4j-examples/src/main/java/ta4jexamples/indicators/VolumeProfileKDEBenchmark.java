@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.indicators;
+
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Random;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.VolumeIndicator;
+import org.ta4j.core.indicators.supportresistance.VolumeProfileKDEIndicator;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Accuracy-versus-speed benchmark of the binned {@link VolumeProfileKDEIndicator}
+ * against the exact per-sample KDE.
+ *
+ * <p>
+ * Both modes evaluate the density at every bar's price and the modal price at
+ * every {@code modeStride}-th bar of a seeded random walk. The summary reports
+ * each mode's duration, the speedup, the largest relative density error, the
+ * largest distance between the binned and exact modal prices, and how much less
+ * exact density the binned mode carries than the exact one. Nearly tied peaks
+ * can put the two modes far apart while the density shortfall stays small.
+ *
+ * <p>
+ * Arguments (all optional): bar count, look-back length, bandwidth, bin width,
+ * mode stride, and {@code decimal} to use {@code DecimalNum} instead of
+ * {@code DoubleNum}.
+ *
+ * @since 0.23.1
+ */
+public class VolumeProfileKDEBenchmark {
+
+    private static final Logger LOG = LogManager.getLogger(VolumeProfileKDEBenchmark.class);
+
+    private static final int DEFAULT_BAR_COUNT = 3_000;
+    private static final int DEFAULT_LOOKBACK = 250;
+    private static final double DEFAULT_BANDWIDTH = 1.0;
+    private static final double DEFAULT_BIN_WIDTH = 0.05;
+    private static final int DEFAULT_MODE_STRIDE = 25;
+
+    public static void main(String[] args) {
+        int barCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BAR_COUNT;
+        int lookback = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_LOOKBACK;
+        double bandwidth = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_BANDWIDTH;
+        double binWidth = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_BIN_WIDTH;
+        int modeStride = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_MODE_STRIDE;
+        NumFactory numFactory = args.length > 5 && "decimal".equalsIgnoreCase(args[5])
+                ? DecimalNumFactory.getInstance()
+                : DoubleNumFactory.getInstance();
+
+        LOG.info("Starting VolumeProfileKDE benchmark: bars={}, lookback={}, bandwidth={}, binWidth={}, modeStride={}, num={}",
+                barCount, lookback, bandwidth, binWidth, modeStride, numFactory.getClass().getSimpleName());
+        ComparisonResult result = new VolumeProfileKDEBenchmark().compare(buildSeries(barCount, numFactory), lookback,
+                bandwidth, binWidth, modeStride);
+        LOG.info("  exact:  duration={} ms", formatMillis(result.exactNanos()));
+        LOG.info("  binned: duration={} ms, speedup={}x", formatMillis(result.binnedNanos()),
+                formatDouble(result.speedup()));
+        LOG.info("  max relative density error={}, max mode distance={} (bin width {}), max mode density shortfall={}",
+                result.maxRelativeDensityError(), result.maxModeDistance(), binWidth,
+                result.maxModeDensityShortfall());
+    }
+
+    /**
+     * Runs both modes over the same series.
+     *
+     * @param series     series with close prices and volumes
+     * @param lookback   look-back length
+     * @param bandwidth  kernel bandwidth
+     * @param binWidth   binned-mode grid spacing
+     * @param modeStride bars between modal price queries
+     * @return timings and accuracy
+     */
+    ComparisonResult compare(BarSeries series, int lookback, double bandwidth, double binWidth, int modeStride) {
+        NumFactory numFactory = series.numFactory();
+        ClosePriceIndicator price = new ClosePriceIndicator(series);
+        VolumeIndicator volume = new VolumeIndicator(series, 1);
+        VolumeProfileKDEIndicator exact = new VolumeProfileKDEIndicator(price, volume, lookback,
+                numFactory.numOf(bandwidth));
+        VolumeProfileKDEIndicator binned = new VolumeProfileKDEIndicator(price, volume, lookback,
+                numFactory.numOf(bandwidth), numFactory.numOf(binWidth));
+        int firstIndex = series.getBeginIndex() + exact.getCountOfUnstableBars();
+        int endIndex = series.getEndIndex();
+
+        Num[] exactDensities = new Num[endIndex + 1];
+        Num[] exactModes = new Num[endIndex + 1];
+        long started = System.nanoTime();
+        for (int i = firstIndex; i <= endIndex; i++) {
+            exactDensities[i] = exact.getValue(i);
+            if ((i - firstIndex) % modeStride == 0) {
+                exactModes[i] = exact.getModePrice(i);
+            }
+        }
+        long exactNanos = System.nanoTime() - started;
+
+        Num[] binnedDensities = new Num[endIndex + 1];
+        Num[] binnedModes = new Num[endIndex + 1];
+        started = System.nanoTime();
+        for (int i = firstIndex; i <= endIndex; i++) {
+            binnedDensities[i] = binned.getValue(i);
+            if ((i - firstIndex) % modeStride == 0) {
+                binnedModes[i] = binned.getModePrice(i);
+            }
+        }
+        long binnedNanos = System.nanoTime() - started;
+
+        double maxRelativeDensityError = 0d;
+        double maxModeDistance = 0d;
+        double maxModeDensityShortfall = 0d;
+        for (int i = firstIndex; i <= endIndex; i++) {
+            double expected = exactDensities[i].doubleValue();
+            if (expected > 0d) {
+                double error = Math.abs(binnedDensities[i].doubleValue() - expected) / expected;
+                maxRelativeDensityError = Math.max(maxRelativeDensityError, error);
+            }
+            if (exactModes[i] != null) {
+                double distance = Math.abs(binnedModes[i].doubleValue() - exactModes[i].doubleValue());
+                maxModeDistance = Math.max(maxModeDistance, distance);
+                double peak = exact.getDensityAtPrice(i, exactModes[i]).doubleValue();
+                if (peak > 0d) {
+                    double shortfall = 1d - exact.getDensityAtPrice(i, binnedModes[i]).doubleValue() / peak;
+                    maxModeDensityShortfall = Math.max(maxModeDensityShortfall, shortfall);
+                }
+            }
+        }
+        return new ComparisonResult(exactNanos, binnedNanos, maxRelativeDensityError, maxModeDistance,
+                maxModeDensityShortfall);
+    }
+
+    static BarSeries buildSeries(int barCount, NumFactory numFactory) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+        Random random = new Random(42L);
+        Duration timePeriod = Duration.ofDays(1);
+        Instant endTime = Instant.EPOCH;
+        double close = 100d;
+        for (int i = 0; i < barCount; i++) {
+            endTime = endTime.plus(timePeriod);
+            close = Math.max(1d, close + random.nextGaussian() * 0.5);
+            double volume = 1_000d + random.nextInt(9_000);
+            series.barBuilder()
+                    .timePeriod(timePeriod)
+                    .endTime(endTime)
+                    .openPrice(close)
+                    .highPrice(close)
+                    .lowPrice(close)
+                    .closePrice(close)
+                    .volume(volume)
+                    .add();
+        }
+        return series;
+    }
+
+    private static String formatMillis(double nanos) {
+        return NumberFormat.getNumberInstance(Locale.US).format(nanos / 1_000_000d);
+    }
+
+    private static String formatDouble(double value) {
+        NumberFormat format = NumberFormat.getNumberInstance(Locale.US);
+        format.setMaximumFractionDigits(2);
+        return format.format(value);
+    }
+
+    /**
+     * Timings and accuracy of one comparison.
+     *
+     * @param exactNanos              exact-mode duration
+     * @param binnedNanos             binned-mode duration
+     * @param maxRelativeDensityError largest relative density error
+     * @param maxModeDistance         largest modal price distance
+     * @param maxModeDensityShortfall largest relative gap between the exact
+     *                                density at the exact mode and at the binned
+     *                                mode
+     */
+    record ComparisonResult(long exactNanos, long binnedNanos, double maxRelativeDensityError,
+            double maxModeDistance, double maxModeDensityShortfall) {
+
+        double speedup() {
+            return binnedNanos == 0 ? Double.POSITIVE_INFINITY : (double) exactNanos / binnedNanos;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.strategies;
+
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.criteria.pnl.GrossReturnCriterion;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.StochasticOscillatorKIndicator;
+import org.ta4j.core.indicators.averages.EMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.rules.OverIndicatorRule;
+import org.ta4j.core.rules.UnderIndicatorRule;
+
+/**
+ * Throughput benchmark for strategy and criterion JSON round trips.
+ * <p>
+ * Each iteration serializes a moving-momentum strategy (six indicators, six
+ * rules) with {@link Strategy#toJson()} and rebuilds it with
+ * {@link Strategy#fromJson(BarSeries, String)}, then does the same for an
+ * {@link AnalysisCriterion}. This is the workload of deserializing large
+ * parameter sweeps and is dominated by reflective constructor and field
+ * lookups.
+ * <p>
+ * Arguments: {@code [threads] [batches] [roundTripsPerThread]}.
+ *
+ * @since 0.23.1
+ */
+public class StrategySerializationBenchmark {
+
+    private static final Logger LOG = LogManager.getLogger(StrategySerializationBenchmark.class);
+
+    private static final int DEFAULT_THREADS = 1;
+    private static final int DEFAULT_BATCHES = 3;
+    private static final int DEFAULT_ROUND_TRIPS_PER_THREAD = 5_000;
+    private static final int WARMUP_ROUND_TRIPS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_THREADS;
+        int batches = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BATCHES;
+        int roundTripsPerThread = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROUND_TRIPS_PER_THREAD;
+
+        new StrategySerializationBenchmark().run(threads, batches, roundTripsPerThread);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param threads             the number of threads doing round trips
+     * @param batches             the number of measured batches
+     * @param roundTripsPerThread the round trips per thread and batch
+     * @return the mean throughput in round trips per second
+     * @throws Exception if a round trip fails
+     */
+    double run(int threads, int batches, int roundTripsPerThread) throws Exception {
+        BarSeries series = buildSeries();
+        Strategy strategy = buildStrategy(series);
+        AnalysisCriterion criterion = new GrossReturnCriterion();
+        String formattedRoundTrips = NumberFormat.getIntegerInstance(Locale.US).format(roundTripsPerThread);
+        LOG.info("Starting strategy serialization benchmark: threads={}, batches={}, roundTripsPerThread={}", threads,
+                batches, formattedRoundTrips);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            exercise(pool, threads, Math.min(WARMUP_ROUND_TRIPS, roundTripsPerThread), series, strategy, criterion);
+            double totalThroughput = 0;
+            for (int batch = 1; batch <= batches; batch++) {
+                long started = System.nanoTime();
+                long checksum = exercise(pool, threads, roundTripsPerThread, series, strategy, criterion);
+                long elapsedNanos = System.nanoTime() - started;
+                double throughput = (double) threads * roundTripsPerThread / (elapsedNanos / 1_000_000_000.0);
+                totalThroughput += throughput;
+                LOG.info("Batch {}: duration={}, throughput={} round trips/s, checksum={}", batch,
+                        Duration.ofNanos(elapsedNanos), NumberFormat.getIntegerInstance(Locale.US).format(throughput),
+                        checksum);
+            }
+            double averageThroughput = batches == 0 ? 0 : totalThroughput / batches;
+            LOG.info("=== Strategy JSON round trips: avgThroughput={} round trips/s ===",
+                    NumberFormat.getIntegerInstance(Locale.US).format(averageThroughput));
+            return averageThroughput;
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static long exercise(ExecutorService pool, int threads, int roundTripsPerThread, BarSeries series,
+            Strategy strategy, AnalysisCriterion criterion) throws Exception {
+        List<CompletableFuture<Long>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                long localChecksum = 0;
+                for (int i = 0; i < roundTripsPerThread; i++) {
+                    Strategy restored = Strategy.fromJson(series, strategy.toJson());
+                    AnalysisCriterion restoredCriterion = AnalysisCriterion.fromJson(criterion.toJson());
+                    localChecksum += restored.getUnstableBars() + restoredCriterion.getClass().hashCode();
+                }
+                return localChecksum;
+            }, pool));
+        }
+        long total = 0;
+        for (CompletableFuture<Long> future : futures) {
+            total += future.get(10, TimeUnit.MINUTES);
+        }
+        return total;
+    }
+
+    static BarSeries buildSeries() {
+        BarSeries series = new BaseBarSeriesBuilder().withName("serialization-benchmark").build();
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < 100; i++) {
+            double close = 100 + Math.sin(i / 5d) * 3;
+            series.barBuilder()
+                    .timePeriod(Duration.ofDays(1))
+                    .endTime(start.plus(Duration.ofDays(i + 1)))
+                    .openPrice(close - 0.5)
+                    .highPrice(close + 1)
+                    .lowPrice(close - 1)
+                    .closePrice(close)
+                    .volume(1_000)
+                    .add();
+        }
+        return series;
+    }
+
+    static Strategy buildStrategy(BarSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        EMAIndicator shortEma = new EMAIndicator(closePrice, 9);
+        EMAIndicator longEma = new EMAIndicator(closePrice, 26);
+        StochasticOscillatorKIndicator stochasticOscillK = new StochasticOscillatorKIndicator(series, 14);
+        MACDIndicator macd = new MACDIndicator(closePrice, 9, 26);
+        EMAIndicator emaMacd = new EMAIndicator(macd, 18);
+
+        Rule entryRule = new OverIndicatorRule(shortEma, longEma)
+                .and(new CrossedDownIndicatorRule(stochasticOscillK, 20))
+                .and(new OverIndicatorRule(macd, emaMacd));
+        Rule exitRule = new UnderIndicatorRule(shortEma, longEma)
+                .and(new CrossedUpIndicatorRule(stochasticOscillK, 80))
+                .and(new UnderIndicatorRule(macd, emaMacd));
+        return new BaseStrategy("MovingMomentumStrategy", entryRule, exitRule, 26);
+    }
+}
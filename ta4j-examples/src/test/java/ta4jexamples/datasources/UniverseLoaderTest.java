@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.datasources;
+
+import org.junit.jupiter.api.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import ta4jexamples.datasources.http.HttpBarSeriesDataSource;
+import ta4jexamples.datasources.http.HttpClientWrapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link UniverseLoader}.
+ */
+public class UniverseLoaderTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant END = Instant.parse("2025-02-01T00:00:00Z");
+
+    @Test
+    public void loadsAllSymbolsInRequestOrderAndReportsFailures() throws InterruptedException {
+        FakeSource source = new FakeHttpSource("Fake", Duration.ofMillis(5));
+        List<String> tickers = List.of("AAA", "FAIL", "BBB", "NONE", "CCC");
+
+        UniverseLoader.Result result = UniverseLoader.builder()
+                .build()
+                .load(source, tickers, Duration.ofDays(1), START, END);
+
+        assertEquals(List.of("AAA", "BBB", "CCC"), new ArrayList<>(result.series().keySet()));
+        assertEquals("BBB", result.series().get("BBB").getName());
+        assertEquals(tickers, new ArrayList<>(result.loadTimes().keySet()));
+        assertTrue(result.loadTimes().get("AAA").toMillis() >= 5);
+        assertEquals(Set.of("FAIL", "NONE"), result.failures().keySet());
+        assertInstanceOf(IllegalArgumentException.class, result.failures().get("FAIL"));
+        assertInstanceOf(IllegalStateException.class, result.failures().get("NONE"));
+    }
+
+    @Test
+    public void httpSourcesRunOnVirtualThreadsUpToMaxInFlight() throws InterruptedException {
+        FakeSource source = new FakeHttpSource("Fake", Duration.ofMillis(20));
+        List<String> tickers = IntStream.range(0, 40).mapToObj(i -> "T" + i).toList();
+
+        UniverseLoader.Result result = UniverseLoader.builder()
+                .maxInFlight(8)
+                .parsingThreads(1)
+                .build()
+                .load(source, tickers, Duration.ofDays(1), START, END);
+
+        assertEquals(40, result.series().size());
+        assertTrue(source.maxConcurrent.get() > 1);
+        assertTrue(source.maxConcurrent.get() <= 8);
+        assertTrue(source.virtualThreads.get());
+    }
+
+    @Test
+    public void fileSourcesUseTheBoundedParsingPool() throws InterruptedException {
+        FakeSource source = new FakeSource("File", Duration.ofMillis(10));
+        List<String> tickers = IntStream.range(0, 12).mapToObj(i -> "F" + i).toList();
+
+        UniverseLoader.Result result = UniverseLoader.builder()
+                .maxInFlight(16)
+                .parsingThreads(2)
+                .build()
+                .load(source, tickers, Duration.ofDays(1), START, END);
+
+        assertEquals(12, result.series().size());
+        assertTrue(source.maxConcurrent.get() <= 2);
+        assertFalse(source.virtualThreads.get());
+    }
+
+    @Test
+    public void rateLimitSpacesCallsPerSource() throws InterruptedException {
+        FakeSource limited = new FakeHttpSource("Limited", Duration.ZERO);
+        FakeSource unlimited = new FakeHttpSource("Unlimited", Duration.ZERO);
+        List<UniverseLoader.Request> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(new UniverseLoader.Request(limited, "L" + i, Duration.ofDays(1), START, END));
+            requests.add(new UniverseLoader.Request(unlimited, "U" + i, Duration.ofDays(1), START, END));
+        }
+
+        UniverseLoader.builder().rateLimit("Limited", 20).build().load(requests);
+
+        List<Long> starts = new ArrayList<>(limited.startNanos);
+        Collections.sort(starts);
+        for (int i = 1; i < starts.size(); i++) {
+            assertTrue(starts.get(i) - starts.get(i - 1) >= Duration.ofMillis(45).toNanos());
+        }
+        assertEquals(5, unlimited.startNanos.size());
+    }
+
+    @Test
+    public void rejectsDuplicateTickers() {
+        FakeSource source = new FakeHttpSource("Fake", Duration.ZERO);
+        UniverseLoader loader = UniverseLoader.builder().build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> loader.load(source, List.of("AAA", "AAA"), Duration.ofDays(1), START, END));
+        assertThrows(IllegalArgumentException.class, () -> UniverseLoader.builder().maxInFlight(0));
+        assertThrows(IllegalArgumentException.class, () -> UniverseLoader.builder().rateLimit(-1));
+    }
+
+    private static class FakeSource implements BarSeriesDataSource {
+
+        private final String name;
+        private final Duration latency;
+        private final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+        final AtomicBoolean virtualThreads = new AtomicBoolean();
+        final Set<Long> startNanos = ConcurrentHashMap.newKeySet();
+
+        FakeSource(String name, Duration latency) {
+            this.name = name;
+            this.latency = latency;
+        }
+
+        @Override
+        public BarSeries loadSeries(String ticker, Duration interval, Instant start, Instant end) {
+            startNanos.add(System.nanoTime());
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            virtualThreads.compareAndSet(false, Thread.currentThread().isVirtual());
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            if (ticker.equals("FAIL")) {
+                throw new IllegalArgumentException("Unknown ticker");
+            }
+            if (ticker.equals("NONE")) {
+                return null;
+            }
+            BarSeries series = new BaseBarSeriesBuilder().withName(ticker).build();
+            series.barBuilder()
+                    .timePeriod(interval)
+                    .endTime(start.plus(interval))
+                    .openPrice(1)
+                    .highPrice(1)
+                    .lowPrice(1)
+                    .closePrice(1)
+                    .volume(1)
+                    .add();
+            return series;
+        }
+
+        @Override
+        public BarSeries loadSeries(String source) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getSourceName() {
+            return name;
+        }
+    }
+
+    private static final class FakeHttpSource extends FakeSource implements HttpBarSeriesDataSource {
+
+        FakeHttpSource(String name, Duration latency) {
+            super(name, latency);
+        }
+
+        @Override
+        public HttpClientWrapper getHttpClient() {
+            return null;
+        }
+
+        @Override
+        public boolean isResponseCachingEnabled() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.datasources.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.bars.TimeBarBuilder;
+import org.ta4j.core.bars.TimeBarBuilderFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.NumFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link StreamingCsvTradeLoader} class.
+ */
+public class StreamingCsvTradeLoaderTest {
+
+    private static final long START_SECONDS = Instant.parse("2013-11-25T00:00:00Z").getEpochSecond();
+    private static final Duration PERIOD = Duration.ofMinutes(5);
+    private static final int TRADES = 3_000;
+
+    private final NumFactory numFactory = DoubleNumFactory.getInstance();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void loadsAscendingAndDescendingFilesIntoTheSameBars() throws IOException {
+        BarSeries expected = expectedSeries();
+        Path ascending = writeTrades("ascending.csv", false);
+        Path descending = writeTrades("descending.csv", true);
+        StreamingCsvTradeLoader loader = new StreamingCsvTradeLoader(',', 0, 1, 2, TimeUnit.SECONDS, 1, 1_000);
+
+        assertSameBars(expected, loader.loadTimeBars(ascending, PERIOD, numFactory));
+        assertSameBars(expected, loader.loadTimeBars(descending, PERIOD, numFactory));
+        assertEquals("ascending.csv", loader.loadTimeBars(ascending, PERIOD, numFactory).getName());
+    }
+
+    @Test
+    public void parallelParsingMatchesSequentialParsing() throws IOException {
+        BarSeries expected = expectedSeries();
+        Path file = writeTrades("trades.csv", true);
+        StreamingCsvTradeLoader loader = new StreamingCsvTradeLoader(',', 0, 1, 2, TimeUnit.SECONDS, 1, 777);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertSameBars(expected, loader.loadTimeBars(file, PERIOD, numFactory, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void skipsMalformedLinesAndHandlesEmptyFiles() throws IOException {
+        Path file = tempDir.resolve("malformed.csv");
+        Files.writeString(file, "timestamp,price,amount\r\n" + START_SECONDS + ",100.5,2\r\n" + "oops,1,1\r\n"
+                + (START_SECONDS + 60) + ",,3\r\n\r\n" + (START_SECONDS + 61) + ",1.01e2,0.5\r\n",
+                StandardCharsets.US_ASCII);
+
+        BarSeries series = StreamingCsvTradeLoader.bitstamp().loadTimeBars(file, PERIOD, numFactory);
+        assertEquals(1, series.getBarCount());
+        Bar bar = series.getBar(0);
+        assertEquals(numFactory.numOf(100.5), bar.getOpenPrice());
+        assertEquals(numFactory.numOf(101), bar.getClosePrice());
+        assertEquals(numFactory.numOf(2.5), bar.getVolume());
+        assertEquals(2, bar.getTrades());
+
+        Path empty = tempDir.resolve("empty.csv");
+        Files.writeString(empty, "");
+        assertTrue(StreamingCsvTradeLoader.bitstamp().loadTimeBars(empty, PERIOD, numFactory).isEmpty());
+    }
+
+    @Test
+    public void fastDecimalParsingMatchesDoubleParsing() {
+        String[] values = { "0", "-0.5", "+12.25", "0.1", "123456.789012", "0.000000012345", "9007199254740993",
+                "1234567890.12345678", "1e-3", "  42.0 ", "3.14159265358979323846" };
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(Double.parseDouble(value.trim()), StreamingCsvTradeLoader.parseDouble(bytes, 0, bytes.length),
+                    value);
+        }
+    }
+
+    private Path writeTrades(String fileName, boolean newestFirst) throws IOException {
+        StringBuilder csv = new StringBuilder("timestamp,price,amount\n");
+        for (int k = 0; k < TRADES; k++) {
+            int i = newestFirst ? TRADES - 1 - k : k;
+            csv.append(timeOf(i)).append(',').append(priceOf(i)).append(',').append(volumeOf(i)).append('\n');
+        }
+        Path file = tempDir.resolve(fileName);
+        Files.writeString(file, csv, StandardCharsets.US_ASCII);
+        return file;
+    }
+
+    private BarSeries expectedSeries() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory)
+                .withBarBuilderFactory(new TimeBarBuilderFactory(PERIOD, false, true))
+                .build();
+        TimeBarBuilder builder = (TimeBarBuilder) series.barBuilder();
+        for (int i = 0; i < TRADES; i++) {
+            builder.addTrade(Instant.ofEpochSecond(timeOf(i)), Double.parseDouble(volumeOf(i)),
+                    Double.parseDouble(priceOf(i)));
+        }
+        return series;
+    }
+
+    private static long timeOf(int i) {
+        // several trades per second and a gap without trades
+        return START_SECONDS + i / 3 + (i > TRADES / 2 ? 3_600 : 0);
+    }
+
+    private static String priceOf(int i) {
+        return String.format(Locale.ROOT, "%.2f", 800 + Math.sin(i / 50d) * 25);
+    }
+
+    private static String volumeOf(int i) {
+        return String.format(Locale.ROOT, "%.8f", 0.01 + (i % 13) / 7d);
+    }
+
+    private static void assertSameBars(BarSeries expected, BarSeries actual) {
+        assertEquals(expected.getBarCount(), actual.getBarCount());
+        for (int i = 0; i < expected.getBarCount(); i++) {
+            Bar expectedBar = expected.getBar(i);
+            Bar actualBar = actual.getBar(i);
+            assertEquals(expectedBar.getBeginTime(), actualBar.getBeginTime());
+            assertEquals(expectedBar.getEndTime(), actualBar.getEndTime());
+            assertEquals(expectedBar.getOpenPrice(), actualBar.getOpenPrice());
+            assertEquals(expectedBar.getHighPrice(), actualBar.getHighPrice());
+            assertEquals(expectedBar.getLowPrice(), actualBar.getLowPrice());
+            assertEquals(expectedBar.getClosePrice(), actualBar.getClosePrice());
+            assertEquals(expectedBar.getVolume(), actualBar.getVolume());
+            assertEquals(expectedBar.getAmount(), actualBar.getAmount());
+            assertEquals(expectedBar.getTrades(), actualBar.getTrades());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.datasources.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.storage.MappedBarSeries;
+import ta4jexamples.datasources.CoinbaseHttpBarSeriesDataSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link BarSeriesRangeCache} against a local stand-in for the Coinbase
+ * candles endpoint.
+ */
+public class BarSeriesRangeCacheTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+    private static final Instant T0 = Instant.parse("2024-03-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private HttpServer server;
+    private final List<Map<String, Long>> requests = new CopyOnWriteArrayList<>();
+    private CoinbaseHttpBarSeriesDataSource dataSource;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v3/brokerage/market/products/BTC-USD/candles", exchange -> {
+            Map<String, Long> query = Stream.of(exchange.getRequestURI().getQuery().split("&"))
+                    .map(parameter -> parameter.split("=", 2))
+                    .filter(pair -> pair[0].equals("start") || pair[0].equals("end"))
+                    .collect(Collectors.toMap(pair -> pair[0], pair -> Long.parseLong(pair[1])));
+            requests.add(query);
+            byte[] body = candles(query.get("start"), query.get("end")).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        HttpClient client = HttpClient.newHttpClient();
+        String localBase = "http://localhost:" + server.getAddress().getPort() + "/";
+        HttpClientWrapper redirecting = new HttpClientWrapper() {
+            @Override
+            public <T> HttpResponseWrapper<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+                    throws IOException, InterruptedException {
+                URI local = URI
+                        .create(request.uri().toString().replace("https://api.coinbase.com/", localBase));
+                return new DefaultHttpClientWrapper(client)
+                        .send(HttpRequest.newBuilder(request, (name, value) -> true).uri(local).build(), handler);
+            }
+        };
+        dataSource = new CoinbaseHttpBarSeriesDataSource(redirecting, directory.toString());
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void overlappingRangesFetchOnlyMissingBars() {
+        BarSeries first = dataSource.loadSeriesCached("BTC-USD", HOUR, T0, hours(100));
+        assertEquals(100, first.getBarCount());
+        assertEquals(1, requests.size());
+
+        BarSeries extended = dataSource.loadSeriesCached("BTC-USD", HOUR, hours(50), hours(150));
+        assertEquals(100, extended.getBarCount());
+        assertEquals(hours(50), extended.getFirstBar().getBeginTime());
+        assertEquals(hours(149), extended.getLastBar().getBeginTime());
+        assertEquals(2, requests.size());
+        assertEquals(hours(100).getEpochSecond(), (long) requests.get(1).get("start"));
+        assertEquals(hours(150).getEpochSecond(), (long) requests.get(1).get("end"));
+
+        BarSeries covered = dataSource.loadSeriesCached("BTC-USD", HOUR, hours(20), hours(120));
+        assertEquals(2, requests.size());
+        assertInstanceOf(MappedBarSeries.class, covered);
+        assertEquals(100, covered.getBarCount());
+        assertEquals(120, covered.getBar(100 - 1).getClosePrice().intValue());
+    }
+
+    @Test
+    public void gapsBetweenCachedRangesAreFetchedOnce() {
+        dataSource.loadSeriesCached("BTC-USD", HOUR, T0, hours(10));
+        dataSource.loadSeriesCached("BTC-USD", HOUR, hours(20), hours(30));
+        assertEquals(List.of(new BarSeriesRangeCache.TimeRange(hours(10), hours(20))),
+                dataSource.getBarCache()
+                        .missingRanges(dataSource.getSourceName(), "BTC-USD", HOUR, T0, hours(30)));
+
+        BarSeries merged = dataSource.loadSeriesCached("BTC-USD", HOUR, T0, hours(30));
+
+        assertEquals(3, requests.size());
+        assertEquals(30, merged.getBarCount());
+        for (int i = 0; i < merged.getBarCount(); i++) {
+            assertEquals(hours(i), merged.getBar(i).getBeginTime());
+        }
+        assertTrue(Files.exists(directory.resolve(AbstractHttpBarSeriesDataSource.BAR_CACHE_DIR)
+                .resolve("Coinbase-BTC-USD-PT1H.t4bs")));
+    }
+
+    @Test
+    public void incompleteBarsAreFetchedAgainAndReplaced() {
+        Clock clock = Clock.fixed(hours(10).plusSeconds(1_800), ZoneOffset.UTC);
+        BarSeriesRangeCache cache = new BarSeriesRangeCache(directory, DoubleNumFactory.getInstance(), clock);
+        BarSeriesRangeCache.TimeRange range = new BarSeriesRangeCache.TimeRange(T0, hours(11));
+        cache.put("Test", "X", HOUR, range, series(0, 11, 1));
+
+        assertEquals(List.of(new BarSeriesRangeCache.TimeRange(hours(9).plusSeconds(1_800), hours(11))),
+                cache.missingRanges("Test", "X", HOUR, T0, hours(11)));
+
+        BarSeries refreshed = cache.load("Test", "X", HOUR, T0, hours(11), (start, end) -> series(9, 11, 2));
+        assertEquals(11, refreshed.getBarCount());
+        assertEquals(8, refreshed.getBar(8).getClosePrice().intValue());
+        assertEquals(20, refreshed.getBar(10).getClosePrice().intValue());
+    }
+
+    @Test
+    public void unreadableFilesAreDiscarded() throws IOException {
+        BarSeriesRangeCache cache = new BarSeriesRangeCache(directory);
+        cache.put("Test", "X", HOUR, new BarSeriesRangeCache.TimeRange(T0, hours(5)), series(0, 5, 1));
+        Files.write(directory.resolve("Test-X-PT1H.t4bs"), new byte[] { 1, 2, 3 });
+
+        assertNull(cache.get("Test", "X", HOUR, T0, hours(5)));
+        assertEquals(List.of(new BarSeriesRangeCache.TimeRange(T0, hours(5))),
+                cache.missingRanges("Test", "X", HOUR, T0, hours(5)));
+        assertFalse(cache.invalidate("Test", "X", HOUR));
+    }
+
+    private static Instant hours(long hours) {
+        return T0.plus(HOUR.multipliedBy(hours));
+    }
+
+    private static BarSeries series(int fromHour, int toHour, int closeFactor) {
+        BarSeries series = new BaseBarSeriesBuilder().withName("X").build();
+        for (int i = fromHour; i < toHour; i++) {
+            series.barBuilder()
+                    .timePeriod(HOUR)
+                    .endTime(hours(i + 1))
+                    .openPrice(i)
+                    .highPrice(i + 1)
+                    .lowPrice(i)
+                    .closePrice(i * closeFactor)
+                    .volume(10)
+                    .add();
+        }
+        return series;
+    }
+
+    /** Hourly Coinbase candles beginning in {@code [start, end]}, newest first. */
+    private static String candles(long start, long end) {
+        StringBuilder json = new StringBuilder("{\"candles\":[");
+        long first = Math.floorDiv(start - T0.getEpochSecond() + HOUR.getSeconds() - 1, HOUR.getSeconds());
+        long last = Math.floorDiv(end - T0.getEpochSecond(), HOUR.getSeconds());
+        for (long hour = last; hour >= first; hour--) {
+            if (hour != last) {
+                json.append(',');
+            }
+            json.append(String.format(
+                    "{\"start\":\"%d\",\"low\":\"%d\",\"high\":\"%d\",\"open\":\"%d\",\"close\":\"%d\",\"volume\":\"10\"}",
+                    hours(hour).getEpochSecond(), hour, hour + 1, hour, hour + 1));
+        }
+        return json.append("]}").toString();
+    }
+}
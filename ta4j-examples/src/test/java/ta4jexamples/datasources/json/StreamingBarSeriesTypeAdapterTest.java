@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.datasources.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.DoubleNumFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamingBarSeriesTypeAdapterTest {
+
+    private final Gson adaptiveGson = new GsonBuilder()
+            .registerTypeAdapter(BarSeries.class, new AdaptiveBarSeriesTypeAdapter())
+            .create();
+    private final StreamingBarSeriesTypeAdapter adapter = new StreamingBarSeriesTypeAdapter();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsBundledFilesLikeAdaptiveAdapter() throws IOException {
+        for (String resource : new String[] { "Binance-ETH-USD-PT5M-20230313_20230315.json",
+                "Coinbase-BTC-USD-PT1D-20230616_20231011.json" }) {
+            String json = readResource(resource);
+            BarSeries expected = adaptiveGson.fromJson(json, BarSeries.class);
+            BarSeries actual = adapter.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+            assertEquals(expected.getName(), actual.getName(), resource);
+            assertSameBars(expected, actual);
+        }
+    }
+
+    @Test
+    void readsUnorderedAndIncompleteCandlesLikeAdaptiveAdapter() throws IOException {
+        String coinbaseJson = """
+                {
+                  "candles": [
+                    {"start":"1700000600","open":"2.0","high":"2.5","low":"1.8","close":"2.1","volume":"300"},
+                    {"start":"1700000300","open":"1.4","high":"1.8","low":"1.2","close":"1.7","volume":null},
+                    {"start":"oops","open":"1.4","high":"1.8","low":"1.2","close":"1.7","volume":"1"},
+                    {"start":"1700000900","open":null,"high":"1.8","low":"1.2","close":"1.7","volume":"1"},
+                    {"start":1700000000,"open":"1.0","high":"1.5","low":"0.9","close":"1.4","volume":"100"}
+                  ]
+                }
+                """;
+        String binanceJson = """
+                {
+                  "ohlc": [
+                    {"endTime":1700000000000,"openPrice":100.0,"highPrice":103.0,"lowPrice":99.0,"closePrice":102.0,"volume":10.0,"amount":0.05},
+                    {"endTime":1700000300000,"openPrice":102.0,"highPrice":105.0,"lowPrice":101.0,"closePrice":104.0,"volume":20.0,"amount":0.1,"extra":{"a":[1]}},
+                    {"endTime":1700001200000,"openPrice":104.0,"highPrice":106.0,"lowPrice":103.0,"closePrice":105.0,"volume":30.0,"amount":0.2}
+                  ],
+                  "name": "ETH/USD"
+                }
+                """;
+
+        for (String json : new String[] { coinbaseJson, binanceJson }) {
+            BarSeries expected = adaptiveGson.fromJson(json, BarSeries.class);
+            BarSeries actual = adapter.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+            assertEquals(expected.getName(), actual.getName());
+            assertSameBars(expected, actual);
+        }
+    }
+
+    @Test
+    void writesPlainAndGzipFilesThatReadBack() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withName("minutes")
+                .withNumFactory(DoubleNumFactory.getInstance())
+                .build();
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < 1_000; i++) {
+            double close = 100 + Math.sin(i / 20d);
+            series.barBuilder()
+                    .timePeriod(Duration.ofMinutes(1))
+                    .endTime(start.plus(Duration.ofMinutes(i + 1)))
+                    .openPrice(close - 0.5)
+                    .highPrice(close + 1)
+                    .lowPrice(close - 1)
+                    .closePrice(close)
+                    .volume(i % 17)
+                    .add();
+        }
+
+        Path plain = tempDir.resolve("minutes.json");
+        Path compressed = tempDir.resolve("minutes.json.gz");
+        adapter.write(series, plain);
+        adapter.write(series, compressed);
+        assertTrue(Files.size(compressed) < Files.size(plain));
+
+        StreamingBarSeriesTypeAdapter doubleAdapter = new StreamingBarSeriesTypeAdapter(
+                DoubleNumFactory.getInstance(), null);
+        for (Path file : new Path[] { plain, compressed }) {
+            assertSameBars(series, doubleAdapter.read(file));
+        }
+        assertSameBars(adaptiveGson.fromJson(Files.readString(plain), BarSeries.class), adapter.read(compressed));
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream input = StreamingBarSeriesTypeAdapterTest.class.getClassLoader().getResourceAsStream(name)) {
+            assertNotNull(input, name);
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void assertSameBars(BarSeries expected, BarSeries actual) {
+        assertEquals(expected.getBarCount(), actual.getBarCount());
+        for (int i = 0; i < expected.getBarCount(); i++) {
+            Bar expectedBar = expected.getBar(i);
+            Bar actualBar = actual.getBar(i);
+            assertEquals(expectedBar.getTimePeriod(), actualBar.getTimePeriod());
+            assertEquals(expectedBar.getEndTime(), actualBar.getEndTime());
+            assertEquals(expectedBar.getOpenPrice(), actualBar.getOpenPrice());
+            assertEquals(expectedBar.getHighPrice(), actualBar.getHighPrice());
+            assertEquals(expectedBar.getLowPrice(), actualBar.getLowPrice());
+            assertEquals(expectedBar.getClosePrice(), actualBar.getClosePrice());
+            assertEquals(expectedBar.getVolume(), actualBar.getVolume());
+            assertEquals(expectedBar.getAmount(), actualBar.getAmount());
+        }
+    }
+}
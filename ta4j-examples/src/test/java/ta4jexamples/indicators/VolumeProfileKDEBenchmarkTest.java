@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: MIT
+ */
+package ta4jexamples.indicators;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.ta4j.core.num.DoubleNumFactory;
+
+/**
+ * Regression coverage + opt-in perf harness for
+ * {@link VolumeProfileKDEBenchmark}.
+ */
+class VolumeProfileKDEBenchmarkTest {
+
+    @Test
+    void binnedModeStaysWithinGridAccuracy() {
+        var series = VolumeProfileKDEBenchmark.buildSeries(300, DoubleNumFactory.getInstance());
+
+        VolumeProfileKDEBenchmark.ComparisonResult result = new VolumeProfileKDEBenchmark().compare(series, 60, 1.0,
+                0.05, 10);
+
+        assertTrue(result.maxRelativeDensityError() < 0.02, "Binned densities should track the exact KDE");
+        assertTrue(result.maxModeDensityShortfall() < 0.01, "Binned modes should sit on an exact density peak");
+        assertTrue(result.exactNanos() > 0 && result.binnedNanos() > 0, "Both modes should be timed");
+    }
+
+    @Test
+    @Tag("benchmark")
+    void benchmarksRunWhenExplicitlyEnabled() {
+        VolumeProfileKDEBenchmark.main(new String[0]);
+    }
+}